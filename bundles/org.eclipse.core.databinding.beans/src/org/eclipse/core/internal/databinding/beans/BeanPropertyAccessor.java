@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.beans;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.core.databinding.util.Policy;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+/**
+ * Reads and writes a property of beans through method handles of its read and
+ * write methods. The handles are created once per method and shared by all
+ * accessors of the property, so that an access does neither allocate an
+ * argument array nor repeat the access checks of {@link Method#invoke}.
+ * <p>
+ * The accessor behaves like {@link BeanPropertyHelper#readProperty} and
+ * {@link BeanPropertyHelper#writeProperty}. Sources and values that do not
+ * match the parameter types of the methods are passed to {@link Method#invoke},
+ * so that they are converted or rejected in the same way as before.
+ * </p>
+ */
+public final class BeanPropertyAccessor {
+	private static final MethodType READER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType WRITER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	/**
+	 * The handles of the methods of each class. They are kept with the class,
+	 * so that they do not prevent it from being unloaded.
+	 */
+	private static final ClassValue<ConcurrentMap<Method, MethodHandle>> handles = new ClassValue<>() {
+		@Override
+		protected ConcurrentMap<Method, MethodHandle> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private final PropertyDescriptor propertyDescriptor;
+
+	private MethodHandle reader;
+
+	private MethodHandle writer;
+
+	/**
+	 * The parameter type of the write method, with primitive types replaced by
+	 * their wrappers.
+	 */
+	private final Class<?> writerValueType;
+
+	/**
+	 * Whether <code>null</code> may be passed to the write method.
+	 */
+	private final boolean writerAcceptsNull;
+
+	/**
+	 * @param propertyDescriptor the property to access
+	 */
+	public BeanPropertyAccessor(PropertyDescriptor propertyDescriptor) {
+		this.propertyDescriptor = propertyDescriptor;
+		Method writeMethod = propertyDescriptor.getWriteMethod();
+		Class<?> parameterType = writeMethod == null ? Object.class : writeMethod.getParameterTypes()[0];
+		this.writerValueType = MethodType.methodType(parameterType).wrap().returnType();
+		this.writerAcceptsNull = !parameterType.isPrimitive();
+	}
+
+	/**
+	 * Returns the contents of the property for the given bean.
+	 *
+	 * @param source the source bean
+	 * @return the contents of the property for the given bean.
+	 */
+	public Object read(Object source) {
+		try {
+			Method readMethod = propertyDescriptor.getReadMethod();
+			if (readMethod == null) {
+				throw new IllegalArgumentException(propertyDescriptor.getName()
+						+ " property does not have a read method."); //$NON-NLS-1$
+			}
+			if (!readMethod.getDeclaringClass().isInstance(source)) {
+				BeanPropertyHelper.setAccessible(readMethod);
+				return readMethod.invoke(source);
+			}
+			MethodHandle handle = reader;
+			if (handle == null) {
+				reader = handle = handleOf(readMethod, READER_TYPE);
+			}
+			return invokeReader(handle, source);
+		} catch (InvocationTargetException e) {
+			/*
+			 * InvocationTargetException wraps any exception thrown by the
+			 * invoked method.
+			 */
+			throw new RuntimeException(e.getCause());
+		} catch (Exception e) {
+			Policy.getLog().log(new Status(IStatus.WARNING, Policy.JFACE_DATABINDING, IStatus.OK,
+					"Could not read value of " + source + "." + propertyDescriptor.getName(), e)); //$NON-NLS-1$ //$NON-NLS-2$
+			return null;
+		}
+	}
+
+	/**
+	 * Sets the contents of the property on the given source object to the given
+	 * value.
+	 *
+	 * @param source the source object which has the property being updated
+	 * @param value  the new value of the property
+	 */
+	public void write(Object source, Object value) {
+		try {
+			Method writeMethod = propertyDescriptor.getWriteMethod();
+			if (null == writeMethod) {
+				throw new IllegalArgumentException("Missing public setter method for " //$NON-NLS-1$
+						+ propertyDescriptor.getName() + " property"); //$NON-NLS-1$
+			}
+			if (!writeMethod.getDeclaringClass().isInstance(source)
+					|| (value == null ? !writerAcceptsNull : !writerValueType.isInstance(value))) {
+				BeanPropertyHelper.setAccessible(writeMethod);
+				writeMethod.invoke(source, value);
+				return;
+			}
+			MethodHandle handle = writer;
+			if (handle == null) {
+				writer = handle = handleOf(writeMethod, WRITER_TYPE);
+			}
+			invokeWriter(handle, source, value);
+		} catch (InvocationTargetException e) {
+			/*
+			 * InvocationTargetException wraps any exception thrown by the
+			 * invoked method.
+			 */
+			throw new RuntimeException(e.getCause());
+		} catch (Exception e) {
+			Policy.getLog().log(new Status(IStatus.WARNING, Policy.JFACE_DATABINDING, IStatus.OK,
+					"Could not change value of " + source + "." + propertyDescriptor.getName(), e)); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Wraps any exception thrown by the invoked method in an
+	 * {@link InvocationTargetException}, like {@link Method#invoke} does.
+	 */
+	private static Object invokeReader(MethodHandle handle, Object source) throws InvocationTargetException {
+		try {
+			return handle.invokeExact(source);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	private static void invokeWriter(MethodHandle handle, Object source, Object value)
+			throws InvocationTargetException {
+		try {
+			handle.invokeExact(source, value);
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	/**
+	 * Returns the method handle of the given method, adapted to the given
+	 * generic type.
+	 */
+	private static MethodHandle handleOf(Method method, MethodType type) throws IllegalAccessException {
+		ConcurrentMap<Method, MethodHandle> classHandles = handles.get(method.getDeclaringClass());
+		MethodHandle handle = classHandles.get(method);
+		if (handle == null) {
+			BeanPropertyHelper.setAccessible(method);
+			handle = MethodHandles.lookup().unreflect(method).asType(type);
+			MethodHandle existing = classHandles.putIfAbsent(method, handle);
+			if (existing != null) {
+				handle = existing;
+			}
+		}
+		return handle;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2018 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,9 @@
 package org.eclipse.core.internal.databinding.beans;
 
 import java.beans.PropertyChangeListener;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 
 import org.eclipse.core.databinding.util.Policy;
@@ -32,6 +34,22 @@ import org.eclipse.core.runtime.Status;
 public class BeanPropertyListenerSupport {
 	private static final boolean DEBUG = true;
 
+	private static final String ADD_METHOD_NAME = "addPropertyChangeListener"; //$NON-NLS-1$
+
+	private static final String REMOVE_METHOD_NAME = "removePropertyChangeListener"; //$NON-NLS-1$
+
+	/**
+	 * The methods to add and remove listeners of each bean class, looked up
+	 * once per class instead of on every call.
+	 */
+	private static final ClassValue<ListenerMethods> listenerMethods = new ClassValue<>() {
+		@Override
+		protected ListenerMethods computeValue(Class<?> type) {
+			return new ListenerMethods(ListenerMethod.of(type, ADD_METHOD_NAME),
+					ListenerMethod.of(type, REMOVE_METHOD_NAME));
+		}
+	};
+
 	/**
 	 * Start listen to target (if it supports the JavaBean property change
 	 * listener pattern)
@@ -42,7 +60,7 @@ public class BeanPropertyListenerSupport {
 		Assert.isNotNull(listener, "Listener cannot be null"); //$NON-NLS-1$
 		Assert.isNotNull(propertyName, "Property name cannot be null"); //$NON-NLS-1$
 		processListener(bean, propertyName, listener,
-				"addPropertyChangeListener", "Could not attach listener to ");//$NON-NLS-1$ //$NON-NLS-2$
+				listenerMethods.get(bean.getClass()).add, "Could not attach listener to ");//$NON-NLS-1$
 	}
 
 	/**
@@ -58,54 +76,94 @@ public class BeanPropertyListenerSupport {
 				bean,
 				propertyName,
 				listener,
-				"removePropertyChangeListener", "Cound not remove listener from "); //$NON-NLS-1$ //$NON-NLS-2$
+				listenerMethods.get(bean.getClass()).remove, "Cound not remove listener from "); //$NON-NLS-1$
 	}
 
 	/**
-	 * Invokes the method for the provided <code>methodName</code> attempting to
-	 * first use the method with the property name and then the unnamed version.
+	 * Invokes the given method, passing the property name if it is the method
+	 * with the property name.
 	 *
 	 * @param bean
 	 *            object to invoke the method on
-	 * @param methodName
+	 * @param method
 	 *            either addPropertyChangeListener or
-	 *            removePropertyChangeListener
+	 *            removePropertyChangeListener of the class of the bean
 	 * @param message
 	 *            string that will be prefixed to the target in an error message
 	 *
 	 * @return <code>true</code> if the method was invoked successfully
 	 */
 	private static boolean processListener(Object bean, String propertyName,
-			PropertyChangeListener listener, String methodName, String message) {
-		Method method = null;
-		Object[] parameters = null;
-
-		try {
+			PropertyChangeListener listener, ListenerMethod method, String message) {
+		if (method.failure != null) {
+			log(IStatus.WARNING, message + bean, method.failure);
+		}
+		if (method.handle != null) {
 			try {
-				method = bean.getClass().getMethod(methodName, String.class, PropertyChangeListener.class);
+				if (method.named) {
+					method.handle.invokeExact(bean, propertyName, listener);
+				} else {
+					method.handle.invokeExact(bean, listener);
+				}
+				return true;
+			} catch (Throwable e) {
+				log(IStatus.WARNING, message + bean, e);
+			}
+		}
+		return false;
+	}
 
-				parameters = new Object[] { propertyName, listener };
-			} catch (NoSuchMethodException e) {
-				method = bean.getClass().getMethod(methodName, PropertyChangeListener.class);
+	private static final class ListenerMethods {
+		final ListenerMethod add;
+		final ListenerMethod remove;
 
-				parameters = new Object[] { listener };
-			}
-		} catch (SecurityException e) {
-			// ignore
-		} catch (NoSuchMethodException e) {
-			log(IStatus.WARNING, message + bean, e);
+		ListenerMethods(ListenerMethod add, ListenerMethod remove) {
+			this.add = add;
+			this.remove = remove;
+		}
+	}
+
+	/**
+	 * The handle of a method to add or remove a listener, preferably the one
+	 * with the property name, or the reason why there is none.
+	 */
+	private static final class ListenerMethod {
+		final MethodHandle handle;
+		final boolean named;
+		final Exception failure;
+
+		private ListenerMethod(MethodHandle handle, boolean named, Exception failure) {
+			this.handle = handle;
+			this.named = named;
+			this.failure = failure;
 		}
 
-		if (method != null) {
-			BeanPropertyHelper.setAccessible(method);
+		static ListenerMethod of(Class<?> beanClass, String methodName) {
+			Method method;
+			boolean named;
 			try {
-				method.invoke(bean, parameters);
-				return true;
-			} catch (IllegalArgumentException | IllegalAccessException | InvocationTargetException e) {
-				log(IStatus.WARNING, message + bean, e);
+				try {
+					method = beanClass.getMethod(methodName, String.class, PropertyChangeListener.class);
+					named = true;
+				} catch (NoSuchMethodException e) {
+					method = beanClass.getMethod(methodName, PropertyChangeListener.class);
+					named = false;
+				}
+			} catch (SecurityException e) {
+				return new ListenerMethod(null, false, null);
+			} catch (NoSuchMethodException e) {
+				return new ListenerMethod(null, false, e);
+			}
+			try {
+				BeanPropertyHelper.setAccessible(method);
+				MethodType type = named
+						? MethodType.methodType(void.class, Object.class, String.class, PropertyChangeListener.class)
+						: MethodType.methodType(void.class, Object.class, PropertyChangeListener.class);
+				return new ListenerMethod(MethodHandles.lookup().unreflect(method).asType(type), named, null);
+			} catch (IllegalAccessException e) {
+				return new ListenerMethod(null, false, e);
 			}
 		}
-		return false;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Matthew Hall and others.
+ * Copyright (c) 2008, 2026 Matthew Hall and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,11 +36,13 @@ import org.eclipse.core.databinding.property.set.SimpleSetProperty;
  */
 public class BeanSetProperty<S, E> extends SimpleSetProperty<S, E> {
 	private final PropertyDescriptor propertyDescriptor;
+	private final BeanPropertyAccessor accessor;
 	private final Class<E> elementType;
 
 	@SuppressWarnings("unchecked")
 	public BeanSetProperty(PropertyDescriptor propertyDescriptor, Class<E> elementType) {
 		this.propertyDescriptor = propertyDescriptor;
+		this.accessor = new BeanPropertyAccessor(propertyDescriptor);
 		this.elementType = elementType == null
 				? (Class<E>) BeanPropertyHelper.getCollectionPropertyElementType(propertyDescriptor)
 				: elementType;
@@ -53,7 +55,7 @@ public class BeanSetProperty<S, E> extends SimpleSetProperty<S, E> {
 
 	@Override
 	protected Set<E> doGetSet(Object source) {
-		return asSet(BeanPropertyHelper.readProperty(source, propertyDescriptor));
+		return asSet(accessor.read(source));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -72,7 +74,7 @@ public class BeanSetProperty<S, E> extends SimpleSetProperty<S, E> {
 
 	@Override
 	protected void doSetSet(S source, Set<E> set) {
-		BeanPropertyHelper.writeProperty(source, propertyDescriptor, convertSetToBeanPropertyType(set));
+		accessor.write(source, convertSetToBeanPropertyType(set));
 	}
 
 	private Object convertSetToBeanPropertyType(Set<E> set) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2016 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,8 @@
 
 package org.eclipse.core.databinding.observable;
 
+import org.eclipse.core.internal.databinding.observable.ChangeBatch;
+import org.eclipse.core.internal.databinding.observable.IPropagationListener;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.ListenerList;
 
@@ -114,12 +116,35 @@ import org.eclipse.core.runtime.ListenerList;
 		Object listenerType = event.getListenerType();
 		int listenerTypeIndex = findListenerTypeIndex(listenerType);
 		if (listenerTypeIndex != -1) {
+			ChangeBatch batch = listenerType == DisposeEvent.TYPE ? null : ChangeBatch.getCurrent(realm);
 			for (IObservablesListener listener : listenerLists[listenerTypeIndex]) {
-				event.dispatch(listener);
+				if (batch == null || listener instanceof IPropagationListener) {
+					event.dispatch(listener);
+				} else {
+					batch.defer(() -> {
+						// The listener may have been removed or the observable
+						// disposed while the batch was open
+						if (isListening(listenerType, listener)) {
+							event.dispatch(listener);
+						}
+					});
+				}
 			}
 		}
 	}
 
+	private boolean isListening(Object listenerType, IObservablesListener listener) {
+		int listenerTypeIndex = findListenerTypeIndex(listenerType);
+		if (listenerTypeIndex != -1) {
+			for (IObservablesListener each : listenerLists[listenerTypeIndex]) {
+				if (each == listener) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	protected void firstListenerAdded() {
 	}
 
@@ -0,0 +1,362 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.core.databinding.observable;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.databinding.util.Policy;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+/**
+ * A realm for use without a UI thread, which runs its runnables one at a time
+ * on the threads of an {@link Executor}. The executor may be shared by many
+ * realms and may use any kind of threads, including virtual threads. The
+ * realm is current on the thread that is running its runnables, for as long as
+ * it runs them.
+ * <p>
+ * Runnables given to {@link #asyncExec(Runnable)} are queued in the order in
+ * which they were given. Whenever the queue becomes non-empty, a task is
+ * passed to the executor that takes up to {@value #MAX_TASKS_PER_RUN} queued
+ * runnables at once and runs them, and then passes itself to the executor
+ * again if more runnables are queued, so that the threads of the executor are
+ * handed over to other work in between.
+ * </p>
+ * <p>
+ * The queue holds at most the capacity given to the constructor. A runnable
+ * that does not fit is rejected with a {@link RejectedExecutionException}. If
+ * the queue coalesces runnables, a runnable that is already queued is not
+ * queued a second time, but runs only once. This is useful for runnables that
+ * update something to the latest state and are queued whenever that state
+ * changes, and costs an identity hash lookup for every runnable.
+ * </p>
+ * <p>
+ * The realm keeps statistics about the runnables, see
+ * {@link #getQueueSize()}, {@link #getCompletedTaskCount()},
+ * {@link #getRejectedTaskCount()}, {@link #getCoalescedTaskCount()},
+ * {@link #getTotalTaskLatencyNanos()} and {@link #getMaxTaskLatencyNanos()}.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @since 1.14
+ */
+public class ExecutorRealm extends Realm {
+
+	/**
+	 * The maximum number of runnables that are run before the executor is
+	 * handed over to other work.
+	 */
+	public static final int MAX_TASKS_PER_RUN = 64;
+
+	private final Executor executor;
+
+	private final int capacity;
+
+	private final Object lock = new Object();
+
+	private final ArrayDeque<Task> queue = new ArrayDeque<>();
+
+	/**
+	 * The queued runnables, to find the ones that are queued twice, or
+	 * <code>null</code> if runnables are not coalesced
+	 */
+	private final Set<Runnable> queued;
+
+	/** Whether a task that runs the queued runnables was passed to the executor */
+	private boolean scheduled;
+
+	private volatile Thread owner;
+
+	private long completedTaskCount;
+
+	private long rejectedTaskCount;
+
+	private long coalescedTaskCount;
+
+	private long totalTaskLatency;
+
+	private long maxTaskLatency;
+
+	private final Runnable drainer = this::drain;
+
+	/** The runnables that are being run, only accessed by the running task */
+	private final Task[] batch = new Task[MAX_TASKS_PER_RUN];
+
+	/**
+	 * Creates a realm with an unbounded queue, which does not coalesce
+	 * runnables.
+	 *
+	 * @param executor the executor that runs the runnables; not
+	 *                 <code>null</code>
+	 */
+	public ExecutorRealm(Executor executor) {
+		this(executor, Integer.MAX_VALUE, false);
+	}
+
+	/**
+	 * Creates a realm with a bounded queue.
+	 *
+	 * @param executor the executor that runs the runnables; not
+	 *                 <code>null</code>
+	 * @param capacity the maximum number of queued runnables
+	 * @param coalesce whether a runnable that is already queued is not queued
+	 *                 again
+	 * @throws IllegalArgumentException if the capacity is not positive
+	 */
+	public ExecutorRealm(Executor executor, int capacity, boolean coalesce) {
+		this.executor = Objects.requireNonNull(executor);
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive: " + capacity); //$NON-NLS-1$
+		}
+		this.capacity = capacity;
+		this.queued = coalesce ? Collections.newSetFromMap(new IdentityHashMap<>()) : null;
+	}
+
+	@Override
+	public boolean isCurrent() {
+		return owner == Thread.currentThread();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws RejectedExecutionException if the queue is full, or if the
+	 *                                    executor rejects running the queue
+	 */
+	@Override
+	public void asyncExec(Runnable runnable) {
+		Task task = new Task(runnable, System.nanoTime());
+		synchronized (lock) {
+			if (queued != null && queued.contains(runnable)) {
+				coalescedTaskCount++;
+				return;
+			}
+			if (queue.size() >= capacity) {
+				rejectedTaskCount++;
+				throw new RejectedExecutionException("The queue of the realm is full"); //$NON-NLS-1$
+			}
+			queue.add(task);
+			if (queued != null) {
+				queued.add(runnable);
+			}
+			if (scheduled) {
+				return;
+			}
+			scheduled = true;
+		}
+		try {
+			executor.execute(drainer);
+		} catch (RejectedExecutionException e) {
+			// The runnables that are queued already run once another one is
+			// accepted
+			synchronized (lock) {
+				scheduled = false;
+				if (queue.removeLastOccurrence(task) && queued != null) {
+					queued.remove(runnable);
+				}
+				rejectedTaskCount++;
+			}
+			throw e;
+		}
+	}
+
+	@Override
+	public void timerExec(int milliseconds, final Runnable runnable) {
+		if (milliseconds <= 0) {
+			super.timerExec(milliseconds, runnable);
+			return;
+		}
+		TimerHolder.TIMER.schedule(() -> {
+			try {
+				asyncExec(runnable);
+			} catch (RejectedExecutionException e) {
+				log("Could not run timer runnable", e); //$NON-NLS-1$
+			}
+		}, milliseconds, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	protected void syncExec(Runnable runnable) {
+		if (isCurrent()) {
+			safeRun(runnable);
+		} else {
+			super.syncExec(runnable);
+		}
+	}
+
+	/**
+	 * Runs the queued runnables, up to {@link #MAX_TASKS_PER_RUN} of them,
+	 * which are taken from the queue at once.
+	 */
+	private void drain() {
+		owner = Thread.currentThread();
+		boolean finished = false;
+		int count;
+		synchronized (lock) {
+			count = Math.min(queue.size(), MAX_TASKS_PER_RUN);
+			for (int i = 0; i < count; i++) {
+				Task task = queue.poll();
+				if (queued != null) {
+					queued.remove(task.runnable);
+				}
+				batch[i] = task;
+			}
+		}
+		int completed = 0;
+		long totalLatency = 0;
+		long maxLatency = 0;
+		try {
+			for (; completed < count; completed++) {
+				Task task = batch[completed];
+				batch[completed] = null;
+				safeRun(task.runnable);
+				long latency = System.nanoTime() - task.queuedAt;
+				totalLatency += latency;
+				maxLatency = Math.max(maxLatency, latency);
+			}
+		} finally {
+			synchronized (lock) {
+				completedTaskCount += completed;
+				totalTaskLatency += totalLatency;
+				maxTaskLatency = Math.max(maxTaskLatency, maxLatency);
+				// Requeue the runnables that were skipped by an error
+				for (int i = count - 1; i > completed; i--) {
+					queue.addFirst(batch[i]);
+					if (queued != null) {
+						queued.add(batch[i].runnable);
+					}
+					batch[i] = null;
+				}
+				if (queue.isEmpty()) {
+					// Another task may start as soon as the lock is released
+					owner = null;
+					scheduled = false;
+					finished = true;
+				}
+			}
+			if (!finished) {
+				owner = null;
+				try {
+					executor.execute(drainer);
+				} catch (RejectedExecutionException e) {
+					synchronized (lock) {
+						scheduled = false;
+					}
+					log("Could not run the queue of the realm", e); //$NON-NLS-1$
+				}
+			}
+		}
+	}
+
+	private static void log(String message, Throwable throwable) {
+		Policy.getLog().log(new Status(IStatus.WARNING, Policy.JFACE_DATABINDING, IStatus.OK, message, throwable));
+	}
+
+	/**
+	 * @return the number of queued runnables
+	 */
+	public int getQueueSize() {
+		synchronized (lock) {
+			return queue.size();
+		}
+	}
+
+	/**
+	 * @return the number of runnables that have been run
+	 */
+	public long getCompletedTaskCount() {
+		synchronized (lock) {
+			return completedTaskCount;
+		}
+	}
+
+	/**
+	 * @return the number of runnables that were rejected because the queue was
+	 *         full or the executor rejected to run the queue
+	 */
+	public long getRejectedTaskCount() {
+		synchronized (lock) {
+			return rejectedTaskCount;
+		}
+	}
+
+	/**
+	 * @return the number of runnables that were not queued because they were
+	 *         queued already, if runnables are coalesced
+	 */
+	public long getCoalescedTaskCount() {
+		synchronized (lock) {
+			return coalescedTaskCount;
+		}
+	}
+
+	/**
+	 * @return the sum of the times in nanoseconds from queuing the completed
+	 *         runnables until they completed
+	 */
+	public long getTotalTaskLatencyNanos() {
+		synchronized (lock) {
+			return totalTaskLatency;
+		}
+	}
+
+	/**
+	 * @return the maximum time in nanoseconds from queuing a runnable until it
+	 *         completed
+	 */
+	public long getMaxTaskLatencyNanos() {
+		synchronized (lock) {
+			return maxTaskLatency;
+		}
+	}
+
+	/**
+	 * Holds the timer that is shared by all realms, which is only created when
+	 * a runnable is first scheduled. Its single daemon thread only queues the
+	 * runnables, which are then run by the executor of their realm.
+	 */
+	private static final class TimerHolder {
+		static final ScheduledExecutorService TIMER = createTimer();
+
+		private static ScheduledExecutorService createTimer() {
+			ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+				Thread thread = new Thread(runnable, "ExecutorRealm Timer"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			return timer;
+		}
+	}
+
+	private static final class Task {
+		final Runnable runnable;
+		final long queuedAt;
+
+		Task(Runnable runnable, long queuedAt) {
+			this.runnable = runnable;
+			this.queuedAt = queuedAt;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,10 +15,8 @@
  *******************************************************************************/
 package org.eclipse.core.databinding.observable;
 
-import java.util.Set;
-
 import org.eclipse.core.databinding.util.Policy;
-import org.eclipse.core.internal.databinding.identity.IdentitySet;
+import org.eclipse.core.internal.databinding.observable.DependencySet;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -64,20 +62,45 @@ import org.eclipse.core.runtime.Status;
 public class ObservableTracker {
 
 	/**
-	 * Threadlocal storage pointing to the current Set of IObservables, or null
-	 * if none. Note that this is actually the top of a stack. Whenever a method
-	 * changes the current value, it remembers the old value as a local variable
-	 * and restores the old value when the method exits.
+	 * The tracking state of a thread. Its fields are actually the top of a
+	 * stack. Whenever a method changes them, it remembers the old values as
+	 * local variables and restores them when the method exits.
 	 */
-	private static ThreadLocal<IChangeListener> currentChangeListener = new ThreadLocal<>();
+	private static final class Tracker {
+
+		/** The current set of observables that were read from, or null */
+		DependencySet getterCalledSet;
 
-	private static ThreadLocal<IStaleListener> currentStaleListener = new ThreadLocal<>();
+		IChangeListener changeListener;
 
-	private static ThreadLocal<Set<IObservable>> currentGetterCalledSet = new ThreadLocal<>();
+		IStaleListener staleListener;
 
-	private static ThreadLocal<Set<IObservable>> currentObservableCreatedSet = new ThreadLocal<>();
+		/** The current set of observables that were created, or null */
+		DependencySet observableCreatedSet;
 
-	private static ThreadLocal<Integer> currentIgnoreCount = new ThreadLocal<>();
+		int ignoreCount;
+
+		/** Sets that are not in use, linked by their next field */
+		private DependencySet unusedSets;
+
+		DependencySet obtainSet() {
+			DependencySet set = unusedSets;
+			if (set == null) {
+				return new DependencySet();
+			}
+			unusedSets = set.next;
+			set.next = null;
+			return set;
+		}
+
+		void releaseSet(DependencySet set) {
+			set.clear();
+			set.next = unusedSets;
+			unusedSets = set;
+		}
+	}
+
+	private static final ThreadLocal<Tracker> currentTracker = ThreadLocal.withInitial(Tracker::new);
 
 	/**
 	 * Invokes the given runnable, and returns the set of IObservables that were
@@ -97,31 +120,34 @@ public class ObservableTracker {
 	 */
 	public static IObservable[] runAndMonitor(Runnable runnable,
 			IChangeListener changeListener, IStaleListener staleListener) {
+		Tracker tracker = currentTracker.get();
 		// Remember the previous value in the listener stack
-		Set<IObservable> lastObservableSet = currentGetterCalledSet.get();
-		IChangeListener lastChangeListener = currentChangeListener.get();
-		IStaleListener lastStaleListener = currentStaleListener.get();
-		Integer lastIgnore = currentIgnoreCount.get();
+		DependencySet lastObservableSet = tracker.getterCalledSet;
+		IChangeListener lastChangeListener = tracker.changeListener;
+		IStaleListener lastStaleListener = tracker.staleListener;
+		int lastIgnore = tracker.ignoreCount;
 
-		Set<IObservable> observableSet = new IdentitySet<>();
+		DependencySet observableSet = tracker.obtainSet();
 		// Push the new listeners to the top of the stack
-		currentGetterCalledSet.set(observableSet);
-		currentChangeListener.set(changeListener);
-		currentStaleListener.set(staleListener);
-		currentIgnoreCount.remove();
+		tracker.getterCalledSet = observableSet;
+		tracker.changeListener = changeListener;
+		tracker.staleListener = staleListener;
+		tracker.ignoreCount = 0;
 		try {
 			runnable.run();
 		} finally {
 			// Pop the new listener off the top of the stack (by restoring the
 			// previous listener)
-			currentGetterCalledSet.set(lastObservableSet);
-			currentChangeListener.set(lastChangeListener);
-			currentStaleListener.set(lastStaleListener);
-			checkUnmatchedIgnore(runnable);
-			currentIgnoreCount.set(lastIgnore);
+			tracker.getterCalledSet = lastObservableSet;
+			tracker.changeListener = lastChangeListener;
+			tracker.staleListener = lastStaleListener;
+			checkUnmatchedIgnore(runnable, tracker);
+			tracker.ignoreCount = lastIgnore;
 		}
 
-		return observableSet.toArray(new IObservable[observableSet.size()]);
+		IObservable[] result = observableSet.toArray();
+		tracker.releaseSet(observableSet);
+		return result;
 	}
 
 	/**
@@ -141,34 +167,37 @@ public class ObservableTracker {
 	 * @since 1.2
 	 */
 	public static IObservable[] runAndCollect(Runnable runnable) {
-		Set<IObservable> lastObservableCreatedSet = currentObservableCreatedSet.get();
-		Integer lastIgnore = currentIgnoreCount.get();
+		Tracker tracker = currentTracker.get();
+		DependencySet lastObservableCreatedSet = tracker.observableCreatedSet;
+		int lastIgnore = tracker.ignoreCount;
 
-		Set<IObservable> observableSet = new IdentitySet<>();
+		DependencySet observableSet = tracker.obtainSet();
 		// Push the new listeners to the top of the stack
-		currentObservableCreatedSet.set(observableSet);
-		currentIgnoreCount.remove();
+		tracker.observableCreatedSet = observableSet;
+		tracker.ignoreCount = 0;
 		try {
 			runnable.run();
 		} finally {
 			// Pop the new listener off the top of the stack (by restoring the
 			// previous listener)
-			currentObservableCreatedSet.set(lastObservableCreatedSet);
-			checkUnmatchedIgnore(runnable);
-			currentIgnoreCount.set(lastIgnore);
+			tracker.observableCreatedSet = lastObservableCreatedSet;
+			checkUnmatchedIgnore(runnable, tracker);
+			tracker.ignoreCount = lastIgnore;
 		}
 
-		return observableSet.toArray(new IObservable[observableSet.size()]);
+		IObservable[] result = observableSet.toArray();
+		tracker.releaseSet(observableSet);
+		return result;
 	}
 
-	private static void checkUnmatchedIgnore(Runnable runnable) {
-		if (isIgnore()) {
+	private static void checkUnmatchedIgnore(Runnable runnable, Tracker tracker) {
+		if (tracker.ignoreCount > 0) {
 			Policy.getLog()
 					.log(new Status(
 							IStatus.ERROR,
 							Policy.JFACE_DATABINDING,
 							"There were " //$NON-NLS-1$
-									+ currentIgnoreCount.get()
+									+ tracker.ignoreCount
 									+ " unmatched setIgnore(true) invocations in runnable " //$NON-NLS-1$
 									+ runnable));
 		}
@@ -193,19 +222,13 @@ public class ObservableTracker {
 	 * @since 1.3
 	 */
 	public static void setIgnore(boolean ignore) {
-		Integer lastCount = currentIgnoreCount.get();
-
-		int newCount = (lastCount == null ? 0 : lastCount.intValue())
-				+ (ignore ? 1 : -1);
+		Tracker tracker = currentTracker.get();
+		int newCount = tracker.ignoreCount + (ignore ? 1 : -1);
 
 		if (newCount < 0)
 			throw new IllegalStateException("Ignore count is already zero"); //$NON-NLS-1$
 
-		if (newCount == 0) {
-			currentIgnoreCount.remove();
-		} else {
-			currentIgnoreCount.set(Integer.valueOf(newCount));
-		}
+		tracker.ignoreCount = newCount;
 	}
 
 	/**
@@ -235,10 +258,6 @@ public class ObservableTracker {
 				+ Integer.toHexString(System.identityHashCode(observable));
 	}
 
-	private static boolean isIgnore() {
-		return currentIgnoreCount.get() != null;
-	}
-
 	/**
 	 * Notifies the ObservableTracker that an observable was read from. The
 	 * JavaDoc for methods that invoke this method should include the following
@@ -258,16 +277,17 @@ public class ObservableTracker {
 			Assert.isTrue(false, "Getter called outside realm of observable " //$NON-NLS-1$
 					+ toString(observable));
 
-		if (isIgnore())
+		Tracker tracker = currentTracker.get();
+		if (tracker.ignoreCount > 0)
 			return;
 
-		Set<IObservable> getterCalledSet = currentGetterCalledSet.get();
+		DependencySet getterCalledSet = tracker.getterCalledSet;
 		if (getterCalledSet != null && getterCalledSet.add(observable)) {
 			// If anyone is listening for observable usage...
-			IChangeListener changeListener = currentChangeListener.get();
+			IChangeListener changeListener = tracker.changeListener;
 			if (changeListener != null)
 				observable.addChangeListener(changeListener);
-			IStaleListener staleListener = currentStaleListener.get();
+			IStaleListener staleListener = tracker.staleListener;
 			if (staleListener != null)
 				observable.addStaleListener(staleListener);
 		}
@@ -281,9 +301,10 @@ public class ObservableTracker {
 	 * @since 1.2
 	 */
 	public static void observableCreated(IObservable observable) {
-		if (isIgnore())
+		Tracker tracker = currentTracker.get();
+		if (tracker.ignoreCount > 0)
 			return;
-		Set<IObservable> observableCreatedSet = currentObservableCreatedSet.get();
+		DependencySet observableCreatedSet = tracker.observableCreatedSet;
 		if (observableCreatedSet != null) {
 			observableCreatedSet.add(observable);
 		}
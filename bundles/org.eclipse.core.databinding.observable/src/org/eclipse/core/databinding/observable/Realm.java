@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import java.util.Timer;
 import java.util.TimerTask;
 
 import org.eclipse.core.databinding.util.Policy;
+import org.eclipse.core.internal.databinding.observable.ChangeBatch;
 import org.eclipse.core.internal.databinding.observable.Queue;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
@@ -70,6 +71,11 @@ import org.eclipse.core.runtime.Status;
  * Note that the default realm does not have to be the current realm.
  * </p>
  * <p>
+ * Changes that belong together can be made in a batch, see
+ * {@link #beginBatch()}, so that listeners are notified only after all of them
+ * have been made.
+ * </p>
+ * <p>
  * Subclasses must override at least one of asyncExec()/syncExec(). For realms
  * based on a designated thread, it may be easier to implement asyncExec and
  * keep the default implementation of syncExec. For realms based on holding a
@@ -324,6 +330,71 @@ public abstract class Realm {
 		}
 	}
 
+	/**
+	 * Begins a batch of changes in this realm on the calling thread. Until the
+	 * batch is committed, observables of this realm notify only the computed
+	 * observables and side-effects that depend on them, which remember that
+	 * they are dirty. All other listeners are notified when the outermost
+	 * batch is committed. At that time all changes of the batch have been
+	 * propagated through the dependency graph, so that listeners never see a
+	 * computed value that was computed from some changed and some unchanged
+	 * dependencies, and each computed observable is recomputed at most once.
+	 * Dirty side-effects run after the listeners have been notified.
+	 * <p>
+	 * Batches may be nested. Each call to this method must be followed by a
+	 * call to {@link #commitBatch()} on the same thread, preferably in a
+	 * <code>finally</code> block, or {@link #runBatch(Runnable)} can be used
+	 * instead.
+	 * </p>
+	 *
+	 * @throws IllegalStateException if this realm is not current
+	 * @since 1.14
+	 */
+	public void beginBatch() {
+		checkCurrent();
+		ChangeBatch.begin(this);
+	}
+
+	/**
+	 * Commits the batch that was begun last with {@link #beginBatch()}. If it
+	 * is the outermost batch, all listeners that have not been notified yet
+	 * are notified and the dirty side-effects are run. If one of them throws
+	 * an exception, the others are still notified or run, and the first
+	 * exception is re-thrown afterwards.
+	 *
+	 * @throws IllegalStateException if this realm is not current, or if no
+	 *                               batch was begun in this realm on the
+	 *                               calling thread
+	 * @since 1.14
+	 */
+	public void commitBatch() {
+		checkCurrent();
+		ChangeBatch.commit(this);
+	}
+
+	/**
+	 * Runs the given runnable in a batch of this realm.
+	 *
+	 * @param runnable {@link Runnable} to execute
+	 * @throws IllegalStateException if this realm is not current
+	 * @see #beginBatch()
+	 * @since 1.14
+	 */
+	public void runBatch(Runnable runnable) {
+		beginBatch();
+		try {
+			runnable.run();
+		} finally {
+			commitBatch();
+		}
+	}
+
+	private void checkCurrent() {
+		if (!isCurrent()) {
+			throw new IllegalStateException("This operation must be run within the realm"); //$NON-NLS-1$
+		}
+	}
+
 	/**
 	 * Sets the provided <code>realm</code> as the default for the duration of
 	 * {@link Runnable#run()} and resets the previous realm after completion.
@@ -1,5 +1,5 @@
 /************************************************************************************************************
- * Copyright (c) 2007, 2017 Matthew Hall and others.
+ * Copyright (c) 2007, 2026 Matthew Hall and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,7 @@ import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.StaleEvent;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.internal.databinding.observable.IPropagationListener;
 
 /**
  * A lazily calculated list that automatically computes and registers listeners
@@ -179,7 +180,7 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 	 * </p>
 	 */
 	private class PrivateInterface implements Runnable, IChangeListener,
-			IStaleListener {
+			IStaleListener, IPropagationListener {
 		@Override
 		public void run() {
 			cachedList = calculate();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 Matthew Hall and others.
+ * Copyright (c) 2008, 2026 Matthew Hall and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,6 +31,7 @@ import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.StaleEvent;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.internal.databinding.observable.IPropagationListener;
 
 /**
  * A lazily calculated set that automatically computes and registers listeners
@@ -175,7 +176,7 @@ public abstract class ComputedSet<E> extends AbstractObservableSet<E> {
 	 * </p>
 	 */
 	private class PrivateInterface implements Runnable, IChangeListener,
-			IStaleListener {
+			IStaleListener, IPropagationListener {
 		@Override
 		public void run() {
 			cachedSet = calculate();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,8 @@ import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.StaleEvent;
 import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.internal.databinding.observable.DependencySet;
+import org.eclipse.core.internal.databinding.observable.IPropagationListener;
 
 /**
  * A Lazily calculated value that automatically computes and registers listeners
@@ -82,7 +84,11 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 
 	/**
 	 * Array of observables this computed value depends on. This field has a
-	 * value of <code>null</code> if we are not currently listening.
+	 * value of <code>null</code> if we are not currently listening. While
+	 * somebody listens to this value, the listeners stay attached when the value
+	 * becomes dirty, so that recomputing it only has to update the listeners of
+	 * the dependencies that changed. Otherwise they are removed, so that the
+	 * dependencies do not keep this value from being garbage collected.
 	 */
 	private IObservable[] dependencies = null;
 
@@ -152,17 +158,12 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 	 * </p>
 	 *
 	 * <p>
-	 * The IChangeListener stores each observable in the dependencies list. This
-	 * is registered as the listener when calling ObservableTracker, to detect
-	 * every observable that is used by computeValue.
-	 * </p>
-	 *
-	 * <p>
-	 * The IChangeListener is attached to every dependency.
+	 * The IChangeListener and IStaleListener are attached to every dependency
+	 * that ObservableTracker detected while running computeValue.
 	 * </p>
 	 */
 	private class PrivateInterface implements Runnable, IChangeListener,
-			IStaleListener {
+			IStaleListener, IPropagationListener {
 		@Override
 		public void run() {
 			cachedValue = calculate();
@@ -194,20 +195,26 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 			// - While doing so, add any observable that is touched to the
 			// dependencies list
 			IObservable[] newDependencies = ObservableTracker.runAndMonitor(
-					privateInterface, privateInterface, null);
+					privateInterface, null, null);
+
+			// Only listen to the dependencies that were not used last time,
+			// and stop listening to the ones that are no longer used
+			DependencySet.updateListeners(dependencies, newDependencies, privateInterface, privateInterface);
+			dependencies = newDependencies;
 
 			stale = false;
-			for (IObservable observable : newDependencies) {
-				// Add a change listener to the new dependency.
-				if (observable.isStale()) {
-					stale = true;
-				} else {
-					observable.addStaleListener(privateInterface);
+			ObservableTracker.setIgnore(true);
+			try {
+				for (IObservable observable : newDependencies) {
+					if (observable.isStale()) {
+						stale = true;
+						break;
+					}
 				}
+			} finally {
+				ObservableTracker.setIgnore(false);
 			}
 
-			dependencies = newDependencies;
-
 			dirty = false;
 		}
 
@@ -228,7 +235,9 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 		if (!dirty) {
 			dirty = true;
 
-			stopListening();
+			if (!hasListeners()) {
+				stopListening();
+			}
 
 			// copy the old value
 			final T oldValue = cachedValue;
@@ -300,8 +309,8 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 	 */
 	private void computeValueForListeners() {
 		getRealm().exec(() -> {
-			if (dependencies == null) {
-				// We are not currently listening.
+			if (dirty) {
+				// We are not currently listening to all dependencies.
 				if (hasListeners()) {
 					// But someone is listening for changes. Call getValue()
 					// to make sure we start listening to the observables we
@@ -312,6 +321,16 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 		});
 	}
 
+	@Override
+	protected void lastListenerRemoved() {
+		getRealm().exec(() -> {
+			if (dirty && !hasListeners()) {
+				// Nobody will read the value, stop listening until somebody does
+				stopListening();
+			}
+		});
+	}
+
 	@Override
 	public synchronized void addValueChangeListener(
 			IValueChangeListener<? super T> listener) {
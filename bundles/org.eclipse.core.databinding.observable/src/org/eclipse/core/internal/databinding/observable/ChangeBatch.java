@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.databinding.observable.Realm;
+
+/**
+ * The changes made in a realm between {@link Realm#beginBatch()} and
+ * {@link Realm#commitBatch()} on one thread.
+ * <p>
+ * Changes are propagated in two phases. While the batch is open, events are
+ * dispatched only to {@link IPropagationListener}s, so that computed
+ * observables and side-effects of the whole dependency graph are marked dirty
+ * without being recomputed. The notifications of all other listeners are
+ * queued and dispatched when the batch is committed. At that time every
+ * affected computed observable is dirty, so it is recomputed at most once, on
+ * the first access, from dependencies that have all settled. The dirty
+ * side-effects run after the notifications.
+ * </p>
+ *
+ * @since 1.14
+ */
+public final class ChangeBatch {
+
+	private static final ThreadLocal<ChangeBatch> current = new ThreadLocal<>();
+
+	/**
+	 * The number of open batches of all threads, to skip the thread local
+	 * lookup while there are none.
+	 */
+	private static final AtomicInteger openBatches = new AtomicInteger();
+
+	private final Realm realm;
+
+	/** The batch of another realm that was open when this one was begun */
+	private final ChangeBatch outer;
+
+	private int depth;
+
+	private boolean committing;
+
+	private final List<Runnable> notifications = new ArrayList<>();
+
+	private final List<Runnable> sideEffects = new ArrayList<>();
+
+	private ChangeBatch(Realm realm, ChangeBatch outer) {
+		this.realm = realm;
+		this.outer = outer;
+	}
+
+	/**
+	 * Returns the open batch of the given realm on the calling thread.
+	 *
+	 * @param realm the realm
+	 * @return the batch, or <code>null</code> if there is none
+	 */
+	public static ChangeBatch getCurrent(Realm realm) {
+		if (openBatches.get() == 0) {
+			return null;
+		}
+		for (ChangeBatch batch = current.get(); batch != null; batch = batch.outer) {
+			if (batch.realm == realm) {
+				return batch;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Begins a batch of the given realm on the calling thread, or nests a
+	 * batch in the open one.
+	 *
+	 * @param realm the realm, which must be current
+	 */
+	public static void begin(Realm realm) {
+		ChangeBatch batch = getCurrent(realm);
+		if (batch == null) {
+			batch = new ChangeBatch(realm, current.get());
+			current.set(batch);
+			openBatches.incrementAndGet();
+		}
+		batch.depth++;
+	}
+
+	/**
+	 * Commits the batch of the given realm that was begun last on the calling
+	 * thread. If it is the outermost one, all queued notifications are
+	 * dispatched and the dirty side-effects are run.
+	 *
+	 * @param realm the realm, which must be current
+	 * @throws IllegalStateException if no batch of the realm is open, or if a
+	 *                               batch of another realm was begun within it
+	 *                               and is still open
+	 */
+	public static void commit(Realm realm) {
+		ChangeBatch batch = getCurrent(realm);
+		if (batch == null) {
+			throw new IllegalStateException("No batch was begun in this realm"); //$NON-NLS-1$
+		}
+		if (batch.depth == 1 && !batch.committing && batch != current.get()) {
+			throw new IllegalStateException("A batch of another realm is still open"); //$NON-NLS-1$
+		}
+		if (--batch.depth > 0 || batch.committing) {
+			return;
+		}
+		batch.committing = true;
+		try {
+			batch.flush();
+		} finally {
+			if (batch.outer == null) {
+				current.remove();
+			} else {
+				current.set(batch.outer);
+			}
+			openBatches.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Queues the notification of a listener until the batch is committed.
+	 *
+	 * @param notification the notification
+	 */
+	public void defer(Runnable notification) {
+		notifications.add(notification);
+	}
+
+	/**
+	 * Runs the given update of a side-effect once the queued notifications
+	 * have been dispatched. The caller must make sure that the same update is
+	 * scheduled only once.
+	 *
+	 * @param update the update of the side-effect
+	 */
+	public void scheduleSideEffect(Runnable update) {
+		sideEffects.add(update);
+	}
+
+	/**
+	 * Dispatches the notifications and runs the side-effects, including those
+	 * that are caused by them. If any of them fails, the remaining ones are
+	 * still run and the first failure is thrown afterwards.
+	 */
+	private void flush() {
+		Throwable failure = null;
+		int next = 0;
+		while (true) {
+			while (next < notifications.size()) {
+				failure = run(notifications.get(next++), failure);
+			}
+			if (sideEffects.isEmpty()) {
+				break;
+			}
+			Runnable[] updates = sideEffects.toArray(new Runnable[sideEffects.size()]);
+			sideEffects.clear();
+			for (Runnable update : updates) {
+				failure = run(update, failure);
+			}
+		}
+		notifications.clear();
+		if (failure instanceof RuntimeException) {
+			throw (RuntimeException) failure;
+		} else if (failure instanceof Error) {
+			throw (Error) failure;
+		}
+	}
+
+	private static Throwable run(Runnable runnable, Throwable failure) {
+		try {
+			runnable.run();
+		} catch (RuntimeException | Error e) {
+			if (failure == null) {
+				return e;
+			}
+			failure.addSuppressed(e);
+		}
+		return failure;
+	}
+}
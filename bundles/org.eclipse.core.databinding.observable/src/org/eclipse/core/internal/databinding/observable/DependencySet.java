@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.Arrays;
+
+import org.eclipse.core.databinding.observable.IChangeListener;
+import org.eclipse.core.databinding.observable.IObservable;
+import org.eclipse.core.databinding.observable.IStaleListener;
+
+/**
+ * An identity set of observables that keeps the order in which they were
+ * added. Small sets are searched linearly, larger ones are indexed by an open
+ * addressing hash table. Sets are cleared and reused by the
+ * {@link org.eclipse.core.databinding.observable.ObservableTracker}, so that
+ * tracking the dependencies of a computation allocates nothing but the
+ * resulting array.
+ *
+ * @since 1.14
+ */
+public final class DependencySet {
+
+	/**
+	 * The size up to which the elements are searched linearly.
+	 */
+	private static final int LINEAR_SEARCH_LIMIT = 8;
+
+	/**
+	 * The capacity above which a cleared set releases its arrays.
+	 */
+	private static final int MAX_RETAINED_CAPACITY = 1024;
+
+	private static final IObservable[] EMPTY = new IObservable[0];
+
+	private IObservable[] elements = new IObservable[LINEAR_SEARCH_LIMIT];
+
+	private int size;
+
+	/**
+	 * Indices of the elements plus one by identity hash code, or
+	 * <code>null</code> while the set is searched linearly. A cleared set
+	 * keeps its table.
+	 */
+	private int[] table;
+
+	/**
+	 * The next set in the pool of unused sets of a tracker.
+	 */
+	public DependencySet next;
+
+	/**
+	 * Adds the given observable.
+	 *
+	 * @param observable the observable
+	 * @return <code>true</code> if the observable was not contained in this set
+	 */
+	public boolean add(IObservable observable) {
+		if (table == null) {
+			for (int i = 0; i < size; i++) {
+				if (elements[i] == observable) {
+					return false;
+				}
+			}
+		} else {
+			int mask = table.length - 1;
+			int i = hash(observable) & mask;
+			for (int index; (index = table[i]) != 0; i = (i + 1) & mask) {
+				if (elements[index - 1] == observable) {
+					return false;
+				}
+			}
+		}
+		if (size == elements.length) {
+			elements = Arrays.copyOf(elements, size * 2);
+		}
+		elements[size++] = observable;
+		if (table != null && size * 2 <= table.length) {
+			insert(size - 1);
+		} else if (size > LINEAR_SEARCH_LIMIT) {
+			rehash();
+		}
+		return true;
+	}
+
+	/**
+	 * @param observable the observable
+	 * @return whether the observable is contained in this set
+	 */
+	public boolean contains(IObservable observable) {
+		if (table == null) {
+			for (int i = 0; i < size; i++) {
+				if (elements[i] == observable) {
+					return true;
+				}
+			}
+			return false;
+		}
+		int mask = table.length - 1;
+		int i = hash(observable) & mask;
+		for (int index; (index = table[i]) != 0; i = (i + 1) & mask) {
+			if (elements[index - 1] == observable) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return the number of observables in this set
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return a new array of the observables in the order they were added
+	 */
+	public IObservable[] toArray() {
+		return size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+	}
+
+	/**
+	 * Removes all observables.
+	 */
+	public void clear() {
+		if (elements.length > MAX_RETAINED_CAPACITY) {
+			elements = new IObservable[LINEAR_SEARCH_LIMIT];
+			table = null;
+		} else {
+			Arrays.fill(elements, 0, size, null);
+			if (table != null) {
+				Arrays.fill(table, 0);
+			}
+		}
+		size = 0;
+	}
+
+	private void rehash() {
+		table = new int[Integer.highestOneBit(size) * 4];
+		for (int i = 0; i < size; i++) {
+			insert(i);
+		}
+	}
+
+	private void insert(int index) {
+		int mask = table.length - 1;
+		int i = hash(elements[index]) & mask;
+		while (table[i] != 0) {
+			i = (i + 1) & mask;
+		}
+		table[i] = index + 1;
+	}
+
+	private static int hash(Object object) {
+		int hash = System.identityHashCode(object) * 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+
+	/**
+	 * Moves the given listeners from the old to the new dependencies. Listeners
+	 * are removed only from the observables that are no longer dependencies,
+	 * and added only to those that were no dependencies before.
+	 *
+	 * @param oldDependencies the previous dependencies, or <code>null</code> if
+	 *                        the listeners were not added to any
+	 * @param newDependencies the new dependencies, or <code>null</code> to
+	 *                        remove the listeners from all old ones
+	 * @param changeListener  the change listener, or <code>null</code>
+	 * @param staleListener   the stale listener, or <code>null</code>
+	 */
+	public static void updateListeners(IObservable[] oldDependencies, IObservable[] newDependencies,
+			IChangeListener changeListener, IStaleListener staleListener) {
+		IObservable[] oldOnes = oldDependencies == null ? EMPTY : oldDependencies;
+		IObservable[] newOnes = newDependencies == null ? EMPTY : newDependencies;
+		int common = 0;
+		int limit = Math.min(oldOnes.length, newOnes.length);
+		while (common < limit && oldOnes[common] == newOnes[common]) {
+			common++;
+		}
+		if (common == oldOnes.length && common == newOnes.length) {
+			return;
+		}
+		DependencySet oldSet = of(oldOnes, common);
+		DependencySet newSet = of(newOnes, common);
+		for (int i = common; i < oldOnes.length; i++) {
+			IObservable observable = oldOnes[i];
+			if (!newSet.contains(observable)) {
+				if (changeListener != null) {
+					observable.removeChangeListener(changeListener);
+				}
+				if (staleListener != null) {
+					observable.removeStaleListener(staleListener);
+				}
+			}
+		}
+		for (int i = common; i < newOnes.length; i++) {
+			IObservable observable = newOnes[i];
+			if (!oldSet.contains(observable)) {
+				if (changeListener != null) {
+					observable.addChangeListener(changeListener);
+				}
+				if (staleListener != null) {
+					observable.addStaleListener(staleListener);
+				}
+			}
+		}
+	}
+
+	private static DependencySet of(IObservable[] observables, int from) {
+		DependencySet set = new DependencySet();
+		for (int i = from; i < observables.length; i++) {
+			set.add(observables[i]);
+		}
+		return set;
+	}
+}
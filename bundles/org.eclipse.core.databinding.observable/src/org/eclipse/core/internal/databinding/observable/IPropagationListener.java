@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.observable;
+
+import org.eclipse.core.databinding.observable.IObservablesListener;
+
+/**
+ * Marks the listeners of computed observables and side-effects, which only
+ * remember that their owner has to be recomputed. They are notified
+ * immediately during a {@link ChangeBatch}, while all other listeners are
+ * notified when the batch is committed.
+ *
+ * @since 1.14
+ */
+public interface IPropagationListener extends IObservablesListener {
+}
@@ -0,0 +1,666 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
+
+/**
+ * Computes the differences between two lists with the O((N+M)D) algorithm of
+ * Myers, in linear space.
+ * <p>
+ * The common prefix and suffix of the lists are skipped first. If the
+ * remaining elements differ in a few places only, the differences are found by
+ * comparing the elements directly. Otherwise the elements are numbered by
+ * their equivalence classes with a hash table, so that the algorithm compares
+ * integers, and elements that occur in only one of the lists are removed or
+ * added without searching for them. If the edit distance is very large, the
+ * algorithm gives up on finding the shortest sequence of differences for parts
+ * of the lists, as GNU diff does.
+ * </p>
+ * <p>
+ * A removed element that is equal to an added element is moved: its remove
+ * and add entries are adjacent, so that
+ * {@link org.eclipse.core.databinding.observable.list.ListDiff#accept(org.eclipse.core.databinding.observable.list.ListDiffVisitor)}
+ * reports them as a move.
+ * </p>
+ */
+public final class ListDiffComputer {
+
+	/**
+	 * The minimum number of edit steps after which the search for the shortest
+	 * sequence of differences of a part of the lists is given up.
+	 */
+	private static final int MIN_TOO_EXPENSIVE = 256;
+
+	/**
+	 * The maximum number of edit steps for which the differences are computed
+	 * by comparing the elements directly. Below this, numbering the elements
+	 * costs more than it saves.
+	 */
+	private static final int MAX_DIRECT_EDITS = 64;
+
+	private final int[] xs;
+	private final int[] ys;
+	private final boolean[] deleted;
+	private final boolean[] inserted;
+
+	/** Furthest reaching forward and backward paths by diagonal */
+	private final int[] fd;
+	private final int[] bd;
+	private final int offset;
+	private final int tooExpensive;
+
+	/** The split point found by {@link #diag(int, int, int, int)} */
+	private int xmid;
+	private int ymid;
+
+	private ListDiffComputer(int[] xs, int[] ys, boolean[] deleted, boolean[] inserted) {
+		this.xs = xs;
+		this.ys = ys;
+		this.deleted = deleted;
+		this.inserted = inserted;
+		fd = new int[xs.length + ys.length + 3];
+		bd = new int[fd.length];
+		offset = ys.length + 1;
+		int cost = 1;
+		for (int diags = fd.length; diags != 0; diags >>= 2) {
+			cost <<= 1;
+		}
+		tooExpensive = Math.max(MIN_TOO_EXPENSIVE, cost);
+	}
+
+	/**
+	 * Returns the differences between the given lists.
+	 *
+	 * @param <E>     the list element type
+	 * @param oldList the old list state
+	 * @param newList the new list state
+	 * @return the entries that change the old list into the new list, in the
+	 *         order in which they must be applied
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> List<ListDiffEntry<E>> computeDifferences(List<? extends E> oldList,
+			List<? extends E> newList) {
+		Object[] a = oldList.toArray();
+		Object[] b = newList.toArray();
+
+		int start = 0;
+		while (start < a.length && start < b.length && Objects.equals(a[start], b[start])) {
+			start++;
+		}
+		int aEnd = a.length;
+		int bEnd = b.length;
+		while (aEnd > start && bEnd > start && Objects.equals(a[aEnd - 1], b[bEnd - 1])) {
+			aEnd--;
+			bEnd--;
+		}
+		int na = aEnd - start;
+		int nb = bEnd - start;
+		List<ListDiffEntry<E>> differences = new ArrayList<>();
+		if (na == 0 && nb == 0) {
+			return differences;
+		}
+
+		boolean[] deleted = new boolean[na];
+		boolean[] inserted = new boolean[nb];
+		int[] pairOfOld = new int[na];
+		int[] pairOfNew = new int[nb];
+		Arrays.fill(pairOfOld, -1);
+		Arrays.fill(pairOfNew, -1);
+		boolean moves;
+		if (compareDirectly(a, b, start, deleted, inserted)) {
+			moves = pairDirectly(a, b, start, deleted, inserted, pairOfOld, pairOfNew);
+		} else {
+			moves = compareByClasses(a, b, start, deleted, inserted, pairOfOld, pairOfNew);
+		}
+
+		// Walk the edit script. The list consists of the new elements before
+		// index j and the old elements that were passed by but will be moved
+		// later ("held"), followed by the old elements from index i on that
+		// were not moved earlier ("taken"). Moving a held element shifts the
+		// elements that were held after it only if it is added behind them, so
+		// a held position is stored together with the number of moves before
+		// it was held. The bookkeeping is only needed if there are moves.
+		boolean[] taken = moves ? new boolean[na] : null;
+		FenwickTree takenCount = moves ? new FenwickTree(na) : null;
+		int[] heldOf = moves ? new int[na] : null;
+		int[] heldPositions = moves ? new int[na] : null;
+		int heldCount = 0;
+		int movedCount = 0;
+		FenwickTree movedHeldCount = moves ? new FenwickTree(na) : null;
+		int position = start;
+		int i = 0;
+		int j = 0;
+		while (i < na || j < nb) {
+			if (j < nb && inserted[j]) {
+				E element = (E) b[start + j];
+				int partner = pairOfNew[j];
+				if (partner < 0) {
+					differences.add(Diffs.createListDiffEntry(position, true, element));
+					position++;
+				} else if (partner < i) {
+					int held = heldOf[partner];
+					int from = heldPositions[held] - movedHeldCount.sum(held);
+					movedHeldCount.add(held);
+					movedCount++;
+					differences.add(Diffs.createListDiffEntry(from, false, (E) a[start + partner]));
+					differences.add(Diffs.createListDiffEntry(position - 1, true, element));
+				} else {
+					int from = position + (partner - i) - (takenCount.sum(partner) - takenCount.sum(i));
+					taken[partner] = true;
+					takenCount.add(partner);
+					differences.add(Diffs.createListDiffEntry(from, false, (E) a[start + partner]));
+					differences.add(Diffs.createListDiffEntry(position, true, element));
+					position++;
+				}
+				j++;
+			} else if (i < na && deleted[i]) {
+				if (taken == null || !taken[i]) {
+					if (pairOfOld[i] >= 0) {
+						heldOf[i] = heldCount;
+						heldPositions[heldCount++] = position + movedCount;
+						position++;
+					} else {
+						differences.add(Diffs.createListDiffEntry(position, false, (E) a[start + i]));
+					}
+				}
+				i++;
+			} else {
+				i++;
+				j++;
+				position++;
+			}
+		}
+		return differences;
+	}
+
+	/**
+	 * Marks the deleted and inserted elements of the given parts of the arrays
+	 * after numbering the elements by equivalence class, and pairs removed and
+	 * added equal elements. Returns whether any elements were paired.
+	 */
+	private static boolean compareByClasses(Object[] a, Object[] b, int start, boolean[] deleted,
+			boolean[] inserted, int[] pairOfOld, int[] pairOfNew) {
+		int na = deleted.length;
+		int nb = inserted.length;
+
+		// Number the elements by equivalence class
+		EquivalenceClasses classes = new EquivalenceClasses(na);
+		int[] aIds = new int[na];
+		for (int i = 0; i < na; i++) {
+			aIds[i] = classes.add(a[start + i]);
+		}
+		int classCount = classes.size();
+		boolean[] inB = new boolean[classCount];
+		int[] bIds = new int[nb];
+		for (int i = 0; i < nb; i++) {
+			bIds[i] = classes.get(b[start + i]);
+			if (bIds[i] >= 0) {
+				inB[bIds[i]] = true;
+			}
+		}
+		classes = null;
+
+		// Elements that occur in only one list cannot be part of a common
+		// subsequence
+		int[] xIndex = new int[na];
+		int nx = 0;
+		for (int i = 0; i < na; i++) {
+			if (inB[aIds[i]]) {
+				xIndex[nx++] = i;
+			} else {
+				deleted[i] = true;
+			}
+		}
+		int[] yIndex = new int[nb];
+		int ny = 0;
+		for (int i = 0; i < nb; i++) {
+			if (bIds[i] >= 0) {
+				yIndex[ny++] = i;
+			} else {
+				inserted[i] = true;
+			}
+		}
+		if (nx > 0 && ny > 0) {
+			int[] xs = new int[nx];
+			for (int i = 0; i < nx; i++) {
+				xs[i] = aIds[xIndex[i]];
+			}
+			int[] ys = new int[ny];
+			for (int i = 0; i < ny; i++) {
+				ys[i] = bIds[yIndex[i]];
+			}
+			boolean[] xDeleted = new boolean[nx];
+			boolean[] yInserted = new boolean[ny];
+			new ListDiffComputer(xs, ys, xDeleted, yInserted).compare();
+			for (int i = 0; i < nx; i++) {
+				deleted[xIndex[i]] = xDeleted[i];
+			}
+			for (int i = 0; i < ny; i++) {
+				inserted[yIndex[i]] = yInserted[i];
+			}
+		} else {
+			for (int i = 0; i < nx; i++) {
+				deleted[xIndex[i]] = true;
+			}
+			for (int i = 0; i < ny; i++) {
+				inserted[yIndex[i]] = true;
+			}
+		}
+
+		// Pair removed and added elements of the same class, in list order
+		int[] firstDeleted = new int[classCount];
+		int[] lastDeleted = new int[classCount];
+		Arrays.fill(firstDeleted, -1);
+		int[] nextDeleted = xIndex; // reused, only deleted indices are linked
+		for (int i = 0; i < na; i++) {
+			if (deleted[i] && inB[aIds[i]]) {
+				int id = aIds[i];
+				nextDeleted[i] = -1;
+				if (firstDeleted[id] < 0) {
+					firstDeleted[id] = i;
+				} else {
+					nextDeleted[lastDeleted[id]] = i;
+				}
+				lastDeleted[id] = i;
+			}
+		}
+		boolean moves = false;
+		for (int j = 0; j < nb; j++) {
+			if (inserted[j] && bIds[j] >= 0) {
+				int id = bIds[j];
+				int i = firstDeleted[id];
+				if (i >= 0) {
+					firstDeleted[id] = nextDeleted[i];
+					pairOfOld[i] = j;
+					pairOfNew[j] = i;
+					moves = true;
+				}
+			}
+		}
+		return moves;
+	}
+
+	/**
+	 * Marks the deleted and inserted elements of the given parts of the arrays
+	 * with the greedy algorithm of Myers, comparing the elements themselves.
+	 * The paths of all edit steps are kept to trace the differences back, so
+	 * this gives up and returns <code>false</code> without marking anything if
+	 * more than {@link #MAX_DIRECT_EDITS} steps are needed.
+	 */
+	private static boolean compareDirectly(Object[] a, Object[] b, int start, boolean[] deleted,
+			boolean[] inserted) {
+		int na = deleted.length;
+		int nb = inserted.length;
+		int maxEdits = Math.min(MAX_DIRECT_EDITS, na + nb);
+		// the furthest reaching x on diagonal k = x - y after edit step d, at
+		// index d * d + d + k
+		int[] paths = new int[64];
+		for (int d = 0; d <= maxEdits; d++) {
+			int level = d * d + d;
+			int previous = level - 2 * d;
+			if (level + d >= paths.length) {
+				paths = Arrays.copyOf(paths, Math.max(paths.length * 2, level + d + 1));
+			}
+			for (int k = -d; k <= d; k += 2) {
+				int x;
+				if (d == 0) {
+					x = 0;
+				} else if (k == -d || (k != d && paths[previous + k - 1] < paths[previous + k + 1])) {
+					x = paths[previous + k + 1];
+				} else {
+					x = paths[previous + k - 1] + 1;
+				}
+				int y = x - k;
+				while (x < na && y < nb && Objects.equals(a[start + x], b[start + y])) {
+					x++;
+					y++;
+				}
+				paths[level + k] = x;
+				if (x >= na && y >= nb) {
+					markDirectly(paths, d, k, deleted, inserted);
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Traces the path found by
+	 * {@link #compareDirectly(Object[], Object[], int, boolean[], boolean[])}
+	 * back from its end on diagonal <code>k</code> after <code>d</code> edit
+	 * steps, and marks its deleted and inserted elements.
+	 */
+	private static void markDirectly(int[] paths, int d, int k, boolean[] deleted, boolean[] inserted) {
+		for (; d > 0; d--) {
+			int previous = d * d - d;
+			if (k == -d || (k != d && paths[previous + k - 1] < paths[previous + k + 1])) {
+				// came down from diagonal k + 1 by inserting an element
+				inserted[paths[previous + k + 1] - (k + 1)] = true;
+				k++;
+			} else {
+				// came right from diagonal k - 1 by deleting an element
+				deleted[paths[previous + k - 1]] = true;
+				k--;
+			}
+		}
+	}
+
+	/**
+	 * Pairs removed and added equal elements in list order, comparing the
+	 * elements themselves. Returns whether any elements were paired.
+	 */
+	private static boolean pairDirectly(Object[] a, Object[] b, int start, boolean[] deleted, boolean[] inserted,
+			int[] pairOfOld, int[] pairOfNew) {
+		int[] deletedIndices = new int[Math.min(MAX_DIRECT_EDITS, deleted.length)];
+		int deletedCount = 0;
+		for (int i = 0; i < deleted.length; i++) {
+			if (deleted[i]) {
+				deletedIndices[deletedCount++] = i;
+			}
+		}
+		boolean moves = false;
+		for (int j = 0; j < inserted.length; j++) {
+			if (inserted[j]) {
+				for (int n = 0; n < deletedCount; n++) {
+					int i = deletedIndices[n];
+					if (pairOfOld[i] < 0 && Objects.equals(a[start + i], b[start + j])) {
+						pairOfOld[i] = j;
+						pairOfNew[j] = i;
+						moves = true;
+						break;
+					}
+				}
+			}
+		}
+		return moves;
+	}
+
+	/**
+	 * Marks the deleted and inserted elements of the whole sequences.
+	 */
+	private void compare() {
+		int[] stack = new int[64];
+		int top = 0;
+		stack[top++] = 0;
+		stack[top++] = xs.length;
+		stack[top++] = 0;
+		stack[top++] = ys.length;
+		while (top > 0) {
+			int ylim = stack[--top];
+			int yoff = stack[--top];
+			int xlim = stack[--top];
+			int xoff = stack[--top];
+
+			// Skip the common prefix and suffix
+			while (xoff < xlim && yoff < ylim && xs[xoff] == ys[yoff]) {
+				xoff++;
+				yoff++;
+			}
+			while (xlim > xoff && ylim > yoff && xs[xlim - 1] == ys[ylim - 1]) {
+				xlim--;
+				ylim--;
+			}
+
+			if (xoff == xlim) {
+				Arrays.fill(inserted, yoff, ylim, true);
+			} else if (yoff == ylim) {
+				Arrays.fill(deleted, xoff, xlim, true);
+			} else {
+				diag(xoff, xlim, yoff, ylim);
+				if ((xmid == xoff && ymid == yoff) || (xmid == xlim && ymid == ylim)) {
+					// no progress, replace the whole part
+					Arrays.fill(deleted, xoff, xlim, true);
+					Arrays.fill(inserted, yoff, ylim, true);
+					continue;
+				}
+				if (top + 8 > stack.length) {
+					stack = Arrays.copyOf(stack, stack.length * 2);
+				}
+				stack[top++] = xoff;
+				stack[top++] = xmid;
+				stack[top++] = yoff;
+				stack[top++] = ymid;
+				stack[top++] = xmid;
+				stack[top++] = xlim;
+				stack[top++] = ymid;
+				stack[top++] = ylim;
+			}
+		}
+	}
+
+	/**
+	 * Finds the midpoint of the shortest edit script of the given parts of the
+	 * sequences, or a good split point if that is too expensive, and stores it
+	 * in {@link #xmid} and {@link #ymid}. The parts must not be empty and must
+	 * neither start nor end with equal elements.
+	 */
+	private void diag(int xoff, int xlim, int yoff, int ylim) {
+		final int dmin = xoff - ylim; // minimum valid diagonal
+		final int dmax = xlim - yoff; // maximum valid diagonal
+		final int fmid = xoff - yoff; // center diagonal of forward search
+		final int bmid = xlim - ylim; // center diagonal of backward search
+		int fmin = fmid;
+		int fmax = fmid;
+		int bmin = bmid;
+		int bmax = bmid;
+		final boolean odd = ((fmid - bmid) & 1) != 0;
+
+		fd[offset + fmid] = xoff;
+		bd[offset + bmid] = xlim;
+
+		for (int c = 1;; c++) {
+			// Extend the forward search by one edit step
+			if (fmin > dmin) {
+				fd[offset + --fmin - 1] = -1;
+			} else {
+				++fmin;
+			}
+			if (fmax < dmax) {
+				fd[offset + ++fmax + 1] = -1;
+			} else {
+				--fmax;
+			}
+			for (int d = fmax; d >= fmin; d -= 2) {
+				int tlo = fd[offset + d - 1];
+				int thi = fd[offset + d + 1];
+				int x = tlo >= thi ? tlo + 1 : thi;
+				int y = x - d;
+				while (x < xlim && y < ylim && xs[x] == ys[y]) {
+					x++;
+					y++;
+				}
+				fd[offset + d] = x;
+				if (odd && bmin <= d && d <= bmax && bd[offset + d] <= x) {
+					xmid = x;
+					ymid = y;
+					return;
+				}
+			}
+
+			// Extend the backward search by one edit step
+			if (bmin > dmin) {
+				bd[offset + --bmin - 1] = Integer.MAX_VALUE;
+			} else {
+				++bmin;
+			}
+			if (bmax < dmax) {
+				bd[offset + ++bmax + 1] = Integer.MAX_VALUE;
+			} else {
+				--bmax;
+			}
+			for (int d = bmax; d >= bmin; d -= 2) {
+				int tlo = bd[offset + d - 1];
+				int thi = bd[offset + d + 1];
+				int x = tlo < thi ? tlo : thi - 1;
+				int y = x - d;
+				while (xoff < x && yoff < y && xs[x - 1] == ys[y - 1]) {
+					x--;
+					y--;
+				}
+				bd[offset + d] = x;
+				if (!odd && fmin <= d && d <= fmax && x <= fd[offset + d]) {
+					xmid = x;
+					ymid = y;
+					return;
+				}
+			}
+
+			if (c >= tooExpensive) {
+				// Use the forward or backward path that got furthest
+				int fxybest = -1;
+				int fxbest = xoff;
+				for (int d = fmax; d >= fmin; d -= 2) {
+					int x = Math.min(fd[offset + d], xlim);
+					int y = x - d;
+					if (ylim < y) {
+						x = ylim + d;
+						y = ylim;
+					}
+					if (fxybest < x + y) {
+						fxybest = x + y;
+						fxbest = x;
+					}
+				}
+				int bxybest = Integer.MAX_VALUE;
+				int bxbest = xlim;
+				for (int d = bmax; d >= bmin; d -= 2) {
+					int x = Math.max(xoff, bd[offset + d]);
+					int y = x - d;
+					if (y < yoff) {
+						x = yoff + d;
+						y = yoff;
+					}
+					if (x + y < bxybest) {
+						bxybest = x + y;
+						bxbest = x;
+					}
+				}
+				if ((xlim + ylim) - bxybest < fxybest - (xoff + yoff)) {
+					xmid = fxbest;
+					ymid = fxybest - fxbest;
+				} else {
+					xmid = bxbest;
+					ymid = bxybest - bxbest;
+				}
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Numbers elements by their equivalence class, in an open addressing hash
+	 * table that does not need to box the numbers.
+	 */
+	private static final class EquivalenceClasses {
+
+		private final int[] table;
+		private final Object[] elements;
+		private final int[] hashes;
+		private int size;
+
+		EquivalenceClasses(int capacity) {
+			table = new int[Integer.highestOneBit(Math.max(2, capacity) * 2 - 1) << 1];
+			elements = new Object[capacity];
+			hashes = new int[capacity];
+		}
+
+		/**
+		 * Returns the number of the class of the given element, which is added
+		 * if it is not known yet.
+		 */
+		int add(Object element) {
+			int hash = hash(element);
+			int mask = table.length - 1;
+			for (int i = hash & mask;; i = (i + 1) & mask) {
+				int id = table[i] - 1;
+				if (id < 0) {
+					elements[size] = element;
+					hashes[size] = hash;
+					table[i] = ++size;
+					return size - 1;
+				}
+				if (hashes[id] == hash && Objects.equals(elements[id], element)) {
+					return id;
+				}
+			}
+		}
+
+		/**
+		 * Returns the number of the class of the given element, or -1 if it is
+		 * not known.
+		 */
+		int get(Object element) {
+			int hash = hash(element);
+			int mask = table.length - 1;
+			for (int i = hash & mask;; i = (i + 1) & mask) {
+				int id = table[i] - 1;
+				if (id < 0) {
+					return -1;
+				}
+				if (hashes[id] == hash && Objects.equals(elements[id], element)) {
+					return id;
+				}
+			}
+		}
+
+		int size() {
+			return size;
+		}
+
+		private static int hash(Object element) {
+			int hash = Objects.hashCode(element) * 0x9E3779B9;
+			return hash ^ (hash >>> 16);
+		}
+	}
+
+	/**
+	 * Counts marked indices and sums them up to an index in logarithmic time.
+	 */
+	private static final class FenwickTree {
+
+		private final int[] tree;
+
+		FenwickTree(int size) {
+			tree = new int[size + 1];
+		}
+
+		/**
+		 * Marks the given index.
+		 */
+		void add(int index) {
+			for (int i = index + 1; i < tree.length; i += i & -i) {
+				tree[i]++;
+			}
+		}
+
+		/**
+		 * Returns the number of marked indices below the given index.
+		 */
+		int sum(int index) {
+			int sum = 0;
+			for (int i = index; i > 0; i -= i & -i) {
+				sum += tree[i];
+			}
+			return sum;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Google, Inc. and others.
+ * Copyright (c) 2015, 2026 Google, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,8 @@ import org.eclipse.core.databinding.observable.IObservable;
 import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.sideeffect.ISideEffect;
+import org.eclipse.core.internal.databinding.observable.ChangeBatch;
+import org.eclipse.core.internal.databinding.observable.IPropagationListener;
 import org.eclipse.core.runtime.Assert;
 
 /**
@@ -302,7 +304,12 @@ public final class SideEffect implements ISideEffect {
 		}
 
 		this.asyncScheduled = true;
-		realm.asyncExec(privateInterface);
+		ChangeBatch batch = ChangeBatch.getCurrent(realm);
+		if (batch != null) {
+			batch.scheduleSideEffect(privateInterface);
+		} else {
+			realm.asyncExec(privateInterface);
+		}
 	}
 
 	private void checkRealm() {
@@ -334,7 +341,7 @@ public final class SideEffect implements ISideEffect {
 		};
 	}
 
-	private class PrivateInterface implements IChangeListener, Runnable {
+	private class PrivateInterface implements IChangeListener, IPropagationListener, Runnable {
 		@Override
 		public void handleChange(ChangeEvent event) {
 			markDirtyInternal();
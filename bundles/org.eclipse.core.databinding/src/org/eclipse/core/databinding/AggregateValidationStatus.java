@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,11 +19,24 @@ package org.eclipse.core.databinding;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.eclipse.core.databinding.observable.IChangeListener;
 import org.eclipse.core.databinding.observable.IObservableCollection;
+import org.eclipse.core.databinding.observable.IObservablesListener;
+import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.IListChangeListener;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
+import org.eclipse.core.databinding.observable.set.IObservableSet;
+import org.eclipse.core.databinding.observable.set.ISetChangeListener;
 import org.eclipse.core.databinding.observable.value.ComputedValue;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.IValueChangeListener;
+import org.eclipse.core.databinding.observable.value.ValueChangeEvent;
 import org.eclipse.core.databinding.util.Policy;
 import org.eclipse.core.internal.databinding.BindingMessages;
 import org.eclipse.core.runtime.IStatus;
@@ -35,6 +48,15 @@ import org.eclipse.core.runtime.Status;
  * into a single status value. Instances of this class can be used as an
  * observable value with a value type of {@link IStatus}, or the static methods
  * can be called directly if an aggregated status result is only needed once.
+ * <p>
+ * Once its value has been computed, the observable listens to the validation
+ * status of each provider and counts the statuses of each severity, so that a
+ * change of one status does not require looking at the statuses of all
+ * providers. They are only looked at in order to find the first status with
+ * the highest severity, or to merge the statuses that are not OK. When a status
+ * changes while nobody listens to the observable, it stops listening until its
+ * value is computed again.
+ * </p>
  *
  * @since 1.0
  */
@@ -62,6 +84,23 @@ public final class AggregateValidationStatus extends ComputedValue<IStatus> {
 	private int strategy;
 	private IObservableCollection<? extends ValidationStatusProvider> validationStatusProviders;
 
+	/**
+	 * The tracked statuses of the providers, or <code>null</code> before the
+	 * value was computed for the first time
+	 */
+	private Map<ValidationStatusProvider, TrackedStatus> trackedStatuses;
+
+	/**
+	 * The number of tracked statuses of each severity, indexed by
+	 * {@link #severityIndex(int)}
+	 */
+	private final int[] severityCounts = new int[5];
+
+	private IObservablesListener providersListener;
+
+	/** Whether a tracked status changed since the value was computed */
+	private boolean changed;
+
 	/**
 	 * Creates a new aggregate validation status observable for the given data
 	 * binding context.
@@ -116,13 +155,231 @@ public final class AggregateValidationStatus extends ComputedValue<IStatus> {
 
 	@Override
 	protected IStatus calculate() {
-		IStatus result;
-		if (strategy == MERGED) {
-			result = getStatusMerged(validationStatusProviders);
+		// The dependencies are tracked by the listeners of this class
+		ObservableTracker.setIgnore(true);
+		try {
+			changed = false;
+			if (trackedStatuses == null) {
+				startTracking();
+			}
+			if (strategy == MERGED) {
+				return getTrackedStatusMerged();
+			}
+			return getTrackedStatusMaxSeverity();
+		} finally {
+			ObservableTracker.setIgnore(false);
+		}
+	}
+
+	private IStatus getTrackedStatusMerged() {
+		if (severityCounts[0] == trackedCount()) {
+			return Status.OK_STATUS;
+		}
+		List<IStatus> statuses = new ArrayList<>();
+		for (ValidationStatusProvider provider : validationStatusProviders) {
+			IStatus status = getTrackedStatus(provider);
+			if (!status.isOK()) {
+				statuses.add(status);
+			}
+		}
+		return merge(statuses);
+	}
+
+	private IStatus getTrackedStatusMaxSeverity() {
+		int maxIndex = severityCounts.length - 1;
+		while (maxIndex > 0 && severityCounts[maxIndex] == 0) {
+			maxIndex--;
+		}
+		if (maxIndex == 0) {
+			return Status.OK_STATUS;
+		}
+		for (ValidationStatusProvider provider : validationStatusProviders) {
+			IStatus status = getTrackedStatus(provider);
+			if (severityIndex(status.getSeverity()) == maxIndex) {
+				return status;
+			}
+		}
+		// The collection changed, but its listener has not been notified yet
+		return getStatusMaxSeverity(validationStatusProviders);
+	}
+
+	private int trackedCount() {
+		int count = 0;
+		for (int severityCount : severityCounts) {
+			count += severityCount;
+		}
+		return count;
+	}
+
+	private IStatus getTrackedStatus(ValidationStatusProvider provider) {
+		TrackedStatus trackedStatus = trackedStatuses.get(provider);
+		return trackedStatus != null ? trackedStatus.status : provider.getValidationStatus().getValue();
+	}
+
+	/**
+	 * Starts listening to the providers and their statuses.
+	 */
+	private void startTracking() {
+		trackedStatuses = new IdentityHashMap<>();
+		if (validationStatusProviders instanceof IObservableList) {
+			IListChangeListener<ValidationStatusProvider> listener = event -> {
+				for (ListDiffEntry<? extends ValidationStatusProvider> entry : event.diff.getDifferences()) {
+					if (entry.isAddition()) {
+						track(entry.getElement());
+					} else {
+						untrack(entry.getElement());
+					}
+				}
+				trackedStatusChanged();
+			};
+			@SuppressWarnings("unchecked")
+			IObservableList<ValidationStatusProvider> list = (IObservableList<ValidationStatusProvider>) validationStatusProviders;
+			list.addListChangeListener(listener);
+			providersListener = listener;
+		} else if (validationStatusProviders instanceof IObservableSet) {
+			ISetChangeListener<ValidationStatusProvider> listener = event -> {
+				for (ValidationStatusProvider provider : event.diff.getRemovals()) {
+					untrack(provider);
+				}
+				for (ValidationStatusProvider provider : event.diff.getAdditions()) {
+					track(provider);
+				}
+				trackedStatusChanged();
+			};
+			@SuppressWarnings("unchecked")
+			IObservableSet<ValidationStatusProvider> set = (IObservableSet<ValidationStatusProvider>) validationStatusProviders;
+			set.addSetChangeListener(listener);
+			providersListener = listener;
+		} else {
+			IChangeListener listener = event -> {
+				untrackAll();
+				trackedStatuses = new IdentityHashMap<>();
+				for (ValidationStatusProvider provider : validationStatusProviders) {
+					track(provider);
+				}
+				trackedStatusChanged();
+			};
+			validationStatusProviders.addChangeListener(listener);
+			providersListener = listener;
+		}
+		for (ValidationStatusProvider provider : validationStatusProviders) {
+			track(provider);
+		}
+	}
+
+	/**
+	 * Stops listening to the providers and their statuses.
+	 */
+	private void stopTracking() {
+		if (validationStatusProviders instanceof IObservableList) {
+			@SuppressWarnings("unchecked")
+			IListChangeListener<ValidationStatusProvider> listener = (IListChangeListener<ValidationStatusProvider>) providersListener;
+			((IObservableList<? extends ValidationStatusProvider>) validationStatusProviders)
+					.removeListChangeListener(listener);
+		} else if (validationStatusProviders instanceof IObservableSet) {
+			@SuppressWarnings("unchecked")
+			ISetChangeListener<ValidationStatusProvider> listener = (ISetChangeListener<ValidationStatusProvider>) providersListener;
+			((IObservableSet<? extends ValidationStatusProvider>) validationStatusProviders)
+					.removeSetChangeListener(listener);
 		} else {
-			result = getStatusMaxSeverity(validationStatusProviders);
+			validationStatusProviders.removeChangeListener((IChangeListener) providersListener);
+		}
+		providersListener = null;
+		untrackAll();
+	}
+
+	private void untrackAll() {
+		for (TrackedStatus trackedStatus : trackedStatuses.values()) {
+			trackedStatus.observable.removeValueChangeListener(trackedStatus);
+		}
+		trackedStatuses = null;
+		for (int i = 0; i < severityCounts.length; i++) {
+			severityCounts[i] = 0;
+		}
+	}
+
+	private void track(ValidationStatusProvider provider) {
+		TrackedStatus trackedStatus = trackedStatuses.get(provider);
+		if (trackedStatus == null) {
+			trackedStatus = new TrackedStatus(provider.getValidationStatus());
+			trackedStatuses.put(provider, trackedStatus);
+			trackedStatus.observable.addValueChangeListener(trackedStatus);
+		}
+		trackedStatus.references++;
+		severityCounts[severityIndex(trackedStatus.status.getSeverity())]++;
+	}
+
+	private void untrack(ValidationStatusProvider provider) {
+		TrackedStatus trackedStatus = trackedStatuses.get(provider);
+		if (trackedStatus != null) {
+			severityCounts[severityIndex(trackedStatus.status.getSeverity())]--;
+			if (--trackedStatus.references == 0) {
+				trackedStatuses.remove(provider);
+				trackedStatus.observable.removeValueChangeListener(trackedStatus);
+			}
+		}
+	}
+
+	/**
+	 * @return the index of the given severity in {@link #severityCounts}: 0
+	 *         for OK, 1 for INFO, 2 for WARNING, 3 for ERROR and 4 for CANCEL
+	 */
+	private static int severityIndex(int severity) {
+		return Math.min(32 - Integer.numberOfLeadingZeros(severity), 4);
+	}
+
+	/**
+	 * Marks the value dirty, and stops tracking if nobody listens to it.
+	 */
+	private void trackedStatusChanged() {
+		changed = true;
+		makeDirty();
+		if (trackedStatuses != null && changed && !hasListeners()) {
+			// Nobody will read the value, stop listening until somebody does
+			stopTracking();
+		}
+	}
+
+	@Override
+	protected void lastListenerRemoved() {
+		super.lastListenerRemoved();
+		getRealm().exec(() -> {
+			if (trackedStatuses != null && changed && !hasListeners()) {
+				stopTracking();
+			}
+		});
+	}
+
+	@Override
+	public synchronized void dispose() {
+		if (trackedStatuses != null) {
+			stopTracking();
+		}
+		super.dispose();
+	}
+
+	/**
+	 * The last known status of a provider, which is updated by listening to
+	 * the validation status observable of the provider.
+	 */
+	private final class TrackedStatus implements IValueChangeListener<IStatus> {
+		final IObservableValue<IStatus> observable;
+		IStatus status;
+		/** The number of times the provider is contained in the collection */
+		int references;
+
+		TrackedStatus(IObservableValue<IStatus> observable) {
+			this.observable = observable;
+			this.status = observable.getValue();
+		}
+
+		@Override
+		public void handleValueChange(ValueChangeEvent<? extends IStatus> event) {
+			severityCounts[severityIndex(status.getSeverity())] -= references;
+			status = event.diff.getNewValue();
+			severityCounts[severityIndex(status.getSeverity())] += references;
+			trackedStatusChanged();
 		}
-		return result;
 	}
 
 	/**
@@ -143,6 +400,10 @@ public final class AggregateValidationStatus extends ComputedValue<IStatus> {
 				statuses.add(status);
 			}
 		}
+		return merge(statuses);
+	}
+
+	private static IStatus merge(List<IStatus> statuses) {
 		if (statuses.size() == 1) {
 			return statuses.get(0);
 		}
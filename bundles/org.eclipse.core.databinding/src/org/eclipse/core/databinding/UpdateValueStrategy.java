@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 
 import org.eclipse.core.databinding.conversion.IConverter;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
@@ -99,6 +100,14 @@ import org.eclipse.core.runtime.Status;
  * {@link #POLICY_NEVER}, {@link #POLICY_CONVERT}, {@link #POLICY_ON_REQUEST},
  * {@link #POLICY_UPDATE}).
  * </p>
+ * <p>
+ * Asynchronous validation:<br>
+ * The phases up to the validation before set may run on the threads of an
+ * {@link #setValidationExecutor(Executor, int) executor} when the source
+ * observable changes, so that expensive validators and converters do not block
+ * the realm. The value is set and the validation status is updated in the
+ * realms of the observables afterwards.
+ * </p>
  *
  * @param <S> the type of the value on the source side (i.e. the model side if
  *            this is a model-to-target update and the target side if this is a
@@ -169,6 +178,10 @@ public class UpdateValueStrategy<S, D> extends UpdateStrategy<S, D> {
 
 	protected boolean provideDefaults;
 
+	private Executor validationExecutor;
+
+	private int validationDelay;
+
 	/**
 	 * <code>true</code> if we defaulted the converter
 	 */
@@ -422,6 +435,62 @@ public class UpdateValueStrategy<S, D> extends UpdateStrategy<S, D> {
 		return this;
 	}
 
+	/**
+	 * Sets the executor that validates and converts the values of the source
+	 * observable when it changes, instead of the realm of the source.
+	 * <p>
+	 * When the source changes, the binding waits for the given delay, and
+	 * then gets the value in the realm of the source and passes it to the
+	 * executor. If the source changes again before the validation is
+	 * complete, the result of the validation is discarded. The destination is
+	 * updated and the validation status is set in their realms after the
+	 * validation. The validators and the converter must therefore be safe to
+	 * call from other threads, and must not access observables.
+	 * </p>
+	 * <p>
+	 * Explicit updates and validations, such as
+	 * {@link Binding#updateTargetToModel()}, are still done synchronously, and
+	 * discard the results of pending validations.
+	 * </p>
+	 *
+	 * @param executor the executor that runs the validators and the converter,
+	 *                 or <code>null</code> to run them in the realm of the
+	 *                 source
+	 * @param delay    the time in milliseconds to wait for further changes of
+	 *                 the source before the value is validated
+	 * @return the receiver, to enable method call chaining
+	 * @since 1.14
+	 */
+	public UpdateValueStrategy<S, D> setValidationExecutor(Executor executor, int delay) {
+		if (delay < 0) {
+			throw new IllegalArgumentException("Delay must not be negative: " + delay); //$NON-NLS-1$
+		}
+		this.validationExecutor = executor;
+		this.validationDelay = delay;
+		return this;
+	}
+
+	/**
+	 * @return the executor that validates and converts the values of the source
+	 *         when it changes, or <code>null</code> if they are validated in
+	 *         the realm of the source
+	 * @see #setValidationExecutor(Executor, int)
+	 * @since 1.14
+	 */
+	public Executor getValidationExecutor() {
+		return validationExecutor;
+	}
+
+	/**
+	 * @return the time in milliseconds to wait for further changes of the
+	 *         source before its value is validated by the
+	 *         {@link #getValidationExecutor() validation executor}
+	 * @since 1.14
+	 */
+	public int getValidationDelay() {
+		return validationDelay;
+	}
+
 	/**
 	 * Validates the value after it is converted.
 	 * <p>
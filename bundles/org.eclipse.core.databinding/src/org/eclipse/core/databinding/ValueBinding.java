@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,10 @@
 
 package org.eclipse.core.databinding;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
 import org.eclipse.core.databinding.observable.value.IValueChangeListener;
@@ -39,11 +43,26 @@ class ValueBinding<M, T> extends Binding {
 
 	private boolean updatingTarget;
 	private boolean updatingModel;
+
+	/**
+	 * Counters of the updates in each direction, which are incremented to
+	 * discard the results of pending asynchronous validations.
+	 */
+	private final AtomicInteger targetToModelVersion = new AtomicInteger();
+	private final AtomicInteger modelToTargetVersion = new AtomicInteger();
+
+	/** Returned by validateAndConvert if the update must not proceed */
+	private static final Object STOPPED = new Object();
+
 	private IValueChangeListener<T> targetChangeListener = new IValueChangeListener<T>() {
 		@Override
 		public void handleValueChange(ValueChangeEvent<? extends T> event) {
 			if (!updatingTarget && !Util.equals(event.diff.getOldValue(), event.diff.getNewValue())) {
-				doUpdate(target, model, targetToModel, false, false);
+				if (targetToModel.getValidationExecutor() != null) {
+					doAsyncUpdate(target, model, targetToModel);
+				} else {
+					doUpdate(target, model, targetToModel, false, false);
+				}
 			}
 		}
 	};
@@ -52,7 +71,11 @@ class ValueBinding<M, T> extends Binding {
 		@Override
 		public void handleValueChange(ValueChangeEvent<? extends M> event) {
 			if (!updatingModel && !Util.equals(event.diff.getOldValue(), event.diff.getNewValue())) {
-				doUpdate(model, target, modelToTarget, false, false);
+				if (modelToTarget.getValidationExecutor() != null) {
+					doAsyncUpdate(model, target, modelToTarget);
+				} else {
+					doUpdate(model, target, modelToTarget, false, false);
+				}
 			}
 		}
 	};
@@ -160,6 +183,9 @@ class ValueBinding<M, T> extends Binding {
 			return;
 		}
 
+		// Discard the results of pending asynchronous updates and validations
+		versionOf(source).incrementAndGet();
+
 		execAfterDisposalCheck(source, () -> {
 			boolean destinationRealmReached = false;
 			final MultiStatus multiStatus = BindingStatus.ok();
@@ -167,69 +193,156 @@ class ValueBinding<M, T> extends Binding {
 				// Get value
 				S value = source.getValue();
 
-				// Validate after get
-				IStatus status = updateValueStrategy.validateAfterGet(value);
-				if (!mergeStatus(multiStatus, status)) {
+				boolean convertOnly = policy == UpdateValueStrategy.POLICY_CONVERT && !explicit;
+				Object result = validateAndConvert(updateValueStrategy, value, !convertOnly, multiStatus);
+				if (result == STOPPED || convertOnly || validateOnly) {
 					return;
 				}
+				@SuppressWarnings("unchecked")
+				final D2 convertedValue = (D2) result;
 
-				// Convert value
-				final D2 convertedValue = updateValueStrategy.convert(value);
-
-				// Validate after convert
-				status = updateValueStrategy.validateAfterConvert(convertedValue);
-				if (!mergeStatus(multiStatus, status)) {
-					return;
-				}
-				if (policy == UpdateValueStrategy.POLICY_CONVERT && !explicit) {
-					return;
+				// Set value
+				destinationRealmReached = true;
+				execAfterDisposalCheck(destination,
+						() -> setDestination(destination, updateValueStrategy, convertedValue, multiStatus));
+			} catch (Exception ex) {
+				mergeException(multiStatus, ex);
+			} finally {
+				if (!destinationRealmReached) {
+					setValidationStatus(multiStatus);
 				}
 
-				// Validate before set
-				status = updateValueStrategy.validateBeforeSet(convertedValue);
-				if (!mergeStatus(multiStatus, status)) {
+			}
+		});
+	}
+
+	/**
+	 * Updates the destination after the source changed, running the phases up
+	 * to the validation before set on the validation executor of the strategy.
+	 * The update is discarded if another update in the same direction starts
+	 * before it is complete.
+	 */
+	private <S, D1, D2 extends D1> void doAsyncUpdate(final IObservableValue<S> source,
+			final IObservableValue<D1> destination, final UpdateValueStrategy<? super S, D2> updateValueStrategy) {
+		final Executor executor = updateValueStrategy.getValidationExecutor();
+		final boolean convertOnly = updateValueStrategy.getUpdatePolicy() == UpdateValueStrategy.POLICY_CONVERT;
+		final AtomicInteger version = versionOf(source);
+		final int current = version.incrementAndGet();
+
+		// Wait for further changes before getting the value
+		source.getRealm().timerExec(updateValueStrategy.getValidationDelay(), () -> {
+			if (version.get() != current || source.isDisposed()) {
+				return;
+			}
+			final S value = source.getValue();
+			Runnable validation = () -> {
+				if (version.get() != current) {
 					return;
 				}
-				if (validateOnly) {
+				final MultiStatus multiStatus = BindingStatus.ok();
+				Object result;
+				try {
+					result = validateAndConvert(updateValueStrategy, value, !convertOnly, multiStatus);
+				} catch (Exception ex) {
+					mergeException(multiStatus, ex);
+					result = STOPPED;
+				}
+				if (result == STOPPED || convertOnly) {
+					validationStatusObservable.getRealm().exec(() -> {
+						if (version.get() == current) {
+							validationStatusObservable.setValue(multiStatus);
+						}
+					});
 					return;
 				}
-
-				// Set value
-				destinationRealmReached = true;
+				@SuppressWarnings("unchecked")
+				final D2 convertedValue = (D2) result;
 				execAfterDisposalCheck(destination, () -> {
-					if (destination == target) {
-						updatingTarget = true;
-					} else {
-						updatingModel = true;
-					}
-					try {
-						IStatus setterStatus = updateValueStrategy.doSet(destination, convertedValue);
-
-						mergeStatus(multiStatus, setterStatus);
-					} finally {
-						if (destination == target) {
-							updatingTarget = false;
-						} else {
-							updatingModel = false;
-						}
-						setValidationStatus(multiStatus);
+					if (version.get() == current) {
+						setDestination(destination, updateValueStrategy, convertedValue, multiStatus);
 					}
 				});
-			} catch (Exception ex) {
-				// This check is necessary as in 3.2.2 Status
-				// doesn't accept a null message (bug 177264).
-				String message = (ex.getMessage() != null) ? ex.getMessage() : ""; //$NON-NLS-1$
-				mergeStatus(multiStatus,
-						new Status(IStatus.ERROR, Policy.JFACE_DATABINDING, IStatus.ERROR, message, ex));
-			} finally {
-				if (!destinationRealmReached) {
-					setValidationStatus(multiStatus);
-				}
-
+			};
+			try {
+				executor.execute(validation);
+			} catch (RejectedExecutionException e) {
+				validation.run();
 			}
 		});
 	}
 
+	private AtomicInteger versionOf(IObservableValue<?> source) {
+		return source == target ? targetToModelVersion : modelToTargetVersion;
+	}
+
+	/**
+	 * Runs the phases of the update from the validation after get to the
+	 * validation before set, and merges their statuses into the given multi
+	 * status.
+	 *
+	 * @return the converted value, or {@link #STOPPED} if a validator stopped
+	 *         the update
+	 */
+	private <S, D2> Object validateAndConvert(UpdateValueStrategy<? super S, D2> updateValueStrategy, S value,
+			boolean validateBeforeSet, MultiStatus multiStatus) {
+		// Validate after get
+		IStatus status = updateValueStrategy.validateAfterGet(value);
+		if (!mergeStatus(multiStatus, status)) {
+			return STOPPED;
+		}
+
+		// Convert value
+		D2 convertedValue = updateValueStrategy.convert(value);
+
+		// Validate after convert
+		status = updateValueStrategy.validateAfterConvert(convertedValue);
+		if (!mergeStatus(multiStatus, status)) {
+			return STOPPED;
+		}
+		if (!validateBeforeSet) {
+			return convertedValue;
+		}
+
+		// Validate before set
+		status = updateValueStrategy.validateBeforeSet(convertedValue);
+		if (!mergeStatus(multiStatus, status)) {
+			return STOPPED;
+		}
+		return convertedValue;
+	}
+
+	/**
+	 * Sets the converted value on the destination and the validation status.
+	 * Must be called in the realm of the destination.
+	 */
+	private <D1, D2 extends D1> void setDestination(IObservableValue<D1> destination,
+			UpdateValueStrategy<?, D2> updateValueStrategy, D2 convertedValue, MultiStatus multiStatus) {
+		if (destination == target) {
+			updatingTarget = true;
+		} else {
+			updatingModel = true;
+		}
+		try {
+			IStatus setterStatus = updateValueStrategy.doSet(destination, convertedValue);
+
+			mergeStatus(multiStatus, setterStatus);
+		} finally {
+			if (destination == target) {
+				updatingTarget = false;
+			} else {
+				updatingModel = false;
+			}
+			setValidationStatus(multiStatus);
+		}
+	}
+
+	private void mergeException(MultiStatus multiStatus, Exception ex) {
+		// This check is necessary as in 3.2.2 Status
+		// doesn't accept a null message (bug 177264).
+		String message = (ex.getMessage() != null) ? ex.getMessage() : ""; //$NON-NLS-1$
+		mergeStatus(multiStatus, new Status(IStatus.ERROR, Policy.JFACE_DATABINDING, IStatus.ERROR, message, ex));
+	}
+
 	@Override
 	public void validateModelToTarget() {
 		doUpdate(model, target, modelToTarget, true, true);
@@ -246,6 +359,8 @@ class ValueBinding<M, T> extends Binding {
 
 	@Override
 	public void dispose() {
+		targetToModelVersion.incrementAndGet();
+		modelToTargetVersion.incrementAndGet();
 		if (targetChangeListener != null) {
 			target.removeValueChangeListener(targetChangeListener);
 			targetChangeListener = null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,10 @@
  *******************************************************************************/
 package org.eclipse.core.filebuffers;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import org.eclipse.core.filesystem.IFileStore;
 
 import org.eclipse.core.runtime.CoreException;
@@ -99,6 +103,48 @@ public interface IFileBufferManager {
 	 */
 	void connectFileStore(IFileStore fileStore, IProgressMonitor monitor) throws CoreException;
 
+	/**
+	 * Connects the files at the given locations to this manager without blocking the caller.
+	 * Reading, charset detection and decoding of the files may happen concurrently for
+	 * different locations, which speeds up clients that need to connect many files at once.
+	 * <p>
+	 * The returned list contains one future per location, in the order of the given
+	 * locations. A future completes with the connected file buffer, or exceptionally with a
+	 * {@link CoreException} if the file could not successfully be connected. Each location
+	 * whose future completed normally has been connected exactly as by
+	 * {@link #connect(IPath, LocationKind, IProgressMonitor)} and must be disconnected by the
+	 * client. Cancelling a future that has not completed yet guarantees that the location is
+	 * not left connected on behalf of that future.
+	 * </p>
+	 * <p>
+	 * The notifications of the {@link IFileBufferListener}s may be sent from background
+	 * threads.
+	 * </p>
+	 * <p>
+	 * The default implementation connects the locations sequentially in the calling thread.
+	 * </p>
+	 *
+	 * @param locations the locations of the files to be connected
+	 * @param locationKind the kind of the given locations
+	 * @return the futures for the connected file buffers, in the order of the given locations
+	 * @see LocationKind
+	 * @since 3.9
+	 */
+	default List<CompletableFuture<IFileBuffer>> connectAll(List<IPath> locations, LocationKind locationKind) {
+		List<CompletableFuture<IFileBuffer>> futures= new ArrayList<>(locations.size());
+		for (IPath location : locations) {
+			CompletableFuture<IFileBuffer> future= new CompletableFuture<>();
+			try {
+				connect(location, locationKind, null);
+				future.complete(getFileBuffer(location, locationKind));
+			} catch (CoreException e) {
+				future.completeExceptionally(e);
+			}
+			futures.add(future);
+		}
+		return futures;
+	}
+
 	/**
 	 * Disconnects the file at the given location from this manager. After that
 	 * call successfully completed there is no guarantee that <code>getFileBuffer</code>
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,11 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.filesystem.EFS;
 import org.eclipse.core.filesystem.IFileInfo;
@@ -77,6 +82,10 @@ public class TextFileBufferManager implements ITextFileBufferManager {
 	private List<IFileBufferListener> fFileBufferListeners= new ArrayList<>();
 	protected ExtensionsRegistry fRegistry;
 	private ISynchronizationContext fSynchronizationContext;
+	/**
+	 * The executor used by {@link #connectAll(List, LocationKind)}, created on first use.
+	 */
+	private Executor fConnectExecutor;
 
 
 	public TextFileBufferManager()  {
@@ -131,6 +140,57 @@ public class TextFileBufferManager implements ITextFileBufferManager {
 		fireBufferCreated(fileBuffer);
 	}
 
+	/**
+	 * Connects the locations on a pool of background threads. Each location is connected by
+	 * {@link #connect(IPath, LocationKind, IProgressMonitor)}, so locations that are already
+	 * connected only have their reference count increased, and concurrent connects of the same
+	 * location end up with a single file buffer.
+	 */
+	@Override
+	public List<CompletableFuture<IFileBuffer>> connectAll(List<IPath> locations, final LocationKind locationKind) {
+		List<CompletableFuture<IFileBuffer>> futures= new ArrayList<>(locations.size());
+		for (final IPath location : locations) {
+			Assert.isNotNull(location);
+			final CompletableFuture<IFileBuffer> future= new CompletableFuture<>();
+			futures.add(future);
+			getConnectExecutor().execute(() -> {
+				if (future.isDone())
+					return;
+				IFileBuffer fileBuffer;
+				try {
+					connect(location, locationKind, null);
+					fileBuffer= getFileBuffer(location, locationKind);
+				} catch (CoreException | RuntimeException x) {
+					future.completeExceptionally(x);
+					return;
+				}
+				if (!future.complete(fileBuffer)) {
+					// cancelled while connecting, don't leak the connection
+					try {
+						disconnect(location, locationKind, null);
+					} catch (CoreException x) {
+						ILog.of(TextFileBufferManager.class).log(x.getStatus());
+					}
+				}
+			});
+		}
+		return futures;
+	}
+
+	private synchronized Executor getConnectExecutor() {
+		if (fConnectExecutor == null) {
+			int threads= Math.max(1, Runtime.getRuntime().availableProcessors());
+			ThreadPoolExecutor executor= new ThreadPoolExecutor(threads, threads, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread= new Thread(runnable, "File Buffer Connect"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			executor.allowCoreThreadTimeOut(true);
+			fConnectExecutor= executor;
+		}
+		return fConnectExecutor;
+	}
+
 	@Override
 	public void connectFileStore(IFileStore fileStore, IProgressMonitor monitor) throws CoreException {
 		Assert.isLegal(fileStore != null);
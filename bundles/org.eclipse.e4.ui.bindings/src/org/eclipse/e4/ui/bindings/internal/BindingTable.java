@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2014 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,6 +29,7 @@ import org.eclipse.jface.bindings.TriggerSequence;
 import org.eclipse.jface.bindings.keys.IKeyLookup;
 import org.eclipse.jface.bindings.keys.KeyLookupFactory;
 import org.eclipse.jface.bindings.keys.KeyStroke;
+import org.eclipse.jface.internal.TriggerTrie;
 
 /**
  * manage tables of bindings that can be used to look up commands from keys.
@@ -127,7 +128,8 @@ public class BindingTable {
 	private ArrayList<Binding> bindings = new ArrayList<>();
 	private Map<TriggerSequence, Binding> bindingsByTrigger = new HashMap<>();
 	private Map<ParameterizedCommand, ArrayList<Binding>> bindingsByCommand = new HashMap<>();
-	private Map<TriggerSequence, ArrayList<Binding>> bindingsByPrefix = new HashMap<>();
+	private TriggerTrie bindingsByPrefix = TriggerTrie.EMPTY;
+	private TriggerTrie.Builder prefixChanges;
 	private Map<TriggerSequence, ArrayList<Binding>> conflicts = new HashMap<>();
 	private Map<TriggerSequence, ArrayList<Binding>> orderedBindingsByTrigger = new HashMap<>();
 
@@ -201,15 +203,7 @@ public class BindingTable {
 		sequences.add(binding);
 		sequences.sort(BEST_SEQUENCE);
 
-		TriggerSequence[] prefs = binding.getTriggerSequence().getPrefixes();
-		for (int i = 1; i < prefs.length; i++) {
-			ArrayList<Binding> bindings = bindingsByPrefix.get(prefs[i]);
-			if (bindings == null) {
-				bindings = new ArrayList<>();
-				bindingsByPrefix.put(prefs[i], bindings);
-			}
-			bindings.add(binding);
-		}
+		getPrefixChanges().put(binding.getTriggerSequence(), binding);
 	}
 
 	private void removeBindingSimple(Binding binding) {
@@ -220,13 +214,29 @@ public class BindingTable {
 		if (sequences != null) {
 			sequences.remove(binding);
 		}
-		TriggerSequence[] prefs = binding.getTriggerSequence().getPrefixes();
-		for (int i = 1; i < prefs.length; i++) {
-			ArrayList<Binding> bindings = bindingsByPrefix.get(prefs[i]);
-			if (bindings != null) {
-				bindings.remove(binding);
-			}
+		TriggerTrie.Builder changes = getPrefixChanges();
+		if (changes.get(binding.getTriggerSequence()) == binding) {
+			changes.remove(binding.getTriggerSequence());
+		}
+	}
+
+	/**
+	 * Changes to the trie are collected in a builder until the next partial
+	 * match, so that loading many bindings does not copy the trie each time.
+	 */
+	private TriggerTrie.Builder getPrefixChanges() {
+		if (prefixChanges == null) {
+			prefixChanges = bindingsByPrefix.builder();
 		}
+		return prefixChanges;
+	}
+
+	private TriggerTrie getBindingsByPrefix() {
+		if (prefixChanges != null) {
+			bindingsByPrefix = prefixChanges.build();
+			prefixChanges = null;
+		}
+		return bindingsByPrefix;
 	}
 
 	public void removeBinding(Binding binding) {
@@ -327,12 +337,15 @@ public class BindingTable {
 	}
 
 	public Collection<Binding> getPartialMatches(TriggerSequence sequence) {
-		return bindingsByPrefix.get(sequence);
+		if (sequence.isEmpty()) {
+			return null;
+		}
+		Map<TriggerSequence, Binding> partialMatches = getBindingsByPrefix().getPartialMatches(sequence);
+		return partialMatches.isEmpty() ? null : new ArrayList<>(partialMatches.values());
 	}
 
 	public boolean isPartialMatch(TriggerSequence seq) {
-		ArrayList<Binding> values = bindingsByPrefix.get(seq);
-		return values != null && !values.isEmpty();
+		return !seq.isEmpty() && getBindingsByPrefix().isPartialMatch(seq);
 	}
 
 	public Collection<Binding> getBindings() {
@@ -0,0 +1,745 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.dom;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.eclipse.e4.ui.css.core.dom.CSSStylableElement;
+import org.eclipse.e4.ui.css.core.dom.ExtendedCSSRule;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSAndConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSAttributeConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSClassConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSConditionalSelectorImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSChildSelectorImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSDescendantSelectorImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSElementSelectorImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSIdConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSLangConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSPseudoClassConditionImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.CSSPseudoElementSelectorImpl;
+import org.eclipse.e4.ui.css.core.impl.sac.ExtendedSelector;
+import org.w3c.css.sac.Condition;
+import org.w3c.css.sac.DescendantSelector;
+import org.w3c.css.sac.Selector;
+import org.w3c.css.sac.SelectorList;
+import org.w3c.css.sac.SiblingSelector;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.css.CSSRule;
+import org.w3c.dom.css.CSSStyleDeclaration;
+import org.w3c.dom.css.CSSStyleRule;
+
+/**
+ * An index of the selectors of a list of CSS rules, which finds the selectors
+ * that can match an element without testing all of them.
+ * <p>
+ * Each selector is put into a bucket by the simple selector that the element
+ * itself has to match, i.e. the rightmost one: by its id if it has one, else by
+ * one of its classes, its element name or one of its pseudo-classes, in this
+ * order. Selectors without any of these go into the bucket of universal
+ * selectors. An element only tests the selectors in the buckets of its id, its
+ * classes, its name, the pseudo-classes it is an instance of, and the universal
+ * ones.
+ * </p>
+ * <p>
+ * Selectors that have to match ancestors of the element also keep a bloom
+ * filter of the ids, classes and names that these ancestors must have. They are
+ * only tested if the filter of the ids, classes and names of the ancestors of
+ * the element contains all of them.
+ * </p>
+ * <p>
+ * Most selectors only depend on the ids, classes, names, pseudo-classes and
+ * attributes of an element and its ancestors. Elements with equal values for
+ * all of them match the same selectors, and share a {@link Signature}, which
+ * keeps the styles computed for one of them for the others. This does not hold
+ * for elements that test a selector which depends on siblings or on conditions
+ * that are not known, see {@link #isSharable(Element)}.
+ * </p>
+ */
+final class SelectorIndex {
+
+	private static final Entry[] NO_ENTRIES = new Entry[0];
+
+	private static final long[] NO_BITS = new long[0];
+
+	private static final String[] NO_VALUES = new String[0];
+
+	/**
+	 * The maximum number of signatures that are kept, after which they are
+	 * created anew
+	 */
+	private static final int MAX_SIGNATURES = 4096;
+
+	private static final int ID = 1;
+
+	private static final int CLASS = 2;
+
+	private static final int NAME = 3;
+
+	/**
+	 * The number of longs of a bloom filter, which has 64 times as many bits
+	 */
+	private static final int FILTER_LENGTH = 4;
+
+	private static final int FILTER_MASK = FILTER_LENGTH * Long.SIZE - 1;
+
+	/**
+	 * A selector of a style rule.
+	 */
+	private static final class Entry {
+		final ExtendedSelector selector;
+		final CSSStyleDeclaration style;
+		final int specificity;
+		/** The position of the selector in the rules */
+		final int position;
+		/** The bloom filter of the ancestors, or <code>null</code> */
+		final long[] ancestorFilter;
+
+		Entry(ExtendedSelector selector, CSSStyleDeclaration style, int position, long[] ancestorFilter) {
+			this.selector = selector;
+			this.style = style;
+			this.specificity = selector.getSpecificity();
+			this.position = position;
+			this.ancestorFilter = ancestorFilter;
+		}
+	}
+
+	/**
+	 * The ids, classes, element names and pseudo-classes of a simple selector.
+	 */
+	private static final class Keys {
+		String id;
+		List<String> classes = new ArrayList<>(2);
+		String name;
+		String pseudoClass;
+	}
+
+	private final Map<String, Entry[]> ids;
+
+	private final Map<String, Entry[]> classes;
+
+	private final Map<String, Entry[]> names;
+
+	private final String[] pseudoClasses;
+
+	private final Entry[][] pseudoClassEntries;
+
+	private final Entry[] universal;
+
+	/**
+	 * Whether all selectors are sharable, i.e. elements with equal signatures
+	 * match the same selectors
+	 */
+	private final boolean allSharable;
+
+	/**
+	 * The ids, classes and names of the buckets that hold selectors which are
+	 * not sharable
+	 */
+	private final Set<String> unsharableIds;
+
+	private final Set<String> unsharableClasses;
+
+	private final Set<String> unsharableNames;
+
+	/**
+	 * Whether the bucket of each of the {@link #pseudoClasses} holds selectors
+	 * which are not sharable
+	 */
+	private final boolean[] unsharablePseudoClasses;
+
+	private final boolean unsharableUniversal;
+
+	/**
+	 * The pseudo-classes of all selectors, whose states are part of the
+	 * signatures
+	 */
+	private final String[] signaturePseudoClasses;
+
+	/**
+	 * The attributes tested by all selectors, whose values are part of the
+	 * signatures
+	 */
+	private final String[] signatureAttributes;
+
+	private final Map<Signature, Signature> signatures = new HashMap<>();
+
+	/**
+	 * The ids, classes, name, pseudo-class states and tested attribute values
+	 * of an element and the signature of its parent, which determine the
+	 * selectors that match it if it is {@link SelectorIndex#isSharable(Element)
+	 * sharable}. Equal
+	 * signatures are the same instance, which keeps the styles computed for the
+	 * elements that have it.
+	 */
+	static final class Signature {
+		private final boolean element;
+		private final String name;
+		private final String namespaceURI;
+		private final String id;
+		private final String cssClass;
+		/** Two bits per pseudo-class: instance of it, static instance of it */
+		private final long[] pseudoClassBits;
+		/** The values of the tested attributes, null if an attribute is missing */
+		private final String[] attributeValues;
+		private final Signature parent;
+		private final int hash;
+		/** The computed styles by pseudo element, where null values are kept */
+		private final Map<String, CSSStyleDeclaration> styles = new HashMap<>(4);
+
+		Signature(Node node, long[] pseudoClassBits, String[] attributeValues, Signature parent) {
+			this.element = node.getNodeType() == Node.ELEMENT_NODE;
+			Element elt = element ? (Element) node : null;
+			this.name = element ? nameOf(elt) : null;
+			this.namespaceURI = element ? elt.getNamespaceURI() : null;
+			this.id = element ? idOf(elt) : null;
+			this.cssClass = element ? classOf(elt) : null;
+			this.pseudoClassBits = pseudoClassBits;
+			this.attributeValues = attributeValues;
+			this.parent = parent;
+			this.hash = Objects.hash(name, namespaceURI, id, cssClass, Integer.valueOf(Arrays.hashCode(pseudoClassBits)),
+					Integer.valueOf(Arrays.hashCode(attributeValues)), parent);
+		}
+
+		/**
+		 * Returns whether styles for the given pseudo element have been
+		 * computed, which may be <code>null</code>.
+		 */
+		boolean hasStyle(String pseudoElt) {
+			return styles.containsKey(pseudoElt);
+		}
+
+		CSSStyleDeclaration getStyle(String pseudoElt) {
+			return styles.get(pseudoElt);
+		}
+
+		void setStyle(String pseudoElt, CSSStyleDeclaration style) {
+			styles.put(pseudoElt, style);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Signature)) {
+				return false;
+			}
+			Signature other = (Signature) obj;
+			// Parents are compared by identity, as equal ones are the same
+			return hash == other.hash && element == other.element && parent == other.parent
+					&& Objects.equals(name, other.name) && Objects.equals(cssClass, other.cssClass)
+					&& Objects.equals(id, other.id) && Objects.equals(namespaceURI, other.namespaceURI)
+					&& Arrays.equals(pseudoClassBits, other.pseudoClassBits)
+					&& Arrays.equals(attributeValues, other.attributeValues);
+		}
+	}
+
+	/**
+	 * Creates the index of the selectors of the given rules. Only style rules
+	 * that implement {@link ExtendedCSSRule} and their selectors that implement
+	 * {@link ExtendedSelector} are indexed.
+	 *
+	 * @param rules the rules
+	 */
+	SelectorIndex(List<CSSRule> rules) {
+		Map<String, List<Entry>> idLists = new HashMap<>();
+		Map<String, List<Entry>> classLists = new HashMap<>();
+		Map<String, List<Entry>> nameLists = new HashMap<>();
+		Map<String, List<Entry>> pseudoClassLists = new HashMap<>();
+		List<Entry> universalList = new ArrayList<>();
+		Set<String> allPseudoClasses = new LinkedHashSet<>();
+		Set<String> allAttributes = new LinkedHashSet<>();
+		Set<String> unsharableIdSet = new HashSet<>();
+		Set<String> unsharableClassSet = new HashSet<>();
+		Set<String> unsharableNameSet = new HashSet<>();
+		Set<String> unsharablePseudoClassSet = new HashSet<>();
+		boolean universalUnsharable = false;
+		int position = 0;
+		for (CSSRule rule : rules) {
+			if (rule.getType() != CSSRule.STYLE_RULE || !(rule instanceof ExtendedCSSRule)) {
+				continue;
+			}
+			CSSStyleDeclaration style = ((CSSStyleRule) rule).getStyle();
+			SelectorList selectorList = ((ExtendedCSSRule) rule).getSelectorList();
+			int l = selectorList.getLength();
+			for (int j = 0; j < l; j++) {
+				Selector selector = selectorList.item(j);
+				if (!(selector instanceof ExtendedSelector)) {
+					continue;
+				}
+				boolean selectorSharable = isSharable(selector, allPseudoClasses, allAttributes);
+				long[] ancestorFilter = null;
+				if (selector instanceof DescendantSelector) {
+					ancestorFilter = new long[FILTER_LENGTH];
+					if (!addAncestorKeys(((DescendantSelector) selector).getAncestorSelector(), ancestorFilter)) {
+						ancestorFilter = null;
+					}
+				}
+				Entry entry = new Entry((ExtendedSelector) selector, style, position++, ancestorFilter);
+				Keys keys = new Keys();
+				collectKeys(subjectOf(selector), keys);
+				if (keys.id != null) {
+					idLists.computeIfAbsent(keys.id, k -> new ArrayList<>()).add(entry);
+					if (!selectorSharable) {
+						unsharableIdSet.add(keys.id);
+					}
+				} else if (!keys.classes.isEmpty()) {
+					classLists.computeIfAbsent(keys.classes.get(0), k -> new ArrayList<>()).add(entry);
+					if (!selectorSharable) {
+						unsharableClassSet.add(keys.classes.get(0));
+					}
+				} else if (keys.name != null) {
+					nameLists.computeIfAbsent(keys.name, k -> new ArrayList<>()).add(entry);
+					if (!selectorSharable) {
+						unsharableNameSet.add(keys.name);
+					}
+				} else if (keys.pseudoClass != null) {
+					pseudoClassLists.computeIfAbsent(keys.pseudoClass, k -> new ArrayList<>()).add(entry);
+					if (!selectorSharable) {
+						unsharablePseudoClassSet.add(keys.pseudoClass);
+					}
+				} else {
+					universalList.add(entry);
+					universalUnsharable |= !selectorSharable;
+				}
+			}
+		}
+		ids = toArrays(idLists);
+		classes = toArrays(classLists);
+		names = toArrays(nameLists);
+		pseudoClasses = pseudoClassLists.keySet().toArray(new String[pseudoClassLists.size()]);
+		pseudoClassEntries = new Entry[pseudoClasses.length][];
+		unsharablePseudoClasses = new boolean[pseudoClasses.length];
+		for (int i = 0; i < pseudoClasses.length; i++) {
+			pseudoClassEntries[i] = pseudoClassLists.get(pseudoClasses[i]).toArray(NO_ENTRIES);
+			unsharablePseudoClasses[i] = unsharablePseudoClassSet.contains(pseudoClasses[i]);
+		}
+		universal = universalList.toArray(NO_ENTRIES);
+		unsharableIds = unsharableIdSet;
+		unsharableClasses = unsharableClassSet;
+		unsharableNames = unsharableNameSet;
+		unsharableUniversal = universalUnsharable;
+		allSharable = unsharableIdSet.isEmpty() && unsharableClassSet.isEmpty() && unsharableNameSet.isEmpty()
+				&& unsharablePseudoClassSet.isEmpty() && !universalUnsharable;
+		signaturePseudoClasses = allPseudoClasses.toArray(new String[allPseudoClasses.size()]);
+		signatureAttributes = allAttributes.toArray(new String[allAttributes.size()]);
+	}
+
+	/**
+	 * Returns whether the given selector only depends on the ids, classes,
+	 * names, pseudo-classes and attributes of an element and its ancestors,
+	 * and collects its pseudo-classes and attributes. The ones of selectors
+	 * that are not sharable need not all be collected, as the elements that
+	 * test them do not share signatures.
+	 */
+	private static boolean isSharable(Selector selector, Set<String> pseudoClasses, Set<String> attributes) {
+		if (selector instanceof CSSConditionalSelectorImpl) {
+			CSSConditionalSelectorImpl conditionalSelector = (CSSConditionalSelectorImpl) selector;
+			return isSharable(conditionalSelector.getSimpleSelector(), pseudoClasses, attributes)
+					&& isSharable(conditionalSelector.getCondition(), pseudoClasses, attributes);
+		}
+		if (selector instanceof CSSDescendantSelectorImpl || selector instanceof CSSChildSelectorImpl) {
+			DescendantSelector descendantSelector = (DescendantSelector) selector;
+			return isSharable(descendantSelector.getAncestorSelector(), pseudoClasses, attributes)
+					&& isSharable(descendantSelector.getSimpleSelector(), pseudoClasses, attributes);
+		}
+		return selector instanceof CSSElementSelectorImpl || selector instanceof CSSPseudoElementSelectorImpl;
+	}
+
+	private static boolean isSharable(Condition condition, Set<String> pseudoClasses, Set<String> attributes) {
+		if (condition instanceof CSSAndConditionImpl) {
+			CSSAndConditionImpl andCondition = (CSSAndConditionImpl) condition;
+			return isSharable(andCondition.getFirstCondition(), pseudoClasses, attributes)
+					&& isSharable(andCondition.getSecondCondition(), pseudoClasses, attributes);
+		}
+		if (condition instanceof CSSPseudoClassConditionImpl) {
+			pseudoClasses.add(((CSSPseudoClassConditionImpl) condition).getValue());
+			return true;
+		}
+		if (condition instanceof CSSIdConditionImpl || condition instanceof CSSClassConditionImpl) {
+			return true;
+		}
+		if (condition instanceof CSSAttributeConditionImpl) {
+			// Also [attr~=value] and [attr|=value], which only read the value
+			attributes.add(((CSSAttributeConditionImpl) condition).getLocalName());
+			return true;
+		}
+		if (condition instanceof CSSLangConditionImpl) {
+			attributes.add("lang"); //$NON-NLS-1$
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether the given element matches the same selectors as all
+	 * elements with an equal signature. This is not the case if one of the
+	 * selectors that it tests depends on siblings or on unknown conditions.
+	 *
+	 * @param elt the element
+	 * @return whether the styles of the element may be shared
+	 */
+	boolean isSharable(Element elt) {
+		if (allSharable) {
+			return true;
+		}
+		if (unsharableUniversal) {
+			return false;
+		}
+		if (!unsharableIds.isEmpty()) {
+			String id = idOf(elt);
+			if (id != null && unsharableIds.contains(id)) {
+				return false;
+			}
+		}
+		if (!unsharableClasses.isEmpty()) {
+			String cssClass = classOf(elt);
+			if (cssClass != null) {
+				boolean[] unsharable = new boolean[1];
+				forEachClass(cssClass, c -> unsharable[0] |= unsharableClasses.contains(c));
+				if (unsharable[0]) {
+					return false;
+				}
+			}
+		}
+		String name = nameOf(elt);
+		if (name != null && unsharableNames.contains(name)) {
+			return false;
+		}
+		if (elt instanceof CSSStylableElement) {
+			CSSStylableElement stylableElement = (CSSStylableElement) elt;
+			for (int i = 0; i < pseudoClasses.length; i++) {
+				if (unsharablePseudoClasses[i] && stylableElement.isPseudoInstanceOf(pseudoClasses[i])) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the signature of the given node, whose parent has the given
+	 * signature.
+	 *
+	 * @param node            the node
+	 * @param parentSignature the signature of the parent, or <code>null</code>
+	 *                        if the node has no parent
+	 * @return the signature, which is the same instance for equal signatures
+	 */
+	Signature signatureOf(Node node, Signature parentSignature) {
+		long[] bits = NO_BITS;
+		if (signaturePseudoClasses.length > 0 && node instanceof CSSStylableElement) {
+			CSSStylableElement stylableElement = (CSSStylableElement) node;
+			bits = new long[(signaturePseudoClasses.length * 2 + Long.SIZE - 1) / Long.SIZE];
+			for (int i = 0; i < signaturePseudoClasses.length; i++) {
+				String pseudoClass = signaturePseudoClasses[i];
+				if (stylableElement.isPseudoInstanceOf(pseudoClass)) {
+					int bit = i * 2;
+					bits[bit >>> 6] |= 1L << bit;
+					if (stylableElement.isStaticPseudoInstance(pseudoClass)) {
+						bits[bit >>> 6] |= 1L << (bit + 1);
+					}
+				}
+			}
+		}
+		String[] values = NO_VALUES;
+		if (signatureAttributes.length > 0 && node.getNodeType() == Node.ELEMENT_NODE) {
+			Element elt = (Element) node;
+			values = new String[signatureAttributes.length];
+			for (int i = 0; i < signatureAttributes.length; i++) {
+				String attribute = signatureAttributes[i];
+				values[i] = elt.hasAttribute(attribute) ? elt.getAttribute(attribute) : null;
+			}
+		}
+		Signature signature = new Signature(node, bits, values, parentSignature);
+		Signature existing = signatures.get(signature);
+		if (existing != null) {
+			return existing;
+		}
+		if (signatures.size() >= MAX_SIGNATURES) {
+			signatures.clear();
+		}
+		signatures.put(signature, signature);
+		return signature;
+	}
+
+	private static Map<String, Entry[]> toArrays(Map<String, List<Entry>> lists) {
+		Map<String, Entry[]> arrays = new HashMap<>(lists.size() * 2);
+		for (Map.Entry<String, List<Entry>> list : lists.entrySet()) {
+			arrays.put(list.getKey(), list.getValue().toArray(NO_ENTRIES));
+		}
+		return arrays;
+	}
+
+	/**
+	 * Returns the simple selector that the element itself has to match.
+	 */
+	private static Selector subjectOf(Selector selector) {
+		if (selector instanceof DescendantSelector) {
+			return ((DescendantSelector) selector).getSimpleSelector();
+		}
+		if (selector instanceof SiblingSelector) {
+			return ((SiblingSelector) selector).getSiblingSelector();
+		}
+		return selector;
+	}
+
+	/**
+	 * Collects the keys that an element must have to match the given simple
+	 * selector. Only the selectors and conditions whose matching is known are
+	 * looked at, any other ones do not add keys.
+	 */
+	private static void collectKeys(Selector selector, Keys keys) {
+		if (selector instanceof CSSConditionalSelectorImpl) {
+			CSSConditionalSelectorImpl conditionalSelector = (CSSConditionalSelectorImpl) selector;
+			collectKeys(conditionalSelector.getSimpleSelector(), keys);
+			collectKeys(conditionalSelector.getCondition(), keys);
+		} else if (selector instanceof CSSElementSelectorImpl) {
+			keys.name = ((CSSElementSelectorImpl) selector).getLocalName();
+		}
+	}
+
+	private static void collectKeys(Condition condition, Keys keys) {
+		if (condition instanceof CSSAndConditionImpl) {
+			CSSAndConditionImpl andCondition = (CSSAndConditionImpl) condition;
+			collectKeys(andCondition.getFirstCondition(), keys);
+			collectKeys(andCondition.getSecondCondition(), keys);
+		} else if (condition instanceof CSSIdConditionImpl) {
+			keys.id = ((CSSIdConditionImpl) condition).getValue();
+		} else if (condition instanceof CSSClassConditionImpl) {
+			keys.classes.add(((CSSClassConditionImpl) condition).getValue());
+		} else if (condition instanceof CSSPseudoClassConditionImpl) {
+			keys.pseudoClass = ((CSSPseudoClassConditionImpl) condition).getValue();
+		}
+	}
+
+	/**
+	 * Adds the keys that ancestors of an element must have to match the given
+	 * ancestor selector to the given filter.
+	 *
+	 * @return whether any key was added
+	 */
+	private static boolean addAncestorKeys(Selector ancestorSelector, long[] filter) {
+		Keys keys = new Keys();
+		// Only the subject of a sibling selector is an ancestor
+		collectKeys(subjectOf(ancestorSelector), keys);
+		boolean added = false;
+		if (keys.id != null) {
+			add(filter, ID, keys.id);
+			added = true;
+		}
+		for (String cssClass : keys.classes) {
+			add(filter, CLASS, cssClass);
+			added = true;
+		}
+		if (keys.name != null) {
+			add(filter, NAME, keys.name);
+			added = true;
+		}
+		if (ancestorSelector instanceof DescendantSelector) {
+			added |= addAncestorKeys(((DescendantSelector) ancestorSelector).getAncestorSelector(), filter);
+		}
+		return added;
+	}
+
+	/**
+	 * Returns the styles of the selectors that match the given element.
+	 *
+	 * @param elt       the element
+	 * @param hierarchy the ancestors of the element, starting with its parent,
+	 *                  or <code>null</code> if it has no parent
+	 * @param pseudoElt the pseudo element, or <code>null</code>
+	 * @return the styles, with positions that are ordered like the selectors in
+	 *         the rules, or <code>null</code> if no selector matches
+	 */
+	List<StyleWrapper> match(Element elt, Node[] hierarchy, String pseudoElt) {
+		Matcher matcher = new Matcher(elt, hierarchy, pseudoElt);
+		String id = idOf(elt);
+		if (id != null && !ids.isEmpty()) {
+			matcher.match(ids.get(id));
+		}
+		if (!classes.isEmpty()) {
+			String cssClass = classOf(elt);
+			if (cssClass != null) {
+				forEachClass(cssClass, c -> matcher.match(classes.get(c)));
+			}
+		}
+		String name = nameOf(elt);
+		if (name != null) {
+			matcher.match(names.get(name));
+		}
+		if (pseudoClasses.length > 0 && elt instanceof CSSStylableElement) {
+			CSSStylableElement stylableElement = (CSSStylableElement) elt;
+			for (int i = 0; i < pseudoClasses.length; i++) {
+				String pseudoClass = pseudoClasses[i];
+				// A pseudo element only matches pseudo-classes of its name
+				if ((pseudoElt == null || pseudoElt.equals(pseudoClass))
+						&& stylableElement.isPseudoInstanceOf(pseudoClass)) {
+					matcher.match(pseudoClassEntries[i]);
+				}
+			}
+		}
+		matcher.match(universal);
+		return matcher.styles;
+	}
+
+	private static final class Matcher {
+		private final Element elt;
+		private final Node[] hierarchy;
+		private final String pseudoElt;
+		private long[] filter;
+		List<StyleWrapper> styles;
+
+		Matcher(Element elt, Node[] hierarchy, String pseudoElt) {
+			this.elt = elt;
+			this.hierarchy = hierarchy;
+			this.pseudoElt = pseudoElt;
+		}
+
+		void match(Entry[] entries) {
+			if (entries == null) {
+				return;
+			}
+			for (Entry entry : entries) {
+				if (entry.ancestorFilter != null && !mayMatchAncestors(entry.ancestorFilter)) {
+					continue;
+				}
+				if (entry.selector.match(elt, hierarchy, 0, pseudoElt)) {
+					if (styles == null) {
+						styles = new ArrayList<>(4);
+					}
+					styles.add(new StyleWrapper(entry.style, entry.specificity, entry.position));
+				}
+			}
+		}
+
+		private boolean mayMatchAncestors(long[] ancestorFilter) {
+			if (filter == null) {
+				filter = ancestorFilterOf(hierarchy);
+			}
+			for (int i = 0; i < FILTER_LENGTH; i++) {
+				if ((ancestorFilter[i] & ~filter[i]) != 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Returns the bloom filter of the ids, classes and names of the given
+	 * ancestors.
+	 */
+	private static long[] ancestorFilterOf(Node[] hierarchy) {
+		long[] filter = new long[FILTER_LENGTH];
+		if (hierarchy == null) {
+			return filter;
+		}
+		for (Node node : hierarchy) {
+			if (node == null || node.getNodeType() != Node.ELEMENT_NODE) {
+				continue;
+			}
+			Element ancestor = (Element) node;
+			String id = idOf(ancestor);
+			if (id != null) {
+				add(filter, ID, id);
+			}
+			String cssClass = classOf(ancestor);
+			if (cssClass != null) {
+				forEachClass(cssClass, c -> add(filter, CLASS, c));
+			}
+			String name = nameOf(ancestor);
+			if (name != null) {
+				add(filter, NAME, name);
+			}
+		}
+		return filter;
+	}
+
+	private static void add(long[] filter, int type, String key) {
+		int hash = (key.hashCode() + type) * 0x9E3779B9;
+		hash ^= hash >>> 16;
+		int bit1 = hash & FILTER_MASK;
+		int bit2 = (hash >>> 8) & FILTER_MASK;
+		filter[bit1 >>> 6] |= 1L << bit1;
+		filter[bit2 >>> 6] |= 1L << bit2;
+	}
+
+	/**
+	 * Returns the id of the given element, as matched by
+	 * {@link CSSIdConditionImpl}.
+	 */
+	private static String idOf(Element elt) {
+		return elt instanceof CSSStylableElement ? ((CSSStylableElement) elt).getCSSId() : elt.getAttribute("id"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the classes of the given element, as matched by
+	 * {@link CSSClassConditionImpl}.
+	 */
+	private static String classOf(Element elt) {
+		return elt instanceof CSSStylableElement ? ((CSSStylableElement) elt).getCSSClass()
+				: elt.getAttribute("class"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the name of the given element, as matched by
+	 * {@link CSSElementSelectorImpl}.
+	 */
+	private static String nameOf(Element elt) {
+		return elt.getPrefix() == null ? elt.getNodeName() : elt.getLocalName();
+	}
+
+	/**
+	 * Calls the given consumer once for each of the space separated classes.
+	 */
+	private static void forEachClass(String cssClasses, Consumer<String> consumer) {
+		int length = cssClasses.length();
+		int start = 0;
+		List<String> seen = null;
+		for (int i = 0; i <= length; i++) {
+			if (i == length || Character.isSpaceChar(cssClasses.charAt(i))) {
+				if (i == start) {
+					start = i + 1;
+					continue;
+				}
+				String cssClass = cssClasses.substring(start, i);
+				if (start == 0 && i == length) {
+					consumer.accept(cssClass);
+				} else if (seen == null || !seen.contains(cssClass)) {
+					if (seen == null) {
+						seen = new ArrayList<>(4);
+					}
+					seen.add(cssClass);
+					consumer.accept(cssClass);
+				}
+				start = i + 1;
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,7 +18,9 @@
 package org.eclipse.e4.ui.css.core.impl.dom;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import org.eclipse.e4.ui.css.core.dom.ExtendedCSSRule;
 import org.eclipse.e4.ui.css.core.dom.ExtendedDocumentCSS;
 import org.eclipse.e4.ui.css.core.impl.sac.ExtendedSelector;
@@ -47,6 +49,13 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 	private boolean ruleCachingEnabled;
 	/** Cached state of combined CSS rules for the current stylesheets */
 	private List<CSSRule> currentCombinedRules;
+	/** Cached index of the selectors of the combined CSS rules */
+	private SelectorIndex currentSelectorIndex;
+	/** Signatures of the nodes seen in the current styling pass, or null */
+	private Map<Node, SelectorIndex.Signature> passSignatures;
+	private int stylingPassDepth;
+	private long styleCacheHits;
+	private long styleCacheMisses;
 
 	/**
 	 * Creates a new ViewCSS.
@@ -69,11 +78,104 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 	}
 
 	/**
-	 * Determines the relevant style declaration for an DOM element
+	 * Starts a styling pass, during which the elements and their ancestors are
+	 * not changed, so that their signatures can be kept for the pass. Within a
+	 * pass, elements with the same signature share their computed styles.
+	 * Passes may be nested, the outermost one ends with the matching call to
+	 * {@link #endStylingPass()}.
+	 */
+	public void startStylingPass() {
+		if (stylingPassDepth++ == 0 && ruleCachingEnabled) {
+			passSignatures = new IdentityHashMap<>();
+		}
+	}
+
+	/**
+	 * Ends a styling pass started with {@link #startStylingPass()}.
+	 */
+	public void endStylingPass() {
+		if (stylingPassDepth > 0 && --stylingPassDepth == 0) {
+			passSignatures = null;
+		}
+	}
+
+	/**
+	 * Returns the number of styles computed during styling passes that were
+	 * shared with an element of the same signature.
+	 */
+	public long getStyleCacheHitCount() {
+		return styleCacheHits;
+	}
+
+	/**
+	 * Returns the number of styles computed during styling passes that were
+	 * not shared with another element, including those of elements whose
+	 * styles can not be shared.
+	 */
+	public long getStyleCacheMissCount() {
+		return styleCacheMisses;
+	}
+
+	/**
+	 * Determines the relevant style declaration for an DOM element. When the
+	 * rules are cached, only the selectors that the {@link SelectorIndex} finds
+	 * for the element are matched, and during a styling pass the declaration is
+	 * shared with the elements of the same signature.
 	 */
 	@Override
 	public CSSStyleDeclaration getComputedStyle(Element elt, String pseudoElt) {
-		return getComputedStyle(getCombinedRules(), elt, pseudoElt);
+		if (!this.ruleCachingEnabled) {
+			return getComputedStyle(getCombinedRules(), elt, pseudoElt);
+		}
+		SelectorIndex selectorIndex = this.currentSelectorIndex;
+		if (selectorIndex == null) {
+			selectorIndex = new SelectorIndex(getCombinedRules());
+			this.currentSelectorIndex = selectorIndex;
+		}
+		if (passSignatures == null) {
+			return computeStyle(selectorIndex, elt, pseudoElt);
+		}
+		if (!selectorIndex.isSharable(elt)) {
+			styleCacheMisses++;
+			return computeStyle(selectorIndex, elt, pseudoElt);
+		}
+		if (pseudoElt == null) {
+			// The styles of an element are computed first without a pseudo
+			// element, which may be after it has been changed
+			passSignatures.remove(elt);
+		}
+		SelectorIndex.Signature signature = getSignature(selectorIndex, elt);
+		if (signature.hasStyle(pseudoElt)) {
+			styleCacheHits++;
+			return signature.getStyle(pseudoElt);
+		}
+		styleCacheMisses++;
+		CSSStyleDeclaration style = computeStyle(selectorIndex, elt, pseudoElt);
+		signature.setStyle(pseudoElt, style);
+		return style;
+	}
+
+	private SelectorIndex.Signature getSignature(SelectorIndex selectorIndex, Node node) {
+		SelectorIndex.Signature signature = passSignatures.get(node);
+		if (signature == null) {
+			Node parent = node.getParentNode();
+			signature = selectorIndex.signatureOf(node, parent == null ? null : getSignature(selectorIndex, parent));
+			passSignatures.put(node, signature);
+		}
+		return signature;
+	}
+
+	private CSSStyleDeclaration computeStyle(SelectorIndex selectorIndex, Element elt, String pseudoElt) {
+		List<StyleWrapper> styleDeclarations = selectorIndex.match(elt, getHierarchy(elt), pseudoElt);
+		if (styleDeclarations == null) {
+			return null;
+		}
+		if (styleDeclarations.size() == 1) {
+			return styleDeclarations.get(0).style;
+		}
+		// There is several Style Declarations which match the element, merge the CSS
+		// Property value.
+		return new CSSComputedStyleImpl(styleDeclarations);
 	}
 
 	/**
@@ -111,7 +213,11 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 		return cssRules;
 	}
 
-	private CSSStyleDeclaration getComputedStyle(List<CSSRule> ruleList, Element elt, String pseudoElt) {
+	/**
+	 * Returns the ancestors of the element, starting with its parent, or
+	 * <code>null</code> if it has no parent.
+	 */
+	private static Node[] getHierarchy(Element elt) {
 		Node parent = elt.getParentNode();
 
 		Node[] hierarchy = null;
@@ -122,6 +228,11 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 			}
 			hierarchy = hierarchyList.toArray(new Node[hierarchyList.size()]);
 		}
+		return hierarchy;
+	}
+
+	private CSSStyleDeclaration getComputedStyle(List<CSSRule> ruleList, Element elt, String pseudoElt) {
+		Node[] hierarchy = getHierarchy(elt);
 
 		List<StyleWrapper> styleDeclarations = null;
 		StyleWrapper firstStyleDeclaration = null;
@@ -172,10 +283,18 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 	@Override
 	public void styleSheetAdded(StyleSheet styleSheet) {
 		currentCombinedRules = null;
+		currentSelectorIndex = null;
+		if (passSignatures != null) {
+			passSignatures.clear();
+		}
 	}
 
 	@Override
 	public void styleSheetRemoved(StyleSheet styleSheet) {
 		currentCombinedRules = null;
+		currentSelectorIndex = null;
+		if (passSignatures != null) {
+			passSignatures.clear();
+		}
 	}
 }
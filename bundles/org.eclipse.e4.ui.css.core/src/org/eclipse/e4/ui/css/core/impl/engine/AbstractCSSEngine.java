@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2020 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -156,6 +156,16 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 
 	private ResourceRegistryKeyFactory keyFactory;
 
+	/**
+	 * The depth of nested calls to apply styles
+	 */
+	private int applyStylesDepth;
+
+	/**
+	 * The time spent applying styles, in nanoseconds
+	 */
+	private long styleApplicationTime;
+
 	public AbstractCSSEngine() {
 		this(new DocumentCSSImpl());
 	}
@@ -376,6 +386,32 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 			return;
 		}
 
+		/*
+		 * The outermost call is a styling pass, during which elements with the
+		 * same signature share their computed styles.
+		 */
+		ViewCSSImpl viewCSSImpl = viewCSS instanceof ViewCSSImpl ? (ViewCSSImpl) viewCSS : null;
+		long start = 0;
+		if (applyStylesDepth++ == 0) {
+			start = System.nanoTime();
+			if (viewCSSImpl != null) {
+				viewCSSImpl.startStylingPass();
+			}
+		}
+		try {
+			applyStyles(element, elt, applyStylesToChildNodes, computeDefaultStyle);
+		} finally {
+			if (--applyStylesDepth == 0) {
+				if (viewCSSImpl != null) {
+					viewCSSImpl.endStylingPass();
+				}
+				styleApplicationTime += System.nanoTime() - start;
+			}
+		}
+	}
+
+	private void applyStyles(Object element, Element elt, boolean applyStylesToChildNodes,
+			boolean computeDefaultStyle) {
 		/*
 		 * Compute new Style to apply.
 		 */
@@ -441,6 +477,28 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 		}
 	}
 
+	/**
+	 * Returns the total time spent applying styles, in nanoseconds.
+	 */
+	public long getStyleApplicationTime() {
+		return styleApplicationTime;
+	}
+
+	/**
+	 * Returns the fraction of the computed styles that were shared between
+	 * elements with the same signature while applying styles, or 0 if no
+	 * styles have been computed yet.
+	 */
+	public double getStyleCacheHitRate() {
+		if (!(viewCSS instanceof ViewCSSImpl)) {
+			return 0;
+		}
+		ViewCSSImpl viewCSSImpl = (ViewCSSImpl) viewCSS;
+		long hits = viewCSSImpl.getStyleCacheHitCount();
+		long total = hits + viewCSSImpl.getStyleCacheMissCount();
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
 	/**
 	 * Allow the CSS engine to skip particular elements if they are not visible.
 	 * Elements need to be restyled when they become visible.
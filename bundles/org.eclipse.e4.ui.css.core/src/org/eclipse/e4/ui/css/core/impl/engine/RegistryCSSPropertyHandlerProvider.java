@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2018 Brian de Alwis and others.
+ * Copyright (c) 2012, 2026 Brian de Alwis and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -54,6 +54,8 @@ public class RegistryCSSPropertyHandlerProvider extends AbstractCSSPropertyHandl
 	private Map<String, Map<String, ICSSPropertyHandler>> propertyHandlerMap = new HashMap<>();
 	// for performance hold a map of handlers to singleton list
 	private Map<ICSSPropertyHandler, List<ICSSPropertyHandler>> propertyHandlerInstanceMap = new HashMap<>();
+	// the handlers resolved for an element class, which sibling elements share
+	private Map<Class<?>, Map<String, List<ICSSPropertyHandler>>> resolvedHandlersMap = new HashMap<>();
 
 	public RegistryCSSPropertyHandlerProvider(IExtensionRegistry registry) {
 		this.registry = registry;
@@ -79,6 +81,7 @@ public class RegistryCSSPropertyHandlerProvider extends AbstractCSSPropertyHandl
 			}
 		}
 		propertyHandlerMap.putAll(handlersMap);
+		resolvedHandlersMap.clear();
 		return true;
 	}
 
@@ -182,8 +185,18 @@ public class RegistryCSSPropertyHandlerProvider extends AbstractCSSPropertyHandl
 
 	@Override
 	public Collection<ICSSPropertyHandler> getCSSPropertyHandlers(Object element, String property) throws Exception {
+		Map<String, List<ICSSPropertyHandler>> resolvedHandlers = resolvedHandlersMap
+				.computeIfAbsent(element.getClass(), c -> new HashMap<>());
+		List<ICSSPropertyHandler> handlers = resolvedHandlers.get(property);
+		if (handlers == null) {
+			handlers = resolveCSSPropertyHandlers(element.getClass(), property);
+			resolvedHandlers.put(property, handlers);
+		}
+		return handlers;
+	}
+
+	private List<ICSSPropertyHandler> resolveCSSPropertyHandlers(Class<?> clazz, String property) {
 		List<ICSSPropertyHandler> handlers = Collections.emptyList();
-		Class<?> clazz = element.getClass();
 		while (clazz != Object.class) {
 			if (propertyHandlerMap.containsKey(clazz.getName())) {
 				ICSSPropertyHandler handler = propertyHandlerMap.get(clazz.getName()).get(property);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Matthew Hall and others.
+ * Copyright (c) 2007, 2026 Matthew Hall and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,8 @@
 
 package org.eclipse.jface.databinding.viewers;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.databinding.observable.IObservableCollection;
@@ -75,31 +77,43 @@ public class ObservableListTreeContentProvider<E> implements ITreeContentProvide
 				// Determine which elements are being added and removed
 				final Set<E> localKnownElementAdditions = ViewerElementSet.withComparer(comparer);
 				final Set<E> localKnownElementRemovals = ViewerElementSet.withComparer(comparer);
+				// Elements that are added or removed more than once
+				final Set<E> repeatedElements = ViewerElementSet.withComparer(comparer);
+				final int[] counts = new int[3]; // additions, removals, entries
 				final boolean[] suspendRedraw = new boolean[] { false };
 				event.diff.accept(new ListDiffVisitor<E>() {
 					@Override
 					public void handleAdd(int index, E element) {
-						localKnownElementAdditions.add(element);
+						if (!localKnownElementAdditions.add(element) || localKnownElementRemovals.contains(element))
+							repeatedElements.add(element);
+						counts[0]++;
+						counts[2]++;
 					}
 
 					@Override
 					public void handleRemove(int index, E element) {
-						localKnownElementRemovals.add(element);
+						if (!localKnownElementRemovals.add(element) || localKnownElementAdditions.contains(element))
+							repeatedElements.add(element);
+						counts[1]++;
+						counts[2]++;
 					}
 
 					@Override
 					public void handleMove(int oldIndex, int newIndex, E element) {
 						suspendRedraw[0] = true;
+						counts[2]++;
 						// does not affect known elements
 					}
 
 					@Override
 					public void handleReplace(int index, E oldElement, E newElement) {
 						suspendRedraw[0] = true;
+						counts[2]++;
 						super.handleReplace(index, oldElement, newElement);
 					}
 				});
-				localKnownElementRemovals.removeAll(event.getObservableList());
+				IObservableList<? extends E> list = event.getObservableList();
+				localKnownElementRemovals.removeAll(list);
 
 				Set<E> knownElementAdditions = ViewerElementSet.withComparer(comparer);
 				knownElementAdditions.addAll(localKnownElementAdditions);
@@ -117,36 +131,20 @@ public class ObservableListTreeContentProvider<E> implements ITreeContentProvide
 					getOrCreateNode(element).addParent(parentElement);
 				}
 
-				if (suspendRedraw[0])
+				ViewerUpdateVisitor visitor = new ViewerUpdateVisitor(parentElement,
+						list.size() - counts[0] + counts[1]);
+				if (visitor.orderPreserved) {
+					findUnambiguousElements(list, localKnownElementAdditions, localKnownElementRemovals,
+							repeatedElements, visitor);
+				}
+
+				if (suspendRedraw[0] || counts[2] > 1)
 					viewer.getControl().setRedraw(false);
 				try {
-					event.diff.accept(new ListDiffVisitor<Object>() {
-						@Override
-						public void handleAdd(int index, Object child) {
-							viewerUpdater.insert(parentElement, child, index);
-						}
-
-						@Override
-						public void handleRemove(int index, Object child) {
-							viewerUpdater.remove(parentElement, child, index);
-						}
-
-						@Override
-						public void handleReplace(int index, Object oldChild,
-								Object newChild) {
-							viewerUpdater.replace(parentElement, oldChild,
-									newChild, index);
-						}
-
-						@Override
-						public void handleMove(int oldIndex, int newIndex,
-								Object child) {
-							viewerUpdater.move(parentElement, child, oldIndex,
-									newIndex);
-						}
-					});
+					event.diff.accept(visitor);
+					visitor.flush();
 				} finally {
-					if (suspendRedraw[0])
+					if (suspendRedraw[0] || counts[2] > 1)
 						viewer.getControl().setRedraw(true);
 				}
 
@@ -162,6 +160,121 @@ public class ObservableListTreeContentProvider<E> implements ITreeContentProvide
 				}
 				knownElements.removeAll(knownElementRemovals);
 			}
+
+			/**
+			 * Finds the added and removed elements that identify their tree
+			 * items, so that they can be passed to the viewer in a batch.
+			 * These are the elements that were not children before they were
+			 * added, and that are no children after they were removed.
+			 */
+			private void findUnambiguousElements(IObservableList<? extends E> list, Set<E> additions,
+					Set<E> removals, Set<E> repeatedElements, ViewerUpdateVisitor visitor) {
+				if (!additions.isEmpty()) {
+					visitor.unambiguousAdditions.addAll(additions);
+					visitor.unambiguousAdditions.removeAll(repeatedElements);
+					Set<E> seen = ViewerElementSet.withComparer(comparer);
+					for (E element : list) {
+						if (visitor.unambiguousAdditions.contains(element) && !seen.add(element)) {
+							repeatedElements.add(element);
+						}
+					}
+					visitor.unambiguousAdditions.removeAll(repeatedElements);
+				}
+				visitor.unambiguousRemovals.addAll(removals);
+				visitor.unambiguousRemovals.removeAll(repeatedElements);
+			}
+		}
+
+		/**
+		 * Applies the entries of a list diff to the viewer. Runs of additions
+		 * at the end of the list and runs of removals are passed to the viewer
+		 * at once, so that it looks up the parent items and preserves the
+		 * selection only once for each run. If the viewer sorts or filters
+		 * the elements, all runs are passed at once. Otherwise only elements
+		 * that identify their tree items are batched, as the viewer adds and
+		 * removes them by element rather than by position.
+		 */
+		private class ViewerUpdateVisitor extends ListDiffVisitor<E> {
+			final Object parentElement;
+			final boolean orderPreserved;
+			final Set<E> unambiguousAdditions = ViewerElementSet.withComparer(comparer);
+			final Set<E> unambiguousRemovals = ViewerElementSet.withComparer(comparer);
+
+			private final List<Object> pending = new ArrayList<>();
+			private boolean pendingAdditions;
+			private int pendingIndex;
+			private int size;
+
+			ViewerUpdateVisitor(Object parentElement, int size) {
+				this.parentElement = parentElement;
+				this.orderPreserved = viewerUpdater.isElementOrderPreserved();
+				this.size = size;
+			}
+
+			@Override
+			public void handleAdd(int index, E element) {
+				if (!orderPreserved || (index == size && unambiguousAdditions.contains(element))) {
+					append(true, index, element);
+				} else {
+					flush();
+					viewerUpdater.insert(parentElement, element, index);
+				}
+				size++;
+			}
+
+			@Override
+			public void handleRemove(int index, E element) {
+				if (!orderPreserved || unambiguousRemovals.contains(element)) {
+					append(false, index, element);
+				} else {
+					flush();
+					viewerUpdater.remove(parentElement, element, index);
+				}
+				size--;
+			}
+
+			@Override
+			public void handleReplace(int index, E oldElement, E newElement) {
+				flush();
+				viewerUpdater.replace(parentElement, oldElement, newElement, index);
+			}
+
+			@Override
+			public void handleMove(int oldIndex, int newIndex, E element) {
+				flush();
+				viewerUpdater.move(parentElement, element, oldIndex, newIndex);
+			}
+
+			private void append(boolean addition, int index, E element) {
+				if (pendingAdditions != addition) {
+					flush();
+				}
+				if (pending.isEmpty()) {
+					pendingAdditions = addition;
+					pendingIndex = index;
+				}
+				pending.add(element);
+			}
+
+			/**
+			 * Passes the pending run to the viewer.
+			 */
+			void flush() {
+				if (pending.size() == 1) {
+					if (pendingAdditions) {
+						viewerUpdater.insert(parentElement, pending.get(0), pendingIndex);
+					} else {
+						viewerUpdater.remove(parentElement, pending.get(0), pendingIndex);
+					}
+				} else if (!pending.isEmpty()) {
+					if (pendingAdditions) {
+						viewerUpdater.add(parentElement, pending.toArray());
+					} else {
+						viewerUpdater.remove(parentElement, pending.toArray());
+					}
+				}
+				pending.clear();
+			}
 		}
 
 		@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Matthew Hall and others.
+ * Copyright (c) 2008, 2026 Matthew Hall and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -81,8 +81,17 @@ public class ObservableSetTreeContentProvider<E> implements ITreeContentProvider
 					getOrCreateNode(element).addParent(parentElement);
 				}
 
-				viewerUpdater.add(parentElement, localAdditions.toArray());
-				viewerUpdater.remove(parentElement, localRemovals.toArray());
+				Viewer viewer = getViewer();
+				boolean suspendRedraw = localAdditions.size() + localRemovals.size() > 1;
+				if (suspendRedraw)
+					viewer.getControl().setRedraw(false);
+				try {
+					viewerUpdater.add(parentElement, localAdditions.toArray());
+					viewerUpdater.remove(parentElement, localRemovals.toArray());
+				} finally {
+					if (suspendRedraw)
+						viewer.getControl().setRedraw(true);
+				}
 
 				for (E element : localRemovals) {
 					TreeNode childNode = getExistingNode(element);
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.databinding.viewers;
+
+import java.util.Set;
+
+import org.eclipse.core.databinding.observable.map.IObservableMap;
+import org.eclipse.core.databinding.observable.set.IObservableSet;
+import org.eclipse.core.databinding.property.Properties;
+import org.eclipse.core.databinding.property.value.IValueProperty;
+import org.eclipse.jface.databinding.swt.DisplayRealm;
+import org.eclipse.jface.internal.databinding.viewers.ObservableViewerElementSet;
+import org.eclipse.jface.internal.databinding.viewers.ViewerElementSet;
+import org.eclipse.jface.viewers.IElementComparer;
+import org.eclipse.jface.viewers.LabelProviderChangedEvent;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.ViewerCell;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
+
+/**
+ * A label provider for large tables, which observes the attributes of the
+ * elements only while they are shown. Where a label provider created by
+ * {@link ViewerSupport} observes the attributes of all elements known to the
+ * content provider, this one observes those of the visible rows and of a
+ * margin of rows above and below them. An element is observed as soon as its
+ * label is needed, and is no longer observed once its row has left the visible
+ * rows by more than the margin.
+ * <p>
+ * This label provider is meant for tables created with the
+ * {@link SWT#VIRTUAL} style, where the labels of the rows are only needed when
+ * they are shown. Each column shows the attribute of the property with the
+ * same index, or of the first property if there are fewer properties than
+ * columns.
+ * </p>
+ *
+ * <pre>
+ * TableViewer viewer = new TableViewer(parent, SWT.VIRTUAL);
+ * viewer.setContentProvider(new ObservableListContentProvider&lt;&gt;());
+ * viewer.setLabelProvider(new WindowedObservableMapCellLabelProvider(viewer, 50,
+ * 		BeanProperties.value(Person.class, &quot;name&quot;)));
+ * viewer.setInput(people);
+ * </pre>
+ *
+ * @since 1.16
+ */
+public class WindowedObservableMapCellLabelProvider extends ObservableMapCellLabelProvider {
+
+	private final TableViewer viewer;
+
+	private final int margin;
+
+	/**
+	 * The elements whose attributes are observed
+	 */
+	private final IObservableSet<Object> window;
+
+	private final Listener paintListener = event -> updateWindow();
+
+	private int windowStart = -1;
+
+	private int windowEnd = -1;
+
+	/**
+	 * Whether the window is being changed, so that the attribute maps report
+	 * elements that were added or removed, which have no new labels
+	 */
+	private boolean updatingWindow;
+
+	/**
+	 * Creates a new label provider for the given viewer.
+	 *
+	 * @param viewer     the viewer whose rows are labeled
+	 * @param margin     the number of rows above and below the visible rows
+	 *                   whose attributes are observed as well
+	 * @param properties the respective properties to use for labels in each of
+	 *                   the viewer's columns
+	 * @throws IllegalArgumentException if the margin is negative or if there are
+	 *                                  no properties
+	 */
+	@SafeVarargs
+	public <E> WindowedObservableMapCellLabelProvider(TableViewer viewer, int margin,
+			IValueProperty<? super E, ?>... properties) {
+		this(viewer, margin, WindowedObservableMapCellLabelProvider.<E>createWindow(viewer), properties);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <E> WindowedObservableMapCellLabelProvider(TableViewer viewer, int margin, IObservableSet<E> window,
+			IValueProperty<? super E, ?>[] properties) {
+		super(Properties.observeEach(window, checkArguments(margin, properties)));
+		this.viewer = viewer;
+		this.margin = margin;
+		this.window = (IObservableSet<Object>) window;
+		viewer.getTable().addListener(SWT.Paint, paintListener);
+	}
+
+	private static <E> IObservableSet<E> createWindow(TableViewer viewer) {
+		return ObservableViewerElementSet.withComparer(DisplayRealm.getRealm(viewer.getControl().getDisplay()),
+				null, viewer.getComparer());
+	}
+
+	private static <T> T[] checkArguments(int margin, T[] properties) {
+		if (margin < 0) {
+			throw new IllegalArgumentException("Margin must not be negative: " + margin); //$NON-NLS-1$
+		}
+		if (properties.length == 0) {
+			throw new IllegalArgumentException("At least one property is required"); //$NON-NLS-1$
+		}
+		return properties;
+	}
+
+	/**
+	 * Updates the label of the cell with the value for the cell element, which
+	 * is observed from now on.
+	 *
+	 * @param cell the cell to be updated
+	 */
+	@Override
+	public void update(ViewerCell cell) {
+		Object element = cell.getElement();
+		if (!window.contains(element)) {
+			updatingWindow = true;
+			try {
+				window.add(element);
+			} finally {
+				updatingWindow = false;
+			}
+		}
+		int column = cell.getColumnIndex();
+		IObservableMap<Object, Object> attributeMap = attributeMaps[column < attributeMaps.length ? column : 0];
+		Object value = attributeMap.get(element);
+		cell.setText(value == null ? "" : value.toString()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Stops observing the elements whose rows are no longer near the visible
+	 * rows. This is done whenever the table is painted, but only if it has been
+	 * scrolled or resized, or if elements have been added to the window since.
+	 */
+	private void updateWindow() {
+		Table table = viewer.getTable();
+		int itemCount = table.getItemCount();
+		int top = table.getTopIndex();
+		int visibleCount = table.getClientArea().height / Math.max(1, table.getItemHeight()) + 1;
+		int start = Math.max(0, top - margin);
+		int end = Math.min(itemCount, top + visibleCount + margin);
+		if (start == windowStart && end == windowEnd && window.size() <= end - start) {
+			return;
+		}
+		windowStart = start;
+		windowEnd = end;
+		IElementComparer comparer = viewer.getComparer();
+		Set<Object> retained = ViewerElementSet.withComparer(comparer);
+		for (int i = start; i < end; i++) {
+			// Getting the data of an item does not materialize a virtual row
+			TableItem item = table.getItem(i);
+			Object element = item.getData();
+			if (element != null) {
+				retained.add(element);
+			}
+		}
+		updatingWindow = true;
+		try {
+			window.retainAll(retained);
+		} finally {
+			updatingWindow = false;
+		}
+	}
+
+	@Override
+	protected void fireLabelProviderChanged(LabelProviderChangedEvent event) {
+		if (!updatingWindow) {
+			super.fireLabelProviderChanged(event);
+		}
+	}
+
+	@Override
+	public void dispose() {
+		Table table = viewer.getTable();
+		if (!table.isDisposed()) {
+			table.removeListener(SWT.Paint, paintListener);
+		}
+		IObservableMap<?, ?>[] maps = attributeMaps;
+		super.dispose();
+		for (IObservableMap<?, ?> map : maps) {
+			map.dispose();
+		}
+		window.dispose();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 Matthew Hall and others.
+ * Copyright (c) 2008, 2026 Matthew Hall and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,8 +17,10 @@
 
 package org.eclipse.jface.internal.databinding.viewers;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -39,7 +41,9 @@ import org.eclipse.jface.viewers.AbstractTreeViewer;
 import org.eclipse.jface.viewers.CheckboxTreeViewer;
 import org.eclipse.jface.viewers.IElementComparer;
 import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.jface.viewers.ITreeViewerListener;
 import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TreeExpansionEvent;
 import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.swt.widgets.Display;
 
@@ -48,6 +52,12 @@ import org.eclipse.swt.widgets.Display;
  * {@link IObservableFactory observable collection factory} to provide the
  * elements of a tree. Each observable collection obtained from the factory is
  * observed such that changes in the collection are reflected in the viewer.
+ * <p>
+ * Collections are obtained for the elements whose children are shown, and for
+ * their children to find out whether they have children themselves. When an
+ * element is collapsed, the collections of its children are disposed, unless
+ * the viewer keeps the items of collapsed elements.
+ * </p>
  *
  * @param <E> type of the values that are provided by this object
  *
@@ -96,6 +106,24 @@ public abstract class ObservableCollectionTreeContentProvider<E> implements ITre
 
 	private TreeStructureAdvisor<? super E> structureAdvisor;
 
+	/**
+	 * The viewer whose collapsed elements are pruned, or <code>null</code>.
+	 */
+	private AbstractTreeViewer prunedViewer;
+
+	private final ITreeViewerListener collapseListener = new ITreeViewerListener() {
+		@Override
+		public void treeExpanded(TreeExpansionEvent event) {
+		}
+
+		@Override
+		public void treeCollapsed(TreeExpansionEvent event) {
+			// The item is collapsed after the event
+			final Object element = event.getElement();
+			display.asyncExec(() -> pruneCollapsedElement(element));
+		}
+	};
+
 	/**
 	 * Constructs an ObservableCollectionTreeContentProvider using the given
 	 * parent provider and collection factory.
@@ -151,6 +179,18 @@ public abstract class ObservableCollectionTreeContentProvider<E> implements ITre
 
 	private void setViewer(Viewer viewer) {
 		viewerUpdater = createViewerUpdater(viewer);
+		if (prunedViewer != viewer) {
+			if (prunedViewer != null) {
+				prunedViewer.removeTreeListener(collapseListener);
+			}
+			// A checkbox tree viewer keeps the items of collapsed elements
+			prunedViewer = viewer instanceof AbstractTreeViewer && !(viewer instanceof CheckboxTreeViewer)
+					? (AbstractTreeViewer) viewer
+					: null;
+			if (prunedViewer != null) {
+				prunedViewer.addTreeListener(collapseListener);
+			}
+		}
 		comparer = getElementComparer(viewer);
 		elementNodes = ViewerElementMap.withComparer(comparer);
 		viewerObservable.setValue(viewer); // (clears knownElements)
@@ -266,6 +306,71 @@ public abstract class ObservableCollectionTreeContentProvider<E> implements ITre
 		return elementNodes.get(element);
 	}
 
+	/**
+	 * Disposes the collections of the children of a collapsed element, and
+	 * removes their items from the viewer. They are obtained again when the
+	 * element is expanded. The children that are also children of other
+	 * elements keep their collections, as they may be expanded elsewhere.
+	 */
+	@SuppressWarnings("unchecked")
+	private void pruneCollapsedElement(Object element) {
+		if (knownElements == null || prunedViewer == null || isViewerDisposed()
+				|| prunedViewer.getExpandedState(element)) {
+			return;
+		}
+		TreeNode node = getExistingNode((E) element);
+		if (node == null || node.children == null || node.getParents().size() > 1
+				|| getPrunableChildNodes(node).isEmpty()) {
+			return;
+		}
+		// Disposes the items of the children, as the element is collapsed. This
+		// is done before the collections are disposed, as the viewer may ask
+		// whether the children have children, e.g. to filter them.
+		prunedViewer.refresh(element, false);
+		if (node.children == null) {
+			return;
+		}
+
+		Set<E> removals = ViewerElementSet.withComparer(comparer);
+		List<TreeNode> prunedNodes = getPrunableChildNodes(node);
+		for (TreeNode prunedNode : prunedNodes) {
+			removals.addAll(findPendingRemovals((E) prunedNode.getElement(), prunedNode.children));
+		}
+		removals.retainAll(knownElements);
+
+		if (realizedElements != null) {
+			realizedElements.removeAll(removals);
+		}
+		for (TreeNode prunedNode : prunedNodes) {
+			prunedNode.disposeChildren();
+		}
+		knownElements.removeAll(removals);
+	}
+
+	/**
+	 * Returns the nodes of the children of the given node whose collections
+	 * can be disposed, as they have no other parent and are not the input.
+	 */
+	private List<TreeNode> getPrunableChildNodes(TreeNode node) {
+		List<TreeNode> prunableNodes = new ArrayList<>();
+		for (E child : node.children) {
+			TreeNode childNode = getExistingNode(child);
+			if (childNode != null && childNode.children != null && childNode.getParents().size() == 1
+					&& !equal(child, prunedViewer.getInput())) {
+				prunableNodes.add(childNode);
+			}
+		}
+		return prunableNodes;
+	}
+
+	/**
+	 * @return the viewer of this content provider, or <code>null</code> if the
+	 *         content provider is not installed on a viewer
+	 */
+	protected Viewer getViewer() {
+		return viewerObservable.getValue();
+	}
+
 	protected boolean isViewerDisposed() {
 		Viewer viewer = viewerObservable.getValue();
 		return viewer == null || viewer.getControl() == null
@@ -286,6 +391,10 @@ public abstract class ObservableCollectionTreeContentProvider<E> implements ITre
 			}
 			elementNodes = null;
 		}
+		if (prunedViewer != null) {
+			prunedViewer.removeTreeListener(collapseListener);
+			prunedViewer = null;
+		}
 		if (viewerObservable != null) {
 			viewerObservable.dispose();
 			viewerObservable = null;
@@ -500,6 +609,20 @@ public abstract class ObservableCollectionTreeContentProvider<E> implements ITre
 			if (element != null) {
 				elementNodes.remove(element);
 			}
+			disposeChildren();
+			element = null;
+			parent = null;
+			if (parentSet != null) {
+				parentSet.clear();
+				parentSet = null;
+			}
+		}
+
+		/**
+		 * Disposes the collection of children, which is obtained again when it
+		 * is needed.
+		 */
+		private void disposeChildren() {
 			if (children != null && !children.isDisposed()) {
 				for (E elem : children) {
 					TreeNode child = getExistingNode(elem);
@@ -510,12 +633,7 @@ public abstract class ObservableCollectionTreeContentProvider<E> implements ITre
 					removeCollectionChangeListener(children, listener);
 				children.dispose();
 				children = null;
-			}
-			element = null;
-			parent = null;
-			if (parentSet != null) {
-				parentSet.clear();
-				parentSet = null;
+				listener = null;
 			}
 		}
 	}
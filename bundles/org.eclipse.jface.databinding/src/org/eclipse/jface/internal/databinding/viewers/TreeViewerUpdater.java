@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Matthew Hall and others.
+ * Copyright (c) 2008, 2026 Matthew Hall and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -127,7 +127,14 @@ public class TreeViewerUpdater {
 		viewer.setSelection(new TreeSelection(paths, viewer.getComparer()));
 	}
 
-	boolean isElementOrderPreserved() {
+	/**
+	 * Returns whether the viewer shows the children of each element in the
+	 * order of the observed collection, which is the case if it neither sorts
+	 * nor filters them.
+	 *
+	 * @return whether the viewer preserves the order of the elements
+	 */
+	public boolean isElementOrderPreserved() {
 		return viewer.getComparator() == null
 				&& viewer.getFilters().length == 0;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2018 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,6 +48,7 @@ import org.eclipse.jface.bindings.keys.IKeyLookup;
 import org.eclipse.jface.bindings.keys.KeyLookupFactory;
 import org.eclipse.jface.bindings.keys.KeyStroke;
 import org.eclipse.jface.contexts.IContextIds;
+import org.eclipse.jface.internal.TriggerTrie;
 import org.eclipse.jface.util.Policy;
 import org.eclipse.jface.util.Util;
 
@@ -273,13 +274,11 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 	private String[] platforms = expand(platform, Util.ZERO_LENGTH_STRING);
 
 	/**
-	 * A map of prefixes (<code>TriggerSequence</code>) to a map of
-	 * available completions (possibly <code>null</code>, which means there
-	 * is an exact match). The available completions is a map of trigger (<code>TriggerSequence</code>)
-	 * to bindings (<code>Binding</code>). This value may be
-	 * <code>null</code> if there is no existing solution.
+	 * The trie of the active bindings, which answers perfect and partial
+	 * matches. This value may be <code>null</code> if there is no existing
+	 * solution.
 	 */
-	private Map prefixTable;
+	private TriggerTrie triggerTrie;
 
 	/**
 	 * <p>
@@ -362,62 +361,27 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 
 	/**
 	 * <p>
-	 * Builds a prefix table look-up for a map of active bindings.
+	 * Builds the trie of the active bindings. The trie is derived from the trie
+	 * of the current solution, if any, so that it shares all nodes whose
+	 * bindings are the same in both solutions.
 	 * </p>
 	 * <p>
-	 * This method takes <code>O(mn)</code>, where <code>m</code> is the
-	 * length of the trigger sequences and <code>n</code> is the number of
-	 * bindings.
+	 * This method completes in <code>O(n)</code>, where <code>n</code> is
+	 * the number of active bindings. Only the nodes of bindings that changed are
+	 * copied.
 	 * </p>
 	 *
 	 * @param activeBindings
 	 *            The map of triggers (<code>TriggerSequence</code>) to
-	 *            command ids (<code>String</code>) which are currently
-	 *            active. This value may be <code>null</code> if there are no
-	 *            active bindings, and it may be empty. It must not be
-	 *            <code>null</code>.
-	 * @return A map of prefixes (<code>TriggerSequence</code>) to a map of
-	 *         available completions (possibly <code>null</code>, which means
-	 *         there is an exact match). The available completions is a map of
-	 *         trigger (<code>TriggerSequence</code>) to command identifier (<code>String</code>).
-	 *         This value will never be <code>null</code>, but may be empty.
+	 *            bindings (<code>Binding</code>) which are currently active.
+	 *            It may be empty, but it must not be <code>null</code>.
+	 * @return The trie of the active bindings; never <code>null</code>.
 	 */
-	private final Map buildPrefixTable(final Map activeBindings) {
-		final Map prefixTable = new HashMap();
-
-		final Iterator bindingItr = activeBindings.entrySet().iterator();
-		while (bindingItr.hasNext()) {
-			final Map.Entry entry = (Map.Entry) bindingItr.next();
-			final TriggerSequence triggerSequence = (TriggerSequence) entry
-					.getKey();
-
-			// Add the perfect match.
-			if (!prefixTable.containsKey(triggerSequence)) {
-				prefixTable.put(triggerSequence, null);
-			}
-
-			final TriggerSequence[] prefixes = triggerSequence.getPrefixes();
-			final int prefixesLength = prefixes.length;
-			if (prefixesLength == 0) {
-				continue;
-			}
-
-			// Break apart the trigger sequence.
-			final Binding binding = (Binding) entry.getValue();
-			for (int i = 0; i < prefixesLength; i++) {
-				final TriggerSequence prefix = prefixes[i];
-				final Object value = prefixTable.get(prefix);
-				if ((prefixTable.containsKey(prefix)) && (value instanceof Map)) {
-					((Map) value).put(triggerSequence, binding);
-				} else {
-					final Map map = new HashMap();
-					prefixTable.put(prefix, map);
-					map.put(triggerSequence, binding);
-				}
-			}
+	private final TriggerTrie buildTriggerTrie(final Map activeBindings) {
+		if (triggerTrie == null) {
+			return TriggerTrie.of(activeBindings);
 		}
-
-		return prefixTable;
+		return triggerTrie.update(activeBindings);
 	}
 
 	/**
@@ -1441,23 +1405,21 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 	 * (but are not equal to the given trigger).
 	 * </p>
 	 * <p>
-	 * This method completes in <code>O(1)</code>. If the bindings aren't
-	 * currently computed, then this completes in <code>O(n)</code>, where
-	 * <code>n</code> is the number of bindings.
+	 * This method completes in <code>O(p)</code>, where <code>p</code> is
+	 * the number of triggers in the given trigger sequence, once the partial
+	 * matches of that trigger sequence have been collected. If the bindings
+	 * aren't currently computed, then this completes in <code>O(n)</code>,
+	 * where <code>n</code> is the number of bindings.
 	 * </p>
 	 *
 	 * @param trigger
 	 *            The prefix to look for; must not be <code>null</code>.
 	 * @return A map of triggers (<code>TriggerSequence</code>) to bindings (<code>Binding</code>).
-	 *         This map may be empty, but it is never <code>null</code>.
+	 *         This map may be empty, but it is never <code>null</code>. The
+	 *         map must not be modified.
 	 */
 	public Map getPartialMatches(final TriggerSequence trigger) {
-		final Map partialMatches = (Map) getPrefixTable().get(trigger);
-		if (partialMatches == null) {
-			return Collections.EMPTY_MAP;
-		}
-
-		return partialMatches;
+		return getTriggerTrie().getPartialMatches(trigger);
 	}
 
 	/**
@@ -1496,7 +1458,7 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 
 	/**
 	 * <p>
-	 * Returns the prefix table. The caller must not modify the returned map.
+	 * Returns the trie of the active bindings.
 	 * </p>
 	 * <p>
 	 * This method completes in <code>O(1)</code>. If the active bindings are
@@ -1504,18 +1466,14 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 	 * <code>n</code> is the number of bindings.
 	 * </p>
 	 *
-	 * @return A map of prefixes (<code>TriggerSequence</code>) to a map of
-	 *         available completions (possibly <code>null</code>, which means
-	 *         there is an exact match). The available completions is a map of
-	 *         trigger (<code>TriggerSequence</code>) to binding (<code>Binding</code>).
-	 *         This value will never be <code>null</code> but may be empty.
-	 */
-	private final Map getPrefixTable() {
-		if (prefixTable == null) {
+	 * @return The trie of the active bindings; never <code>null</code>.
+	 */
+	private final TriggerTrie getTriggerTrie() {
+		if (triggerTrie == null) {
 			recomputeBindings();
 		}
 
-		return prefixTable;
+		return triggerTrie;
 	}
 
 	/**
@@ -1585,9 +1543,10 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 	 * given sequence.
 	 * </p>
 	 * <p>
-	 * This method completes in <code>O(1)</code>. If the bindings aren't
-	 * currently computed, then this completes in <code>O(n)</code>, where
-	 * <code>n</code> is the number of bindings.
+	 * This method completes in <code>O(p)</code>, where <code>p</code> is
+	 * the number of triggers in the given trigger sequence. If the bindings
+	 * aren't currently computed, then this completes in <code>O(n)</code>,
+	 * where <code>n</code> is the number of bindings.
 	 * </p>
 	 *
 	 * @param trigger
@@ -1597,7 +1556,7 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 	 *         bindings; <code>false</code> otherwise.
 	 */
 	public boolean isPartialMatch(final TriggerSequence trigger) {
-		return (getPrefixTable().get(trigger) != null);
+		return trigger != null && getTriggerTrie().isPartialMatch(trigger);
 	}
 
 	/**
@@ -1707,7 +1666,7 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 		if (bindings == null) {
 			// Not yet initialized. This is happening too early. Do nothing.
 			setActiveBindings(Collections.EMPTY_MAP, Collections.EMPTY_MAP,
-					Collections.EMPTY_MAP, Collections.EMPTY_MAP);
+					TriggerTrie.EMPTY, Collections.EMPTY_MAP);
 			return;
 		}
 
@@ -1735,7 +1694,7 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 				Tracing.printTrace("BINDINGS", "Cache hit"); //$NON-NLS-1$ //$NON-NLS-2$
 			}
 			setActiveBindings(existingCache.getBindingsByTrigger(), existingCache.getTriggersByCommandId(),
-					existingCache.getPrefixTable(),
+					existingCache.getTriggerTrie(),
 					existingCache.getConflictsByTrigger());
 			return;
 		}
@@ -1751,16 +1710,16 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 		final Map conflictsByTrigger = new HashMap();
 		computeBindings(activeContextTree, commandIdsByTrigger,
 				triggersByParameterizedCommand, conflictsByTrigger);
-		final Map newPrefixTable = buildPrefixTable(commandIdsByTrigger);
+		final TriggerTrie newTriggerTrie = buildTriggerTrie(commandIdsByTrigger);
 
 		// init cache
 		existingCache.setBindingsByTrigger(commandIdsByTrigger);
 		existingCache.setTriggersByCommandId(triggersByParameterizedCommand);
 		existingCache.setConflictsByTrigger(conflictsByTrigger);
-		existingCache.setPrefixTable(newPrefixTable);
+		existingCache.setTriggerTrie(newTriggerTrie);
 
 		setActiveBindings(commandIdsByTrigger, triggersByParameterizedCommand,
-				newPrefixTable,
+				newTriggerTrie,
 				conflictsByTrigger);
 	}
 
@@ -2144,7 +2103,7 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 	}
 
 	/**
-	 * Sets the active bindings and the prefix table. This ensures that the two
+	 * Sets the active bindings and the trigger trie. This ensures that the two
 	 * values change at the same time, and that any listeners are notified
 	 * appropriately.
 	 *
@@ -2158,21 +2117,17 @@ public final class BindingManager extends HandleObjectManager<Scheme>
 	 *            to triggers ( <code>TriggerSequence</code>). This value
 	 *            will only be <code>null</code> if the active bindings have
 	 *            not yet been computed. Otherwise, this value may be empty.
-	 * @param prefixTable
-	 *            A map of prefixes (<code>TriggerSequence</code>) to a map
-	 *            of available completions (possibly <code>null</code>, which
-	 *            means there is an exact match). The available completions is a
-	 *            map of trigger (<code>TriggerSequence</code>) to binding (<code>Binding</code>).
-	 *            This value may be <code>null</code> if there is no existing
-	 *            solution.
+	 * @param triggerTrie
+	 *            The trie of the active bindings. This value may be
+	 *            <code>null</code> if there is no existing solution.
 	 */
 	private final void setActiveBindings(final Map activeBindings,
-			final Map activeBindingsByCommandId, final Map prefixTable,
+			final Map activeBindingsByCommandId, final TriggerTrie triggerTrie,
 			final Map conflicts) {
 		this.activeBindings = activeBindings;
 		final Map previousBindingsByParameterizedCommand = this.activeBindingsByParameterizedCommand;
 		this.activeBindingsByParameterizedCommand = activeBindingsByCommandId;
-		this.prefixTable = prefixTable;
+		this.triggerTrie = triggerTrie;
 		currentConflicts = conflicts;
 
 		fireBindingManagerChanged(new BindingManagerEvent(this, true,
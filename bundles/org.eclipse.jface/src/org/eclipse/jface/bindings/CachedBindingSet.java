@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,11 @@
 package org.eclipse.jface.bindings;
 
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 
 import org.eclipse.core.commands.util.Tracing;
+import org.eclipse.jface.internal.TriggerTrie;
 
 /**
  * <p>
@@ -118,13 +118,10 @@ final class CachedBindingSet {
 	private final String[] platforms;
 
 	/**
-	 * A map of prefixes (<code>TriggerSequence</code>) to a map of
-	 * available completions (possibly <code>null</code>, which means there
-	 * is an exact match). The available completions is a map of trigger (<code>TriggerSequence</code>)
-	 * to command identifier (<code>String</code>). This value is
-	 * <code>null</code> if it has not yet been initialized.
+	 * The trie of the bindings, which answers perfect and partial matches.
+	 * This value is <code>null</code> if it has not yet been initialized.
 	 */
-	private volatile Map prefixTable;
+	private volatile TriggerTrie triggerTrie;
 
 	/**
 	 * <p>
@@ -257,18 +254,13 @@ final class CachedBindingSet {
 	}
 
 	/**
-	 * Returns the map of prefixes to a map of trigger sequence to command
-	 * identifiers.
+	 * Returns the trie of the bindings.
 	 *
-	 * @return A map of prefixes (<code>TriggerSequence</code>) to a map of
-	 *         available completions (possibly <code>null</code>, which means
-	 *         there is an exact match). The available completions is a map of
-	 *         trigger (<code>TriggerSequence</code>) to command identifier (<code>String</code>).
-	 *         This value may be <code>null</code> if it has not yet been
-	 *         initialized.
+	 * @return The trie of the bindings. This value may be <code>null</code> if
+	 *         it has not yet been initialized.
 	 */
-	final Map getPrefixTable() {
-		return prefixTable;
+	final TriggerTrie getTriggerTrie() {
+		return triggerTrie;
 	}
 
 	/**
@@ -338,27 +330,21 @@ final class CachedBindingSet {
 	}
 
 	/**
-	 * Sets the map of prefixes to a map of trigger sequence to command
-	 * identifiers.
+	 * Sets the trie of the bindings.
 	 *
-	 * @param prefixTable
-	 *            A map of prefixes (<code>TriggerSequence</code>) to a map
-	 *            of available completions (possibly <code>null</code>, which
-	 *            means there is an exact match). The available completions is a
-	 *            map of trigger (<code>TriggerSequence</code>) to command
-	 *            identifier (<code>String</code>). Must not be
-	 *            <code>null</code>.
+	 * @param triggerTrie
+	 *            The trie of the bindings. Must not be <code>null</code>.
 	 */
-	final void setPrefixTable(final Map prefixTable) {
-		if (prefixTable == null) {
-			this.prefixTable = Collections.EMPTY_MAP;
+	final void setTriggerTrie(final TriggerTrie triggerTrie) {
+		if (triggerTrie == null) {
+			this.triggerTrie = TriggerTrie.EMPTY;
 			if (BindingManager.DEBUG) {
-				Tracing.printTrace("BINDINGS", "Cannot set a null prefix table, set to EMPTY_MAP"); //$NON-NLS-1$ //$NON-NLS-2$
+				Tracing.printTrace("BINDINGS", "Cannot set a null trigger trie, set to EMPTY"); //$NON-NLS-1$ //$NON-NLS-2$
 			}
 			return;
 		}
 
-		this.prefixTable = prefixTable;
+		this.triggerTrie = triggerTrie;
 	}
 
 	/**
@@ -384,6 +370,6 @@ final class CachedBindingSet {
 	 */
 	final boolean isInitialized() {
 		return bindingsByTrigger != null && triggersByCommandId != null && conflictsByTrigger != null
-				&& prefixTable != null;
+				&& triggerTrie != null;
 	}
 }
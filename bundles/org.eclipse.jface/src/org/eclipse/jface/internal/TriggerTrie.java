@@ -0,0 +1,347 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.jface.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jface.bindings.Binding;
+import org.eclipse.jface.bindings.Trigger;
+import org.eclipse.jface.bindings.TriggerSequence;
+
+/**
+ * An immutable trie of bindings, indexed by the triggers of their trigger
+ * sequences. Perfect and partial matches are found in time proportional to the
+ * length of the trigger sequence, instead of keeping a table of all prefixes of
+ * all bindings.
+ * <p>
+ * Tries are changed with a {@link Builder}, which copies only the nodes on the
+ * paths to the changed bindings. All other nodes are shared with the trie the
+ * builder was created from, so deriving the trie of one set of active contexts
+ * from the trie of another one costs time and memory proportional to the
+ * number of bindings that differ.
+ * </p>
+ * <p>
+ * Tries are thread safe, builders are not.
+ * </p>
+ */
+public final class TriggerTrie {
+
+	private static final class Node {
+
+		static final Node EMPTY = new Node(null, null, Collections.emptyMap(), 0);
+
+		/**
+		 * The builder that may change this node in place, or <code>null</code>.
+		 */
+		Object owner;
+
+		/**
+		 * The binding of the trigger sequence that ends at this node, or
+		 * <code>null</code>.
+		 */
+		Binding binding;
+
+		/**
+		 * The children in the order they were added.
+		 */
+		Map<Trigger, Node> children;
+
+		/**
+		 * The number of bindings below this node, not counting the binding of
+		 * this node.
+		 */
+		int descendants;
+
+		/**
+		 * The bindings below this node by trigger sequence, computed on demand.
+		 */
+		volatile Map<TriggerSequence, Binding> partialMatches;
+
+		Node(Object owner, Binding binding, Map<Trigger, Node> children, int descendants) {
+			this.owner = owner;
+			this.binding = binding;
+			this.children = children;
+			this.descendants = descendants;
+		}
+
+		void collect(Map<TriggerSequence, Binding> result) {
+			for (Node child : children.values()) {
+				if (child.binding != null) {
+					result.put(child.binding.getTriggerSequence(), child.binding);
+				}
+				child.collect(result);
+			}
+		}
+	}
+
+	/**
+	 * Changes a trie by copying the changed nodes. The nodes that a builder
+	 * created are changed in place until {@link #build()} is called.
+	 */
+	public static final class Builder {
+
+		private Object owner = new Object();
+
+		private Node root;
+
+		/**
+		 * Whether the last call to {@link #put(Node, Trigger[], int, Binding)}
+		 * added a trigger sequence.
+		 */
+		private boolean added;
+
+		Builder(Node root) {
+			this.root = root;
+		}
+
+		/**
+		 * Adds the binding for the given trigger sequence, replacing any binding
+		 * that was added for the same sequence before.
+		 *
+		 * @param sequence the trigger sequence; must not be <code>null</code>
+		 * @param binding  the binding; must not be <code>null</code>
+		 * @return this builder
+		 */
+		public Builder put(TriggerSequence sequence, Binding binding) {
+			checkOwner();
+			if (binding == null) {
+				throw new NullPointerException("Cannot add a null binding"); //$NON-NLS-1$
+			}
+			root = put(root, sequence.getTriggers(), 0, binding);
+			return this;
+		}
+
+		/**
+		 * Removes the binding for the given trigger sequence, if there is one.
+		 *
+		 * @param sequence the trigger sequence; must not be <code>null</code>
+		 * @return this builder
+		 */
+		public Builder remove(TriggerSequence sequence) {
+			checkOwner();
+			Trigger[] triggers = sequence.getTriggers();
+			Node node = find(root, triggers);
+			if (node != null && node.binding != null) {
+				Node result = remove(root, triggers, 0);
+				root = result == null ? Node.EMPTY : result;
+			}
+			return this;
+		}
+
+		/**
+		 * Returns the binding for the given trigger sequence.
+		 *
+		 * @param sequence the trigger sequence; must not be <code>null</code>
+		 * @return the binding, or <code>null</code> if there is none
+		 */
+		public Binding get(TriggerSequence sequence) {
+			checkOwner();
+			Node node = find(root, sequence.getTriggers());
+			return node == null ? null : node.binding;
+		}
+
+		/**
+		 * Returns the trie with all changes made by this builder. The builder
+		 * cannot be used afterwards.
+		 *
+		 * @return the trie; never <code>null</code>
+		 */
+		public TriggerTrie build() {
+			checkOwner();
+			owner = null;
+			return new TriggerTrie(root);
+		}
+
+		private void checkOwner() {
+			if (owner == null) {
+				throw new IllegalStateException("The trie has already been built"); //$NON-NLS-1$
+			}
+		}
+
+		private Node editable(Node node) {
+			if (node.owner == owner) {
+				return node;
+			}
+			return new Node(owner, node.binding, new LinkedHashMap<>(node.children), node.descendants);
+		}
+
+		private Node put(Node node, Trigger[] triggers, int index, Binding binding) {
+			Node result = editable(node);
+			if (index == triggers.length) {
+				added = result.binding == null;
+				result.binding = binding;
+				return result;
+			}
+			Node child = result.children.get(triggers[index]);
+			result.children.put(triggers[index], put(child == null ? Node.EMPTY : child, triggers, index + 1, binding));
+			if (added) {
+				result.descendants++;
+			}
+			return result;
+		}
+
+		/**
+		 * Removes the binding at the end of the given triggers, which must
+		 * exist. Returns <code>null</code> if the node became empty.
+		 */
+		private Node remove(Node node, Trigger[] triggers, int index) {
+			Node result = editable(node);
+			if (index == triggers.length) {
+				result.binding = null;
+			} else {
+				Node child = remove(result.children.get(triggers[index]), triggers, index + 1);
+				if (child == null) {
+					result.children.remove(triggers[index]);
+				} else {
+					result.children.put(triggers[index], child);
+				}
+				result.descendants--;
+			}
+			return result.binding == null && result.descendants == 0 ? null : result;
+		}
+	}
+
+	/**
+	 * The trie without any bindings.
+	 */
+	public static final TriggerTrie EMPTY = new TriggerTrie(Node.EMPTY);
+
+	private final Node root;
+
+	private TriggerTrie(Node root) {
+		this.root = root;
+	}
+
+	/**
+	 * Creates a trie of the given bindings.
+	 *
+	 * @param bindings the map of trigger sequences to bindings; must not be
+	 *                 <code>null</code>
+	 * @return the trie; never <code>null</code>
+	 */
+	public static TriggerTrie of(Map<? extends TriggerSequence, ? extends Binding> bindings) {
+		return EMPTY.update(bindings);
+	}
+
+	/**
+	 * @return a builder that starts with the bindings of this trie
+	 */
+	public Builder builder() {
+		return new Builder(root);
+	}
+
+	/**
+	 * Returns a trie of the given bindings that shares all nodes with this trie
+	 * whose bindings did not change.
+	 *
+	 * @param bindings the map of trigger sequences to bindings; must not be
+	 *                 <code>null</code>
+	 * @return the trie; never <code>null</code>
+	 */
+	public TriggerTrie update(Map<? extends TriggerSequence, ? extends Binding> bindings) {
+		Builder builder = builder();
+		List<Binding> removed = new ArrayList<>();
+		collectRemoved(root, bindings, removed);
+		for (Binding binding : removed) {
+			builder.remove(binding.getTriggerSequence());
+		}
+		for (Map.Entry<? extends TriggerSequence, ? extends Binding> entry : bindings.entrySet()) {
+			if (builder.get(entry.getKey()) != entry.getValue()) {
+				builder.put(entry.getKey(), entry.getValue());
+			}
+		}
+		return builder.build();
+	}
+
+	private static void collectRemoved(Node node, Map<? extends TriggerSequence, ? extends Binding> bindings,
+			List<Binding> removed) {
+		if (node.binding != null && !bindings.containsKey(node.binding.getTriggerSequence())) {
+			removed.add(node.binding);
+		}
+		for (Node child : node.children.values()) {
+			collectRemoved(child, bindings, removed);
+		}
+	}
+
+	private static Node find(Node node, Trigger[] triggers) {
+		for (Trigger trigger : triggers) {
+			node = node.children.get(trigger);
+			if (node == null) {
+				return null;
+			}
+		}
+		return node;
+	}
+
+	/**
+	 * Returns the binding for the given trigger sequence.
+	 *
+	 * @param sequence the trigger sequence; may be <code>null</code>
+	 * @return the binding, or <code>null</code> if there is none
+	 */
+	public Binding getPerfectMatch(TriggerSequence sequence) {
+		if (sequence == null) {
+			return null;
+		}
+		Node node = find(root, sequence.getTriggers());
+		return node == null ? null : node.binding;
+	}
+
+	/**
+	 * Returns whether the given trigger sequence is a proper prefix of the
+	 * trigger sequence of some binding.
+	 *
+	 * @param sequence the trigger sequence; must not be <code>null</code>
+	 * @return <code>true</code> if there is a binding that starts with the
+	 *         sequence
+	 */
+	public boolean isPartialMatch(TriggerSequence sequence) {
+		Node node = find(root, sequence.getTriggers());
+		return node != null && node.descendants > 0;
+	}
+
+	/**
+	 * Returns the bindings whose trigger sequence starts with, but is not equal
+	 * to, the given trigger sequence.
+	 *
+	 * @param sequence the trigger sequence; must not be <code>null</code>
+	 * @return an unmodifiable map of trigger sequences to bindings, in the order
+	 *         they were added; never <code>null</code>
+	 */
+	public Map<TriggerSequence, Binding> getPartialMatches(TriggerSequence sequence) {
+		Node node = find(root, sequence.getTriggers());
+		if (node == null || node.descendants == 0) {
+			return Collections.emptyMap();
+		}
+		Map<TriggerSequence, Binding> partialMatches = node.partialMatches;
+		if (partialMatches == null) {
+			Map<TriggerSequence, Binding> result = new LinkedHashMap<>(node.descendants * 4 / 3 + 1);
+			node.collect(result);
+			partialMatches = Collections.unmodifiableMap(result);
+			node.partialMatches = partialMatches;
+		}
+		return partialMatches;
+	}
+
+	/**
+	 * @return the number of bindings in this trie
+	 */
+	public int size() {
+		return root.descendants + (root.binding == null ? 0 : 1);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2023 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
 package org.eclipse.jface.resource;
 
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -21,6 +23,11 @@ import java.util.Map;
  * allocated SWT resources. Delegates to the abstract method allocate(...) the first time a resource
  * is referenced and delegates to the abstract method deallocate(...) the last time a reference is
  * removed.
+ * <p>
+ * Optionally, resources whose last reference is removed are retained up to a
+ * limit and handed out again if they are requested before they are evicted,
+ * see {@link #setRetainedResourceLimit(int)}.
+ * </p>
  *
  * @since 3.1
  */
@@ -31,6 +38,18 @@ abstract class AbstractResourceManager extends ResourceManager {
 	 */
 	private Map<DeviceResourceDescriptor<?>, RefCount<?>> map = null;
 
+	/**
+	 * Map of ResourceDescriptor onto RefCount for resources without references,
+	 * in least recently used order. (null when empty)
+	 */
+	private LinkedHashMap<DeviceResourceDescriptor<?>, RefCount<?>> retained = null;
+
+	private int retainedLimit = 0;
+
+	private long requests;
+
+	private long allocations;
+
 	/**
 	 * Holds a reference count for a previously-allocated resource
 	 */
@@ -48,6 +67,18 @@ abstract class AbstractResourceManager extends ResourceManager {
 		return (RefCount) map.get(descriptor);
 	}
 
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private <R> RefCount<R> removeRetained(DeviceResourceDescriptor<R> descriptor) {
+		if (retained == null) {
+			return null;
+		}
+		RefCount<R> count = (RefCount) retained.remove(descriptor);
+		if (retained.isEmpty()) {
+			retained = null;
+		}
+		return count;
+	}
+
 	/**
 	 * Called the first time a resource is requested. Should allocate and return a resource
 	 * of the correct type.
@@ -79,6 +110,8 @@ abstract class AbstractResourceManager extends ResourceManager {
 			map = new HashMap<>();
 		}
 
+		requests++;
+
 		// Get the current reference count
 		RefCount<R> count = getRefCount(descriptor);
 		if (count != null) {
@@ -88,8 +121,17 @@ abstract class AbstractResourceManager extends ResourceManager {
 			return count.resource;
 		}
 
+		// Reuse a retained resource without references
+		count = removeRetained(descriptor);
+		if (count != null) {
+			count.count = 1;
+			map.put(descriptor, count);
+			return count.resource;
+		}
+
 		// Allocate and return a new resource (with ref count = 1)
 		R resource = allocate(descriptor);
+		allocations++;
 
 		count = new RefCount<>(resource);
 		map.put(descriptor, count);
@@ -110,9 +152,18 @@ abstract class AbstractResourceManager extends ResourceManager {
 			// If the resource exists, decrement the reference count.
 			count.count--;
 			if (count.count == 0) {
-				// If this was the last reference, deallocate it.
-				deallocate(count.resource, descriptor);
 				map.remove(descriptor);
+				if (retainedLimit > 0) {
+					// Keep the resource until it is evicted
+					if (retained == null) {
+						retained = new LinkedHashMap<>(16, 0.75f, true);
+					}
+					retained.put(descriptor, count);
+					trimRetained(retainedLimit);
+				} else {
+					// If this was the last reference, deallocate it.
+					deallocate(count.resource, descriptor);
+				}
 			}
 		}
 
@@ -122,6 +173,57 @@ abstract class AbstractResourceManager extends ResourceManager {
 		}
 	}
 
+	/**
+	 * Deallocates the least recently used retained resources until at most the
+	 * given number of them is left.
+	 */
+	private void trimRetained(int limit) {
+		if (retained == null) {
+			return;
+		}
+		Iterator<Map.Entry<DeviceResourceDescriptor<?>, RefCount<?>>> iter = retained.entrySet().iterator();
+		while (retained.size() > limit && iter.hasNext()) {
+			Map.Entry<DeviceResourceDescriptor<?>, RefCount<?>> entry = iter.next();
+			iter.remove();
+			deallocate(entry.getValue().resource, entry.getKey());
+		}
+		if (retained.isEmpty()) {
+			retained = null;
+		}
+	}
+
+	@Override
+	public void setRetainedResourceLimit(int limit) {
+		super.setRetainedResourceLimit(limit);
+		retainedLimit = limit;
+		trimRetained(limit);
+	}
+
+	@Override
+	public int getRetainedResourceLimit() {
+		return retainedLimit;
+	}
+
+	@Override
+	public int getLiveResourceCount() {
+		return (map == null ? 0 : map.size()) + getRetainedResourceCount();
+	}
+
+	@Override
+	public int getRetainedResourceCount() {
+		return retained == null ? 0 : retained.size();
+	}
+
+	@Override
+	public long getAllocationCount() {
+		return allocations;
+	}
+
+	@Override
+	public double getHitRate() {
+		return requests == 0 ? 0 : (double) (requests - allocations) / requests;
+	}
+
 	/**
 	 * Deallocates any resources allocated by this registry that have not yet been
 	 * deallocated.
@@ -132,6 +234,10 @@ abstract class AbstractResourceManager extends ResourceManager {
 	public void dispose() {
 		super.dispose();
 
+		if (retained != null) {
+			retained.forEach((key, val) -> deallocate(val.resource, key));
+			retained = null;
+		}
 		if (map == null) {
 			return;
 		}
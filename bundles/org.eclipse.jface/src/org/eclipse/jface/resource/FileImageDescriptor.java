@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -123,6 +123,23 @@ class FileImageDescriptor extends ImageDescriptor implements IAdaptable {
 	 */
 	@Override
 	public ImageData getImageData(int zoom) {
+		if (isImageDataShared()) {
+			return ImageDataCache.getDefault().getImageData(this, zoom);
+		}
+		return decodeImageData(zoom);
+	}
+
+	/**
+	 * Images in the resource directory of a class are part of a bundle or jar
+	 * and don't change, while files in the file system may be modified.
+	 */
+	@Override
+	boolean isImageDataShared() {
+		return location != null;
+	}
+
+	@Override
+	ImageData decodeImageData(int zoom) {
 		InputStream in = getStream(zoom);
 		if (in != null) {
 			try (BufferedInputStream stream = new BufferedInputStream(in)) {
@@ -240,6 +257,11 @@ class FileImageDescriptor extends ImageDescriptor implements IAdaptable {
 
 	@Override
 	public Image createImage(boolean returnMissingImageOnError, Device device) {
+		Image prefetched = createImageFromSharedData(device);
+		if (prefetched != null) {
+			return prefetched;
+		}
+
 		if (InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_2x) {
 			try {
 				// We really want a fresh ImageFileNameProvider instance to make
@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.resource;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.graphics.ImageData;
+
+/**
+ * Process-wide cache for the decoded image data of image descriptors, shared by
+ * all devices and resource managers. Image data can be decoded in background
+ * threads with {@link #prefetch(ImageDescriptor, int[])}, so that creating the
+ * image on the UI thread only has to create the native image.
+ * <p>
+ * Only descriptors whose contents cannot change are cached, see
+ * {@link ImageDescriptor#isImageDataShared()}. The cache holds at most a fixed
+ * number of bytes of image data, given by the system property
+ * <code>org.eclipse.jface.resource.imageDataCacheSize</code>, and drops the least
+ * recently used image data when that limit is exceeded. Callers always get a
+ * copy of the cached image data.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+final class ImageDataCache {
+
+	private static final int MAX_BYTES = Integer.getInteger("org.eclipse.jface.resource.imageDataCacheSize", //$NON-NLS-1$
+			16 * 1024 * 1024).intValue();
+
+	private static final ImageDataCache DEFAULT = new ImageDataCache(MAX_BYTES);
+
+	/**
+	 * Marks descriptors that have no image data for a zoom level, e.g. because
+	 * there is no high resolution variant of the image.
+	 */
+	private static final ImageData NO_DATA = new ImageData(1, 1, 1, ImageDescriptor.DEFAULT_IMAGE_DATA.palette);
+
+	/**
+	 * Estimated number of bytes used by an entry in addition to the image data
+	 */
+	private static final int ENTRY_SIZE = 64;
+
+	private static final class Key {
+		final ImageDescriptor descriptor;
+		final int zoom;
+
+		Key(ImageDescriptor descriptor, int zoom) {
+			this.descriptor = descriptor;
+			this.zoom = zoom;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return zoom == other.zoom && descriptor.equals(other.descriptor);
+		}
+
+		@Override
+		public int hashCode() {
+			return descriptor.hashCode() * 31 + zoom;
+		}
+	}
+
+	private final long maxBytes;
+	private final Map<Key, ImageData> entries = new LinkedHashMap<>(256, 0.75f, true);
+	private final Map<Key, CompletableFuture<ImageData>> pending = new HashMap<>();
+	private long size; // Protected by this
+
+	private ThreadPoolExecutor executor;
+
+	ImageDataCache(long maxBytes) {
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * @return the cache shared by all image descriptors
+	 */
+	static ImageDataCache getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Returns a copy of the image data of the given descriptor for the given
+	 * zoom level. The image data is decoded in the calling thread if it is not
+	 * cached and no other thread is decoding it.
+	 *
+	 * @param descriptor the descriptor
+	 * @param zoom       the zoom level
+	 * @return a copy of the image data or <code>null</code> if the descriptor
+	 *         has no image data for the zoom level
+	 */
+	ImageData getImageData(ImageDescriptor descriptor, int zoom) {
+		Key key = new Key(descriptor, zoom);
+		CompletableFuture<ImageData> future;
+		synchronized (this) {
+			ImageData data = entries.get(key);
+			if (data != null) {
+				return copy(data);
+			}
+			future = pending.get(key);
+		}
+		if (future != null) {
+			try {
+				return copy(future.join());
+			} catch (CompletionException e) {
+				// decode again to report the failure in this thread
+			}
+		}
+		ImageData data = descriptor.decodeImageData(zoom);
+		put(key, data);
+		return copy(data);
+	}
+
+	/**
+	 * Returns whether the image data for the given zoom level is cached.
+	 *
+	 * @param descriptor the descriptor
+	 * @param zoom       the zoom level
+	 * @return <code>true</code> if image data is cached
+	 */
+	synchronized boolean contains(ImageDescriptor descriptor, int zoom) {
+		ImageData data = entries.get(new Key(descriptor, zoom));
+		return data != null && data != NO_DATA;
+	}
+
+	/**
+	 * Decodes the image data of the given descriptor for the given zoom levels
+	 * in a background thread, unless it is already cached.
+	 *
+	 * @param descriptor the descriptor
+	 * @param zooms      the zoom levels
+	 * @return a future that completes when all image data has been decoded
+	 */
+	CompletableFuture<Void> prefetch(ImageDescriptor descriptor, int... zooms) {
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[zooms.length];
+		for (int i = 0; i < zooms.length; i++) {
+			futures[i] = prefetch(new Key(descriptor, zooms[i]));
+		}
+		return CompletableFuture.allOf(futures);
+	}
+
+	private synchronized CompletableFuture<ImageData> prefetch(Key key) {
+		ImageData data = entries.get(key);
+		if (data != null) {
+			return CompletableFuture.completedFuture(data);
+		}
+		CompletableFuture<ImageData> future = pending.get(key);
+		if (future == null) {
+			future = new CompletableFuture<>();
+			pending.put(key, future);
+			CompletableFuture<ImageData> result = future;
+			getExecutor().execute(() -> {
+				try {
+					ImageData decoded = key.descriptor.decodeImageData(key.zoom);
+					put(key, decoded);
+					result.complete(decoded == null ? NO_DATA : decoded);
+				} catch (RuntimeException | Error e) {
+					result.completeExceptionally(e);
+				} finally {
+					synchronized (ImageDataCache.this) {
+						pending.remove(key);
+					}
+				}
+			});
+		}
+		return future;
+	}
+
+	private synchronized ThreadPoolExecutor getExecutor() {
+		if (executor == null) {
+			int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+			executor = new ThreadPoolExecutor(threads, threads, 5, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+					runnable -> {
+						Thread thread = new Thread(runnable, "Image Decoder"); //$NON-NLS-1$
+						thread.setDaemon(true);
+						thread.setPriority(Thread.NORM_PRIORITY - 1);
+						return thread;
+					});
+			executor.allowCoreThreadTimeOut(true);
+		}
+		return executor;
+	}
+
+	private synchronized void put(Key key, ImageData data) {
+		if (data == null) {
+			data = NO_DATA;
+		}
+		long bytes = getSize(data);
+		if (bytes > maxBytes) {
+			return;
+		}
+		ImageData old = entries.put(key, data);
+		if (old != null) {
+			size -= getSize(old);
+		}
+		size += bytes;
+		Iterator<ImageData> iter = entries.values().iterator();
+		while (size > maxBytes && iter.hasNext()) {
+			size -= getSize(iter.next());
+			iter.remove();
+		}
+	}
+
+	private static ImageData copy(ImageData data) {
+		if (data == null || data == NO_DATA) {
+			return null;
+		}
+		return (ImageData) data.clone();
+	}
+
+	private static long getSize(ImageData data) {
+		if (data == NO_DATA) {
+			return ENTRY_SIZE;
+		}
+		long bytes = ENTRY_SIZE + data.data.length;
+		if (data.alphaData != null) {
+			bytes += data.alphaData.length;
+		}
+		if (data.maskData != null) {
+			bytes += data.maskData.length;
+		}
+		return bytes;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.jface.resource;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import org.eclipse.swt.SWTException;
@@ -412,6 +413,75 @@ public abstract class ImageDescriptor extends DeviceResourceDescriptor<Image> {
 		return getImageData(100);
 	}
 
+	/**
+	 * Decodes the image data of this descriptor for the given zoom levels in a
+	 * background thread. The decoded image data is kept in a size-bounded cache
+	 * that is shared by all devices and resource managers, so that a subsequent
+	 * call of {@link #createImage(boolean, Device)} or
+	 * {@link #createResource(Device)} only has to create the native image.
+	 * <p>
+	 * This has no effect for descriptors whose contents may change, like images
+	 * read from files in the file system, and for descriptors that are not
+	 * created by the factory methods of this class.
+	 * </p>
+	 *
+	 * @param zooms
+	 *            the zoom levels in % of the standard resolution, typically 100
+	 *            and the zoom of the device the image will be created for
+	 * @return a future that completes when the image data has been decoded
+	 * @since 3.34
+	 */
+	public CompletableFuture<Void> prefetchImageData(int... zooms) {
+		if (!isImageDataShared()) {
+			return CompletableFuture.completedFuture(null);
+		}
+		return ImageDataCache.getDefault().prefetch(this, zooms);
+	}
+
+	/**
+	 * Returns whether the image data of this descriptor never changes, so that
+	 * it can be kept in the {@link ImageDataCache}. Descriptors that return
+	 * <code>true</code> must implement {@link #decodeImageData(int)} and
+	 * {@link #equals(Object)}.
+	 *
+	 * @return <code>true</code> if the image data may be cached
+	 */
+	boolean isImageDataShared() {
+		return false;
+	}
+
+	/**
+	 * Decodes the image data for the given zoom level without consulting the
+	 * {@link ImageDataCache}. May be called in any thread.
+	 *
+	 * @param zoom
+	 *            the zoom level
+	 * @return a new image data or <code>null</code>
+	 */
+	ImageData decodeImageData(int zoom) {
+		return getImageData(zoom);
+	}
+
+	/**
+	 * Creates an image from the cached image data of this descriptor, if image
+	 * data for zoom level 100 is cached.
+	 *
+	 * @param device
+	 *            the device on which to create the image
+	 * @return the new image or <code>null</code> if no image data is cached or
+	 *         the image could not be created
+	 */
+	Image createImageFromSharedData(Device device) {
+		if (!isImageDataShared() || !ImageDataCache.getDefault().contains(this, 100)) {
+			return null;
+		}
+		try {
+			return new Image(device, (ImageDataProvider) this::getImageData);
+		} catch (IllegalArgumentException | SWTException e) {
+			return null;
+		}
+	}
+
 	/**
 	 * Returns the shared image descriptor for a missing image.
 	 *
@@ -393,4 +393,90 @@ public abstract class ResourceManager {
 			disposeExecs = null;
 		}
 	}
+
+	/**
+	 * Sets the maximum number of resources that are kept after their last
+	 * reference has been removed. Retained resources are handed out again if
+	 * they are requested before they are evicted, which avoids allocating the
+	 * same native resources over and over when they are repeatedly created and
+	 * destroyed. When the limit is exceeded, the least recently used retained
+	 * resources are deallocated. Retained resources are deallocated when this
+	 * manager is disposed.
+	 * <p>
+	 * The default limit is <code>0</code>, which deallocates resources as soon
+	 * as their last reference is removed. The default implementation does not
+	 * retain any resources and ignores the limit.
+	 * </p>
+	 *
+	 * @param limit the maximum number of retained resources, <code>0</code> to
+	 *              not retain any resources
+	 * @throws IllegalArgumentException if the limit is negative
+	 * @since 3.34
+	 */
+	public void setRetainedResourceLimit(int limit) {
+		if (limit < 0) {
+			throw new IllegalArgumentException("Negative limit: " + limit); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Returns the maximum number of resources that are kept after their last
+	 * reference has been removed. The default implementation returns
+	 * <code>0</code>.
+	 *
+	 * @return the maximum number of retained resources
+	 * @see #setRetainedResourceLimit(int)
+	 * @since 3.34
+	 */
+	public int getRetainedResourceLimit() {
+		return 0;
+	}
+
+	/**
+	 * Returns the number of resources currently allocated by this manager,
+	 * including retained resources. The default implementation returns
+	 * <code>0</code>, for managers that do not count their resources.
+	 *
+	 * @return the number of allocated resources
+	 * @since 3.34
+	 */
+	public int getLiveResourceCount() {
+		return 0;
+	}
+
+	/**
+	 * Returns the number of resources that are kept although they have no
+	 * references. The default implementation returns <code>0</code>.
+	 *
+	 * @return the number of retained resources
+	 * @see #setRetainedResourceLimit(int)
+	 * @since 3.34
+	 */
+	public int getRetainedResourceCount() {
+		return 0;
+	}
+
+	/**
+	 * Returns the number of resources this manager has allocated since it was
+	 * created. The default implementation returns <code>0</code>, for managers
+	 * that do not count their allocations.
+	 *
+	 * @return the number of allocations
+	 * @since 3.34
+	 */
+	public long getAllocationCount() {
+		return 0;
+	}
+
+	/**
+	 * Returns the ratio of requests for resources that were answered without
+	 * allocating a resource. The default implementation returns <code>0</code>,
+	 * for managers that do not count their requests.
+	 *
+	 * @return the hit rate, between 0 and 1
+	 * @since 3.34
+	 */
+	public double getHitRate() {
+		return 0;
+	}
 }
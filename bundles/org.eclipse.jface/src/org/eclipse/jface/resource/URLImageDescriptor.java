@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -131,6 +131,24 @@ class URLImageDescriptor extends ImageDescriptor implements IAdaptable {
 
 	@Override
 	public ImageData getImageData(int zoom) {
+		if (isImageDataShared()) {
+			return ImageDataCache.getDefault().getImageData(this, zoom);
+		}
+		return getImageData(url, zoom);
+	}
+
+	/**
+	 * Images in bundles don't change, while files in the file system or the
+	 * workspace may be modified.
+	 */
+	@Override
+	boolean isImageDataShared() {
+		return url.startsWith("platform:/plugin/") || url.startsWith("bundleentry:") //$NON-NLS-1$ //$NON-NLS-2$
+				|| url.startsWith("bundleresource:"); //$NON-NLS-1$
+	}
+
+	@Override
+	ImageData decodeImageData(int zoom) {
 		return getImageData(url, zoom);
 	}
 
@@ -291,6 +309,11 @@ class URLImageDescriptor extends ImageDescriptor implements IAdaptable {
 			start = System.nanoTime();
 		}
 		try {
+			Image prefetched = createImageFromSharedData(device);
+			if (prefetched != null) {
+				return prefetched;
+			}
+
 			if (InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_2x) {
 				if (!InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_DIRECTLY) {
 					try {
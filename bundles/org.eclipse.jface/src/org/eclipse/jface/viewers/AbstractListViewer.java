@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2019 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -135,6 +135,7 @@ public abstract class AbstractListViewer extends StructuredViewer {
 	 */
 	public void add(Object... elements) {
 		assertElementsNotNull(elements);
+		discardBackgroundRefresh();
 		Object[] filtered = filter(elements);
 		ILabelProvider labelProvider = (ILabelProvider) getLabelProvider();
 		for (Object element : filtered) {
@@ -167,6 +168,7 @@ public abstract class AbstractListViewer extends StructuredViewer {
 	 * @since 3.3
 	 */
 	public void insert(Object element, int position) {
+		discardBackgroundRefresh();
 		if (getComparator() != null || hasFilters()) {
 			add(element);
 			return;
@@ -440,6 +442,7 @@ public abstract class AbstractListViewer extends StructuredViewer {
 		if (elements.length == 0) {
 			return;
 		}
+		discardBackgroundRefresh();
 		preservingSelection(() -> internalRemove(elements));
 	}
 
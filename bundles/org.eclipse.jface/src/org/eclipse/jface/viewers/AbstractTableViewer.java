@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -251,6 +251,7 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		assertElementsNotNull(elements);
 		if (checkBusy())
 			return;
+		discardBackgroundRefresh();
 		Object[] filtered = filter(elements);
 
 		final int itemsLimit = getItemsLimit();
@@ -583,6 +584,7 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 	 */
 	public void insert(Object element, int position) {
 		applyEditorValue();
+		discardBackgroundRefresh();
 		if (getComparator() != null || hasFilters()) {
 			add(element);
 			return;
@@ -831,6 +833,7 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		if (elements.length == 0) {
 			return;
 		}
+		discardBackgroundRefresh();
 		preservingSelection(() -> internalRemove(elements));
 	}
 
@@ -1108,6 +1111,14 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 
 	}
 
+	@Override
+	Object[] getBackgroundRefreshParents() {
+		if (getContentProvider() instanceof ILazyContentProvider) {
+			return null;
+		}
+		return super.getBackgroundRefreshParents();
+	}
+
 	/**
 	 * Sets the content provider used by this <code>AbstractTableViewer</code>.
 	 * <p>
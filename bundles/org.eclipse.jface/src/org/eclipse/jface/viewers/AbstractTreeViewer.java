@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -87,6 +87,12 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	 */
 	public static final int ALL_LEVELS = -1;
 
+	/**
+	 * The number of items that have to be created or disposed by a structural
+	 * update of a single parent before redraw is suspended for the update.
+	 */
+	private static final int BATCH_REDRAW_THRESHOLD = 100;
+
 	/**
 	 * List of registered tree listeners (element type:
 	 * <code>TreeListener</code>).
@@ -162,6 +168,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		assertElementsNotNull(childElements);
 		if (checkBusy())
 			return;
+		discardBackgroundRefresh();
 		Widget[] widgets = internalFindItems(parentElementOrTreePath);
 		// If parent hasn't been realized yet, just ignore the add.
 		if (widgets.length == 0) {
@@ -1448,6 +1455,36 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		}
 	}
 
+	@Override
+	Object[] getBackgroundRefreshParents() {
+		Object root = getRoot();
+		if (root == null) {
+			return new Object[0];
+		}
+		if (!(getContentProvider() instanceof ITreeContentProvider)) {
+			// children below the root are only known by tree path
+			return new Object[] { root };
+		}
+		Object[] expanded = getExpandedElements();
+		Object[] parents = new Object[expanded.length + 1];
+		parents[0] = root;
+		System.arraycopy(expanded, 0, parents, 1, expanded.length);
+		return parents;
+	}
+
+	@Override
+	Object[] getRawChildrenInBackground(Object parent) {
+		if (!equals(parent, getRoot()) && getContentProvider() instanceof ITreeContentProvider tcp) {
+			Object[] result = tcp.getChildren(parent);
+			if (result != null) {
+				assertElementsNotNull(parent, result);
+				return result;
+			}
+			return new Object[0];
+		}
+		return super.getRawChildrenInBackground(parent);
+	}
+
 	/**
 	 * Asserts that the given array of elements is itself non- <code>null</code>
 	 * and contains no <code>null</code> elements.
@@ -2280,6 +2317,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		}
 		if (checkBusy())
 			return;
+		discardBackgroundRefresh();
 		preservingSelection(() -> internalRemove(elementsOrTreePaths));
 	}
 
@@ -2308,6 +2346,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		}
 		if (checkBusy())
 			return;
+		discardBackgroundRefresh();
 		preservingSelection(() -> internalRemove(parent, elements));
 	}
 
@@ -2777,6 +2816,33 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 			}
 		}
 
+		// suspend redraw if many items are going to be created or disposed
+		boolean redrawSuspended = Math.abs(elementChildren.length - items.length) > BATCH_REDRAW_THRESHOLD;
+		if (redrawSuspended) {
+			tree.setRedraw(false);
+		}
+		try {
+			updateChildItems(widget, items, elementChildren, expanded, updateLabels);
+		} finally {
+			if (redrawSuspended) {
+				tree.setRedraw(true);
+			}
+		}
+
+		// WORKAROUND
+		if (widget == tree && oldCnt == 0 && getItemCount(tree) != 0) {
+			// System.out.println("WORKAROUND setRedraw");
+			tree.setRedraw(false);
+			tree.setRedraw(true);
+		}
+	}
+
+	/**
+	 * Reconciles the given child items of the widget with the new child
+	 * elements.
+	 */
+	private void updateChildItems(Widget widget, Item[] items, Object[] elementChildren, CustomHashtable expanded,
+			boolean updateLabels) {
 		int min = Math.min(elementChildren.length, items.length);
 
 		// dispose of surplus items, optimizing for the case where elements have
@@ -2787,27 +2853,34 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 			for (Object elementChild : elementChildren) {
 				children.put(elementChild, elementChild);
 			}
-			int i = 0;
-			while (numItemsToDispose > 0 && i < items.length) {
-				Object data = items[i].getData();
-				if (data == null || !children.containsKey(data)) {
+			// compact the remaining items in a single pass
+			int kept = 0;
+			for (Item item : items) {
+				Object data = item.getData();
+				if (numItemsToDispose > 0 && (data == null || !children.containsKey(data))) {
 					if (data != null) {
-						disassociate(items[i]);
-					}
-					items[i].dispose();
-					if (i + 1 < items.length) {
-						// The components at positions i+1 through
-						// items.length-1 in the source array are copied into
-						// positions i through items.length-2
-						System.arraycopy(items, i + 1, items, i, items.length - (i+1));
+						disassociate(item);
 					}
+					item.dispose();
 					numItemsToDispose--;
 				} else {
-					i++;
+					items[kept++] = item;
 				}
 			}
 		}
 
+		// optimize for the case where elements have been inserted but not
+		// reordered: create the items for the new elements at their index, so
+		// that the existing items keep their elements and labels
+		boolean[] created = null;
+		if (min > 0 && min < elementChildren.length) {
+			created = insertChildItems(widget, items, elementChildren);
+			if (created != null) {
+				items = getChildren(widget);
+				min = elementChildren.length;
+			}
+		}
+
 		// compare first min items, and update item if necessary
 		// need to do it in two passes:
 		// 1: disassociate old items
@@ -2848,6 +2921,9 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		}
 
 		for (int i = 0; i < min; ++i) {
+			if (created != null && created[i]) {
+				continue;
+			}
 			Item item = items[i];
 			Object newElement = elementChildren[i];
 			if (item.getData() == null) {
@@ -2873,6 +2949,9 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		// cases since the expanded state can change either way.
 		// This needs to be done in a second loop, see bug 148025.
 		for (int i = 0; i < min; ++i) {
+			if (created != null && created[i]) {
+				continue;
+			}
 			Item item = items[i];
 			Object newElement = elementChildren[i];
 			setExpanded(item, expanded.containsKey(newElement));
@@ -2903,13 +2982,38 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 				}
 			}
 		}
+	}
 
-		// WORKAROUND
-		if (widget == tree && oldCnt == 0 && getItemCount(tree) != 0) {
-			// System.out.println("WORKAROUND setRedraw");
-			tree.setRedraw(false);
-			tree.setRedraw(true);
+	/**
+	 * Creates the items for the new elements if the elements of the given
+	 * items appear in the same order in the new child elements.
+	 *
+	 * @return the indices of the created items, or <code>null</code> if the
+	 *         existing items could not be matched and nothing was created
+	 */
+	private boolean[] insertChildItems(Widget widget, Item[] items, Object[] elementChildren) {
+		CustomHashtable indices = newHashtable(elementChildren.length * 2);
+		for (int i = 0; i < elementChildren.length; i++) {
+			indices.put(elementChildren[i], Integer.valueOf(i));
+		}
+		boolean[] created = new boolean[elementChildren.length];
+		Arrays.fill(created, true);
+		int last = -1;
+		for (Item item : items) {
+			Object data = item.getData();
+			Integer index = data == null ? null : (Integer) indices.get(data);
+			if (index == null || index.intValue() <= last) {
+				return null;
+			}
+			last = index.intValue();
+			created[last] = false;
+		}
+		for (int i = 0; i < elementChildren.length; i++) {
+			if (created[i]) {
+				createTreeItem(widget, elementChildren[i], i);
+			}
 		}
+		return created;
 	}
 
 	/** Returns true if children were pruned */
@@ -3163,6 +3267,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		Assert.isNotNull(element);
 		if (checkBusy())
 			return;
+		discardBackgroundRefresh();
 		if (getComparator() != null || hasFilters()) {
 			add(parentElementOrTreePath, new Object[] { element });
 			return;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,23 +27,16 @@ import java.util.NoSuchElementException;
  * is exceeded, the capacity is doubled.
  * <p>
  * CustomHashtable allows a custom comparator and hash code provider.
+ * <p>
+ * The keys, values and hash codes are kept in parallel arrays and collisions
+ * are resolved by linear probing, so adding a key/value pair does not allocate
+ * an entry object. Viewers with hash lookup enabled may hold hundreds of
+ * thousands of elements in this table. The hash code of each key is stored, so
+ * that the comparer is only asked for it once per key, and only keys with a
+ * matching hash code are compared with the comparer.
  */
 /* package */final class CustomHashtable {
 
-	/**
-	 * HashMapEntry is an internal class which is used to hold the entries of a Hashtable.
-	 */
-	private static class HashMapEntry {
-		Object key, value;
-
-		HashMapEntry next;
-
-		HashMapEntry(Object theKey, Object theValue) {
-			key = theKey;
-			value = theValue;
-		}
-	}
-
 	private static final class EmptyEnumerator implements Enumeration {
 		@Override
 		public boolean hasMoreElements() {
@@ -59,25 +52,19 @@ import java.util.NoSuchElementException;
 	private class HashEnumerator implements Enumeration {
 		boolean key;
 
-		int start;
-
-		HashMapEntry entry;
+		int index;
 
 		HashEnumerator(boolean isKey) {
 			key = isKey;
-			start = firstSlot;
 		}
 
 		@Override
 		public boolean hasMoreElements() {
-			if (entry != null) {
-				return true;
-			}
-			while (start <= lastSlot) {
-				if (elementData[start++] != null) {
-					entry = elementData[start - 1];
+			while (index < keyData.length) {
+				if (keyData[index] != null) {
 					return true;
 				}
+				index++;
 			}
 			return false;
 		}
@@ -85,25 +72,31 @@ import java.util.NoSuchElementException;
 		@Override
 		public Object nextElement() {
 			if (hasMoreElements()) {
-				Object result = key ? entry.key : entry.value;
-				entry = entry.next;
+				Object result = key ? keyData[index] : valueData[index];
+				index++;
 				return result;
 			}
 			throw new NoSuchElementException();
 		}
 	}
 
-	transient int elementCount;
+	private static final float LOAD_FACTOR = 0.75f;
 
-	transient HashMapEntry[] elementData;
+	private static final int MAXIMUM_LENGTH = 1 << 30;
 
-	private float loadFactor;
+	transient int elementCount;
 
-	private int threshold;
+	/**
+	 * The keys, or <code>null</code> for free slots. The length is a power of
+	 * two.
+	 */
+	transient Object[] keyData;
+
+	transient Object[] valueData;
 
-	transient int firstSlot = 0;
+	transient int[] hashData;
 
-	transient int lastSlot = -1;
+	private int threshold;
 
 	transient private IElementComparer comparer;
 
@@ -157,10 +150,7 @@ import java.util.NoSuchElementException;
 	public CustomHashtable(int capacity, IElementComparer comparer) {
 		if (capacity >= 0) {
 			elementCount = 0;
-			elementData = new HashMapEntry[capacity == 0 ? 1 : capacity];
-			firstSlot = elementData.length;
-			loadFactor = 0.75f;
-			computeMaxSize();
+			allocate(tableLengthFor(capacity));
 		} else {
 			throw new IllegalArgumentException();
 		}
@@ -178,12 +168,11 @@ import java.util.NoSuchElementException;
 	 *   <code>equals</code> and <code>hashCode</code> methods
 	 */
 	public CustomHashtable(CustomHashtable table, IElementComparer comparer) {
-		this(table.size() * 2, comparer);
-		for (int i = table.elementData.length; --i >= 0;) {
-			HashMapEntry entry = table.elementData[i];
-			while (entry != null) {
-				put(entry.key, entry.value);
-				entry = entry.next;
+		this(table.size(), comparer);
+		Object[] keys = table.keyData;
+		for (int i = keys.length; --i >= 0;) {
+			if (keys[i] != null) {
+				put(keys[i], table.valueData[i]);
 			}
 		}
 	}
@@ -201,8 +190,24 @@ import java.util.NoSuchElementException;
 		return comparer;
 	}
 
-	private void computeMaxSize() {
-		threshold = (int) (elementData.length * loadFactor);
+	/**
+	 * Returns the smallest power of two table length that holds the given
+	 * number of keys without exceeding the load factor.
+	 */
+	private static int tableLengthFor(int capacity) {
+		int minLength = (int) Math.min(MAXIMUM_LENGTH, (long) (capacity / LOAD_FACTOR) + 1);
+		int length = 2;
+		while (length < minLength) {
+			length <<= 1;
+		}
+		return length;
+	}
+
+	private void allocate(int length) {
+		keyData = new Object[length];
+		valueData = new Object[length];
+		hashData = new int[length];
+		threshold = length == MAXIMUM_LENGTH ? Integer.MAX_VALUE : (int) (length * LOAD_FACTOR);
 	}
 
 	/**
@@ -213,7 +218,7 @@ import java.util.NoSuchElementException;
 	 * @return		true if object is a key in this Hashtable, false otherwise
 	 */
 	public boolean containsKey(Object key) {
-		return getEntry(key) != null;
+		return indexOf(key, hashCode(key)) >= 0;
 	}
 
 	/**
@@ -239,27 +244,36 @@ import java.util.NoSuchElementException;
 	 *				does not exist
 	 */
 	public Object get(Object key) {
-		int index = (hashCode(key) & 0x7FFFFFFF) % elementData.length;
-		HashMapEntry entry = elementData[index];
-		while (entry != null) {
-			if (keyEquals(key, entry.key)) {
-				return entry.value;
-			}
-			entry = entry.next;
-		}
-		return null;
+		int index = indexOf(key, hashCode(key));
+		return index < 0 ? null : valueData[index];
 	}
 
-	private HashMapEntry getEntry(Object key) {
-		int index = (hashCode(key) & 0x7FFFFFFF) % elementData.length;
-		HashMapEntry entry = elementData[index];
-		while (entry != null) {
-			if (keyEquals(key, entry.key)) {
-				return entry;
+	/**
+	 * Returns the slot of the given key, or <code>-1</code> if the key does
+	 * not exist.
+	 */
+	private int indexOf(Object key, int hash) {
+		Object[] keys = keyData;
+		int mask = keys.length - 1;
+		int index = slot(hash, mask);
+		Object candidate;
+		while ((candidate = keys[index]) != null) {
+			if (hashData[index] == hash && keyEquals(key, candidate)) {
+				return index;
 			}
-			entry = entry.next;
+			index = (index + 1) & mask;
 		}
-		return null;
+		return -1;
+	}
+
+	/**
+	 * Returns the preferred slot for the given hash code. The hash code is
+	 * spread over all bits, as hash codes of elements are often sequential or
+	 * only differ in their high bits.
+	 */
+	private static int slot(int hash, int mask) {
+		int h = hash * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & mask;
 	}
 
 	/**
@@ -308,65 +322,51 @@ import java.util.NoSuchElementException;
 	 */
 	public Object put(Object key, Object value) {
 		if (key != null && value != null) {
-			int index = (hashCode(key) & 0x7FFFFFFF) % elementData.length;
-			HashMapEntry entry = elementData[index];
-			while (entry != null && !keyEquals(key, entry.key)) {
-				entry = entry.next;
-			}
-			if (entry == null) {
+			int hash = hashCode(key);
+			int index = indexOf(key, hash);
+			if (index < 0) {
 				if (++elementCount > threshold) {
 					rehash();
-					index = (hashCode(key) & 0x7FFFFFFF) % elementData.length;
-				}
-				if (index < firstSlot) {
-					firstSlot = index;
 				}
-				if (index > lastSlot) {
-					lastSlot = index;
-				}
-				entry = new HashMapEntry(key, value);
-				entry.next = elementData[index];
-				elementData[index] = entry;
+				insert(key, value, hash);
 				return null;
 			}
-			Object result = entry.value;
-			entry.key = key; // important to avoid hanging onto keys that are equal but "old" -- see bug 30607
-			entry.value = value;
+			Object result = valueData[index];
+			keyData[index] = key; // important to avoid hanging onto keys that are equal but "old" -- see bug 30607
+			valueData[index] = value;
 			return result;
 		}
 		throw new NullPointerException();
 	}
 
+	/**
+	 * Stores the key/value pair in the first free slot for the hash code.
+	 */
+	private void insert(Object key, Object value, int hash) {
+		int mask = keyData.length - 1;
+		int index = slot(hash, mask);
+		while (keyData[index] != null) {
+			index = (index + 1) & mask;
+		}
+		keyData[index] = key;
+		valueData[index] = value;
+		hashData[index] = hash;
+	}
+
 	/**
 	 * Increases the capacity of this Hashtable. This method is sent when
 	 * the size of this Hashtable exceeds the load factor.
 	 */
 	private void rehash() {
-		int length = elementData.length << 1;
-		if (length == 0) {
-			length = 1;
-		}
-		firstSlot = length;
-		lastSlot = -1;
-		HashMapEntry[] newData = new HashMapEntry[length];
-		for (int i = elementData.length; --i >= 0;) {
-			HashMapEntry entry = elementData[i];
-			while (entry != null) {
-				int index = (hashCode(entry.key) & 0x7FFFFFFF) % length;
-				if (index < firstSlot) {
-					firstSlot = index;
-				}
-				if (index > lastSlot) {
-					lastSlot = index;
-				}
-				HashMapEntry next = entry.next;
-				entry.next = newData[index];
-				newData[index] = entry;
-				entry = next;
+		Object[] oldKeys = keyData;
+		Object[] oldValues = valueData;
+		int[] oldHashes = hashData;
+		allocate(Math.min(MAXIMUM_LENGTH, oldKeys.length << 1));
+		for (int i = oldKeys.length; --i >= 0;) {
+			if (oldKeys[i] != null) {
+				insert(oldKeys[i], oldValues[i], oldHashes[i]);
 			}
 		}
-		elementData = newData;
-		computeMaxSize();
 	}
 
 	/**
@@ -377,23 +377,33 @@ import java.util.NoSuchElementException;
 	 *				did not exist
 	 */
 	public Object remove(Object key) {
-		HashMapEntry last = null;
-		int index = (hashCode(key) & 0x7FFFFFFF) % elementData.length;
-		HashMapEntry entry = elementData[index];
-		while (entry != null && !keyEquals(key, entry.key)) {
-			last = entry;
-			entry = entry.next;
+		int index = indexOf(key, hashCode(key));
+		if (index < 0) {
+			return null;
 		}
-		if (entry != null) {
-			if (last == null) {
-				elementData[index] = entry.next;
-			} else {
-				last.next = entry.next;
+		Object result = valueData[index];
+		// shift back the following keys of the probe sequence, so that no key
+		// becomes unreachable and no tombstones are needed
+		Object[] keys = keyData;
+		int mask = keys.length - 1;
+		int next = index;
+		while (true) {
+			next = (next + 1) & mask;
+			if (keys[next] == null) {
+				break;
+			}
+			int preferred = slot(hashData[next], mask);
+			if (((next - preferred) & mask) >= ((next - index) & mask)) {
+				keys[index] = keys[next];
+				valueData[index] = valueData[next];
+				hashData[index] = hashData[next];
+				index = next;
 			}
-			elementCount--;
-			return entry.value;
 		}
-		return null;
+		keys[index] = null;
+		valueData[index] = null;
+		elementCount--;
+		return result;
 	}
 
 	/**
@@ -413,14 +423,12 @@ import java.util.NoSuchElementException;
 
 		StringBuilder buffer = new StringBuilder();
 		buffer.append('{');
-		for (int i = elementData.length; --i >= 0;) {
-			HashMapEntry entry = elementData[i];
-			while (entry != null) {
-				buffer.append(entry.key);
+		for (int i = keyData.length; --i >= 0;) {
+			if (keyData[i] != null) {
+				buffer.append(keyData[i]);
 				buffer.append('=');
-				buffer.append(entry.value);
+				buffer.append(valueData[i]);
 				buffer.append(", "); //$NON-NLS-1$
-				entry = entry.next;
 			}
 		}
 		// Remove the last ", "
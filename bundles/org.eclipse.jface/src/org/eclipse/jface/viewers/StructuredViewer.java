@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IStatus;
@@ -45,6 +47,7 @@ import org.eclipse.swt.events.SelectionListener;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Item;
 import org.eclipse.swt.widgets.TableItem;
 import org.eclipse.swt.widgets.TreeItem;
@@ -152,6 +155,20 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 */
 	private StructuredViewerInternals.AssociateListener associateListener;
 
+	/**
+	 * Incremented for every background refresh and for every synchronous
+	 * change of the shown elements, so that outdated background refreshes can
+	 * be detected. Only accessed in the UI thread, except for reads by the
+	 * background computation.
+	 */
+	private volatile int backgroundRefreshGeneration;
+
+	/**
+	 * The children computed by the background refresh that is currently
+	 * applied, or <code>null</code>.
+	 */
+	private CustomHashtable backgroundRefreshSnapshot;
+
 	/**
 	 * Empty array of widgets.
 	 */
@@ -1022,7 +1039,13 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 * @return a sorted and filtered array of child elements
 	 */
 	protected Object[] getSortedChildren(Object parent) {
-		Object[] result = getFilteredChildren(parent);
+		Object[] result = null;
+		if (backgroundRefreshSnapshot != null) {
+			result = (Object[]) backgroundRefreshSnapshot.get(parent);
+		}
+		if (result == null) {
+			result = getFilteredChildren(parent);
+		}
 		if (sorter != null) {
 			// be sure we're not modifying the original array from the model
 			result = result.clone();
@@ -1447,6 +1470,143 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		refresh(getRoot(), updateLabels);
 	}
 
+	/**
+	 * Refreshes this viewer completely, like {@link #refresh()}, but obtains
+	 * the children from the content provider and filters them on the given
+	 * executor. The children are sorted and the widgets are updated in the UI
+	 * thread, against the snapshot of the children computed in the background.
+	 * <p>
+	 * This method must be called in the UI thread. The content provider and the
+	 * filters of this viewer are called in a thread of the executor, and must
+	 * be able to compute the children of the shown elements there. The
+	 * comparator is called in the UI thread, as it usually compares the labels
+	 * of the elements. A background refresh is cancelled if another background
+	 * refresh is started, if the viewer is refreshed, its input is set or
+	 * elements are added or removed, or if the control is disposed before the
+	 * children have been computed.
+	 * </p>
+	 * <p>
+	 * If the children cannot be computed in the background, for example for
+	 * lazy content providers or {@link TreePathViewerSorter}s, the viewer is
+	 * refreshed synchronously. Children below the top level are only computed
+	 * in the background for expanded elements of trees with an
+	 * {@link ITreeContentProvider}; all other children are obtained in the UI
+	 * thread as usual.
+	 * </p>
+	 * <p>
+	 * Only the children are computed in the background. Labels, images and
+	 * styles are still obtained from the label provider in the UI thread, and
+	 * all items are sorted and updated in one step, as by {@link #refresh()}.
+	 * For viewers with many items, the UI thread is therefore still busy for
+	 * the label computation, the sorting and the update of the items.
+	 * </p>
+	 *
+	 * @param executor
+	 *            the executor used to compute the children
+	 * @return a future that completes in the UI thread after the viewer has
+	 *         been refreshed, is cancelled if the refresh has been superseded,
+	 *         or completes exceptionally if the children could not be
+	 *         computed or the viewer could not be refreshed
+	 * @since 3.34
+	 */
+	public CompletableFuture<Void> refreshInBackground(Executor executor) {
+		Assert.isNotNull(executor);
+		final Control control = getControl();
+		final int generation = ++backgroundRefreshGeneration;
+		final Object input = getInput();
+		final Object[] parents = getBackgroundRefreshParents();
+		final ViewerFilter[] currentFilters = filters == null ? null : filters.toArray(new ViewerFilter[filters.size()]);
+		final CompletableFuture<Void> future = new CompletableFuture<>();
+		if (parents == null || associateListener != null || sorter instanceof TreePathViewerSorter) {
+			// no snapshot possible, refresh synchronously
+			refresh();
+			future.complete(null);
+			return future;
+		}
+		final Display display = control.getDisplay();
+		executor.execute(() -> {
+			CustomHashtable snapshot = newHashtable(parents.length * 2 + 1);
+			try {
+				for (Object parent : parents) {
+					if (generation != backgroundRefreshGeneration) {
+						break;
+					}
+					snapshot.put(parent, computeChildrenInBackground(parent, currentFilters));
+				}
+			} catch (Throwable e) {
+				future.completeExceptionally(e);
+				return;
+			}
+			display.asyncExec(() -> {
+				if (generation != backgroundRefreshGeneration || control.isDisposed() || getInput() != input) {
+					future.cancel(false);
+					return;
+				}
+				backgroundRefreshSnapshot = snapshot;
+				try {
+					refresh();
+				} catch (Throwable e) {
+					future.completeExceptionally(e);
+					throw e;
+				} finally {
+					backgroundRefreshSnapshot = null;
+				}
+				future.complete(null);
+			});
+		});
+		return future;
+	}
+
+	/**
+	 * Cancels the background refresh in progress, if any, as the shown
+	 * elements have been changed synchronously since its snapshot was taken.
+	 * Called in the UI thread.
+	 */
+	void discardBackgroundRefresh() {
+		backgroundRefreshGeneration++;
+	}
+
+	/**
+	 * Returns the elements whose children are computed in the background by
+	 * {@link #refreshInBackground(Executor)}. Called in the UI thread.
+	 *
+	 * @return the parent elements, or <code>null</code> if the children cannot
+	 *         be computed in the background
+	 */
+	Object[] getBackgroundRefreshParents() {
+		Object root = getRoot();
+		return root == null ? new Object[0] : new Object[] { root };
+	}
+
+	/**
+	 * Returns the raw children of the given parent for a background refresh.
+	 * Unlike {@link #getRawChildren(Object)} this must not access any widget
+	 * or viewer state that is owned by the UI thread.
+	 *
+	 * @param parent
+	 *            the parent element
+	 * @return the raw children
+	 */
+	Object[] getRawChildrenInBackground(Object parent) {
+		Object[] result = null;
+		IContentProvider cp = getContentProvider();
+		if (cp instanceof IStructuredContentProvider scp) {
+			result = scp.getElements(parent);
+			assertElementsNotNull(result);
+		}
+		return (result != null) ? result : new Object[0];
+	}
+
+	private Object[] computeChildrenInBackground(Object parent, ViewerFilter[] currentFilters) {
+		Object[] result = getRawChildrenInBackground(parent);
+		if (currentFilters != null) {
+			for (ViewerFilter f : currentFilters) {
+				result = f.filter(this, parent, result);
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Refreshes this viewer starting with the given element.
 	 * <p>
@@ -1460,6 +1620,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 *            the element
 	 */
 	public void refresh(final Object element) {
+		discardBackgroundRefresh();
 		preservingSelection(() -> internalRefresh(element));
 	}
 
@@ -1483,6 +1644,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 * @since 2.0
 	 */
 	public void refresh(final Object element, final boolean updateLabels) {
+		discardBackgroundRefresh();
 		preservingSelection(() -> internalRefresh(element, updateLabels));
 	}
 
@@ -1632,6 +1794,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 					"Need an underlying widget to be able to set the input." + //$NON-NLS-1$
 							"(Has the widget been disposed?)"); //$NON-NLS-1$
 		}
+		discardBackgroundRefresh();
 		unmapAllElements();
 		super.setInput(input);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,12 @@
  *******************************************************************************/
 package org.eclipse.jface.viewers;
 
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.viewers.StyledString.Styler;
@@ -33,6 +37,8 @@ import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.graphics.TextLayout;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Widget;
 
 /**
  * A {@link StyledCellLabelProvider} supports styled labels by using owner
@@ -49,6 +55,13 @@ import org.eclipse.swt.widgets.Event;
  * {@link ViewerCell#setStyleRanges(StyleRange[])} to set style ranges
  * on the label.
  * </p>
+ * <p>
+ * The text layouts of the most recently painted cells are cached by viewer
+ * item, so that repainting a cell whose text, font and style ranges did not
+ * change, e.g. while scrolling, does not layout its text again. About as many
+ * layouts are cached as rows are visible. The cached layout of an item is laid
+ * out again after the item is updated, and disposed together with the item.
+ * </p>
  *
  * @since 3.4
  */
@@ -72,16 +85,101 @@ public abstract class StyledCellLabelProvider extends OwnerDrawLabelProvider {
 	 */
 	private static final int OWNER_DRAW_ENABLED = 1 << 4;
 
+	/**
+	 * The number of text layouts cached in addition to those of the visible rows,
+	 * so that scrolling by a few rows reuses the layouts of the rows scrolled in.
+	 */
+	private static final int EXTRA_CACHED_LAYOUTS = 8;
+
+	/**
+	 * The maximum number of cached text layouts per column, whatever the number
+	 * of visible rows. Each layout holds native resources.
+	 */
+	private static final int MAX_CACHED_LAYOUTS = 128;
+
+	/**
+	 * A text layout that is configured for the text, font and style ranges of a
+	 * cell.
+	 */
+	private static final class CachedLayout {
+
+		final TextLayout layout;
+
+		String text;
+
+		Font font;
+
+		/**
+		 * The style ranges of the cell, compared by identity as the viewer sets a
+		 * new array whenever the cell is updated.
+		 */
+		StyleRange[] styleRanges;
+
+		boolean applyColors;
+
+		int textWidthDelta;
+
+		boolean valid;
+
+		CachedLayout(TextLayout layout) {
+			this.layout = layout;
+		}
+
+		boolean matches(String text, Font font, StyleRange[] styleRanges, boolean applyColors) {
+			return valid && this.styleRanges == styleRanges && this.font == font
+					&& this.applyColors == applyColors && this.text.equals(text);
+		}
+	}
+
+	/**
+	 * Identifies a cell by its item and column, as a label provider can be
+	 * used for more than one column of a viewer.
+	 */
+	private static final class CellKey {
+
+		final Widget item;
+
+		final int columnIndex;
+
+		CellKey(Widget item, int columnIndex) {
+			this.item = item;
+			this.columnIndex = columnIndex;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * item.hashCode() + columnIndex;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof CellKey other && other.item == item && other.columnIndex == columnIndex;
+		}
+	}
+
 	private int style;
 
-	// reused text layout
-	private TextLayout cachedTextLayout;
+	// the text layouts of recently painted cells by item and column, in access
+	// order. The items are owned by the viewer, so the cache does not keep
+	// elements alive.
+	private final LinkedHashMap<CellKey, CachedLayout> cachedLayouts = new LinkedHashMap<>(16, 0.75f, true);
+
+	// the columns painted by this label provider since the cache was cleared
+	private final BitSet paintedColumns = new BitSet();
+
+	private final Listener itemDisposeListener = event -> {
+		cachedLayouts.entrySet().removeIf(entry -> {
+			if (entry.getKey().item != event.widget) {
+				return false;
+			}
+			entry.getValue().layout.dispose();
+			return true;
+		});
+	};
 
 	private ColumnViewer viewer;
 	private ViewerColumn column;
 
-	private int deltaOfLastMeasure;
-
 	private final HashMap<Font, Map<Integer /* style */, Font>> styledFonts = new HashMap<>();
 
 	/**
@@ -136,6 +234,7 @@ public abstract class StyledCellLabelProvider extends OwnerDrawLabelProvider {
 				this.style |= OWNER_DRAW_ENABLED;
 			} else {
 				this.style &= ~OWNER_DRAW_ENABLED;
+				disposeCachedLayouts();
 			}
 			if (this.viewer != null) {
 				setOwnerDrawEnabled(this.viewer, this.column, enabled);
@@ -176,10 +275,7 @@ public abstract class StyledCellLabelProvider extends OwnerDrawLabelProvider {
 
 	@Override
 	public void dispose() {
-		if (this.cachedTextLayout != null) {
-			cachedTextLayout.dispose();
-			cachedTextLayout = null;
-		}
+		disposeCachedLayouts();
 
 		this.viewer= null;
 		this.column= null;
@@ -198,16 +294,106 @@ public abstract class StyledCellLabelProvider extends OwnerDrawLabelProvider {
 	@Override
 	public void update(ViewerCell cell) {
 		// clients must override and configure the cell and call super
+		CachedLayout cached = cachedLayouts.get(new CellKey(cell.getItem(), cell.getColumnIndex()));
+		if (cached != null) {
+			// the style ranges array may have been changed in place
+			cached.valid = false;
+		}
 		super.update(cell); // calls 'repaint' to trigger the paint listener
 	}
 
-	private TextLayout getSharedTextLayout(Display display) {
-		if (cachedTextLayout == null) {
-			int orientation = viewer.getControl().getStyle() & (SWT.LEFT_TO_RIGHT | SWT.RIGHT_TO_LEFT);
-			cachedTextLayout = new TextLayout(display);
-			cachedTextLayout.setOrientation(orientation);
+	private void disposeCachedLayouts() {
+		cachedLayouts.forEach((key, cached) -> {
+			if (!key.item.isDisposed()) {
+				key.item.removeListener(SWT.Dispose, itemDisposeListener);
+			}
+			cached.layout.dispose();
+		});
+		cachedLayouts.clear();
+		paintedColumns.clear();
+	}
+
+	/**
+	 * Returns whether a layout of another column of the given item is cached,
+	 * in which case the dispose listener is already hooked to the item.
+	 */
+	private boolean isItemCached(Widget item) {
+		for (CellKey key : cachedLayouts.keySet()) {
+			if (key.item == item) {
+				return true;
+			}
 		}
-		return cachedTextLayout;
+		return false;
+	}
+
+	private void hookItem(Widget item) {
+		if (!isItemCached(item)) {
+			item.addListener(SWT.Dispose, itemDisposeListener);
+		}
+	}
+
+	private void unhookItem(Widget item) {
+		if (!item.isDisposed() && !isItemCached(item)) {
+			item.removeListener(SWT.Dispose, itemDisposeListener);
+		}
+	}
+
+	/**
+	 * Returns the number of text layouts to cache, which is the number of rows
+	 * that fit into the viewer's control plus a few more, for each column
+	 * painted by this label provider.
+	 */
+	private int getMaxCachedLayouts(ViewerCell cell) {
+		int rowHeight = cell.getViewerRow().getBounds().height;
+		int visibleRows = rowHeight > 0 ? viewer.getControl().getClientArea().height / rowHeight + 1 : 0;
+		paintedColumns.set(cell.getColumnIndex());
+		return Math.min(MAX_CACHED_LAYOUTS, visibleRows + EXTRA_CACHED_LAYOUTS) * paintedColumns.cardinality();
+	}
+
+	/**
+	 * Returns the text layout for the given cell, configuring a cached or new
+	 * layout if the text, font or style ranges of the cell changed.
+	 */
+	private CachedLayout getTextLayout(Display display, ViewerCell cell, boolean applyColors) {
+		CellKey key = new CellKey(cell.getItem(), cell.getColumnIndex());
+		String text = cell.getText();
+		Font font = cell.getFont();
+		StyleRange[] styleRanges = cell.getStyleRanges();
+		CachedLayout cached = cachedLayouts.get(key);
+		if (cached == null) {
+			TextLayout layout = null;
+			int maxLayouts = getMaxCachedLayouts(cell);
+			Iterator<Entry<CellKey, CachedLayout>> eldest = cachedLayouts.entrySet().iterator();
+			while (cachedLayouts.size() >= maxLayouts) {
+				// reuse the layout of the least recently painted cell, and dispose
+				// the others if fewer rows are visible than before
+				Entry<CellKey, CachedLayout> entry = eldest.next();
+				eldest.remove();
+				unhookItem(entry.getKey().item);
+				if (layout == null) {
+					layout = entry.getValue().layout;
+				} else {
+					entry.getValue().layout.dispose();
+				}
+			}
+			if (layout == null) {
+				int orientation = viewer.getControl().getStyle() & (SWT.LEFT_TO_RIGHT | SWT.RIGHT_TO_LEFT);
+				layout = new TextLayout(display);
+				layout.setOrientation(orientation);
+			}
+			hookItem(key.item);
+			cached = new CachedLayout(layout);
+			cachedLayouts.put(key, cached);
+		} else if (cached.matches(text, font, styleRanges, applyColors)) {
+			return cached;
+		}
+		cached.textWidthDelta = updateTextLayout(cached.layout, cell, applyColors);
+		cached.text = text;
+		cached.font = font;
+		cached.styleRanges = styleRanges;
+		cached.applyColors = applyColors;
+		cached.valid = true;
+		return cached;
 	}
 
 	private boolean useColors(Event event) {
@@ -273,11 +459,7 @@ public abstract class StyledCellLabelProvider extends OwnerDrawLabelProvider {
 		ViewerCell cell= getViewerCell(event, element);
 		boolean applyColors = useColors(event);
 
-		TextLayout layout = getSharedTextLayout(event.display);
-
-		int textWidthDelta = deltaOfLastMeasure = updateTextLayout(layout, cell, applyColors);
-
-		event.width += textWidthDelta;
+		event.width += getTextLayout(event.display, cell, applyColors).textWidthDelta;
 	}
 
 	/**
@@ -370,10 +552,10 @@ public abstract class StyledCellLabelProvider extends OwnerDrawLabelProvider {
 			}
 		}
 
+		CachedLayout cached = getTextLayout(event.display, cell, applyColors);
 		Rectangle textBounds = cell.getTextBounds();
 		if (textBounds != null) {
-			TextLayout textLayout= getSharedTextLayout(event.display);
-			// text layout already configured in measure(Event, Object)
+			TextLayout textLayout = cached.layout;
 
 			Rectangle layoutBounds = textLayout.getBounds();
 
@@ -405,7 +587,7 @@ public abstract class StyledCellLabelProvider extends OwnerDrawLabelProvider {
 
 		if (drawFocus(event)) {
 			Rectangle focusBounds = cell.getViewerRow().getBounds();
-			gc.drawFocus(focusBounds.x, focusBounds.y, focusBounds.width + deltaOfLastMeasure,
+			gc.drawFocus(focusBounds.x, focusBounds.y, focusBounds.width + cached.textWidthDelta,
 					focusBounds.height);
 		}
 
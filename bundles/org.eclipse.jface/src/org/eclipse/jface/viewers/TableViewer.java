@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -409,6 +409,7 @@ public class TableViewer extends AbstractTableViewer {
 		if (elements.length == 0) {
 			return;
 		}
+		discardBackgroundRefresh();
 
 		// deselect any items that are being removed, see bug 97786
 		boolean deselectedItems = false;
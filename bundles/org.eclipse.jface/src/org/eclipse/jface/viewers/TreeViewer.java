@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2017 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -352,6 +352,14 @@ public class TreeViewer extends AbstractTreeViewer {
 		return super.getRawChildren(parent);
 	}
 
+	@Override
+	Object[] getBackgroundRefreshParents() {
+		if (contentProviderIsLazy) {
+			return null;
+		}
+		return super.getBackgroundRefreshParents();
+	}
+
 	@Override
 	void preservingSelection(Runnable updateCode, boolean reveal) {
 		if (insidePreservingSelection || !getPreserveSelection()){
@@ -807,6 +815,7 @@ public class TreeViewer extends AbstractTreeViewer {
 	public void remove(final Object parentOrTreePath, final int index) {
 		if (checkBusy())
 			return;
+		discardBackgroundRefresh();
 		// in case preservingSelection() is nested avoid getSelection():
 		final List<TreePath> oldSelection = insidePreservingSelection ? null : new LinkedList<>(
 				Arrays.asList(((TreeSelection) getSelection()).getPaths()));
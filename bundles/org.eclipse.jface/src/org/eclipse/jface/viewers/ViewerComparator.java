@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2016 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,8 @@
 
 package org.eclipse.jface.viewers;
 
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.Arrays;
 import java.util.Comparator;
 
@@ -48,11 +50,41 @@ import org.eclipse.jface.util.Policy;
  */
 public class ViewerComparator {
 
+	/**
+	 * The number of elements from which the sort keys are sorted in parallel.
+	 */
+	private static final int PARALLEL_SORT_THRESHOLD = 10000;
+
 	/**
 	 * The comparator to use to sort a viewer's contents.
 	 */
 	private Comparator<? super String> comparator;
 
+	/**
+	 * Whether {@link #compare(Viewer, Object, Object)} is the default
+	 * implementation, so that the elements can be sorted by precomputed keys.
+	 * <code>null</code> until first needed.
+	 */
+	private Boolean defaultCompare;
+
+	/**
+	 * The precomputed sort key of an element, consisting of its category and
+	 * either its collation key or its label.
+	 */
+	private static final class SortKey {
+		final Object element;
+		final int category;
+		final String label;
+		final CollationKey collationKey;
+
+		SortKey(Object element, int category, String label, CollationKey collationKey) {
+			this.element = element;
+			this.category = category;
+			this.label = label;
+			this.collationKey = collationKey;
+		}
+	}
+
 	/**
 	 * Creates a new {@link ViewerComparator}, which uses the default comparator
 	 * to sort strings.
@@ -188,10 +220,16 @@ public class ViewerComparator {
 	/**
 	 * Sorts the given elements in-place, modifying the given array.
 	 * <p>
-	 * The default implementation of this method uses the
+	 * If a subclass overrides {@link #compare(Viewer, Object, Object)}, the
+	 * default implementation of this method uses the
 	 * {@link java.util.Arrays#sort(Object[], Comparator)} algorithm on the
 	 * given array, calling {@link #compare(Viewer, Object, Object)} to compare
-	 * elements.
+	 * elements. Otherwise it produces the same order without calling
+	 * <code>compare</code>: the category and the label of every element are
+	 * obtained once, and if the labels are compared by a {@link Collator} (see
+	 * {@link #getComparator()}), they are converted to collation keys once,
+	 * which are compared instead of the labels. Large arrays of collation keys
+	 * are sorted in parallel.
 	 * </p>
 	 * <p>
 	 * Subclasses may reimplement this method to provide a more optimized implementation.
@@ -202,7 +240,11 @@ public class ViewerComparator {
 	 */
 	public void sort(final Viewer viewer, Object[] elements) {
 		try {
-			Arrays.sort(elements, (a, b) -> ViewerComparator.this.compare(viewer, a, b));
+			if (elements.length > 1 && hasDefaultCompare()) {
+				sortByKeys(viewer, elements);
+			} else {
+				Arrays.sort(elements, (a, b) -> ViewerComparator.this.compare(viewer, a, b));
+			}
 		} catch (IllegalArgumentException e) {
 			String msg = e
 					+ "\nWorkaround for comparator violation:\n\tSet system property -Djava.util.Arrays.useLegacyMergeSort=true" //$NON-NLS-1$
@@ -227,4 +269,60 @@ public class ViewerComparator {
 			throw e;
 		}
 	}
+
+	private boolean hasDefaultCompare() {
+		if (defaultCompare == null) {
+			try {
+				defaultCompare = Boolean.valueOf(getClass()
+						.getMethod("compare", Viewer.class, Object.class, Object.class) //$NON-NLS-1$
+						.getDeclaringClass() == ViewerComparator.class);
+			} catch (NoSuchMethodException | SecurityException e) {
+				defaultCompare = Boolean.FALSE;
+			}
+		}
+		return defaultCompare.booleanValue();
+	}
+
+	/**
+	 * Sorts the elements with the same order as the default
+	 * {@link #compare(Viewer, Object, Object)}, but obtains the category and
+	 * the label of every element only once. If the strings are compared by a
+	 * {@link Collator}, the labels are converted to collation keys once, so
+	 * that comparing two elements does not need to collate their labels
+	 * again, and large arrays are sorted in parallel.
+	 */
+	private void sortByKeys(Viewer viewer, Object[] elements) {
+		Comparator<? super String> stringComparator = getComparator();
+		Collator collator = stringComparator instanceof Collator c ? c : null;
+		SortKey[] keys = new SortKey[elements.length];
+		for (int i = 0; i < elements.length; i++) {
+			Object element = elements[i];
+			String label = getLabel(viewer, element);
+			keys[i] = new SortKey(element, category(element), label,
+					collator != null ? collator.getCollationKey(label) : null);
+		}
+		if (collator != null) {
+			Comparator<SortKey> keyComparator = (k1, k2) -> {
+				if (k1.category != k2.category) {
+					return k1.category - k2.category;
+				}
+				return k1.collationKey.compareTo(k2.collationKey);
+			};
+			if (keys.length >= PARALLEL_SORT_THRESHOLD) {
+				Arrays.parallelSort(keys, keyComparator);
+			} else {
+				Arrays.sort(keys, keyComparator);
+			}
+		} else {
+			Arrays.sort(keys, (k1, k2) -> {
+				if (k1.category != k2.category) {
+					return k1.category - k2.category;
+				}
+				return stringComparator.compare(k1.label, k2.label);
+			});
+		}
+		for (int i = 0; i < keys.length; i++) {
+			elements[i] = keys[i].element;
+		}
+	}
 }
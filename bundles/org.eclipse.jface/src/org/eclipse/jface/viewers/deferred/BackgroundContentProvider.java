@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -51,7 +51,10 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
  * allows the content provider to locate and sort the visible range without fully sorting
  * all elements in the table. It also supports fast cancellation, allowing the visible range
  * to change in the middle of a sort without discarding partially-sorted information from
- * the previous range.
+ * the previous range. The collection is kept between sorts, so that changes of the model
+ * are sorted into the already sorted elements. While the model keeps sending changes, only
+ * the visible range is sorted and sent to the table. The remaining rows are sent once the
+ * changes stop.
  * </p>
  *
  * @since 3.1
@@ -128,6 +131,28 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 
 	private volatile Range range = new Range(0,0);
 
+	/**
+	 * Collection of all elements as of the end of the last sort, or null if the
+	 * collection must be created from the known objects of the updator. Only
+	 * accessed by the sort thread.
+	 */
+	private LazySortedCollection sortedCollection;
+
+	/**
+	 * Filter that was applied to the elements of sortedCollection
+	 */
+	private IFilter sortedFilter;
+
+	/**
+	 * Creation time of the oldest change that has not yet been sent to the
+	 * table, or -1 if none. Only accessed by the sort thread.
+	 */
+	private long pendingSince = -1;
+
+	private volatile long lastUpdateLatency;
+
+	private volatile long maxUpdateLatency;
+
 	/**
 	 * Creates a new background content provider
 	 *
@@ -182,19 +207,32 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 
 		mon.beginTask(SORTING, 100);
 
-		// Create a LazySortedCollection
-		Comparator order = sortOrder;
-		IFilter f = filter;
-		LazySortedCollection collection = new LazySortedCollection(order);
-
-		// Fill it in with all existing known objects
+		// Continue with the collection of the last sort. Changes of the sort order or
+		// filter since then are handled like any other change below.
+		LazySortedCollection collection = sortedCollection;
+		Comparator order;
+		IFilter f;
 		Object[] knownObjects = updator.getKnownObjects();
-		for (Object object : knownObjects) {
-			if (object != null) {
-				collection.add(object);
+		if (collection != null) {
+			order = collection.getComparator();
+			f = sortedFilter;
+		} else {
+			// Create a LazySortedCollection
+			order = sortOrder;
+			f = filter;
+			collection = new LazySortedCollection(order);
+
+			// Fill it in with all existing known objects
+			for (Object object : knownObjects) {
+				if (object != null) {
+					collection.add(object);
+				}
 			}
 		}
 
+		// If this sort fails, the next one starts from the known objects again
+		sortedCollection = null;
+
 		boolean dirty = false;
 		int prevSize = knownObjects.length;
 		updator.setTotalItems(prevSize);
@@ -246,6 +284,9 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 			if (!changeQueue.isEmpty()) {
 				dirty = true;
 				ChangeQueue.Change next = changeQueue.dequeue();
+				if (pendingSince == -1 || next.getTime() - pendingSince < 0) {
+					pendingSince = next.getTime();
+				}
 
 				switch(next.getType()) {
 					case ChangeQueue.ADD: {
@@ -263,14 +304,8 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 					case ChangeQueue.UPDATE: {
 						Object[] items  = next.getElements();
 
-						for (Object item : items) {
-							if (collection.contains(item)) {
-								// TODO: write a collection.update(...) method
-								collection.remove(item);
-								collection.add(item);
-								updator.clear(item);
-							}
-						}
+						flush(items, collection);
+						collection.update(items);
 
 						break;
 					}
@@ -331,6 +366,19 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 					updator.replace(object, sortStart + i);
 				}
 
+				if (pendingSince != -1) {
+					long latency = System.nanoTime() - pendingSince;
+					lastUpdateLatency = latency;
+					maxUpdateLatency = Math.max(maxUpdateLatency, latency);
+					pendingSince = -1;
+				}
+
+				// If more changes arrived in the meantime, process them before sorting
+				// the rows outside of the visible range
+				if (!changeQueue.isEmpty()) {
+					continue;
+				}
+
 				objectsOfInterest = new Object[collection.size()];
 
 				collection.getFirst(objectsOfInterest, true, sortMon);
@@ -348,6 +396,9 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 			dirty = false;
 		}
 
+		sortedCollection = collection;
+		sortedFilter = f;
+
 		mon.done();
 	}
 
@@ -409,6 +460,29 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 		return limit;
 	}
 
+	/**
+	 * Returns the time it took to send the most recent model changes to the
+	 * visible range of the table. This is measured from the oldest change
+	 * that was included in the update.
+	 *
+	 * @return the latency of the last update in nanoseconds or 0 if no change
+	 *         has been sent yet
+	 */
+	public long getLastUpdateLatency() {
+		return lastUpdateLatency;
+	}
+
+	/**
+	 * Returns the maximum latency of all updates so far
+	 *
+	 * @return the maximum latency in nanoseconds or 0 if no change has been
+	 *         sent yet
+	 * @see #getLastUpdateLatency()
+	 */
+	public long getMaxUpdateLatency() {
+		return maxUpdateLatency;
+	}
+
 	/**
 	 * Checks if currently visible range has changed, and triggers and update
 	 * and resort if necessary. Must be called in the UI thread, typically
@@ -528,7 +602,11 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 	private void remove(Object[] toRemove) {
 		changeQueue.enqueue(ChangeQueue.REMOVE, toRemove);
 		makeDirty();
-		refresh();
+		if (limit != -1) {
+			// The collection only keeps the elements within the limit, so the
+			// elements that move into the limit have to be sent again
+			refresh();
+		}
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2017 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,6 +48,7 @@ final class ChangeQueue {
 	public static final class Change {
 		private int type;
 		private Object[] elements;
+		private long time = System.nanoTime();
 
 		/**
 		 * Create a change of the specified type that affects the given elements.
@@ -81,6 +82,14 @@ final class ChangeQueue {
 		public Object[] getElements() {
 			return elements;
 		}
+
+		/**
+		 * Return the time when the change was created.
+		 * @return the value of {@link System#nanoTime()} when the change was created.
+		 */
+		public long getTime() {
+			return time;
+		}
 	}
 
 	private LinkedList<Change> queue = new LinkedList<>();
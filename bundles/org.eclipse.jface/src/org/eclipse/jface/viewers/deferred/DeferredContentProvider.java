@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -187,6 +187,32 @@ public class DeferredContentProvider implements ILazyContentProvider {
 		return limit;
 	}
 
+	/**
+	 * Returns the time between the oldest model change included in the most
+	 * recent update of the table and the moment the visible rows were sent to
+	 * the table. This can be used to monitor models that send changes at a high
+	 * rate.
+	 *
+	 * @return the latency of the last update in nanoseconds, or 0 if no change
+	 *         has been sent since the input was set
+	 * @since 3.34
+	 */
+	public long getLastUpdateLatency() {
+		return provider == null ? 0 : provider.getLastUpdateLatency();
+	}
+
+	/**
+	 * Returns the maximum latency of all updates since the input was set.
+	 *
+	 * @return the maximum latency in nanoseconds, or 0 if no change has been
+	 *         sent since the input was set
+	 * @see #getLastUpdateLatency()
+	 * @since 3.34
+	 */
+	public long getMaxUpdateLatency() {
+		return provider == null ? 0 : provider.getMaxUpdateLatency();
+	}
+
 	@Override
 	public void updateElement(int element) {
 		if (provider != null) {
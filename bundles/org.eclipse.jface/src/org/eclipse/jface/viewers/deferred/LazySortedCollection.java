@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -285,9 +285,12 @@ public class LazySortedCollection {
 
 		// If neither subtree has any children, add a pseudorandom chance of the
 		// newly added element becoming the new pivot for this node. Note: instead
-		// of a real pseudorandom generator, we simply use a counter here.
+		// of a real pseudorandom generator, we simply use a counter here. A node that
+		// is flagged for lazy removal must stay a pivot, so that it is removed when the
+		// subtree is partitioned.
 		if (!enableDebug && leftSubTree[subTree] == -1 && rightSubTree[subTree] == -1
-				&& leftSubTree[elementToAdd] == -1 && rightSubTree[elementToAdd] == -1) {
+				&& leftSubTree[elementToAdd] == -1 && rightSubTree[elementToAdd] == -1
+				&& contents[subTree] != lazyRemovalFlag) {
 			counter--;
 
 			if (counter % treeSize[subTree] == 0) {
@@ -833,6 +836,35 @@ public class LazySortedCollection {
 		pack();
 	}
 
+	/**
+	 * Moves the given elements to their new position in the sort order. This
+	 * must be called when the comparator may order the elements differently
+	 * than before. Elements that are not in this collection are ignored. Like
+	 * additions, the elements are only sorted when their position is queried.
+	 *
+	 * @param toUpdate elements whose position in the sort order may have changed
+	 * @since 3.34
+	 */
+	public final void update(Object[] toUpdate) {
+		Assert.isNotNull(toUpdate);
+
+		Object[] updated = new Object[toUpdate.length];
+		int count = 0;
+		for (Object object : toUpdate) {
+			if (getObjectIndex(object) != -1) {
+				internalRemove(object);
+				updated[count++] = object;
+			}
+		}
+		pack();
+
+		for (int i = 0; i < count; i++) {
+			add(updated[i]);
+		}
+
+		testInvariants();
+	}
+
 	/**
 	 * Retains the n smallest items in the collection, removing the rest. When
 	 * this method returns, the size of the collection will be n. Note that
@@ -1070,6 +1102,16 @@ public class LazySortedCollection {
 			return result;
 		}
 
+		// Unsorted children of the nodes on the paths to the next-smallest and
+		// next-largest nodes may belong on the other side of the replacement node,
+		// so sort them into place first
+		partitionPath(left, DIR_RIGHT);
+		partitionPath(right, DIR_LEFT);
+		if (leftSubTree[subTree] != left || rightSubTree[subTree] != right) {
+			// A child was replaced by the removal of a lazily removed node
+			return removeNode(subTree);
+		}
+
 		// Find the edges that lead to the next-smallest and
 		// next-largest nodes
 		Edge nextSmallest = new Edge(subTree, DIR_LEFT);
@@ -1161,6 +1203,24 @@ public class LazySortedCollection {
 		return subTree;
 	}
 
+	/**
+	 * Partitions the given node and then the nodes along the path in the given
+	 * direction, down to the smallest (for DIR_LEFT) or largest (for DIR_RIGHT)
+	 * node of the subtree.
+	 */
+	private void partitionPath(int node, int direction) {
+		try {
+			while (node != -1) {
+				node = partition(node, new FastProgressReporter());
+				if (node != -1) {
+					node = direction == DIR_LEFT ? leftSubTree[node] : rightSubTree[node];
+				}
+			}
+		} catch (InterruptedException e) {
+			// shouldn't happen
+		}
+	}
+
 	/**
 	 * Removes all elements from the collection
 	 */
@@ -20,7 +20,11 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.Status;
 
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.ResourcesPlugin;
+
 import org.eclipse.search.internal.core.text.DirtyFileProvider;
+import org.eclipse.search.internal.core.text.FileContentCache;
 import org.eclipse.search.internal.core.text.TextSearchEngineRegistry;
 
 public class SearchCorePlugin extends Plugin {
@@ -36,6 +40,7 @@ public class SearchCorePlugin extends Plugin {
 	private TextSearchEngineRegistry fTextSearchEngineRegistry;
 	private DirtyFileProvider fDirtyFileSearchParticipant;
 	private DirtyFileSearchParticipantServiceTracker fDirtyFileSearchParticipantTracker;
+	private FileContentCache fFileContentCache;
 
 	/**
 	 * @return Returns the search plugin instance.
@@ -58,7 +63,12 @@ public class SearchCorePlugin extends Plugin {
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
-		// do nothing
+		synchronized (this) {
+			if (fFileContentCache != null) {
+				ResourcesPlugin.getWorkspace().removeResourceChangeListener(fFileContentCache);
+				fFileContentCache= null;
+			}
+		}
 	}
 
 	public TextSearchEngineRegistry getTextSearchEngineRegistry() {
@@ -68,6 +78,17 @@ public class SearchCorePlugin extends Plugin {
 		return fTextSearchEngineRegistry;
 	}
 
+	/**
+	 * @return the cache for file contents shared by the text search engines
+	 */
+	public synchronized FileContentCache getFileContentCache() {
+		if (fFileContentCache == null) {
+			fFileContentCache= new FileContentCache();
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(fFileContentCache, IResourceChangeEvent.POST_CHANGE);
+		}
+		return fFileContentCache;
+	}
+
 	public DirtyFileProvider getDirtyFileDiscovery() {
 		if (fDirtyFileSearchParticipant == null) {
 			this.fDirtyFileSearchParticipantTracker.open();
@@ -38,8 +38,22 @@ public class FileCharSequenceProvider {
 
 	private FileCharSequence fReused= null;
 
+	private final FileContentCache fContentCache;
+
+	public FileCharSequenceProvider() {
+		this(null);
+	}
+
+	/**
+	 * @param contentCache cache to take the content of short files from, or <code>null</code>
+	 *            to always read the files
+	 */
+	public FileCharSequenceProvider(FileContentCache contentCache) {
+		fContentCache= contentCache;
+	}
+
 	public CharSequence newCharSequence(IFile file) throws CoreException, IOException {
-		String string = toShortString(file);
+		String string = fContentCache != null ? fContentCache.getContent(file) : toShortString(file);
 		if (string != null) {
 			return string;
 		}
@@ -490,7 +504,7 @@ public class FileCharSequenceProvider {
 	 * Try to get a content as String. Avoids to scanning whole InputStream to
 	 * get length
 	 */
-	private static String toShortString(IFile file) {
+	static String toShortString(IFile file) {
 		try (InputStream contents = file.getContents()) {
 			byte[] content = contents.readNBytes(MAX_BUFFER_LENGTH);
 			int length = content.length;
@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.internal.core.text;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+
+import org.eclipse.search.internal.core.SearchCorePlugin;
+
+/**
+ * Cache for the decoded contents of workspace files, shared by the text search engines.
+ * Users typically run many searches in a row against a workspace that does not change in
+ * between, and without the cache every search reads and decodes all files again.
+ * <p>
+ * Only files that fit into a string of {@link FileCharSequenceProvider} are cached. An entry
+ * is used as long as the modification stamp of the file is unchanged, and entries are
+ * dropped when the workspace reports a change of content or encoding. The cache holds at
+ * most a fixed number of characters and drops the least recently used files when that limit
+ * is exceeded.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public class FileContentCache implements IResourceChangeListener {
+
+	/**
+	 * Default limit for the number of characters held by the cache.
+	 */
+	public static final long DEFAULT_MAX_CHARS= 16 * 1024 * 1024;
+
+	private static final class Entry {
+		final long fModificationStamp;
+		final String fContent;
+
+		Entry(long modificationStamp, String content) {
+			fModificationStamp= modificationStamp;
+			fContent= content;
+		}
+	}
+
+	private final long fMaxChars;
+	private final Map<IFile, Entry> fEntries= new LinkedHashMap<>(1000, 0.75f, true);
+	private long fSize; // Protected by this
+	private long fHits; // Protected by this
+	private long fMisses; // Protected by this
+	private long fEvictions; // Protected by this
+
+	private final IResourceDeltaVisitor fDeltaVisitor= delta -> {
+		IResource resource= delta.getResource();
+		if (resource.getType() == IResource.FILE) {
+			if (delta.getKind() == IResourceDelta.REMOVED || (delta.getFlags() & (IResourceDelta.CONTENT | IResourceDelta.ENCODING | IResourceDelta.REPLACED)) != 0) {
+				remove((IFile) resource);
+			}
+			return false;
+		}
+		if ((delta.getFlags() & IResourceDelta.ENCODING) != 0) {
+			// the default encoding of all files below the container may have changed
+			clear();
+			return false;
+		}
+		return true;
+	};
+
+	public FileContentCache() {
+		this(DEFAULT_MAX_CHARS);
+	}
+
+	public FileContentCache(long maxChars) {
+		fMaxChars= maxChars;
+	}
+
+	/**
+	 * Returns the content of the given file. The content is taken from the cache if the file
+	 * has not changed since it was cached, otherwise it is read from the file and added to the
+	 * cache.
+	 *
+	 * @param file the file to read
+	 * @return the content of the file, or <code>null</code> if the file is too large to be
+	 *         held in a string or could not be read
+	 */
+	public String getContent(IFile file) {
+		long modificationStamp= file.getModificationStamp();
+		synchronized (this) {
+			Entry entry= fEntries.get(file);
+			if (entry != null) {
+				if (entry.fModificationStamp == modificationStamp) {
+					fHits++;
+					return entry.fContent;
+				}
+				remove(file);
+			}
+			fMisses++;
+		}
+		String content= FileCharSequenceProvider.toShortString(file);
+		if (content != null && modificationStamp != IResource.NULL_STAMP) {
+			put(file, modificationStamp, content);
+		}
+		return content;
+	}
+
+	private synchronized void put(IFile file, long modificationStamp, String content) {
+		if (content.length() > fMaxChars) {
+			return;
+		}
+		Entry old= fEntries.put(file, new Entry(modificationStamp, content));
+		if (old != null) {
+			fSize-= old.fContent.length();
+		}
+		fSize+= content.length();
+		Iterator<Entry> iter= fEntries.values().iterator();
+		while (fSize > fMaxChars && iter.hasNext()) {
+			fSize-= iter.next().fContent.length();
+			iter.remove();
+			fEvictions++;
+		}
+	}
+
+	private synchronized void remove(IFile file) {
+		Entry entry= fEntries.remove(file);
+		if (entry != null) {
+			fSize-= entry.fContent.length();
+		}
+	}
+
+	/**
+	 * Removes all entries from the cache. The statistics are not reset.
+	 */
+	public synchronized void clear() {
+		fEntries.clear();
+		fSize= 0;
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta= event.getDelta();
+		if (delta == null) {
+			return;
+		}
+		synchronized (this) {
+			if (fEntries.isEmpty()) {
+				return;
+			}
+		}
+		try {
+			delta.accept(fDeltaVisitor);
+		} catch (CoreException e) {
+			SearchCorePlugin.log(e);
+			clear();
+		}
+	}
+
+	/**
+	 * @return the number of requests answered from the cache
+	 */
+	public synchronized long getHitCount() {
+		return fHits;
+	}
+
+	/**
+	 * @return the number of requests that had to read the file
+	 */
+	public synchronized long getMissCount() {
+		return fMisses;
+	}
+
+	/**
+	 * @return the number of entries dropped to stay within the size limit
+	 */
+	public synchronized long getEvictionCount() {
+		return fEvictions;
+	}
+
+	/**
+	 * @return the ratio of requests answered from the cache, between 0 and 1
+	 */
+	public synchronized double getHitRate() {
+		long requests= fHits + fMisses;
+		return requests == 0 ? 0 : (double) fHits / requests;
+	}
+
+	/**
+	 * @return the number of cached files
+	 */
+	public synchronized int getEntryCount() {
+		return fEntries.size();
+	}
+
+	/**
+	 * @return the estimated number of bytes used by the cached contents, assuming two bytes
+	 *         per character
+	 */
+	public synchronized long getMemoryUsage() {
+		return fSize * 2;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return String.format("FileContentCache [files=%d, memory=%dKB, hitRate=%.1f%%, evictions=%d]", //$NON-NLS-1$
+				Integer.valueOf(fEntries.size()), Long.valueOf(getMemoryUsage() / 1024),
+				Double.valueOf(getHitRate() * 100), Long.valueOf(fEvictions));
+	}
+}
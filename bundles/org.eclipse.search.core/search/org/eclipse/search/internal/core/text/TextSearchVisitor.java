@@ -167,7 +167,7 @@ public class TextSearchVisitor {
 					new MultiStatus(SearchCorePlugin.PLUGIN_ID, IStatus.OK,
 							SearchCoreMessages.TextSearchEngine_statusMessage, null);
 			SubMonitor subMonitor = SubMonitor.convert(inner, fileBatches.size() / jobCount); // approximate
-			this.fileCharSequenceProvider= new FileCharSequenceProvider();
+			this.fileCharSequenceProvider= new FileCharSequenceProvider(SearchCorePlugin.getDefault().getFileContentCache());
 			List<IFile> sameFiles;
 			while (((sameFiles = fileBatches.poll()) != null) && !fFatalError && !fProgressMonitor.isCanceled()) {
 				IStatus status = processFile(sameFiles, subMonitor.split(1));
@@ -418,6 +418,7 @@ public class TextSearchVisitor {
 				Object[] args= { Integer.valueOf(fNumberOfScannedFiles), Integer.valueOf(jobCount), Integer.valueOf(NUMBER_OF_LOGICAL_THREADS), Long.valueOf(System.currentTimeMillis() - startTime) };
 				System.out.println(MessageFormat.format(
 						"[TextSearch] Search duration for {0} files in {1} jobs using {2} threads: {3}ms", args)); //$NON-NLS-1$
+				System.out.println("[TextSearch] " + SearchCorePlugin.getDefault().getFileContentCache()); //$NON-NLS-1$
 			}
 		}
 	}
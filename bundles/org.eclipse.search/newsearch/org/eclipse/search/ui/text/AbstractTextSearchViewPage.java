@@ -150,10 +150,13 @@ public abstract class AbstractTextSearchViewPage extends Page implements ISearch
 				// disposed the control while the UI was posted.
 				return Status.OK_STATUS;
 			}
+			long start= System.currentTimeMillis();
 			runBatchedClear();
 			runBatchedUpdates();
+			long elapsed= System.currentTimeMillis() - start;
 			if (hasMoreUpdates() || isQueryRunning()) {
-				schedule(500);
+				// keep the UI thread responsive if applying a batch is expensive
+				schedule(Math.max(UPDATE_INTERVAL, elapsed * 2));
 			} else {
 				fIsUIUpdateScheduled= false;
 				turnOnDecoration();
@@ -214,6 +217,12 @@ public abstract class AbstractTextSearchViewPage extends Page implements ISearch
 
 	}
 
+	/**
+	 * Minimum delay in milliseconds between two batched viewer updates while
+	 * a query is running.
+	 */
+	private static final long UPDATE_INTERVAL= 500;
+
 	private volatile boolean fIsUIUpdateScheduled= false;
 	private volatile boolean fScheduleEnsureSelection= false;
 	private static final String KEY_LAYOUT = "org.eclipse.search.resultpage.layout"; //$NON-NLS-1$
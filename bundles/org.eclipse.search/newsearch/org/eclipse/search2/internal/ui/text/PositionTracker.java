@@ -13,9 +13,15 @@
  *******************************************************************************/
 package org.eclipse.search2.internal.ui.text;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IPath;
@@ -31,7 +37,10 @@ import org.eclipse.core.filebuffers.ITextFileBuffer;
 import org.eclipse.core.filebuffers.LocationKind;
 
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.BadPositionCategoryException;
+import org.eclipse.jface.text.DefaultPositionUpdater;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IPositionUpdater;
 import org.eclipse.jface.text.Position;
 
 import org.eclipse.search.internal.ui.SearchPlugin;
@@ -50,6 +59,19 @@ import org.eclipse.search.ui.text.RemoveAllEvent;
 
 public class PositionTracker implements IQueryListener, ISearchResultListener, IFileBufferListener {
 
+	/**
+	 * Position category for the tracked matches. Keeping the matches out of the default
+	 * category allows to drop all positions of a document at once, and avoids that other
+	 * clients of the default category pay for the search matches on every document change.
+	 */
+	private static final String POSITION_CATEGORY= "org.eclipse.search.trackedMatches"; //$NON-NLS-1$
+
+	private static final class MatchPositionUpdater extends DefaultPositionUpdater {
+		MatchPositionUpdater() {
+			super(POSITION_CATEGORY);
+		}
+	}
+
 	private Map<Match, Position> fMatchesToPositions= new HashMap<>();
 	private Map<Match, AbstractTextSearchResult> fMatchesToSearchResults= new HashMap<>();
 	private Map<ITextFileBuffer, Set<Match>> fFileBuffersToMatches= new HashMap<>();
@@ -110,47 +132,133 @@ public class PositionTracker implements IQueryListener, ISearchResultListener, I
 	}
 
 	private void untrackAll(AbstractTextSearchResult result) {
-		Set<Match> matchSet= new HashSet<>(fMatchesToPositions.keySet());
-		for (Match match : matchSet) {
-			AbstractTextSearchResult matchContainer= fMatchesToSearchResults.get(match);
-			if (result.equals(matchContainer)) {
-				ITextFileBuffer fb= getTrackedFileBuffer(result, match.getElement());
-				if (fb != null) {
+		for (ITextFileBuffer fb : new ArrayList<>(fFileBuffersToMatches.keySet())) {
+			Set<Match> matches= fFileBuffersToMatches.get(fb);
+			List<Match> toRemove= new ArrayList<>();
+			for (Match match : matches) {
+				if (result.equals(fMatchesToSearchResults.get(match))) {
+					toRemove.add(match);
+				}
+			}
+			if (toRemove.size() == matches.size()) {
+				untrackAll(fb);
+			} else {
+				for (Match match : toRemove) {
 					untrackPosition(fb, match);
 				}
 			}
 		}
 	}
 
+	/**
+	 * Stops tracking all matches in the given buffer. The positions are removed from the
+	 * document at once by dropping the position category.
+	 */
+	private void untrackAll(ITextFileBuffer fb) {
+		Set<Match> matches= fFileBuffersToMatches.remove(fb);
+		if (matches != null) {
+			for (Match match : matches) {
+				fMatchesToSearchResults.remove(match);
+				fMatchesToPositions.remove(match);
+			}
+		}
+		removePositionCategory(fb.getDocument());
+	}
+
 	private void untrackPosition(ITextFileBuffer fb, Match match) {
 		Position position= fMatchesToPositions.get(match);
 		if (position != null) {
 			removeFileBufferMapping(fb, match);
 			fMatchesToSearchResults.remove(match);
 			fMatchesToPositions.remove(match);
-			fb.getDocument().removePosition(position);
+			try {
+				fb.getDocument().removePosition(POSITION_CATEGORY, position);
+			} catch (BadPositionCategoryException e) {
+				// the category has already been removed
+			}
 		}
 	}
 
 	private void trackPosition(AbstractTextSearchResult result, ITextFileBuffer fb, Match match) {
-		int offset = match.getOffset();
-		int length = match.getLength();
-		if (offset < 0 || length < 0)
-			return;
+		trackPositions(fb, Collections.singletonMap(match, result));
+	}
+
+	/**
+	 * Starts tracking the given matches in the buffer. The positions are added to the document
+	 * in the order of their offsets, so that each of them is appended to the end of the sorted
+	 * position list of the document.
+	 *
+	 * @param fb the buffer of the file containing the matches
+	 * @param matches the matches to track, mapped to the search result that contains them
+	 */
+	private void trackPositions(ITextFileBuffer fb, Map<Match, AbstractTextSearchResult> matches) {
+		IDocument doc= fb.getDocument();
+		List<Match> tracked= new ArrayList<>(matches.size());
+		List<Position> positions= new ArrayList<>(matches.size());
+		for (Entry<Match, AbstractTextSearchResult> entry : matches.entrySet()) {
+			Match match= entry.getKey();
+			int offset = match.getOffset();
+			int length = match.getLength();
+			if (offset < 0 || length < 0)
+				continue;
 
-		try {
-			IDocument doc= fb.getDocument();
 			Position position= new Position(offset, length);
 			if (match.getBaseUnit() == Match.UNIT_LINE) {
-				position= convertToCharacterPosition(position, doc);
+				try {
+					position= convertToCharacterPosition(position, doc);
+				} catch (BadLocationException e) {
+					// the match is outside the document
+					entry.getValue().removeMatch(match);
+					continue;
+				}
+			}
+			tracked.add(match);
+			positions.add(position);
+		}
+		Integer[] order= new Integer[positions.size()];
+		for (int i= 0; i < order.length; i++) {
+			order[i]= Integer.valueOf(i);
+		}
+		Arrays.sort(order, Comparator.comparingInt(i -> positions.get(i.intValue()).getOffset()));
+
+		ensurePositionCategory(doc);
+		for (Integer i : order) {
+			Match match= tracked.get(i.intValue());
+			Position position= positions.get(i.intValue());
+			try {
+				doc.addPosition(POSITION_CATEGORY, position);
+				fMatchesToSearchResults.put(match, matches.get(match));
+				fMatchesToPositions.put(match, position);
+				addFileBufferMapping(fb, match);
+			} catch (BadLocationException e) {
+				// the match is outside the document
+				matches.get(match).removeMatch(match);
+			} catch (BadPositionCategoryException e) {
+				// cannot happen, the category has been added above
+				SearchPlugin.log(e);
+			}
+		}
+	}
+
+	private static void ensurePositionCategory(IDocument doc) {
+		if (!doc.containsPositionCategory(POSITION_CATEGORY)) {
+			doc.addPositionCategory(POSITION_CATEGORY);
+			doc.addPositionUpdater(new MatchPositionUpdater());
+		}
+	}
+
+	private static void removePositionCategory(IDocument doc) {
+		if (doc.containsPositionCategory(POSITION_CATEGORY)) {
+			try {
+				doc.removePositionCategory(POSITION_CATEGORY);
+			} catch (BadPositionCategoryException e) {
+				// already removed
+			}
+		}
+		for (IPositionUpdater updater : doc.getPositionUpdaters()) {
+			if (updater instanceof MatchPositionUpdater) {
+				doc.removePositionUpdater(updater);
 			}
-			doc.addPosition(position);
-			fMatchesToSearchResults.put(match, result);
-			fMatchesToPositions.put(match, position);
-			addFileBufferMapping(fb, match);
-		} catch (BadLocationException e) {
-			// the match is outside the document
-			result.removeMatch(match);
 		}
 	}
 
@@ -237,7 +345,6 @@ public class PositionTracker implements IQueryListener, ISearchResultListener, I
 	// IFileBufferListener implementation ---------------------------------------------------------------------
 	@Override
 	public void bufferCreated(IFileBuffer buffer) {
-		final int[] trackCount= new int[1];
 		if (!(buffer instanceof ITextFileBuffer))
 			return;
 
@@ -249,6 +356,7 @@ public class PositionTracker implements IQueryListener, ISearchResultListener, I
 		if (file == null)
 			return;
 
+		Map<Match, AbstractTextSearchResult> toTrack= new HashMap<>();
 		ISearchQuery[] queries= NewSearchUI.getQueries();
 		for (ISearchQuery query : queries) {
 			ISearchResult result = query.getSearchResult();
@@ -258,12 +366,14 @@ public class PositionTracker implements IQueryListener, ISearchResultListener, I
 				if (adapter != null) {
 					Match[] matches = adapter.computeContainedMatches(textResult, file);
 					for (Match match : matches) {
-						trackCount[0]++;
-						trackPosition((AbstractTextSearchResult) result, (ITextFileBuffer) buffer, match);
+						toTrack.put(match, textResult);
 					}
 				}
 			}
 		}
+		if (!toTrack.isEmpty()) {
+			trackPositions((ITextFileBuffer) buffer, toTrack);
+		}
 	}
 
 	private void doForExistingMatchesIn(IFileBuffer buffer, IFileBufferMatchOperation operation) {
@@ -281,11 +391,9 @@ public class PositionTracker implements IQueryListener, ISearchResultListener, I
 
 	@Override
 	public void bufferDisposed(IFileBuffer buffer) {
-		final int[] trackCount= new int[1];
-		doForExistingMatchesIn(buffer, (textBuffer, match) -> {
-			trackCount[0]++;
-			untrackPosition(textBuffer, match);
-		});
+		if (buffer instanceof ITextFileBuffer) {
+			untrackAll((ITextFileBuffer) buffer);
+		}
 	}
 
 	@Override
@@ -295,13 +403,18 @@ public class PositionTracker implements IQueryListener, ISearchResultListener, I
 
 	@Override
 	public void bufferContentReplaced(IFileBuffer buffer) {
-		final int[] trackCount= new int[1];
-		doForExistingMatchesIn(buffer, (textBuffer, match) -> {
-			trackCount[0]++;
-			AbstractTextSearchResult result= fMatchesToSearchResults.get(match);
-			untrackPosition(textBuffer, match);
-			trackPosition(result, textBuffer, match);
-		});
+		if (!(buffer instanceof ITextFileBuffer))
+			return;
+		ITextFileBuffer textBuffer= (ITextFileBuffer) buffer;
+		Set<Match> matches= fFileBuffersToMatches.get(textBuffer);
+		if (matches == null)
+			return;
+		Map<Match, AbstractTextSearchResult> toTrack= new HashMap<>();
+		for (Match match : matches) {
+			toTrack.put(match, fMatchesToSearchResults.get(match));
+		}
+		untrackAll(textBuffer);
+		trackPositions(textBuffer, toTrack);
 	}
 
 	@Override
@@ -313,9 +426,9 @@ public class PositionTracker implements IQueryListener, ISearchResultListener, I
 	public void dirtyStateChanged(IFileBuffer buffer, boolean isDirty) {
 		if (isDirty)
 			return;
-		final int[] trackCount= new int[1];
+		// Match offsets are plain fields read by many clients, so the tracked positions are
+		// written back to all matches of the buffer when it is saved, not on access.
 		doForExistingMatchesIn(buffer, (textBuffer, match) -> {
-			trackCount[0]++;
 			Position pos= fMatchesToPositions.get(match);
 			if (pos != null) {
 				if (pos.isDeleted()) {
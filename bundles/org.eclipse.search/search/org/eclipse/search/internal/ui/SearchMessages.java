@@ -207,6 +207,7 @@ public final class SearchMessages extends NLS {
 	public static String SearchPreferencePage_defaultPerspective_none;
 	public static String SearchPreferencePage_ignorePotentialMatches;
 	public static String SearchPreferencePage_rememberLastUsedPage;
+	public static String SearchPreferencePage_virtualResultTree;
 	public static String ReplaceAction_label_all;
 	public static String ReplaceAction_label_selected;
 	public static String SelectAllAction_label;
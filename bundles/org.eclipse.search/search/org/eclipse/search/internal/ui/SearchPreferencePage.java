@@ -56,6 +56,7 @@ public class SearchPreferencePage extends FieldEditorPreferencePage implements I
 	public static final String TEXT_SEARCH_ENGINE = TextSearchEngineRegistry.PREFERENCE_ENGINE_KEY;
 	public static final String TEXT_SEARCH_QUERY_PROVIDER = "org.eclipse.search.textSearchQueryProvider"; //$NON-NLS-1$
 	public static final String LIMIT_HISTORY= "org.eclipse.search.limitHistory"; //$NON-NLS-1$
+	public static final String VIRTUAL_RESULT_TREE= "org.eclipse.search.virtualResultTree"; //$NON-NLS-1$
 
 	private ColorFieldEditor fColorEditor;
 	private BooleanFieldEditor fEmphasizedCheckbox;
@@ -91,6 +92,7 @@ public class SearchPreferencePage extends FieldEditorPreferencePage implements I
 		store.setDefault(TEXT_SEARCH_ENGINE, ""); //default search engine is empty string //$NON-NLS-1$
 		store.setDefault(TEXT_SEARCH_QUERY_PROVIDER, ""); // default query provider is empty string  //$NON-NLS-1$
 		store.setDefault(LIMIT_HISTORY, 10);
+		store.setDefault(VIRTUAL_RESULT_TREE, false);
 	}
 
 
@@ -115,6 +117,8 @@ public class SearchPreferencePage extends FieldEditorPreferencePage implements I
 				SearchMessages.SearchPreferencePage_rememberLastUsedPage, getFieldEditorParent());
 		addField(fRememberLastUsedPageCheckbox);
 
+		addField(new BooleanFieldEditor(VIRTUAL_RESULT_TREE, SearchMessages.SearchPreferencePage_virtualResultTree, getFieldEditorParent()));
+
 		fEmphasizedCheckbox= new BooleanFieldEditor(
 			EMPHASIZE_POTENTIAL_MATCHES,
 			SearchMessages.SearchPreferencePage_emphasizePotentialMatches,
@@ -244,6 +248,11 @@ public class SearchPreferencePage extends FieldEditorPreferencePage implements I
 		return store.getBoolean(REMEMBER_LAST_USED_PAGE);
 	}
 
+	public static boolean isVirtualResultTreeUsed() {
+		IPreferenceStore store= SearchPlugin.getDefault().getPreferenceStore();
+		return store.getBoolean(VIRTUAL_RESULT_TREE);
+	}
+
 	public static boolean arePotentialMatchesEmphasized() {
 		IPreferenceStore store= SearchPlugin.getDefault().getPreferenceStore();
 		return store.getBoolean(EMPHASIZE_POTENTIAL_MATCHES);
@@ -52,6 +52,7 @@ import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.jface.viewers.ViewerComparator;
 import org.eclipse.search.internal.ui.Messages;
 import org.eclipse.search.internal.ui.SearchMessages;
+import org.eclipse.search.internal.ui.SearchPreferencePage;
 import org.eclipse.search.ui.IContextMenuConstants;
 import org.eclipse.search.ui.ISearchResultViewPart;
 import org.eclipse.search.ui.NewSearchUI;
@@ -59,8 +60,10 @@ import org.eclipse.search.ui.text.AbstractTextSearchResult;
 import org.eclipse.search.ui.text.AbstractTextSearchViewPage;
 import org.eclipse.search.ui.text.Match;
 import org.eclipse.search2.internal.ui.OpenSearchPreferencesAction;
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.dnd.DND;
 import org.eclipse.swt.dnd.Transfer;
+import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Item;
 import org.eclipse.swt.widgets.Table;
@@ -172,13 +175,26 @@ public class FileSearchPage extends AbstractTextSearchViewPage implements IAdapt
 		addDragAdapters(viewer);
 	}
 
+	@Override
+	protected TreeViewer createTreeViewer(Composite parent) {
+		if (SearchPreferencePage.isVirtualResultTreeUsed()) {
+			return new TreeViewer(parent, SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL | SWT.VIRTUAL);
+		}
+		return super.createTreeViewer(parent);
+	}
+
 	@Override
 	protected void configureTreeViewer(TreeViewer viewer) {
 		viewer.setUseHashlookup(true);
 		FileLabelProvider innerLabelProvider= new FileLabelProvider(this, FileLabelProvider.SHOW_LABEL);
 		viewer.setLabelProvider(new DecoratingFileSearchLabelProvider(innerLabelProvider));
-		viewer.setContentProvider(new FileTreeContentProvider(this, viewer));
-		viewer.setComparator(new DecoratorIgnoringViewerSorter(innerLabelProvider));
+		if (isVirtual(viewer)) {
+			// the lazy content provider sorts the children itself
+			viewer.setContentProvider(new LazyFileTreeContentProvider(this, viewer));
+		} else {
+			viewer.setContentProvider(new FileTreeContentProvider(this, viewer));
+			viewer.setComparator(new DecoratorIgnoringViewerSorter(innerLabelProvider));
+		}
 		fContentProvider= (IFileSearchContentProvider) viewer.getContentProvider();
 		addDragAdapters(viewer);
 		viewer.addTreeListener(new ITreeViewerListener() {
@@ -193,6 +209,10 @@ public class FileSearchPage extends AbstractTextSearchViewPage implements IAdapt
 		});
 	}
 
+	private static boolean isVirtual(TreeViewer viewer) {
+		return (viewer.getTree().getStyle() & SWT.VIRTUAL) != 0;
+	}
+
 	/**
 	 * Performs an auto-expansion starting at the given element in the viewer.
 	 * As long as the object only has one unexpanded child, auto-expand will
@@ -482,6 +502,10 @@ public class FileSearchPage extends AbstractTextSearchViewPage implements IAdapt
 	}
 
 	private Object[] getRootElements(TreeViewer viewer) {
+		if (isVirtual(viewer)) {
+			// items of a virtual tree are not necessarily materialized
+			return ((ITreeContentProvider) viewer.getContentProvider()).getElements(getInput());
+		}
 		Tree t = viewer.getTree();
 		Item[] roots = t.getItems();
 		Object[] elements = new Object[roots.length];
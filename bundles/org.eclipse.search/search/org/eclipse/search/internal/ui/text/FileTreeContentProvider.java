@@ -66,10 +66,14 @@ public class FileTreeContentProvider implements ITreeContentProvider, IFileSearc
 		return children;
 	}
 
-	private int getElementLimit() {
+	int getElementLimit() {
 		return fPage.getElementLimit().intValue();
 	}
 
+	AbstractTextSearchResult getResult() {
+		return fResult;
+	}
+
 	@Override
 	public void dispose() {
 		// nothing to do
@@ -132,7 +136,7 @@ public class FileTreeContentProvider implements ITreeContentProvider, IFileSearc
 	 * @return <code>true</code> if this set did not already contain the specified element
 
 	 */
-	private boolean insertChild(Object parent, Object child) {
+	protected boolean insertChild(Object parent, Object child) {
 		Set<Object> children= fChildrenMap.get(parent);
 		if (children == null) {
 			children= new HashSet<>();
@@ -190,7 +194,7 @@ public class FileTreeContentProvider implements ITreeContentProvider, IFileSearc
 				: fResult.getMatchCount();
 	}
 
-	private void removeFromSiblings(Object element, Object parent) {
+	protected void removeFromSiblings(Object element, Object parent) {
 		Set<Object> siblings= fChildrenMap.get(parent);
 		if (siblings != null) {
 			siblings.remove(element);
@@ -239,7 +243,7 @@ public class FileTreeContentProvider implements ITreeContentProvider, IFileSearc
 	 */
 	@Override
 	public synchronized void elementsChanged(Object[] updatedElements) {
-		boolean singleElement = updatedElements.length == 1;
+		boolean singleElement = isIncrementalUpdate(updatedElements);
 		Set<LineElement> lineMatches = Collections.emptySet();
 		// if we have active match filters, we should only use non-filtered FileMatch
 		// objects to collect LineElements to update
@@ -287,11 +291,30 @@ public class FileTreeContentProvider implements ITreeContentProvider, IFileSearc
 			}
 		} finally {
 			if (updatedElements.length > 0 && !singleElement) {
-				fTreeViewer.refresh();
+				refreshViewer();
 			}
 		}
 	}
 
+	/**
+	 * Returns whether the viewer is updated element by element while the given
+	 * elements are processed. Otherwise the viewer is refreshed once with
+	 * {@link #refreshViewer()} after all elements have been processed.
+	 *
+	 * @param updatedElements the elements that changed
+	 * @return <code>true</code> if the viewer should be updated incrementally
+	 */
+	protected boolean isIncrementalUpdate(Object[] updatedElements) {
+		return updatedElements.length == 1;
+	}
+
+	/**
+	 * Refreshes the viewer after a batch of changes has been applied.
+	 */
+	protected void refreshViewer() {
+		fTreeViewer.refresh();
+	}
+
 	@Override
 	public void clear() {
 		initialize(fResult);
@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.internal.ui.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.jface.util.Policy;
+import org.eclipse.jface.viewers.ILazyTreeContentProvider;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.Viewer;
+
+/**
+ * Tree content provider for a tree viewer created with the
+ * {@link org.eclipse.swt.SWT#VIRTUAL} style.
+ * <p>
+ * Lazy viewers do not support viewer comparators, so the children of every
+ * parent that has been shown are kept in a sorted list. New children are
+ * inserted at their sorted position as they are reported by the search, so a
+ * parent is sorted only once, when it is first shown. Changes are collected and
+ * applied to the viewer once per batch, where only the child counts of changed
+ * parents are updated and the tree items are materialized on demand.
+ * </p>
+ */
+public class LazyFileTreeContentProvider extends FileTreeContentProvider implements ILazyTreeContentProvider {
+
+	private final TreeViewer fTreeViewer;
+	private final Map<Object, List<Object>> fSortedChildren= new HashMap<>();
+	private final Set<Object> fChangedParents= new HashSet<>();
+	private final Set<Object> fUpdatedElements= new HashSet<>();
+	private final Comparator<Object> fComparator= this::compare;
+	private int fFirstChangedRootIndex= Integer.MAX_VALUE;
+
+	LazyFileTreeContentProvider(FileSearchPage page, TreeViewer viewer) {
+		super(page, viewer);
+		fTreeViewer= viewer;
+	}
+
+	@Override
+	public synchronized void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+		resetCaches();
+		super.inputChanged(viewer, oldInput, newInput);
+		resetChanges();
+	}
+
+	@Override
+	public synchronized void updateElement(Object parent, int index) {
+		List<Object> children= getSortedChildren(parent);
+		if (index < children.size()) {
+			Object child= children.get(index);
+			fTreeViewer.replace(parent, index, child);
+			updateChildCount(child, -1);
+		}
+	}
+
+	@Override
+	public synchronized void updateChildCount(Object element, int currentChildCount) {
+		int count= getChildCount(element);
+		if (count != currentChildCount) {
+			fTreeViewer.setChildCount(element, count);
+		}
+	}
+
+	private int getChildCount(Object element) {
+		if (element instanceof LineElement) {
+			// line elements are leaves, do not keep a sorted list for each of them
+			return 0;
+		}
+		int count= getSortedChildren(element).size();
+		int elementLimit= getElementLimit();
+		if (element == getResult() && elementLimit != -1 && elementLimit < count) {
+			return elementLimit;
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the sorted children of the given parent. The list is remembered, so
+	 * that new children can be inserted at their sorted position. Parents without
+	 * children are not remembered, their list is created when they are asked for
+	 * their children after children have been added.
+	 */
+	private List<Object> getSortedChildren(Object parent) {
+		List<Object> sorted= fSortedChildren.get(parent);
+		if (sorted == null) {
+			Object[] children= getChildren(parent);
+			if (children.length == 0) {
+				return Collections.emptyList();
+			}
+			Arrays.sort(children, fComparator);
+			sorted= new ArrayList<>(Arrays.asList(children));
+			fSortedChildren.put(parent, sorted);
+		}
+		return sorted;
+	}
+
+	@Override
+	protected boolean insertChild(Object parent, Object child) {
+		if (!super.insertChild(parent, child)) {
+			fUpdatedElements.add(child);
+			return false;
+		}
+		List<Object> sorted= fSortedChildren.get(parent);
+		if (sorted != null) {
+			int index= Collections.binarySearch(sorted, child, fComparator);
+			if (index < 0) {
+				index= -index - 1;
+			}
+			sorted.add(index, child);
+			rootChildrenChanged(parent, index);
+		}
+		fChangedParents.add(parent);
+		return true;
+	}
+
+	@Override
+	protected void removeFromSiblings(Object element, Object parent) {
+		super.removeFromSiblings(element, parent);
+		List<Object> sorted= fSortedChildren.get(parent);
+		if (sorted != null) {
+			int index= Collections.binarySearch(sorted, element, fComparator);
+			if (index < 0 || !sorted.get(index).equals(element)) {
+				index= sorted.indexOf(element);
+			}
+			if (index >= 0) {
+				sorted.remove(index);
+				rootChildrenChanged(parent, index);
+			}
+		}
+		fSortedChildren.remove(element);
+		fUpdatedElements.remove(element);
+		fChangedParents.add(parent);
+	}
+
+	@Override
+	protected boolean isIncrementalUpdate(Object[] updatedElements) {
+		return false;
+	}
+
+	/**
+	 * Remembers the first position of the input's children that has changed, so
+	 * that only the items from there on have to be replaced.
+	 */
+	private void rootChildrenChanged(Object parent, int index) {
+		if (parent == getResult()) {
+			fFirstChangedRootIndex= Math.min(fFirstChangedRootIndex, index);
+		}
+	}
+
+	@Override
+	protected void refreshViewer() {
+		Object root= getResult();
+		for (Object parent : fChangedParents) {
+			int count= getChildCount(parent);
+			fTreeViewer.setChildCount(parent, count);
+			if (parent == root) {
+				// refreshing the input would clear all items of the tree, only
+				// replace the top level items that now show another element
+				List<Object> sorted= fSortedChildren.get(root);
+				if (sorted != null) {
+					for (int i= fFirstChangedRootIndex; i < count; i++) {
+						fTreeViewer.replace(root, i, sorted.get(i));
+					}
+				}
+			} else {
+				fTreeViewer.refresh(parent);
+			}
+		}
+		fChangedParents.remove(root);
+		fUpdatedElements.addAll(fChangedParents);
+		fTreeViewer.update(fUpdatedElements.toArray(), null);
+		resetChanges();
+	}
+
+	@Override
+	public synchronized void clear() {
+		resetCaches();
+		super.clear();
+		resetChanges();
+	}
+
+	private void resetChanges() {
+		fChangedParents.clear();
+		fUpdatedElements.clear();
+		fFirstChangedRootIndex= Integer.MAX_VALUE;
+	}
+
+	private void resetCaches() {
+		fSortedChildren.clear();
+	}
+
+	/**
+	 * Compares two children of the same parent. Unlike the
+	 * {@link FileSearchPage.DecoratorIgnoringViewerSorter} used for regular
+	 * viewers, the order does not depend on the match counts shown in the
+	 * labels, so the position of an element stays stable while matches are
+	 * added.
+	 */
+	private int compare(Object e1, Object e2) {
+		int cat1= category(e1);
+		int cat2= category(e2);
+		if (cat1 != cat2) {
+			return cat1 - cat2;
+		}
+		if (e1 instanceof LineElement && e2 instanceof LineElement) {
+			return ((LineElement) e1).getOffset() - ((LineElement) e2).getOffset();
+		}
+		if (e1 instanceof IResource && e2 instanceof IResource) {
+			String name1= BasicElementLabels.getResourceName((IResource) e1);
+			String name2= BasicElementLabels.getResourceName((IResource) e2);
+			return Policy.getComparator().compare(name1, name2);
+		}
+		return 0;
+	}
+
+	private static int category(Object element) {
+		return element instanceof IContainer ? 1 : 2;
+	}
+}
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.quicksearch.internal.core;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+
+/**
+ * Remembers where the lines of the files read during a quick search session start and end,
+ * so that a changed query can be evaluated again without splitting the files into lines
+ * again. This matters when a query is widened (e.g. by deleting characters), because then
+ * the already found matches are not sufficient and all files have to be searched again.
+ * <p>
+ * The text itself is not copied by this cache. It is obtained from the content cache shared
+ * with the file search, and an entry is only used as long as that cache returns the very
+ * same content it was computed from. A changed file therefore never uses stale line bounds.
+ * Since an entry keeps its content reachable, the cache holds the lines of at most a fixed
+ * number of characters and drops the least recently used files when that limit is exceeded.
+ * <p>
+ * This class is thread safe.
+ */
+public class LineCache {
+
+	/**
+	 * The bounds of the lines of a file. Line <code>i</code> starts at <code>starts[i]</code>
+	 * and ends before <code>ends[i]</code>, excluding the line delimiter.
+	 */
+	public static final class Lines {
+		final String content;
+		final int[] starts;
+		final int[] ends;
+
+		Lines(String content, int[] starts, int[] ends) {
+			this.content = content;
+			this.starts = starts;
+			this.ends = ends;
+		}
+
+		public int getLineCount() {
+			return starts.length;
+		}
+
+		public String getLine(int i) {
+			return content.substring(starts[i], ends[i]);
+		}
+
+		public int getOffset(int i) {
+			return starts[i];
+		}
+	}
+
+	/**
+	 * Default limit for the number of characters covered by a cache.
+	 */
+	public static final long DEFAULT_MAX_CHARS = 16 * 1024 * 1024;
+
+	private final long maxChars;
+	private final Map<IFile, Lines> entries = new LinkedHashMap<>(1000, 0.75f, true);
+	private long size = 0;
+
+	public LineCache() {
+		this(DEFAULT_MAX_CHARS);
+	}
+
+	public LineCache(long maxChars) {
+		this.maxChars = maxChars;
+	}
+
+	/**
+	 * Returns the lines of the given content of a file, splitting the content if it is not
+	 * cached yet. Lines are delimited like {@link org.eclipse.text.quicksearch.internal.util.LineReader}
+	 * does. Splitting stops before the first line that is not shorter than
+	 * <code>maxLineLength</code>, as the searcher stops searching such files.
+	 */
+	public Lines get(IFile file, String content, int maxLineLength) {
+		synchronized (this) {
+			Lines cached = entries.get(file);
+			if (cached != null) {
+				if (cached.content == content) {
+					return cached;
+				}
+				remove(file);
+			}
+		}
+		Lines lines = split(content, maxLineLength);
+		put(file, lines);
+		return lines;
+	}
+
+	private static Lines split(String content, int maxLineLength) {
+		int[] starts = new int[64];
+		int[] ends = new int[64];
+		int count = 0;
+		int length = content.length();
+		int start = 0;
+		while (start < length) {
+			int end = start;
+			char c = 0;
+			while (end < length && (c = content.charAt(end)) != '\r' && c != '\n') {
+				end++;
+			}
+			if (end - start >= maxLineLength) {
+				break;
+			}
+			if (count == starts.length) {
+				starts = Arrays.copyOf(starts, count * 2);
+				ends = Arrays.copyOf(ends, count * 2);
+			}
+			starts[count] = start;
+			ends[count] = end;
+			count++;
+			start = end + 1;
+			if (c == '\r' && start < length && content.charAt(start) == '\n') {
+				start++;
+			}
+		}
+		return new Lines(content, Arrays.copyOf(starts, count), Arrays.copyOf(ends, count));
+	}
+
+	private synchronized void put(IFile file, Lines lines) {
+		if (lines.content.length() > maxChars) {
+			return;
+		}
+		Lines old = entries.put(file, lines);
+		if (old != null) {
+			size -= old.content.length();
+		}
+		size += lines.content.length();
+		Iterator<Lines> iter = entries.values().iterator();
+		while (size > maxChars && iter.hasNext()) {
+			size -= iter.next().content.length();
+			iter.remove();
+		}
+	}
+
+	private synchronized void remove(IFile file) {
+		Lines old = entries.remove(file);
+		if (old != null) {
+			size -= old.content.length();
+		}
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+		size = 0;
+	}
+}
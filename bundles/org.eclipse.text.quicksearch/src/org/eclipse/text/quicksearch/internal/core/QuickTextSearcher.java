@@ -13,9 +13,20 @@
 package org.eclipse.text.quicksearch.internal.core;
 
 import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
@@ -24,6 +35,7 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.search.internal.core.SearchCorePlugin;
 import org.eclipse.text.quicksearch.internal.core.pathmatch.ResourceMatcher;
 import org.eclipse.text.quicksearch.internal.core.pathmatch.ResourceMatchers;
 import org.eclipse.text.quicksearch.internal.core.priority.PriorityFunction;
@@ -46,6 +58,36 @@ public class QuickTextSearcher {
 	 */
 	private ISchedulingRule matchesRule = new LightSchedulingRule("QuickSearchMatchesRule"); //$NON-NLS-1$
 
+	/**
+	 * Number of files read in parallel by the walker. The matches are still reported in
+	 * the priority order of the files.
+	 */
+	private static final int BATCH_SIZE = 4 * Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * Threads reading the files of a batch. The files are read on a dedicated pool, rather
+	 * than on the common fork join pool, so that blocking file I/O cannot starve other users
+	 * of that pool. Idle threads terminate after a while.
+	 */
+	private static final ExecutorService READERS;
+	static {
+		int threads = Runtime.getRuntime().availableProcessors();
+		ThreadPoolExecutor readers = new ThreadPoolExecutor(threads, threads, 5, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), r -> {
+					Thread t = new Thread(r, "Quick Search File Reader"); //$NON-NLS-1$
+					t.setDaemon(true);
+					return t;
+				});
+		readers.allowCoreThreadTimeOut(true);
+		READERS = readers;
+	}
+
+	/**
+	 * Lines of the files read so far. When the query changes in a way that requires a full
+	 * restart of the search, the files are searched without being split into lines again.
+	 */
+	private final LineCache lineCache = new LineCache();
+
 	private SearchInFilesWalker walker = null;
 	private IncrementalUpdateJob incrementalUpdate;
 
@@ -124,6 +166,53 @@ public class QuickTextSearcher {
 
 	private final class SearchInFilesWalker extends ResourceWalker {
 
+		/**
+		 * Matches of the files in the current batch, computed in parallel by
+		 * {@link #prepareVisit(List, IProgressMonitor)}.
+		 */
+		private Map<IFile, List<LineItem>> prepared = Collections.emptyMap();
+
+		@Override
+		protected int getBatchSize() {
+			return BATCH_SIZE;
+		}
+
+		@Override
+		protected void prepareVisit(List<IFile> files, IProgressMonitor mon) {
+			Map<IFile, List<LineItem>> results = new ConcurrentHashMap<>();
+			List<Future<?>> futures = new ArrayList<>(files.size());
+			for (IFile f : files) {
+				futures.add(READERS.submit(() -> {
+					if (checkCanceled(mon)) {
+						return;
+					}
+					List<LineItem> found = search(f, mon);
+					if (found != null) {
+						results.put(f, found);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				if (checkCanceled(mon)) {
+					future.cancel(false);
+					continue;
+				}
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					// ignored, files without a result are searched again when visited
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					future.cancel(false);
+				}
+			}
+			prepared = results;
+		}
+
+		@Override
+		protected void finishVisit() {
+			prepared = Collections.emptyMap();
+		}
 
 		@Override
 		protected void visit(IFile f, IProgressMonitor mon) {
@@ -132,28 +221,65 @@ public class QuickTextSearcher {
 			}
 
 			currentFile = f;
+			try {
+				List<LineItem> found = prepared.get(f);
+				if (found == null) {
+					found = search(f, mon);
+				}
+				if (found != null) {
+					for (LineItem lineItem : found) {
+						add(lineItem);
+					}
+				}
+			} finally {
+				currentFile = null;
+			}
+		}
+
+		/**
+		 * Searches a file for lines matching the current query. This is called concurrently for
+		 * the files of a batch and must not modify the state of the searcher.
+		 *
+		 * @return the matching lines, or <code>null</code> if the search was canceled.
+		 */
+		private List<LineItem> search(IFile f, IProgressMonitor mon) {
+			List<LineItem> found = new ArrayList<>();
+			QuickTextQuery q = query;
+			// Read through the content cache shared with the file search, so that consecutive
+			// search sessions do not have to read unchanged files again.
+			String content = SearchCorePlugin.getDefault().getFileContentCache().getContent(f);
+			if (content != null) {
+				LineCache.Lines lines = lineCache.get(f, content, MAX_LINE_LEN);
+				for (int i = 0; i < lines.getLineCount(); i++) {
+					if (checkCanceled(mon)) {
+						return null;
+					}
+					String line = lines.getLine(i);
+					if (q.matchItem(line)) {
+						found.add(new LineItem(f, line, i + 1, lines.getOffset(i)));
+					}
+				}
+				return found;
+			}
 			try (LineReader lr = new LineReader(new InputStreamReader(f.getContents(true), f.getCharset()), MAX_LINE_LEN)) {
 				String line = null;
 				int lineIndex = 1;
 				while ((line = lr.readLine()) != null) {
 					int offset = lr.getLastLineOffset();
 					if (checkCanceled(mon)) {
-						return;
+						return null;
 					}
 
-					boolean found = query.matchItem(line);
-					if (found) {
+					if (q.matchItem(line)) {
 						LineItem lineItem = new LineItem(f, line, lineIndex, offset);
-						add(lineItem);
+						found.add(lineItem);
 					}
-
 					lineIndex++;
 				}
 			} catch (Exception e) {
 				// ignored
-			} finally {
-				currentFile = null;
 			}
+			return found;
 		}
 
 		@Override
@@ -318,6 +444,7 @@ public class QuickTextSearcher {
 			walker.cancel();
 			walker = null;
 		}
+		lineCache.clear();
 	}
 
 	public IFile getCurrentFile() {
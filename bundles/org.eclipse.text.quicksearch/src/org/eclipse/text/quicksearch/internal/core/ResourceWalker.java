@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.text.quicksearch.internal.core;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.PriorityQueue;
 
 import org.eclipse.core.resources.IContainer;
@@ -124,23 +126,9 @@ public abstract class ResourceWalker extends Job {
 			if (monitor.isCanceled()) {
 				queue = null;
 			} else {
-				IResource r = getWork();
-				if (r!=null) {
-					if (r instanceof IFile) {
-						IFile f = (IFile) r;
-						visit(f, monitor);
-					} else if (r instanceof IContainer) {
-						IContainer f = (IContainer) r;
-						if (f.isAccessible()) {
-							try {
-								for (IResource child : f.members()) {
-									enqueue(child);
-								}
-							} catch (CoreException e) {
-								QuickSearchActivator.log(e);
-							}
-						}
-					}
+				List<QItem> files = getFileWork(getBatchSize());
+				if (!files.isEmpty()) {
+					visitAll(files, monitor);
 				} else {
 					queue = null;
 				}
@@ -153,6 +141,33 @@ public abstract class ResourceWalker extends Job {
 		}
 	}
 
+	private void visitAll(List<QItem> files, IProgressMonitor monitor) {
+		if (files.size() > 1) {
+			List<IFile> batch = new ArrayList<>(files.size());
+			for (QItem item : files) {
+				batch.add((IFile) item.resource);
+			}
+			prepareVisit(batch, monitor);
+		}
+		try {
+			for (int i = 0; i < files.size(); i++) {
+				if (suspend || queue == null || monitor.isCanceled()) {
+					//Put back what was not visited yet so that a 'resume' continues with it.
+					PriorityQueue<QItem> q = queue;
+					if (q != null) {
+						q.addAll(files.subList(i, files.size()));
+					}
+					return;
+				}
+				visit((IFile) files.get(i).resource, monitor);
+			}
+		} finally {
+			if (files.size() > 1) {
+				finishVisit();
+			}
+		}
+	}
+
 	/**
 	 * Add a resource to the work queue taking account the priority of the resource.
 	 */
@@ -169,6 +184,34 @@ public abstract class ResourceWalker extends Job {
 
 	protected abstract void visit(IFile r, IProgressMonitor m);
 
+	/**
+	 * Number of files the walker takes from the work queue at once. The files of a batch are
+	 * announced to {@link #prepareVisit(List, IProgressMonitor)} before they are visited one by
+	 * one, in priority order.
+	 * <p>
+	 * The default is to visit one file at a time.
+	 */
+	protected int getBatchSize() {
+		return 1;
+	}
+
+	/**
+	 * Called with a batch of files before they are visited. Subclasses can use this to
+	 * process the files concurrently, as long as the results are handed out in
+	 * {@link #visit(IFile, IProgressMonitor)}. Not all files of a batch are necessarily
+	 * visited, if the walker is suspended in the middle of a batch the remaining files are
+	 * put back into the work queue.
+	 */
+	protected void prepareVisit(List<IFile> files, IProgressMonitor m) {
+	}
+
+	/**
+	 * Called after a batch of files passed to {@link #prepareVisit(List, IProgressMonitor)} has
+	 * been processed.
+	 */
+	protected void finishVisit() {
+	}
+
 	/**
 	 * Assigns a priority to a given resource. This priority will affect the order in which
 	 * resources get visited. Resources to be visited are tracked in a priority queue and
@@ -198,12 +241,35 @@ public abstract class ResourceWalker extends Job {
 		this.prioritFun = f;
 	}
 
-	private IResource getWork() {
-		PriorityQueue<QItem> q = queue;
-		if (q!=null && !q.isEmpty()) {
-			return q.remove().resource;
+	/**
+	 * Takes up to 'count' files from the work queue, in priority order. Containers found on
+	 * the way are expanded so their children compete for the remaining places in the batch.
+	 */
+	private List<QItem> getFileWork(int count) {
+		List<QItem> files = new ArrayList<>(count);
+		while (files.size() < count) {
+			PriorityQueue<QItem> q = queue;
+			if (q==null || q.isEmpty()) {
+				break;
+			}
+			QItem item = q.remove();
+			IResource r = item.resource;
+			if (r instanceof IFile) {
+				files.add(item);
+			} else if (r instanceof IContainer) {
+				IContainer f = (IContainer) r;
+				if (f.isAccessible()) {
+					try {
+						for (IResource child : f.members()) {
+							enqueue(child);
+						}
+					} catch (CoreException e) {
+						QuickSearchActivator.log(e);
+					}
+				}
+			}
 		}
-		return null;
+		return files;
 	}
 
 
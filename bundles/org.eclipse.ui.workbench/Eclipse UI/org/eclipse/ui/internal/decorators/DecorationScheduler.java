@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.decorators;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -62,19 +63,26 @@ import org.eclipse.ui.progress.WorkbenchJob;
  * <li><code>queueForDecoration</code> inserts (or, if already present, updates)
  * the <code>element</code> into <code>awaitingDecoration</code> and an
  * associated <code>DecorationReference</code> into
- * <code>awaitingDecorationValues</code> and schedules the
- * <code>decorationJob</code> to be executed asynchonously.</li>
+ * <code>awaitingDecorationValues</code>. If more elements are waiting than the
+ * active <code>decorationJobs</code> are ready to take, it schedules idle jobs
+ * to be executed asynchonously. An element that is
+ * requested again while it is still waiting is most likely visible in a viewer
+ * that repaints it, so it is moved into <code>prioritized</code> and decorated
+ * before the other waiting elements.</li>
  *
- * <li>The <code>decorationJob</code> processes the list of elements in
- * <code>awaitingDecoration</code> one by one. For each element, it calls
+ * <li>The <code>decorationJobs</code> process the list of elements in
+ * <code>awaitingDecoration</code> in parallel, one element per job at a time.
+ * Each decorator decorates only one element at a time, see
+ * {@link LightweightDecoratorDefinition#decorate(Object, org.eclipse.jface.viewers.IDecoration)}.
+ * For each element, a job calls
  * <code>ensureResultCached</code>, which in turn calls the actual lightweight
  * decorator(s) for the element and stores the decoration result in the
  * <code>resultCache</code> and adds the element to the
  * <code>pendingUpdate</code> collection to remember that it needs to be updated
  * in the UI.</li>
  *
- * <li>When the <code>decorationJob</code> has finished processing all elements
- * in <code>awaitingDecoration</code>, it finally schedules the
+ * <li>When a <code>decorationJob</code> has found no more elements in
+ * <code>awaitingDecoration</code>, it finally schedules the
  * <code>updateJob</code>.</li>
  *
  * <li>
@@ -83,6 +91,8 @@ import org.eclipse.ui.progress.WorkbenchJob;
  * {@link LabelProviderChangedEvent}s for all elements in
  * <code>pendingUpdate</code>. The {@link LabelProviderChangedEvent} causes the
  * respective viewers to trigger an <code>update</code> for the given elements.
+ * The elements are sent in batches of at most {@link #UPDATE_BATCH_SIZE}, and
+ * the job gives the event loop a chance to run after about one frame.
  * </p>
  * <p>
  * Effectively, this again calls
@@ -105,14 +115,24 @@ import org.eclipse.ui.progress.WorkbenchJob;
  * </ol>
  *
  * So, in summary, a decoration is first enqueued, then calculated
- * asynchronously by the <code>decorationJob</code> and enqueued for UI-update,
+ * asynchronously by a <code>decorationJob</code> and enqueued for UI-update,
  * and finally, the <code>updateJob</code> fires events which cause the viewers
  * to update the UI using the now available decoration results.
  */
 public class DecorationScheduler {
 
+	/**
+	 * The maximum number of elements in one {@link LabelProviderChangedEvent}
+	 * sent by the update job.
+	 */
+	public static final int UPDATE_BATCH_SIZE = 500;
+
 	private static final ILabelProviderListener[] EMPTY_LISTENER_LIST = new ILabelProviderListener[0];
 
+	/** The number of jobs that decorate elements in parallel. */
+	private static final int DECORATION_JOB_COUNT = Math.max(1,
+			Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+
 	// When decorations are computed they are added to this cache via
 	// scheduleUpdateJob() method
 	private final Map<IDecorationContext, Map<Object, DecorationResult>> resultCache = new ConcurrentHashMap<>();
@@ -126,12 +146,36 @@ public class DecorationScheduler {
 	/** manually synchronized on DecorationScheduler.this **/
 	private final LinkedHashMap<Object, DecorationReference> awaitingDecoration = new LinkedHashMap<>();
 
+	/**
+	 * Elements of <code>awaitingDecoration</code> that were requested again while
+	 * waiting. Manually synchronized on DecorationScheduler.this
+	 **/
+	private final Set<Object> prioritized = new LinkedHashSet<>();
+
+	/**
+	 * The number of elements that are being decorated. Manually synchronized on
+	 * DecorationScheduler.this
+	 **/
+	private int decorating;
+
+	/**
+	 * The decoration jobs that have been scheduled and have not found the queue
+	 * empty since. Manually synchronized on DecorationScheduler.this
+	 **/
+	private final Set<Job> activeJobs = new HashSet<>();
+
+	/** manually synchronized on DecorationScheduler.this **/
+	private long decoratedCount;
+
+	/** manually synchronized on DecorationScheduler.this **/
+	private long decorationTime;
+
 	/** manually synchronized on DecorationScheduler.this **/
 	private boolean shutdown = false;
 
 	private final DecoratorManager decoratorManager;
 
-	private final Job decorationJob;
+	private final Job[] decorationJobs;
 
 	// Notifies about updateJob or clearJob finishing
 	private final class JobChangeListener extends JobChangeAdapter {
@@ -169,6 +213,12 @@ public class DecorationScheduler {
 	/** Amount of time to delay the update notification when max reached. */
 	private static final int UPDATE_DELAY = 100;
 
+	/**
+	 * Amount of time the update job may notify listeners before it lets the event
+	 * loop run, about one frame.
+	 */
+	private static final int UPDATE_TIME_SLICE = 16;
+
 	/**
 	 * Flag which is used to indicate that the update job is running in the UI
 	 * thread
@@ -181,7 +231,18 @@ public class DecorationScheduler {
 	 */
 	DecorationScheduler(DecoratorManager manager) {
 		decoratorManager = manager;
-		decorationJob = createDecorationJob();
+		decorationJobs = new Job[DECORATION_JOB_COUNT];
+		JobChangeAdapter decorationJobListener = new JobChangeAdapter() {
+			@Override
+			public void done(IJobChangeEvent event) {
+				// also covers jobs that did not run or were canceled
+				jobDone(event.getJob());
+			}
+		};
+		for (int i = 0; i < decorationJobs.length; i++) {
+			decorationJobs[i] = createDecorationJob();
+			decorationJobs[i].addJobChangeListener(decorationJobListener);
+		}
 	}
 
 	/**
@@ -225,6 +286,7 @@ public class DecorationScheduler {
 				reference.setForceUpdate(forceUpdate);
 			}
 			reference.addContext(context);
+			prioritized.add(element);
 		} else {
 			reference = new DecorationReference(element, adaptedElement, context);
 			reference.setForceUpdate(forceUpdate);
@@ -242,8 +304,23 @@ public class DecorationScheduler {
 	 * should not be called before constructor finished. Would leak reference to
 	 * incomplete constructed DecorationScheduler.this
 	 */
-	void schedule() {
-		decorationJob.schedule();
+	synchronized void schedule() {
+		// Only wake idle jobs, and only for the waiting elements that the active
+		// jobs which are not decorating an element cannot take right away
+		int wanted = awaitingDecoration.size() - (activeJobs.size() - decorating);
+		for (int i = 0; i < decorationJobs.length && wanted > 0; i++) {
+			if (activeJobs.add(decorationJobs[i])) {
+				decorationJobs[i].schedule();
+				wanted--;
+			}
+		}
+	}
+
+	/**
+	 * A decoration job has finished running.
+	 */
+	private synchronized void jobDone(Job job) {
+		activeJobs.remove(job);
 	}
 
 	/**
@@ -331,23 +408,94 @@ public class DecorationScheduler {
 	}
 
 	/**
-	 * Get the next resource to be decorated.
+	 * Get the next resource to be decorated. Elements that were requested again
+	 * while waiting come first. The caller must call
+	 * {@link #decorated(long)} when it has decorated the element. If there is no
+	 * element, the calling job must stop and is scheduled again for new
+	 * elements.
 	 *
+	 * @param job the decoration job asking for an element
 	 * @return IResource
 	 */
-	synchronized DecorationReference removeNextReference() {
-		Iterator<Entry<Object, DecorationReference>> iterator = awaitingDecoration.entrySet().iterator();
-		if (shutdown || !iterator.hasNext()) {
+	synchronized DecorationReference removeNextReference(Job job) {
+		if (shutdown || awaitingDecoration.isEmpty()) {
+			activeJobs.remove(job);
 			return null;
 		}
-		Entry<Object, DecorationReference> entry = iterator.next();
-		iterator.remove();
-		DecorationReference reference = entry.getValue();
+		DecorationReference reference;
+		Iterator<Object> promoted = prioritized.iterator();
+		if (promoted.hasNext()) {
+			reference = awaitingDecoration.remove(promoted.next());
+			promoted.remove();
+		} else {
+			Iterator<Entry<Object, DecorationReference>> iterator = awaitingDecoration.entrySet().iterator();
+			reference = iterator.next().getValue();
+			iterator.remove();
+		}
+		decorating++;
 		return reference;
 	}
 
 	/**
-	 * Create the Thread used for running decoration.
+	 * An element returned by {@link #removeNextReference(Job)} has been decorated.
+	 *
+	 * @param nanos the time it took to decorate the element
+	 */
+	private synchronized void decorated(long nanos) {
+		decorating--;
+		decoratedCount++;
+		decorationTime += nanos;
+	}
+
+	/**
+	 * Return whether no element is waiting for or in decoration.
+	 */
+	private synchronized boolean isDecorationIdle() {
+		return awaitingDecoration.isEmpty() && decorating == 0;
+	}
+
+	/**
+	 * Return the number of elements waiting for decoration.
+	 *
+	 * @return the number of elements
+	 */
+	public synchronized int getQueueLength() {
+		return awaitingDecoration.size();
+	}
+
+	/**
+	 * Return the maximum number of elements that are decorated in parallel.
+	 *
+	 * @return the number of decoration jobs
+	 */
+	public int getDecorationJobCount() {
+		return decorationJobs.length;
+	}
+
+	/**
+	 * Return the number of elements decorated since the scheduler was created.
+	 *
+	 * @return the number of elements
+	 */
+	public synchronized long getDecoratedCount() {
+		return decoratedCount;
+	}
+
+	/**
+	 * Return the average number of elements one job decorates per second, or
+	 * <code>0</code> if no element has been decorated yet.
+	 *
+	 * @return the number of elements per second
+	 */
+	public synchronized double getThroughput() {
+		if (decorationTime == 0) {
+			return 0;
+		}
+		return decoratedCount * 1e9 / decorationTime;
+	}
+
+	/**
+	 * Create one of the Jobs used for running decoration.
 	 */
 	private Job createDecorationJob() {
 		Job decorationJob = new Job(WorkbenchMessages.DecorationScheduler_CalculationJobName) {
@@ -372,22 +520,27 @@ public class DecorationScheduler {
 				}
 
 				SubMonitor subMonitor = SubMonitor.convert(monitor,
-						WorkbenchMessages.DecorationScheduler_CalculatingTask, awaitingDecoration.size() + 1);
+						WorkbenchMessages.DecorationScheduler_CalculatingTask, getQueueLength() + 1);
 				// will block if there are no resources to be decorated
 				DecorationReference reference;
 
 				boolean queued = false;
 				// for each in awaitingDecorationValues, but not locking the map during the whole iteration:
-				while ((reference = removeNextReference()) != null) {
-					subMonitor.split(1);
-					queued = true;
-					Object element = reference.getElement();
-					boolean force = reference.shouldForceUpdate();
-					Collection<IDecorationContext> contexts = reference.getContexts();
-					for (IDecorationContext context : contexts) {
-						queued |= queue(element, force, context);
+				while ((reference = removeNextReference(this)) != null) {
+					long start = System.nanoTime();
+					try {
+						subMonitor.split(1);
+						queued = true;
+						Object element = reference.getElement();
+						boolean force = reference.shouldForceUpdate();
+						Collection<IDecorationContext> contexts = reference.getContexts();
+						for (IDecorationContext context : contexts) {
+							queued |= queue(element, force, context);
+						}
+					} finally {
+						decorated(System.nanoTime() - start);
 					}
-					subMonitor.setWorkRemaining(awaitingDecoration.size() + 1); // may grow asynchronously
+					subMonitor.setWorkRemaining(getQueueLength() + 1); // may grow asynchronously
 					// Only notify listeners when we have exhausted the
 					// queue of decoration requests.
 				}
@@ -508,10 +661,16 @@ public class DecorationScheduler {
 
 			int currentIndex = NEEDS_INIT;
 
+			Object[] elements;
+
+			int batchEnd;
+
 			LabelProviderChangedEvent labelProviderChangedEvent;
 
 			ILabelProviderListener[] listeners;
 
+			int listenerIndex;
+
 			@Override
 			public IStatus runInUIThread(IProgressMonitor monitor) {
 				// set the flag to true while the job is running
@@ -542,33 +701,46 @@ public class DecorationScheduler {
 					monitor.beginTask(WorkbenchMessages.DecorationScheduler_UpdatingTask, IProgressMonitor.UNKNOWN);
 
 					long startTime = System.currentTimeMillis();
-					while (currentIndex < listeners.length) {
-						ILabelProviderListener listener = listeners[currentIndex];
-						currentIndex++;
-
-						// If it was removed in the meantime then skip it.
-						if (!removedListeners.contains(listener)) {
-							decoratorManager.fireListener(labelProviderChangedEvent, listener);
+					while (currentIndex < elements.length) {
+						if (labelProviderChangedEvent == null) {
+							setUpBatch();
 						}
-
-						// If it is taking long enough for the user to notice then
-						// cancel the updates.
-						if ((System.currentTimeMillis() - startTime) >= UPDATE_DELAY / 2) {
+						while (listenerIndex < listeners.length) {
+							ILabelProviderListener listener = listeners[listenerIndex];
+							listenerIndex++;
+
+							// If it was removed in the meantime then skip it.
+							if (!removedListeners.contains(listener)) {
+								decoratorManager.fireListener(labelProviderChangedEvent, listener);
+							}
+
+							// If it is taking long enough for the user to notice then
+							// let the event loop run before the next listener.
+							if ((System.currentTimeMillis() - startTime) >= UPDATE_TIME_SLICE) {
+								break;
+							}
+						}
+						if (listenerIndex >= listeners.length) {
+							currentIndex = batchEnd;
+							labelProviderChangedEvent = null;
+						}
+						if ((System.currentTimeMillis() - startTime) >= UPDATE_TIME_SLICE) {
 							break;
 						}
 					}
 
 					monitor.done();
 
-					if (currentIndex >= listeners.length) {
+					if (currentIndex >= elements.length) {
 						resetState();
 						if (!hasPendingUpdates()) {
 							scheduleUpdateJob();
 						}
+						elements = null;
 						labelProviderChangedEvent = null;
 						listeners = EMPTY_LISTENER_LIST;
 					} else {
-						schedule(UPDATE_DELAY);// Reschedule if we are not done
+						schedule();// Reschedule if we are not done
 					}
 					return Status.OK_STATUS;
 				}
@@ -587,7 +759,7 @@ public class DecorationScheduler {
 				// Other decoration requests may have occurred due to
 				// updates or we may have timed out updating listeners.
 				// Only clear the results if there are none pending.
-				if (awaitingDecoration.isEmpty()) {
+				if (isDecorationIdle()) {
 					resultCache.clear();
 				}
 			}
@@ -598,13 +770,24 @@ public class DecorationScheduler {
 				removedListeners.clear();
 				currentIndex = 0;
 				synchronized (pendingUpdate) {
-					Object[] elements = pendingUpdate.toArray(new Object[pendingUpdate.size()]);
+					elements = pendingUpdate.toArray(new Object[pendingUpdate.size()]);
 					pendingUpdate.clear();
-					labelProviderChangedEvent = new LabelProviderChangedEvent(decoratorManager, elements);
 				}
+				labelProviderChangedEvent = null;
 				listeners = decoratorManager.getListeners();
 			}
 
+			/**
+			 * Create the event for the next batch of elements.
+			 */
+			private void setUpBatch() {
+				batchEnd = Math.min(elements.length, currentIndex + UPDATE_BATCH_SIZE);
+				Object[] batch = currentIndex == 0 && batchEnd == elements.length ? elements
+						: Arrays.copyOfRange(elements, currentIndex, batchEnd);
+				labelProviderChangedEvent = new LabelProviderChangedEvent(decoratorManager, batch);
+				listenerIndex = 0;
+			}
+
 			@Override
 			public boolean belongsTo(Object family) {
 				return DecoratorManager.FAMILY_DECORATE == family;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -612,7 +612,6 @@ public class DecoratorManager implements ILabelProviderListener, IDecoratorManag
 	 * occur due to changes in enablement.
 	 */
 	public void clearCaches() {
-		getLightweightManager().reset();
 		fullTextRunnable.clearReferences();
 		fullImageRunnable.clearReferences();
 	}
@@ -926,6 +925,15 @@ public class DecoratorManager implements ILabelProviderListener, IDecoratorManag
 		return lightweightManager;
 	}
 
+	/**
+	 * Get the scheduler that decorates elements in the background.
+	 *
+	 * @return DecorationScheduler
+	 */
+	public DecorationScheduler getScheduler() {
+		return scheduler;
+	}
+
 	/**
 	 * @see org.eclipse.ui.IDecoratorManager#update(java.lang.String)
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -92,6 +92,11 @@ class LightweightDecoratorDefinition extends DecoratorDefinition implements IObj
 
 	private String[] objectClasses;
 
+	/**
+	 * Held while the decorator decorates an element.
+	 */
+	private final Object decorationLock = new Object();
+
 	LightweightDecoratorDefinition(String identifier, IConfigurationElement element) {
 		super(identifier, element);
 	}
@@ -229,32 +234,36 @@ class LightweightDecoratorDefinition extends DecoratorDefinition implements IObj
 	}
 
 	/**
-	 * Decorate the element using the decoration to store the result.
+	 * Decorate the element using the decoration to store the result. Decorators
+	 * are not required to be thread safe, so each definition decorates one element
+	 * at a time while different definitions may decorate in parallel.
 	 */
 	public void decorate(Object element, IDecoration decoration) {
-		try {
-			if (!isEnabled()) {
-				return;
-			}
-			// Internal decorator might be null so be prepared
-			ILightweightLabelDecorator currentDecorator = internalGetDecorator();
-			if (currentDecorator == null) {
-				return;
-			}
+		synchronized (decorationLock) {
+			try {
+				if (!isEnabled()) {
+					return;
+				}
+				// Internal decorator might be null so be prepared
+				ILightweightLabelDecorator currentDecorator = internalGetDecorator();
+				if (currentDecorator == null) {
+					return;
+				}
 
-			if (isAdaptable()) {
-				String[] classes = getObjectClasses();
-				for (String className : classes) {
-					Object adapted = LegacyResourceSupport.getAdapter(element, className);
-					if (adapted != null) {
-						currentDecorator.decorate(adapted, decoration);
+				if (isAdaptable()) {
+					String[] classes = getObjectClasses();
+					for (String className : classes) {
+						Object adapted = LegacyResourceSupport.getAdapter(element, className);
+						if (adapted != null) {
+							currentDecorator.decorate(adapted, decoration);
+						}
 					}
+				} else if (element != null) {
+					currentDecorator.decorate(element, decoration);
 				}
-			} else if (element != null) {
-				currentDecorator.decorate(element, decoration);
+			} catch (CoreException exception) {
+				handleCoreException(exception);
 			}
-		} catch (CoreException exception) {
-			handleCoreException(exception);
 		}
 
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,7 +38,8 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 	 * The runnable is the object used to run the decorations so that an error in
 	 * someones decorator will not kill the thread. It is implemented here to
 	 * prevent aborting of decoration i.e. successful decorations will still be
-	 * applied.
+	 * applied. A new runnable is used for each decoration, as elements are
+	 * decorated in several threads at once.
 	 */
 
 	private static class LightweightRunnable implements ISafeRunnable {
@@ -117,8 +118,6 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 		}
 	}
 
-	private LightweightRunnable runnable = new LightweightRunnable();
-
 	// The lightweight definitions read from the registry
 	private LightweightDecoratorDefinition[] lightweightDefinitions;
 
@@ -158,7 +157,7 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 	 * @return whether the definition was added
 	 * @since 3.0
 	 */
-	public boolean addDecorator(LightweightDecoratorDefinition decorator) {
+	public synchronized boolean addDecorator(LightweightDecoratorDefinition decorator) {
 		if (getLightweightDecoratorDefinition(decorator.getId()) == null) {
 			LightweightDecoratorDefinition[] oldDefs = lightweightDefinitions;
 			lightweightDefinitions = new LightweightDecoratorDefinition[lightweightDefinitions.length + 1];
@@ -190,7 +189,7 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 	 * @return whether the definition was removed
 	 * @since 3.1
 	 */
-	public boolean removeDecorator(LightweightDecoratorDefinition decorator) {
+	public synchronized boolean removeDecorator(LightweightDecoratorDefinition decorator) {
 		int idx = getLightweightDecoratorDefinitionIdx(decorator.getId());
 		if (idx != -1) {
 			LightweightDecoratorDefinition[] oldDefs = lightweightDefinitions;
@@ -270,13 +269,6 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 		return false;
 	}
 
-	/**
-	 * Reset any cached values.
-	 */
-	void reset() {
-		runnable.clearReferences();
-	}
-
 	/**
 	 * Shutdown the decorator manager by disabling all of the decorators so that
 	 * dispose() will be called on them.
@@ -308,9 +300,10 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 	}
 
 	/**
-	 * Get the lightweight registered for elements of this type.
+	 * Get the lightweight registered for elements of this type. Synchronized as
+	 * the contributor lookup caches are shared by all decorating threads.
 	 */
-	LightweightDecoratorDefinition[] getDecoratorsFor(Object element) {
+	synchronized LightweightDecoratorDefinition[] getDecoratorsFor(Object element) {
 
 		if (element == null) {
 			return EMPTY_LIGHTWEIGHT_DEF;
@@ -333,7 +326,8 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 	}
 
 	/**
-	 * Fill the decoration with all of the results of the decorators.
+	 * Fill the decoration with all of the results of the decorators. May be called
+	 * by several threads at once, each definition serializes its own decorator.
 	 *
 	 * @param element    The source element
 	 * @param decoration The DecorationResult we are working on. where adaptable is
@@ -354,7 +348,7 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 	 * @param decorator  The decorator being applied.
 	 */
 	private void decorate(Object element, DecorationBuilder decoration, LightweightDecoratorDefinition decorator) {
-
+		LightweightRunnable runnable = new LightweightRunnable();
 		runnable.setValues(element, decoration, decorator);
 		SafeRunner.run(runnable);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,10 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -39,6 +43,7 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
 
 import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.IFileBuffer;
 import org.eclipse.core.filebuffers.ITextFileBuffer;
 import org.eclipse.core.filebuffers.ITextFileBufferManager;
 import org.eclipse.core.filebuffers.LocationKind;
@@ -604,4 +609,41 @@ public class FileBufferCreation {
 		manager.disconnectFileStore(fileStore, null);
 		assertNull(manager.getFileStoreTextFileBuffer(fileStore));
 	}
+
+	/*
+	 * Tests the concurrent creation of file buffers for many files, including
+	 * a location given twice and a file that is already connected.
+	 */
+	@Test
+	public void test8_connectAll() throws Exception {
+		IFolder folder= ResourceHelper.createFolder("project/folderA/folderB/");
+		List<IPath> paths= new ArrayList<>();
+		for (int i= 0; i < 50; i++) {
+			paths.add(ResourceHelper.createFile(folder, "file" + i, CONTENT1 + i).getFullPath());
+		}
+		paths.add(paths.get(0));
+
+		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
+		manager.connect(paths.get(1), LocationKind.IFILE, null);
+		ITextFileBuffer connected= manager.getTextFileBuffer(paths.get(1), LocationKind.IFILE);
+
+		List<CompletableFuture<IFileBuffer>> futures= manager.connectAll(paths, LocationKind.IFILE);
+		assertEquals(paths.size(), futures.size());
+		for (int i= 0; i < paths.size(); i++) {
+			ITextFileBuffer buffer= (ITextFileBuffer) futures.get(i).get(10, TimeUnit.SECONDS);
+			assertSame(buffer, manager.getTextFileBuffer(paths.get(i), LocationKind.IFILE));
+			assertEquals(CONTENT1 + (i % 50), buffer.getDocument().get());
+		}
+		assertSame(connected, futures.get(1).get());
+		assertSame(futures.get(0).get(), futures.get(50).get());
+
+		for (IPath path : paths) {
+			manager.disconnect(path, LocationKind.IFILE, null);
+		}
+		assertNotNull(manager.getTextFileBuffer(paths.get(1), LocationKind.IFILE));
+		manager.disconnect(paths.get(1), LocationKind.IFILE, null);
+		for (IPath path : paths) {
+			assertNull(manager.getTextFileBuffer(path, LocationKind.IFILE));
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 EclipseSource and others.
+ * Copyright (c) 2009, 2026 EclipseSource and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -123,6 +123,190 @@ public class ViewCSSTest {
 		assertEquals("color: blue;", buttonStyle.getCssText());
 	}
 
+	@Test
+	void testGetComputedStyle_ClassesAndIds() throws Exception {
+		String css = """
+			.a { color: red; }
+			Button.b { font-weight: bold; }
+			#c { background-color: blue; }
+			* { margin: 0; }
+			""";
+		ViewCSS viewCSS = createViewCss(css);
+
+		TestElement label = new TestElement("Label", engine);
+		assertEquals("margin: 0;", viewCSS.getComputedStyle(label, null).getCssText());
+
+		label.setClass("b a a");
+		CSSStyleDeclaration labelStyle = viewCSS.getComputedStyle(label, null);
+		assertEquals(2, labelStyle.getLength());
+		assertEquals("red", labelStyle.getPropertyCSSValue("color").getCssText());
+
+		TestElement button = new TestElement("Button", engine);
+		button.setClass("x b");
+		button.setId("c");
+		CSSStyleDeclaration buttonStyle = viewCSS.getComputedStyle(button, null);
+		assertEquals(3, buttonStyle.getLength());
+		assertEquals("bold", buttonStyle.getPropertyCSSValue("font-weight").getCssText());
+		assertEquals("blue", buttonStyle.getPropertyCSSValue("background-color").getCssText());
+	}
+
+	@Test
+	void testGetComputedStyle_Ancestors() throws Exception {
+		String css = """
+			.dark Button { color: white; }
+			Shell > Composite > Button { font-weight: bold; }
+			#view .dark Button { background-color: black; }
+			""";
+		ViewCSS viewCSS = createViewCss(css);
+
+		final TestElement shell = new TestElement("Shell", engine);
+		final TestElement composite = new TestElement("Composite", shell, engine);
+		final TestElement button = new TestElement("Button", composite, engine);
+		assertEquals("font-weight: bold;", viewCSS.getComputedStyle(button, null).getCssText());
+
+		shell.setClass("dark");
+		assertEquals(2, viewCSS.getComputedStyle(button, null).getLength());
+
+		shell.setId("view");
+		assertEquals(2, viewCSS.getComputedStyle(button, null).getLength());
+
+		shell.setClass(null);
+		composite.setClass("dark");
+		assertEquals(3, viewCSS.getComputedStyle(button, null).getLength());
+	}
+
+	@Test
+	void testGetComputedStyle_PseudoClasses() throws Exception {
+		String css = """
+			:selected { color: red; }
+			Button:selected { font-weight: bold; }
+			Button { background-color: blue; }
+			""";
+		ViewCSS viewCSS = createViewCss(css);
+
+		TestElement button = new TestElement("Button", engine);
+		assertEquals(1, viewCSS.getComputedStyle(button, null).getLength());
+		assertEquals(1, viewCSS.getComputedStyle(button, "selected").getLength());
+
+		button.addStaticPseudoInstance("selected");
+		assertEquals(1, viewCSS.getComputedStyle(button, null).getLength());
+		assertEquals(3, viewCSS.getComputedStyle(button, "selected").getLength());
+	}
+
+	@Test
+	void testGetComputedStyle_SharedInStylingPass() throws Exception {
+		String css = """
+			Button { margin: 0; }
+			Composite > Button { color: red; }
+			Button.b { font-weight: bold; }
+			""";
+		ViewCSSImpl viewCSS = (ViewCSSImpl) createViewCss(css);
+
+		final TestElement composite = new TestElement("Composite", engine);
+		final TestElement button1 = new TestElement("Button", composite, engine);
+		final TestElement button2 = new TestElement("Button", composite, engine);
+		final TestElement button3 = new TestElement("Button", composite, engine);
+		button3.setClass("b");
+
+		// outside of a styling pass, styles are not shared
+		assertNotSame(viewCSS.getComputedStyle(button1, null), viewCSS.getComputedStyle(button2, null));
+		assertEquals(0, viewCSS.getStyleCacheHitCount() + viewCSS.getStyleCacheMissCount());
+
+		viewCSS.startStylingPass();
+		CSSStyleDeclaration style1 = viewCSS.getComputedStyle(button1, null);
+		CSSStyleDeclaration style2 = viewCSS.getComputedStyle(button2, null);
+		CSSStyleDeclaration style3 = viewCSS.getComputedStyle(button3, null);
+		viewCSS.endStylingPass();
+
+		assertEquals(2, style1.getLength());
+		assertSame(style1, style2);
+		assertEquals(3, style3.getLength());
+		assertEquals(1, viewCSS.getStyleCacheHitCount());
+		assertEquals(2, viewCSS.getStyleCacheMissCount());
+
+		// a changed class is seen by the next pass
+		button2.setClass("b");
+		viewCSS.startStylingPass();
+		assertSame(style3, viewCSS.getComputedStyle(button2, null));
+		viewCSS.endStylingPass();
+	}
+
+	@Test
+	void testGetComputedStyle_NotSharedWithSiblingSelectors() throws Exception {
+		String css = """
+			Button { margin: 0; }
+			Composite > Button { color: red; }
+			Label + Button { font-weight: bold; }
+			""";
+		ViewCSSImpl viewCSS = (ViewCSSImpl) createViewCss(css);
+
+		final TestElement composite = new TestElement("Composite", engine);
+		final TestElement button1 = new TestElement("Button", composite, engine);
+		final TestElement button2 = new TestElement("Button", composite, engine);
+
+		viewCSS.startStylingPass();
+		assertNotSame(viewCSS.getComputedStyle(button1, null), viewCSS.getComputedStyle(button2, null));
+		viewCSS.endStylingPass();
+
+		assertEquals(0, viewCSS.getStyleCacheHitCount());
+		assertEquals(2, viewCSS.getStyleCacheMissCount());
+	}
+
+	@Test
+	void testGetComputedStyle_SharedOutsideOfSiblingSelectorBuckets() throws Exception {
+		String css = """
+			Label { margin: 0; }
+			Label + Button { font-weight: bold; }
+			""";
+		ViewCSSImpl viewCSS = (ViewCSSImpl) createViewCss(css);
+
+		final TestElement composite = new TestElement("Composite", engine);
+		final TestElement label1 = new TestElement("Label", composite, engine);
+		final TestElement label2 = new TestElement("Label", composite, engine);
+
+		viewCSS.startStylingPass();
+		assertSame(viewCSS.getComputedStyle(label1, null), viewCSS.getComputedStyle(label2, null));
+		viewCSS.endStylingPass();
+
+		assertEquals(1, viewCSS.getStyleCacheHitCount());
+		assertEquals(1, viewCSS.getStyleCacheMissCount());
+	}
+
+	@Test
+	void testGetComputedStyle_SharedWithAttributeSelectors() throws Exception {
+		String css = """
+			Button { margin: 0; }
+			Button[style~='SWT.CHECK'] { color: red; }
+			Composite[lines=true] Button { font-weight: bold; }
+			""";
+		ViewCSSImpl viewCSS = (ViewCSSImpl) createViewCss(css);
+
+		final TestElement composite = new TestElement("Composite", engine);
+		final TestElement check1 = new TestElement("Button", composite, engine);
+		check1.setAttribute("style", "SWT.CHECK");
+		final TestElement check2 = new TestElement("Button", composite, engine);
+		check2.setAttribute("style", "SWT.CHECK");
+		final TestElement push = new TestElement("Button", composite, engine);
+		push.setAttribute("style", "SWT.PUSH");
+		final TestElement linesComposite = new TestElement("Composite", engine);
+		linesComposite.setAttribute("lines", "true");
+		final TestElement linesPush = new TestElement("Button", linesComposite, engine);
+		linesPush.setAttribute("style", "SWT.PUSH");
+
+		viewCSS.startStylingPass();
+		CSSStyleDeclaration checkStyle = viewCSS.getComputedStyle(check1, null);
+		assertSame(checkStyle, viewCSS.getComputedStyle(check2, null));
+		CSSStyleDeclaration pushStyle = viewCSS.getComputedStyle(push, null);
+		CSSStyleDeclaration linesPushStyle = viewCSS.getComputedStyle(linesPush, null);
+		viewCSS.endStylingPass();
+
+		assertEquals(2, checkStyle.getLength());
+		assertEquals(1, pushStyle.getLength());
+		assertEquals(2, linesPushStyle.getLength());
+		assertEquals(1, viewCSS.getStyleCacheHitCount());
+		assertEquals(3, viewCSS.getStyleCacheMissCount());
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	void testRuleCaching() throws Exception {
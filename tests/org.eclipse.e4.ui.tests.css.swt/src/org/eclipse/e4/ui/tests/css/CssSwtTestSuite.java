@@ -36,6 +36,7 @@ import org.eclipse.e4.ui.tests.css.swt.CSSSWTWidgetTest;
 import org.eclipse.e4.ui.tests.css.swt.CTabFolderTest;
 import org.eclipse.e4.ui.tests.css.swt.CTabItemTest;
 import org.eclipse.e4.ui.tests.css.swt.ColorDefinitionTest;
+import org.eclipse.e4.ui.tests.css.swt.DarkThemeStyleSharingTest;
 import org.eclipse.e4.ui.tests.css.swt.DescendentTest;
 import org.eclipse.e4.ui.tests.css.swt.FontDefinitionTest;
 import org.eclipse.e4.ui.tests.css.swt.GradientTest;
@@ -69,7 +70,7 @@ import org.junit.platform.suite.api.Suite;
 		ButtonTextTransformTest.class, LabelTextTransformTest.class, TextTextTransformTest.class, DescendentTest.class,
 		ThemeTest.class, Bug459961Test.class, Bug419482Test.class, ShellActiveTest.class, InheritTest.class,
 		TableTest.class, TreeTest.class, TabbedPropertiesListTest.class, TabbedPropertiesTitleTest.class,
-		ExpandableCompositeTest.class, SectionTest.class })
+		ExpandableCompositeTest.class, SectionTest.class, DarkThemeStyleSharingTest.class })
 public class CssSwtTestSuite {
 
 }
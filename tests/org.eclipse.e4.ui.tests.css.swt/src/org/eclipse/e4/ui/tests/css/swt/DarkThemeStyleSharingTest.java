@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.tests.css.swt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+
+import org.eclipse.e4.ui.css.core.impl.engine.AbstractCSSEngine;
+import org.eclipse.e4.ui.css.swt.engine.CSSSWTEngineImpl;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Text;
+import org.junit.jupiter.api.Test;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Applies the style sheets of the dark theme, which have attribute and sibling
+ * selectors, and checks that styles are still shared between equal widgets.
+ */
+public class DarkThemeStyleSharingTest extends CSSSWTTestCase {
+
+	private static final String THEMES_BUNDLE = "org.eclipse.ui.themes";
+
+	private static final String[] STYLE_SHEETS = { "css/dark/e4-dark_globalstyle.css",
+			"css/dark/e4-dark_partstyle.css" };
+
+	private static final int ROWS = 20;
+
+	@Test
+	void testStylesSharedWithDarkTheme() throws IOException {
+		engine = new CSSSWTEngineImpl(display);
+		Bundle themes = getThemesBundle();
+		for (String styleSheet : STYLE_SHEETS) {
+			URL url = themes.getEntry(styleSheet);
+			assertNotNull(url, styleSheet);
+			try (InputStream stream = url.openStream()) {
+				engine.parseStyleSheet(stream);
+			}
+		}
+
+		Shell shell = new Shell(display, SWT.SHELL_TRIM);
+		shell.setLayout(new FillLayout());
+		Text searchText = null;
+		Text readOnlyText = null;
+		Text text = null;
+		for (int i = 0; i < ROWS; i++) {
+			Composite row = new Composite(shell, SWT.NONE);
+			row.setLayout(new FillLayout());
+			new Label(row, SWT.NONE).setText("Label");
+			new Button(row, SWT.PUSH).setText("Push");
+			new Button(row, SWT.CHECK).setText("Check");
+			searchText = new Text(row, SWT.SEARCH);
+			new Label(row, SWT.NONE).setText("Label");
+			readOnlyText = new Text(row, SWT.READ_ONLY);
+			text = new Text(row, SWT.BORDER);
+		}
+		engine.applyStyles(shell, true);
+
+		double hitRate = ((AbstractCSSEngine) engine).getStyleCacheHitRate();
+		assertTrue(hitRate > 0, "style cache hit rate: " + hitRate);
+
+		// the attribute selectors still tell the texts apart
+		assertEquals(new RGB(0x33, 0x33, 0x33), searchText.getBackground().getRGB());
+		assertEquals(new RGB(0xBB, 0xBB, 0xBB), readOnlyText.getForeground().getRGB());
+		assertNotEquals(new RGB(0xBB, 0xBB, 0xBB), text.getForeground().getRGB());
+	}
+
+	private Bundle getThemesBundle() {
+		Bundle bundle = FrameworkUtil.getBundle(getClass());
+		assertNotNull(bundle, "Not running in an OSGi environment");
+		for (Bundle candidate : bundle.getBundleContext().getBundles()) {
+			if (THEMES_BUNDLE.equals(candidate.getSymbolicName())) {
+				return candidate;
+			}
+		}
+		throw new AssertionError(THEMES_BUNDLE + " is not installed");
+	}
+}
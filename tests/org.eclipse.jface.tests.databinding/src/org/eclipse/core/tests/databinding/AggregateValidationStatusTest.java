@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,11 +15,28 @@
 package org.eclipse.core.tests.databinding;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
 
 import org.eclipse.core.databinding.AggregateValidationStatus;
 import org.eclipse.core.databinding.DataBindingContext;
+import org.eclipse.core.databinding.ValidationStatusProvider;
+import org.eclipse.core.databinding.observable.IObservable;
+import org.eclipse.core.databinding.observable.Observables;
 import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.WritableList;
+import org.eclipse.core.databinding.observable.set.WritableSet;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.WritableValue;
+import org.eclipse.core.databinding.validation.ValidationStatus;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.databinding.conformance.util.ValueChangeEventTracker;
 import org.eclipse.jface.tests.databinding.AbstractSWTTestCase;
 import org.junit.Test;
 
@@ -42,4 +59,156 @@ public class AggregateValidationStatusTest extends AbstractSWTTestCase {
 				.getBindings(), AggregateValidationStatus.MAX_SEVERITY);
 		assertEquals(Realm.getDefault(), status.getRealm());
 	}
+
+	@Test
+	public void testMaxSeverity_FollowsStatusChanges() {
+		Provider first = new Provider();
+		Provider second = new Provider();
+		WritableList<ValidationStatusProvider> providers = new WritableList<>(Arrays.asList(first, second), null);
+		AggregateValidationStatus status = new AggregateValidationStatus(providers,
+				AggregateValidationStatus.MAX_SEVERITY);
+		ValueChangeEventTracker<IStatus> tracker = ValueChangeEventTracker.observe(status);
+		assertSame(Status.OK_STATUS, status.getValue());
+
+		IStatus warning = ValidationStatus.warning("warning");
+		IStatus error = ValidationStatus.error("error");
+		second.status.setValue(warning);
+		assertEquals(1, tracker.count);
+		assertSame(warning, status.getValue());
+
+		first.status.setValue(error);
+		assertSame(error, status.getValue());
+
+		IStatus secondError = ValidationStatus.error("second error");
+		second.status.setValue(secondError);
+		assertSame(error, status.getValue());
+
+		first.status.setValue(Status.OK_STATUS);
+		assertSame(secondError, status.getValue());
+
+		second.status.setValue(Status.OK_STATUS);
+		assertSame(Status.OK_STATUS, status.getValue());
+	}
+
+	@Test
+	public void testMerged_FollowsProviderChanges() {
+		Provider first = new Provider();
+		Provider second = new Provider();
+		WritableList<ValidationStatusProvider> providers = new WritableList<>();
+		AggregateValidationStatus status = new AggregateValidationStatus(providers,
+				AggregateValidationStatus.MERGED);
+		assertSame(Status.OK_STATUS, status.getValue());
+
+		IStatus warning = ValidationStatus.warning("warning");
+		IStatus error = ValidationStatus.error("error");
+		first.status.setValue(warning);
+		second.status.setValue(error);
+		providers.add(first);
+		assertSame(warning, status.getValue());
+
+		providers.add(second);
+		IStatus merged = status.getValue();
+		assertTrue(merged instanceof MultiStatus);
+		assertEquals(Arrays.asList(warning, error), Arrays.asList(merged.getChildren()));
+
+		providers.remove(first);
+		assertSame(error, status.getValue());
+
+		// The status of a removed provider is no longer tracked
+		first.status.setValue(Status.OK_STATUS);
+		second.status.setValue(Status.OK_STATUS);
+		assertSame(Status.OK_STATUS, status.getValue());
+	}
+
+	@Test
+	public void testMaxSeverity_ProviderSet() {
+		Provider provider = new Provider();
+		WritableSet<ValidationStatusProvider> providers = new WritableSet<>();
+		AggregateValidationStatus status = new AggregateValidationStatus(providers,
+				AggregateValidationStatus.MAX_SEVERITY);
+		assertSame(Status.OK_STATUS, status.getValue());
+
+		IStatus info = ValidationStatus.info("info");
+		provider.status.setValue(info);
+		providers.add(provider);
+		assertSame(info, status.getValue());
+
+		providers.remove(provider);
+		assertSame(Status.OK_STATUS, status.getValue());
+	}
+
+	@Test
+	public void testDispose_RemovesListeners() {
+		Provider provider = new Provider();
+		WritableList<ValidationStatusProvider> providers = new WritableList<>(Arrays.asList(provider), null);
+		AggregateValidationStatus status = new AggregateValidationStatus(providers,
+				AggregateValidationStatus.MAX_SEVERITY);
+		status.getValue();
+		assertTrue(provider.status.hasListeners());
+
+		status.dispose();
+		assertFalse(provider.status.hasListeners());
+	}
+
+	@Test
+	public void testUnobservedStatusChange_RemovesListeners() {
+		Provider provider = new Provider();
+		WritableList<ValidationStatusProvider> providers = new WritableList<>(Arrays.asList(provider), null);
+		AggregateValidationStatus status = new AggregateValidationStatus(providers,
+				AggregateValidationStatus.MAX_SEVERITY);
+		status.getValue();
+		assertTrue(provider.status.hasListeners());
+
+		IStatus error = ValidationStatus.error("error");
+		provider.status.setValue(error);
+		assertFalse(provider.status.hasListeners());
+		assertSame(error, status.getValue());
+		assertTrue(provider.status.hasListeners());
+	}
+
+	@Test
+	public void testRemoveLastListener_RemovesListenersOnceDirty() {
+		Provider provider = new Provider();
+		WritableList<ValidationStatusProvider> providers = new WritableList<>(Arrays.asList(provider), null);
+		AggregateValidationStatus status = new AggregateValidationStatus(providers,
+				AggregateValidationStatus.MAX_SEVERITY);
+		ValueChangeEventTracker<IStatus> tracker = ValueChangeEventTracker.observe(status);
+		status.getValue();
+
+		provider.status.setValue(ValidationStatus.error("error"));
+		assertTrue(provider.status.hasListeners());
+
+		status.removeValueChangeListener(tracker);
+		assertFalse(provider.status.hasListeners());
+	}
+
+	private static class Provider extends ValidationStatusProvider {
+		final StatusValue status = new StatusValue();
+
+		@Override
+		public IObservableValue<IStatus> getValidationStatus() {
+			return status;
+		}
+
+		@Override
+		public IObservableList<IObservable> getTargets() {
+			return Observables.emptyObservableList();
+		}
+
+		@Override
+		public IObservableList<IObservable> getModels() {
+			return Observables.emptyObservableList();
+		}
+	}
+
+	private static class StatusValue extends WritableValue<IStatus> {
+		StatusValue() {
+			super(Status.OK_STATUS, IStatus.class);
+		}
+
+		@Override
+		public boolean hasListeners() {
+			return super.hasListeners();
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2018	 Brad Reynolds and others.
+ * Copyright (c) 2006, 2026	 Brad Reynolds and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -433,6 +433,128 @@ public class ValueBindingTest extends AbstractDefaultRealmTestCase {
 		};
 	}
 
+	@Test
+	public void testAsyncValidation_UpdatesModelAfterValidation() throws Exception {
+		List<Runnable> tasks = new ArrayList<>();
+		Binding binding = dbc.bindValue(target, model, new UpdateValueStrategy<Object, String>()
+				.setAfterGetValidator(loggingValidator(log, "validate")).setValidationExecutor(tasks::add, 0), null);
+		log.clear();
+
+		target.setValue("value");
+		assertNull(model.getValue());
+		runAsync();
+		assertEquals(1, tasks.size());
+		assertTrue(log.isEmpty());
+
+		tasks.remove(0).run();
+		runAsync();
+		assertEquals(Collections.singletonList("validate"), log);
+		assertEquals("value", model.getValue());
+		assertTrue(binding.getValidationStatus().getValue().isOK());
+	}
+
+	@Test
+	public void testAsyncValidation_ValidatesOnlyLastOfSeveralChanges() throws Exception {
+		List<Runnable> tasks = new ArrayList<>();
+		dbc.bindValue(target, model, new UpdateValueStrategy<Object, String>()
+				.setConverter(loggingConverter(log, "convert")).setValidationExecutor(tasks::add, 0), null);
+		log.clear();
+
+		target.setValue("1");
+		target.setValue("2");
+		target.setValue("3");
+		runAsync();
+		assertEquals(1, tasks.size());
+
+		tasks.remove(0).run();
+		runAsync();
+		assertEquals(Collections.singletonList("convert"), log);
+		assertEquals("3", model.getValue());
+	}
+
+	@Test
+	public void testAsyncValidation_DiscardsSupersededValidation() throws Exception {
+		List<Runnable> tasks = new ArrayList<>();
+		dbc.bindValue(target, model, new UpdateValueStrategy<Object, String>()
+				.setConverter(loggingConverter(log, "convert")).setValidationExecutor(tasks::add, 0), null);
+		log.clear();
+
+		target.setValue("1");
+		runAsync();
+		target.setValue("2");
+		runAsync();
+		assertEquals(2, tasks.size());
+
+		tasks.remove(0).run();
+		tasks.remove(0).run();
+		runAsync();
+		assertEquals(Collections.singletonList("convert"), log);
+		assertEquals("2", model.getValue());
+	}
+
+	@Test
+	public void testAsyncValidation_ErrorStatusDoesNotUpdateModel() throws Exception {
+		Binding binding = dbc.bindValue(target, model,
+				new UpdateValueStrategy<Object, String>().setAfterGetValidator(errorValidator())
+						.setValidationExecutor(Runnable::run, 0),
+				null);
+
+		target.setValue("value");
+		runAsync();
+		assertNull(model.getValue());
+		assertEquals(IStatus.ERROR, binding.getValidationStatus().getValue().getSeverity());
+	}
+
+	@Test
+	public void testAsyncValidation_ExplicitUpdateDiscardsPendingValidation() throws Exception {
+		List<Runnable> tasks = new ArrayList<>();
+		Binding binding = dbc.bindValue(target, model, new UpdateValueStrategy<Object, String>()
+				.setConverter(loggingConverter(log, "convert")).setValidationExecutor(tasks::add, 0), null);
+
+		target.setValue("value");
+		runAsync();
+		binding.updateTargetToModel();
+		assertEquals("value", model.getValue());
+		log.clear();
+
+		tasks.remove(0).run();
+		runAsync();
+		assertTrue(log.isEmpty());
+	}
+
+	@Test
+	public void testAsyncValidation_ExplicitValidationDiscardsPendingValidation() throws Exception {
+		List<Runnable> tasks = new ArrayList<>();
+		Binding binding = dbc.bindValue(target, model, new UpdateValueStrategy<Object, String>()
+				.setConverter(loggingConverter(log, "convert")).setValidationExecutor(tasks::add, 0), null);
+
+		target.setValue("value");
+		runAsync();
+		binding.validateTargetToModel();
+		assertNull(model.getValue());
+		log.clear();
+
+		tasks.remove(0).run();
+		runAsync();
+		assertTrue(log.isEmpty());
+		assertNull(model.getValue());
+	}
+
+	@Test
+	public void testAsyncValidation_DisposeDiscardsPendingValidation() throws Exception {
+		List<Runnable> tasks = new ArrayList<>();
+		Binding binding = dbc.bindValue(target, model,
+				new UpdateValueStrategy<Object, String>().setValidationExecutor(tasks::add, 0), null);
+
+		target.setValue("value");
+		runAsync();
+		binding.dispose();
+
+		tasks.remove(0).run();
+		runAsync();
+		assertNull(model.getValue());
+	}
+
 	private IValidator<Object> warningValidator() {
 		return value -> ValidationStatus.warning("");
 	}
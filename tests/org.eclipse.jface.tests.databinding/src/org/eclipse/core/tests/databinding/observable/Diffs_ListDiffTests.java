@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2008 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,10 +16,13 @@
 package org.eclipse.core.tests.databinding.observable;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.eclipse.core.databinding.observable.Diffs;
 import org.eclipse.core.databinding.observable.list.ListDiff;
@@ -209,10 +212,10 @@ public class Diffs_ListDiffTests {
 		ListDiff<?> diff = diff(new String[] { "a", "b", "c" }, new String[] { "c", "b", "a" });
 
 		assertEquals(4, diff.getDifferences().length);
-		assertEntry(diff.getDifferences()[0], false, 2, "c");
-		assertEntry(diff.getDifferences()[1], true, 0, "c");
-		assertEntry(diff.getDifferences()[2], false, 2, "b");
-		assertEntry(diff.getDifferences()[3], true, 1, "b");
+		assertEntry(diff.getDifferences()[0], false, 1, "b");
+		assertEntry(diff.getDifferences()[1], true, 2, "b");
+		assertEntry(diff.getDifferences()[2], false, 0, "a");
+		assertEntry(diff.getDifferences()[3], true, 2, "a");
 	}
 
 	@Test
@@ -221,8 +224,8 @@ public class Diffs_ListDiffTests {
 
 		assertEquals(3, diff.getDifferences().length);
 		assertEntry(diff.getDifferences()[0], false, 0, "a");
-		assertEntry(diff.getDifferences()[1], false, 1, "c");
-		assertEntry(diff.getDifferences()[2], true, 0, "c");
+		assertEntry(diff.getDifferences()[1], false, 0, "b");
+		assertEntry(diff.getDifferences()[2], true, 1, "b");
 	}
 
 	private static void assertEntry(ListDiffEntry<?> entry, boolean addition, int position, String element) {
@@ -268,6 +271,106 @@ public class Diffs_ListDiffTests {
 		checkComputedListDiff(List.of("a", "b", "c"), List.of("c", "a", "b"));
 	}
 
+	@Test
+	public void testComputeListDiff_MoveIsReportedAsMove() {
+		ListDiff<String> diff = Diffs.computeListDiff(List.of("a", "b", "c", "d"), List.of("b", "c", "d", "a"));
+		final List<String> moves = new ArrayList<>();
+		diff.accept(new ListDiffVisitor<String>() {
+			@Override
+			public void handleAdd(int index, String element) {
+				fail("Unexpected add of " + element);
+			}
+
+			@Override
+			public void handleRemove(int index, String element) {
+				fail("Unexpected remove of " + element);
+			}
+
+			@Override
+			public void handleMove(int oldIndex, int newIndex, String element) {
+				assertEquals(0, oldIndex);
+				assertEquals(3, newIndex);
+				moves.add(element);
+			}
+		});
+		assertEquals(List.of("a"), moves);
+	}
+
+	@Test
+	public void testComputeListDiff_MinimalEdits() {
+		List<Object> oldList = new ArrayList<>();
+		for (int i = 0; i < 10000; i++) {
+			oldList.add(Integer.valueOf(i));
+		}
+		List<Object> newList = new ArrayList<>(oldList);
+		newList.remove(9000);
+		newList.add(5000, "x");
+		newList.remove(100);
+
+		ListDiff<?> diff = Diffs.computeListDiff(oldList, newList);
+		assertEquals(3, diff.getDifferences().length);
+		checkComputedListDiff(oldList, newList);
+	}
+
+	@Test
+	public void testComputeListDiff_MinimalEditsAfterManyEdits() {
+		List<Object> oldList = new ArrayList<>();
+		for (int i = 0; i < 10000; i++) {
+			oldList.add(Integer.valueOf(i));
+		}
+		List<Object> newList = new ArrayList<>(oldList);
+		for (int i = 99; i >= 0; i--) {
+			newList.remove(i * 100 + 50);
+		}
+
+		ListDiff<?> diff = Diffs.computeListDiff(oldList, newList);
+		assertEquals(100, diff.getDifferences().length);
+		checkComputedListDiff(oldList, newList);
+	}
+
+	@Test
+	public void testComputeListDiff_Random() {
+		Random random = new Random(4711);
+		for (int iteration = 0; iteration < 500; iteration++) {
+			int values = 1 + random.nextInt(10);
+			List<Object> oldList = new ArrayList<>();
+			for (int i = random.nextInt(50); i > 0; i--) {
+				oldList.add(Integer.valueOf(random.nextInt(values)));
+			}
+			List<Object> newList = new ArrayList<>();
+			for (int i = random.nextInt(50); i > 0; i--) {
+				newList.add(Integer.valueOf(random.nextInt(values)));
+			}
+			checkComputedListDiff(oldList, newList);
+			Collections.shuffle(newList, random);
+			checkComputedListDiff(oldList, newList);
+		}
+	}
+
+	@Test
+	public void testComputeListDiff_LargeRandom() {
+		Random random = new Random(4711);
+		List<Object> oldList = new ArrayList<>();
+		for (int i = 0; i < 100000; i++) {
+			oldList.add(Integer.valueOf(i));
+		}
+		List<Object> newList = new ArrayList<>(oldList);
+		for (int i = 0; i < 5000; i++) {
+			int index = random.nextInt(newList.size());
+			switch (random.nextInt(3)) {
+			case 0:
+				newList.add(index, "new " + i);
+				break;
+			case 1:
+				newList.remove(index);
+				break;
+			default:
+				newList.add(random.nextInt(newList.size()), newList.remove(index));
+			}
+		}
+		checkComputedListDiff(oldList, newList);
+	}
+
 	private static void checkComputedListDiff(List<Object> oldList, List<Object> newList) {
 		ListDiff<?> diff = Diffs.computeListDiff(oldList, newList);
 
@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.databinding.observable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.databinding.observable.ExecutorRealm;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.WritableValue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ExecutorRealmTest {
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		executor.shutdownNow();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void testRunnablesRunInOrderWithinRealm() throws Exception {
+		ExecutorRealm realm = new ExecutorRealm(executor);
+		List<Integer> order = new ArrayList<>();
+		AtomicInteger outside = new AtomicInteger();
+		for (int i = 0; i < 200; i++) {
+			int index = i;
+			realm.asyncExec(() -> {
+				if (!realm.isCurrent()) {
+					outside.incrementAndGet();
+				}
+				order.add(index);
+			});
+		}
+		awaitIdle(realm);
+
+		assertFalse(realm.isCurrent());
+		assertEquals(0, outside.get());
+		for (int i = 0; i < 200; i++) {
+			assertEquals(Integer.valueOf(i), order.get(i));
+		}
+		awaitCompleted(realm, 201);
+		assertEquals(0, realm.getQueueSize());
+		assertTrue(realm.getMaxTaskLatencyNanos() > 0);
+		assertTrue(realm.getTotalTaskLatencyNanos() >= realm.getMaxTaskLatencyNanos());
+	}
+
+	@Test
+	public void testQueuedRunnableIsCoalesced() throws Exception {
+		ExecutorRealm realm = new ExecutorRealm(executor, Integer.MAX_VALUE, true);
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		realm.asyncExec(() -> {
+			blocked.countDown();
+			await(release);
+		});
+		blocked.await();
+
+		AtomicInteger runs = new AtomicInteger();
+		Runnable runnable = runs::incrementAndGet;
+		realm.asyncExec(runnable);
+		realm.asyncExec(runnable);
+		assertEquals(1, realm.getQueueSize());
+		assertEquals(1, realm.getCoalescedTaskCount());
+
+		release.countDown();
+		awaitIdle(realm);
+		assertEquals(1, runs.get());
+
+		realm.asyncExec(runnable);
+		awaitIdle(realm);
+		assertEquals(2, runs.get());
+	}
+
+	@Test
+	public void testRunnableIsQueuedTwiceWithoutCoalescing() throws Exception {
+		ExecutorRealm realm = new ExecutorRealm(executor);
+		AtomicInteger runs = new AtomicInteger();
+		Runnable runnable = runs::incrementAndGet;
+		realm.asyncExec(runnable);
+		realm.asyncExec(runnable);
+		awaitIdle(realm);
+		assertEquals(2, runs.get());
+		assertEquals(0, realm.getCoalescedTaskCount());
+	}
+
+	@Test
+	public void testTimerRunnablesRunWithinRealms() throws Exception {
+		ExecutorRealm realm1 = new ExecutorRealm(executor);
+		ExecutorRealm realm2 = new ExecutorRealm(executor);
+		CountDownLatch done = new CountDownLatch(2);
+		AtomicInteger outside = new AtomicInteger();
+		realm1.timerExec(10, () -> {
+			if (!realm1.isCurrent()) {
+				outside.incrementAndGet();
+			}
+			done.countDown();
+		});
+		realm2.timerExec(10, () -> {
+			if (!realm2.isCurrent()) {
+				outside.incrementAndGet();
+			}
+			done.countDown();
+		});
+
+		assertTrue(done.await(10, TimeUnit.SECONDS));
+		assertEquals(0, outside.get());
+	}
+
+	@Test
+	public void testFullQueueRejectsRunnables() throws Exception {
+		ExecutorRealm realm = new ExecutorRealm(executor, 2, false);
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		realm.asyncExec(() -> {
+			blocked.countDown();
+			await(release);
+		});
+		blocked.await();
+
+		realm.asyncExec(() -> {
+		});
+		realm.asyncExec(() -> {
+		});
+		assertThrows(RejectedExecutionException.class, () -> realm.asyncExec(() -> {
+		}));
+		assertEquals(1, realm.getRejectedTaskCount());
+
+		release.countDown();
+		awaitIdle(realm);
+		awaitCompleted(realm, 4);
+	}
+
+	@Test
+	public void testShutDownExecutorRejectsRunnables() {
+		ExecutorRealm realm = new ExecutorRealm(executor);
+		executor.shutdown();
+
+		assertThrows(RejectedExecutionException.class, () -> realm.asyncExec(() -> {
+		}));
+		assertEquals(1, realm.getRejectedTaskCount());
+		assertEquals(0, realm.getQueueSize());
+	}
+
+	@Test
+	public void testSyncExecWithinRealm() throws Exception {
+		ExecutorRealm realm = new ExecutorRealm(executor);
+		AtomicInteger runs = new AtomicInteger();
+		realm.asyncExec(() -> realm.exec(runs::incrementAndGet));
+		awaitIdle(realm);
+		assertEquals(1, runs.get());
+	}
+
+	@Test
+	public void testManyProducers() throws Exception {
+		ExecutorRealm realm = new ExecutorRealm(executor, 1000, false);
+		WritableValue<Integer> value = new WritableValue<>(realm, 0, Integer.class);
+		int producerCount = 16;
+		int runnablesPerProducer = 5000;
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger overlaps = new AtomicInteger();
+		AtomicInteger accepted = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> producers = new ArrayList<>();
+		for (int p = 0; p < producerCount; p++) {
+			Thread producer = new Thread(() -> {
+				await(start);
+				for (int i = 0; i < runnablesPerProducer; i++) {
+					Runnable increment = () -> {
+						if (running.incrementAndGet() != 1) {
+							overlaps.incrementAndGet();
+						}
+						value.setValue(value.getValue() + 1);
+						running.decrementAndGet();
+					};
+					while (true) {
+						try {
+							realm.exec(increment);
+							accepted.incrementAndGet();
+							break;
+						} catch (RejectedExecutionException e) {
+							Thread.yield();
+						}
+					}
+				}
+			});
+			producer.start();
+			producers.add(producer);
+		}
+		start.countDown();
+		for (Thread producer : producers) {
+			producer.join();
+		}
+		awaitIdle(realm);
+
+		int expected = producerCount * runnablesPerProducer;
+		assertEquals(expected, accepted.get());
+		assertEquals(0, overlaps.get());
+		int[] result = new int[1];
+		realm.asyncExec(() -> result[0] = value.getValue());
+		awaitIdle(realm);
+		assertEquals(expected, result[0]);
+		awaitCompleted(realm, expected + 3);
+	}
+
+	/**
+	 * Waits until all runnables that were queued before have completed.
+	 */
+	private static void awaitIdle(Realm realm) throws InterruptedException {
+		CountDownLatch idle = new CountDownLatch(1);
+		while (true) {
+			try {
+				realm.asyncExec(idle::countDown);
+				break;
+			} catch (RejectedExecutionException e) {
+				Thread.sleep(1);
+			}
+		}
+		assertTrue(idle.await(30, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * Waits until the statistics include the given number of completed
+	 * runnables, which are added when the realm has run a series of runnables.
+	 */
+	private static void awaitCompleted(ExecutorRealm realm, long count) throws InterruptedException {
+		long timeout = System.currentTimeMillis() + 30000;
+		while (realm.getCompletedTaskCount() < count && System.currentTimeMillis() < timeout) {
+			Thread.sleep(1);
+		}
+		assertEquals(count, realm.getCompletedTaskCount());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
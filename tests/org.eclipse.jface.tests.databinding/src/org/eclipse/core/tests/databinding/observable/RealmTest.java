@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2018 Brad Reynolds and others.
+ * Copyright (c) 2006, 2026 Brad Reynolds and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,17 @@
 package org.eclipse.core.tests.databinding.observable;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.sideeffect.ISideEffect;
+import org.eclipse.core.databinding.observable.value.ComputedValue;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.IValueChangeListener;
+import org.eclipse.core.databinding.observable.value.WritableValue;
 import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
 import org.eclipse.jface.databinding.conformance.util.RealmTester;
 import org.junit.Test;
@@ -35,4 +44,105 @@ public class RealmTest {
 
 		assertEquals("old realm should have been restored", oldRealm, Realm.getDefault());
 	}
+
+	@Test
+	public void testBatchIsGlitchFree() {
+		Realm realm = new CurrentRealm(true);
+		Realm.runWithDefault(realm, () -> {
+			WritableValue<Integer> source = new WritableValue<>(0, Integer.class);
+			IObservableValue<Integer> left = ComputedValue.create(() -> source.getValue() * 2);
+			IObservableValue<Integer> right = ComputedValue.create(() -> source.getValue() + 1);
+			int[] computations = new int[1];
+			IObservableValue<Integer> sum = ComputedValue.create(() -> {
+				computations[0]++;
+				return left.getValue() + right.getValue();
+			});
+			List<Integer> sums = new ArrayList<>();
+			sum.addValueChangeListener(event -> sums.add(event.diff.getNewValue()));
+			// without a batch, this would read a sum of a changed and an
+			// unchanged value
+			left.addValueChangeListener(event -> assertEquals(source.getValue() * 3 + 1, sum.getValue().intValue()));
+			assertEquals(1, sum.getValue().intValue());
+			computations[0] = 0;
+
+			realm.runBatch(() -> {
+				source.setValue(1);
+				source.setValue(2);
+				assertEquals("listeners must not be notified within the batch", List.of(), sums);
+			});
+
+			assertEquals(List.of(7), sums);
+			assertEquals(1, computations[0]);
+		});
+	}
+
+	@Test
+	public void testNestedBatches() {
+		Realm realm = new CurrentRealm(true);
+		Realm.runWithDefault(realm, () -> {
+			WritableValue<String> value = new WritableValue<>("a", String.class);
+			List<String> values = new ArrayList<>();
+			value.addValueChangeListener(event -> values.add(event.diff.getNewValue()));
+
+			realm.beginBatch();
+			value.setValue("b");
+			realm.runBatch(() -> value.setValue("c"));
+			assertEquals(List.of(), values);
+			realm.commitBatch();
+
+			assertEquals(List.of("b", "c"), values);
+			value.setValue("d");
+			assertEquals(List.of("b", "c", "d"), values);
+		});
+	}
+
+	@Test
+	public void testRemovedListenerIsNotNotifiedAfterBatch() {
+		Realm realm = new CurrentRealm(true);
+		Realm.runWithDefault(realm, () -> {
+			WritableValue<String> value = new WritableValue<>("a", String.class);
+			List<String> values = new ArrayList<>();
+			IValueChangeListener<String> listener = event -> values.add(event.diff.getNewValue());
+			value.addValueChangeListener(listener);
+
+			realm.runBatch(() -> {
+				value.setValue("b");
+				value.removeValueChangeListener(listener);
+			});
+			assertEquals(List.of(), values);
+
+			value.addValueChangeListener(listener);
+			realm.runBatch(() -> {
+				value.setValue("c");
+				value.dispose();
+			});
+			assertEquals(List.of(), values);
+		});
+	}
+
+	@Test
+	public void testSideEffectRunsOnceAfterBatch() {
+		Realm realm = new CurrentRealm(true);
+		Realm.runWithDefault(realm, () -> {
+			WritableValue<Integer> first = new WritableValue<>(0, Integer.class);
+			WritableValue<Integer> second = new WritableValue<>(0, Integer.class);
+			List<Integer> sums = new ArrayList<>();
+			ISideEffect sideEffect = ISideEffect.create(() -> sums.add(first.getValue() + second.getValue()));
+
+			realm.runBatch(() -> {
+				first.setValue(1);
+				second.setValue(2);
+			});
+
+			assertEquals(List.of(0, 3), sums);
+			sideEffect.dispose();
+		});
+	}
+
+	@Test
+	public void testCommitWithoutBatch() {
+		Realm realm = new CurrentRealm(true);
+		assertThrows(IllegalStateException.class, realm::commitBatch);
+		assertThrows(IllegalStateException.class, () -> new CurrentRealm(false).beginBatch());
+	}
 }
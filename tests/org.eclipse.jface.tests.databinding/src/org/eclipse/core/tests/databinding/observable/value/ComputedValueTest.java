@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2007 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
+import org.eclipse.core.databinding.observable.IChangeListener;
 import org.eclipse.core.databinding.observable.value.ComputedValue;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
 import org.eclipse.core.databinding.observable.value.WritableValue;
@@ -106,6 +107,70 @@ public class ComputedValueTest extends AbstractDefaultRealmTestCase {
 		}
 	}
 
+	@Test
+	public void testListenersOfUnchangedDependenciesAreKept() throws Exception {
+		final int[] hooks = new int[1];
+		WritableValue<Integer> value1 = new WritableValue<Integer>(Integer.valueOf(1), Integer.TYPE) {
+			@Override
+			protected void firstListenerAdded() {
+				hooks[0]++;
+			}
+		};
+		WritableValue<Integer> value2 = new WritableValue<>(Integer.valueOf(1), Integer.TYPE);
+		IObservableValue<Integer> cv = ComputedValue.create(() -> value1.getValue() + value2.getValue());
+		cv.addChangeListener(event -> {
+		});
+
+		assertEquals(Integer.valueOf(2), cv.getValue());
+		assertEquals(1, hooks[0]);
+
+		value2.setValue(Integer.valueOf(2));
+		assertEquals(Integer.valueOf(3), cv.getValue());
+		value1.setValue(Integer.valueOf(2));
+		assertEquals(Integer.valueOf(4), cv.getValue());
+		assertEquals("listeners must not be removed from unchanged dependencies", 1, hooks[0]);
+	}
+
+	@Test
+	public void testUnobservedDirtyValueStopsListening() throws Exception {
+		ListenedValue value1 = new ListenedValue();
+		ListenedValue value2 = new ListenedValue();
+		IObservableValue<Integer> cv = ComputedValue.create(() -> value1.getValue() + value2.getValue());
+
+		assertEquals(Integer.valueOf(2), cv.getValue());
+		assertTrue(value1.isListened());
+
+		value2.setValue(Integer.valueOf(2));
+		assertFalse("dirty value without listeners must not stay attached", value1.isListened());
+		assertFalse(value2.isListened());
+		assertEquals(Integer.valueOf(3), cv.getValue());
+	}
+
+	@Test
+	public void testDirtyValueStopsListeningWhenLastListenerIsRemoved() throws Exception {
+		ListenedValue value = new ListenedValue();
+		IObservableValue<Integer> cv = ComputedValue.create(() -> value.getValue());
+		IChangeListener listener = event -> {
+		};
+		cv.addChangeListener(listener);
+
+		value.setValue(Integer.valueOf(2));
+		assertTrue(value.isListened());
+
+		cv.removeChangeListener(listener);
+		assertFalse(value.isListened());
+	}
+
+	private static class ListenedValue extends WritableValue<Integer> {
+		ListenedValue() {
+			super(Integer.valueOf(1), Integer.TYPE);
+		}
+
+		boolean isListened() {
+			return hasListeners();
+		}
+	}
+
 	@Test
 	public void testHookAndUnhookDependantObservables() throws Exception {
 		final List<WritableValue<Integer>> values = new ArrayList<>();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 Matthew Hall and others.
+ * Copyright (c) 2009, 2026 Matthew Hall and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,16 +16,41 @@
 package org.eclipse.core.tests.internal.databinding.beans;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 
 import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.eclipse.core.databinding.util.ILogger;
+import org.eclipse.core.databinding.util.Policy;
 import org.eclipse.core.internal.databinding.beans.BeanPropertyHelper;
+import org.eclipse.core.runtime.IStatus;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
 /**
  * @since 3.2
  */
 public class BeanPropertyHelperTest {
+	private ILogger oldLog;
+	private List<IStatus> log;
+
+	@Before
+	public void setUp() {
+		oldLog = Policy.getLog();
+		log = new ArrayList<>();
+		Policy.setLog(log::add);
+	}
+
+	@After
+	public void tearDown() {
+		Policy.setLog(oldLog);
+	}
+
 	@Test
 	public void testGetPropertyDescriptor_ClassProperty()
 			throws SecurityException, NoSuchMethodException {
@@ -53,4 +78,71 @@ public class BeanPropertyHelperTest {
 		assertEquals(IBean.class.getMethod("setValue", String.class), pd.getWriteMethod());
 	}
 
+	@Test
+	public void testReadAndWriteProperty() {
+		PropertyDescriptor pd = BeanPropertyHelper.getPropertyDescriptor(Bean.class, "value");
+		Bean bean = new Bean("old");
+		assertEquals("old", BeanPropertyHelper.readProperty(bean, pd));
+		BeanPropertyHelper.writeProperty(bean, pd, "new");
+		assertEquals("new", bean.getValue());
+		assertEquals(0, log.size());
+	}
+
+	@Test
+	public void testReadAndWriteProperty_PrimitiveType() {
+		PropertyDescriptor pd = BeanPropertyHelper.getPropertyDescriptor(PrimitiveBean.class, "count");
+		PrimitiveBean bean = new PrimitiveBean();
+		BeanPropertyHelper.writeProperty(bean, pd, Integer.valueOf(3));
+		assertEquals(Integer.valueOf(3), BeanPropertyHelper.readProperty(bean, pd));
+		assertEquals(0, log.size());
+	}
+
+	@Test
+	public void testWriteProperty_NullToPrimitiveTypeIsLogged() {
+		PropertyDescriptor pd = BeanPropertyHelper.getPropertyDescriptor(PrimitiveBean.class, "count");
+		PrimitiveBean bean = new PrimitiveBean();
+		bean.setCount(3);
+		BeanPropertyHelper.writeProperty(bean, pd, null);
+		assertEquals(3, bean.getCount());
+		assertEquals(1, log.size());
+		assertEquals(IStatus.WARNING, log.get(0).getSeverity());
+	}
+
+	@Test
+	public void testReadProperty_SourceOfOtherClassIsLogged() {
+		PropertyDescriptor pd = BeanPropertyHelper.getPropertyDescriptor(PrimitiveBean.class, "count");
+		assertNull(BeanPropertyHelper.readProperty(new Bean(), pd));
+		assertEquals(1, log.size());
+		assertEquals(IStatus.WARNING, log.get(0).getSeverity());
+	}
+
+	@Test
+	public void testReadProperty_ExceptionOfReadMethodIsRethrown() {
+		PropertyDescriptor pd = BeanPropertyHelper.getPropertyDescriptor(PrimitiveBean.class, "failing");
+		try {
+			BeanPropertyHelper.readProperty(new PrimitiveBean(), pd);
+			fail("Expected RuntimeException");
+		} catch (RuntimeException e) {
+			assertSame(PrimitiveBean.FAILURE, e.getCause());
+		}
+		assertEquals(0, log.size());
+	}
+
+	public static class PrimitiveBean {
+		static final IllegalStateException FAILURE = new IllegalStateException();
+
+		private int count;
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public String getFailing() {
+			throw FAILURE;
+		}
+	}
 }
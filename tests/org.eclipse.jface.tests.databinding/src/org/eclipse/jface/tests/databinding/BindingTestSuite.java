@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,6 +50,7 @@ import org.eclipse.core.tests.databinding.observable.ChangeSupportTest;
 import org.eclipse.core.tests.databinding.observable.DecoratingObservableTest;
 import org.eclipse.core.tests.databinding.observable.DiffsTest;
 import org.eclipse.core.tests.databinding.observable.Diffs_ListDiffTests;
+import org.eclipse.core.tests.databinding.observable.ExecutorRealmTest;
 import org.eclipse.core.tests.databinding.observable.ObservableTrackerTest;
 import org.eclipse.core.tests.databinding.observable.ObservablesTest;
 import org.eclipse.core.tests.databinding.observable.RealmTest;
@@ -154,6 +155,7 @@ import org.eclipse.jface.tests.databinding.viewers.ObservableSetTreeContentProvi
 import org.eclipse.jface.tests.databinding.viewers.ObservableValueEditingSupportTest;
 import org.eclipse.jface.tests.databinding.viewers.ViewerSupportTest;
 import org.eclipse.jface.tests.databinding.viewers.ViewersObservablesTest;
+import org.eclipse.jface.tests.databinding.viewers.WindowedObservableMapCellLabelProviderTest;
 import org.eclipse.jface.tests.databinding.wizard.WizardPageSupportTest;
 import org.eclipse.jface.tests.examples.databinding.mask.internal.EditMaskLexerAndTokenTest;
 import org.eclipse.jface.tests.examples.databinding.mask.internal.EditMaskParserTest;
@@ -215,6 +217,7 @@ import org.junit.runners.Suite.SuiteClasses;
 		DelayedObservableValueTest.class, DetailObservableListTest.class, DetailObservableMapTest.class,
 		DetailObservableSetTest.class, DetailObservableValueTest.class, DifferentRealmsBindingTest.class,
 		Diffs_ListDiffTests.class, DiffsTest.class, DuplexingObservableValueTest.class, EditMaskLexerAndTokenTest.class,
+		ExecutorRealmTest.class,
 		EditMaskParserTest.class, GroupObservableValueTest.class, IdentityConverterTest.class, IdentityMapTest.class,
 		IdentitySetTest.class, IntegerToStringConverterTest.class, LabelObservableValueTest.class,
 		ListBindingTest.class,
@@ -252,7 +255,8 @@ import org.junit.runners.Suite.SuiteClasses;
 		ValidationStatusTest.class, ValueBindingTest.class, ViewerElementMapTest.class, ViewerElementSetTest.class,
 		ViewerElementWrapperTest.class, ViewersObservablesTest.class,
 		ViewerSupportTest.class, WidgetObservableThreadTest.class, WidgetPropertiesTest.class,
-		WizardPageSupportTest.class, WritableListTest.class, WritableMapTest.class, WritableSetTest.class,
+		WindowedObservableMapCellLabelProviderTest.class, WizardPageSupportTest.class, WritableListTest.class,
+		WritableMapTest.class, WritableSetTest.class,
 		WritableValueTest.class })
 public class BindingTestSuite {
 }
\ No newline at end of file
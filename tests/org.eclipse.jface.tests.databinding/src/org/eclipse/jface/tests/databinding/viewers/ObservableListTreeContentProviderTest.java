@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 Matthew Hall and others.
+ * Copyright (c) 2007, 2026 Matthew Hall and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,11 +16,14 @@
 package org.eclipse.jface.tests.databinding.viewers;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.core.databinding.observable.list.IObservableList;
 import org.eclipse.core.databinding.observable.list.WritableList;
@@ -30,7 +33,11 @@ import org.eclipse.core.runtime.AssertionFailedException;
 import org.eclipse.jface.databinding.viewers.ObservableListTreeContentProvider;
 import org.eclipse.jface.tests.databinding.AbstractDefaultRealmTestCase;
 import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerComparator;
+import org.eclipse.jface.viewers.ViewerFilter;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Tree;
 import org.junit.After;
@@ -163,6 +170,131 @@ public class ObservableListTreeContentProviderTest extends
 		assertEquals(Collections.emptySet(), realizedElements);
 	}
 
+	@Test
+	public void testViewerUpdate_BatchedChangesKeepListOrder() {
+		final IObservableList<Object> children = new WritableList<>();
+		initContentProvider(target -> target == input ? children : null);
+
+		children.addAll(Arrays.asList("a", "b", "c", "d"));
+		assertItems(children);
+
+		children.add(1, "e");
+		children.addAll(Arrays.asList("f", "a"));
+		assertItems(children);
+
+		children.removeAll(Arrays.asList("b", "d", "f"));
+		assertItems(children);
+
+		children.remove(0);
+		assertItems(children);
+
+		children.clear();
+		assertItems(children);
+	}
+
+	@Test
+	public void testViewerUpdate_BatchedChangesWithComparator() {
+		final IObservableList<Object> children = new WritableList<>();
+		initContentProvider(target -> target == input ? children : null);
+		viewer.setComparator(new ViewerComparator());
+
+		children.addAll(Arrays.asList("c", "a", "b"));
+		assertEquals(3, tree.getItemCount());
+		assertEquals("a", tree.getItem(0).getData());
+
+		children.removeAll(Arrays.asList("a", "c"));
+		assertEquals(1, tree.getItemCount());
+		assertEquals("b", tree.getItem(0).getData());
+	}
+
+	@Test
+	public void testCollapse_DisposesCollectionsOfChildren() {
+		final Object parent = "parent";
+		final Object child = "child";
+		final Object grandChild = "grandChild";
+		final List<IObservableList<Object>> childLists = new ArrayList<>();
+		initContentProvider(target -> {
+			if (target == input)
+				return new WritableList<>(Collections.singletonList(parent), null);
+			if (target == parent)
+				return new WritableList<>(Collections.singletonList(child), null);
+			if (target == child) {
+				IObservableList<Object> list = new WritableList<>(Collections.singletonList(grandChild), null);
+				childLists.add(list);
+				return list;
+			}
+			return null;
+		});
+		IObservableSet<Object> knownElements = contentProvider.getKnownElements();
+
+		viewer.setExpandedState(parent, true);
+		assertEquals(1, childLists.size());
+		assertTrue(knownElements.contains(grandChild));
+
+		viewer.setExpandedState(parent, false);
+		Event event = new Event();
+		event.item = tree.getItem(0);
+		tree.notifyListeners(SWT.Collapse, event);
+		runAsync();
+
+		assertTrue(childLists.get(0).isDisposed());
+		assertEquals(1, childLists.size());
+		assertTrue(knownElements.contains(child));
+		assertFalse(knownElements.contains(grandChild));
+
+		viewer.setExpandedState(parent, true);
+		assertEquals(2, childLists.size());
+		assertTrue(knownElements.contains(grandChild));
+		assertEquals(child, tree.getItem(0).getItem(0).getData());
+	}
+
+	@Test
+	public void testCollapse_FilteredChildrenAreNotRecreated() {
+		final Object parent = "parent";
+		final Object child = "child";
+		final Object grandChild = "grandChild";
+		final List<IObservableList<Object>> childLists = new ArrayList<>();
+		initContentProvider(target -> {
+			if (target == input)
+				return new WritableList<>(Collections.singletonList(parent), null);
+			if (target == parent)
+				return new WritableList<>(Collections.singletonList(child), null);
+			if (target == child) {
+				IObservableList<Object> list = new WritableList<>(Collections.singletonList(grandChild), null);
+				childLists.add(list);
+				return list;
+			}
+			return null;
+		});
+		// like a pattern filter, shows elements that have children
+		viewer.addFilter(new ViewerFilter() {
+			@Override
+			public boolean select(Viewer filteredViewer, Object parentElement, Object element) {
+				return element == grandChild || contentProvider.hasChildren(element);
+			}
+		});
+
+		viewer.setExpandedState(parent, true);
+		assertEquals(1, childLists.size());
+
+		viewer.setExpandedState(parent, false);
+		Event event = new Event();
+		event.item = tree.getItem(0);
+		tree.notifyListeners(SWT.Collapse, event);
+		runAsync();
+
+		assertTrue(childLists.get(0).isDisposed());
+		assertEquals(1, childLists.size());
+		assertFalse(contentProvider.getKnownElements().contains(grandChild));
+	}
+
+	private void assertItems(List<Object> elements) {
+		assertEquals(elements.size(), tree.getItemCount());
+		for (int i = 0; i < elements.size(); i++) {
+			assertEquals(elements.get(i), tree.getItem(i).getData());
+		}
+	}
+
 	static class Mutable {
 		private int id;
 
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.tests.databinding.viewers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+
+import org.eclipse.core.databinding.beans.typed.BeanProperties;
+import org.eclipse.core.databinding.observable.list.WritableList;
+import org.eclipse.jface.databinding.viewers.ObservableListContentProvider;
+import org.eclipse.jface.databinding.viewers.WindowedObservableMapCellLabelProvider;
+import org.eclipse.jface.tests.databinding.AbstractDefaultRealmTestCase;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WindowedObservableMapCellLabelProviderTest extends AbstractDefaultRealmTestCase {
+	private static final int ITEM_COUNT = 1000;
+
+	private Shell shell;
+	private TableViewer viewer;
+	private WritableList<Item> input;
+	private WindowedObservableMapCellLabelProvider labelProvider;
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		shell = new Shell();
+		shell.setSize(200, 200);
+		viewer = new TableViewer(shell, SWT.VIRTUAL);
+		viewer.getTable().setSize(200, 200);
+		viewer.setContentProvider(new ObservableListContentProvider<>());
+		labelProvider = new WindowedObservableMapCellLabelProvider(viewer, 10,
+				BeanProperties.value(Item.class, "value"));
+		viewer.setLabelProvider(labelProvider);
+
+		input = new WritableList<>();
+		for (int i = 0; i < ITEM_COUNT; i++) {
+			input.add(new Item("item" + i));
+		}
+		viewer.setInput(input);
+		shell.open();
+		processEvents();
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		shell.dispose();
+		viewer = null;
+		input = null;
+		super.tearDown();
+	}
+
+	@Test
+	public void testOnlyRowsNearVisibleRowsAreObserved() {
+		assertEquals("item0", viewer.getTable().getItem(0).getText());
+		assertTrue(input.get(0).hasListeners());
+		assertFalse(input.get(ITEM_COUNT - 1).hasListeners());
+		assertTrue(observedCount() < ITEM_COUNT / 10);
+	}
+
+	@Test
+	public void testScrolledOutRowsAreNoLongerObserved() {
+		Table table = viewer.getTable();
+		table.setTopIndex(ITEM_COUNT / 2);
+		table.redraw();
+		processEvents();
+
+		assertFalse(input.get(0).hasListeners());
+		assertTrue(input.get(table.getTopIndex()).hasListeners());
+		assertEquals("item" + table.getTopIndex(), table.getItem(table.getTopIndex()).getText());
+		assertTrue(observedCount() < ITEM_COUNT / 10);
+	}
+
+	@Test
+	public void testChangedAttributeUpdatesLabel() {
+		input.get(0).setValue("changed");
+		assertEquals("changed", viewer.getTable().getItem(0).getText());
+	}
+
+	@Test
+	public void testDispose() {
+		labelProvider.dispose();
+		for (Item item : input) {
+			assertFalse(item.hasListeners());
+		}
+	}
+
+	@Test
+	public void testNegativeMargin() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new WindowedObservableMapCellLabelProvider(viewer, -1, BeanProperties.value(Item.class, "value")));
+	}
+
+	private int observedCount() {
+		int count = 0;
+		for (Item item : input) {
+			if (item.hasListeners()) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static void processEvents() {
+		Display display = Display.getCurrent();
+		while (display.readAndDispatch()) {
+		}
+	}
+
+	public static class Item {
+		private final PropertyChangeSupport changeSupport = new PropertyChangeSupport(this);
+		private String value;
+
+		Item(String value) {
+			this.value = value;
+		}
+
+		public void addPropertyChangeListener(PropertyChangeListener listener) {
+			changeSupport.addPropertyChangeListener(listener);
+		}
+
+		public void removePropertyChangeListener(PropertyChangeListener listener) {
+			changeSupport.removePropertyChangeListener(listener);
+		}
+
+		public String getValue() {
+			return value;
+		}
+
+		public void setValue(String value) {
+			changeSupport.firePropertyChange("value", this.value, this.value = value);
+		}
+
+		boolean hasListeners() {
+			return changeSupport.getPropertyChangeListeners().length > 0;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -149,6 +149,32 @@ public class FileImageDescriptorTest {
 		image2.dispose();
 	}
 
+	@Test
+	public void testPrefetchImageData() {
+		ImageDescriptor descriptor = ImageDescriptor.createFromFile(FileImageDescriptorTest.class, "anything.gif");
+		descriptor.prefetchImageData(100, 200).join();
+
+		ImageData data1 = descriptor.getImageData(100);
+		assertNotNull("Could not find image data", data1);
+		ImageData data2 = descriptor.getImageData(100);
+		assertNotSame("Image data must be copied", data1, data2);
+		assertEquals(data1.width, data2.width);
+		assertEquals(data1.height, data2.height);
+
+		Image image1 = descriptor.createImage();
+		assertNotNull("Could not find first image", image1);
+		Image image2 = descriptor.createImage();
+		assertNotEquals("Found equal images for FileImageDescriptor", image1, image2);
+		assertEquals(data1.width, image1.getBounds().width);
+		image1.dispose();
+		image2.dispose();
+
+		ImageDescriptor missing = ImageDescriptor.createFromFile(FileImageDescriptorTest.class, "missing.gif");
+		missing.prefetchImageData(100).join();
+		assertNull("Found image data but should be null", missing.getImageData(100));
+		assertNull("Found an image but should be null", missing.createImage(false));
+	}
+
 	@Test
 	public void testGetxName() {
 		ImageDescriptor descriptor = ImageDescriptor.createFromFile(FileImageDescriptorTest.class,
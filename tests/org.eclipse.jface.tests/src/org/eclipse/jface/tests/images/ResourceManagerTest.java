@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2023 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -296,6 +296,35 @@ public class ResourceManagerTest {
 		Assert.assertEquals(2, TestDescriptor.refCount);
 	}
 
+	@Test
+	public void testRetainedResources() throws Exception {
+		globalResourceManager.setRetainedResourceLimit(2);
+		int[] resources = { 0, 2, 4 };
+
+		// Resources without references are kept up to the limit
+		allocateResources(globalResourceManager, resources);
+		deallocateResources(globalResourceManager, resources);
+		Assert.assertEquals(2, TestDescriptor.refCount);
+		Assert.assertEquals(2, globalResourceManager.getRetainedResourceCount());
+		Assert.assertEquals(2, globalResourceManager.getLiveResourceCount());
+		assertNull("Retained resources have no references", globalResourceManager.find(descriptors[2]));
+
+		// Retained resources are reused, the least recently used one was dropped
+		int[] reused = { 3, 4, 1, 0 };
+		allocateResources(globalResourceManager, reused);
+		Assert.assertEquals(4, globalResourceManager.getAllocationCount());
+		Assert.assertEquals(3.0 / 7, globalResourceManager.getHitRate(), 1e-9);
+		Assert.assertEquals(0, globalResourceManager.getRetainedResourceCount());
+		Assert.assertEquals(3, TestDescriptor.refCount);
+		deallocateResources(globalResourceManager, reused);
+		Assert.assertEquals(2, globalResourceManager.getRetainedResourceCount());
+
+		// Lowering the limit deallocates retained resources
+		globalResourceManager.setRetainedResourceLimit(0);
+		Assert.assertEquals(0, TestDescriptor.refCount);
+		Assert.assertEquals(0, globalResourceManager.getLiveResourceCount());
+	}
+
 	/*
 	 * See https://bugs.eclipse.org/bugs/show_bug.cgi?id=135088
 	 */
@@ -0,0 +1,358 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.jface.viewers.IElementComparer;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.junit.Test;
+
+/**
+ * Tests the package private <code>CustomHashtable</code> that backs the element map of
+ * structured viewers. The table is accessed through reflection.
+ */
+public class CustomHashtableTest {
+
+	/**
+	 * A key with a poor hash code, so that many keys share a probe sequence.
+	 */
+	private static final class CollidingKey {
+		final int id;
+
+		CollidingKey(int id) {
+			this.id = id;
+		}
+
+		@Override
+		public int hashCode() {
+			return id % 97;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof CollidingKey && ((CollidingKey) obj).id == id;
+		}
+
+		@Override
+		public String toString() {
+			return "Key" + id;
+		}
+	}
+
+	/**
+	 * Compares strings ignoring their case.
+	 */
+	private static final class CaseInsensitiveComparer implements IElementComparer {
+		@Override
+		public boolean equals(Object a, Object b) {
+			return ((String) a).equalsIgnoreCase((String) b);
+		}
+
+		@Override
+		public int hashCode(Object element) {
+			return ((String) element).toLowerCase().hashCode();
+		}
+	}
+
+	/**
+	 * Reflective access to a <code>CustomHashtable</code>.
+	 */
+	private static final class Table {
+		private static final Class<?> CLASS;
+		private static final Constructor<?> CONSTRUCTOR;
+		private static final Method PUT;
+		private static final Method GET;
+		private static final Method REMOVE;
+		private static final Method CONTAINS_KEY;
+		private static final Method SIZE;
+		private static final Method KEYS;
+		private static final Field KEY_DATA;
+
+		static {
+			try {
+				CLASS = Class.forName("org.eclipse.jface.viewers.CustomHashtable", true,
+						StructuredViewer.class.getClassLoader());
+				CONSTRUCTOR = CLASS.getDeclaredConstructor(int.class, IElementComparer.class);
+				PUT = CLASS.getDeclaredMethod("put", Object.class, Object.class);
+				GET = CLASS.getDeclaredMethod("get", Object.class);
+				REMOVE = CLASS.getDeclaredMethod("remove", Object.class);
+				CONTAINS_KEY = CLASS.getDeclaredMethod("containsKey", Object.class);
+				SIZE = CLASS.getDeclaredMethod("size");
+				KEYS = CLASS.getDeclaredMethod("keys");
+				KEY_DATA = CLASS.getDeclaredField("keyData");
+				for (AccessibleObject member : new AccessibleObject[] { CONSTRUCTOR, PUT, GET, REMOVE, CONTAINS_KEY,
+						SIZE, KEYS, KEY_DATA }) {
+					member.setAccessible(true);
+				}
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		private final Object table;
+
+		Table(int capacity, IElementComparer comparer) {
+			try {
+				table = CONSTRUCTOR.newInstance(Integer.valueOf(capacity), comparer);
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		Object put(Object key, Object value) {
+			return invoke(PUT, key, value);
+		}
+
+		Object get(Object key) {
+			return invoke(GET, key);
+		}
+
+		Object remove(Object key) {
+			return invoke(REMOVE, key);
+		}
+
+		boolean containsKey(Object key) {
+			return ((Boolean) invoke(CONTAINS_KEY, key)).booleanValue();
+		}
+
+		int size() {
+			return ((Integer) invoke(SIZE)).intValue();
+		}
+
+		@SuppressWarnings("unchecked")
+		List<Object> keys() {
+			return Collections.list((Enumeration<Object>) invoke(KEYS));
+		}
+
+		int tableLength() {
+			try {
+				return ((Object[]) KEY_DATA.get(table)).length;
+			} catch (IllegalAccessException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		private Object invoke(Method method, Object... args) {
+			try {
+				return method.invoke(table, args);
+			} catch (InvocationTargetException e) {
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw new IllegalStateException(e.getCause());
+			} catch (IllegalAccessException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	private static void assertContent(Map<Object, Object> expected, Table table) {
+		assertEquals(expected.size(), table.size());
+		List<Object> keys = table.keys();
+		assertEquals(expected.size(), keys.size());
+		for (Object key : keys) {
+			assertTrue(expected.containsKey(key));
+		}
+		for (Map.Entry<Object, Object> entry : expected.entrySet()) {
+			assertEquals(entry.getValue(), table.get(entry.getKey()));
+		}
+	}
+
+	@Test
+	public void testRandomizedAgainstHashMap() {
+		Random random = new Random(4711);
+		for (int round = 0; round < 20; round++) {
+			Table table = new Table(random.nextInt(20), null);
+			Map<Object, Object> expected = new HashMap<>();
+			int range = 1 + random.nextInt(2000);
+			for (int i = 0; i < 20000; i++) {
+				Object key = random.nextBoolean() ? new CollidingKey(random.nextInt(range))
+						: Integer.valueOf(random.nextInt(range));
+				switch (random.nextInt(3)) {
+				case 0:
+					Object value = new Object();
+					assertSame(expected.put(key, value), table.put(key, value));
+					break;
+				case 1:
+					assertSame(expected.remove(key), table.remove(key));
+					break;
+				default:
+					assertSame(expected.get(key), table.get(key));
+					assertEquals(expected.containsKey(key), table.containsKey(key));
+				}
+				assertEquals(expected.size(), table.size());
+			}
+			assertContent(expected, table);
+		}
+	}
+
+	@Test
+	public void testElementComparer() {
+		Table table = new Table(0, new CaseInsensitiveComparer());
+		Object value1 = new Object();
+		Object value2 = new Object();
+		assertNull(table.put("Element", value1));
+		assertTrue(table.containsKey("ELEMENT"));
+		assertSame(value1, table.get("element"));
+
+		// an equal key replaces the old key, see bug 30607
+		assertSame(value1, table.put("ELEMENT", value2));
+		assertEquals(1, table.size());
+		assertEquals(List.of("ELEMENT"), table.keys());
+		assertSame(value2, table.get("Element"));
+
+		assertSame(value2, table.remove("element"));
+		assertFalse(table.containsKey("ELEMENT"));
+		assertEquals(0, table.size());
+	}
+
+	@Test
+	public void testElementComparerWithCollisions() {
+		IElementComparer comparer = new IElementComparer() {
+			@Override
+			public boolean equals(Object a, Object b) {
+				return a.equals(b);
+			}
+
+			@Override
+			public int hashCode(Object element) {
+				return 0;
+			}
+		};
+		Table table = new Table(0, comparer);
+		Map<Object, Object> expected = new HashMap<>();
+		for (int i = 0; i < 200; i++) {
+			expected.put(Integer.valueOf(i), Integer.valueOf(-i));
+			table.put(Integer.valueOf(i), Integer.valueOf(-i));
+		}
+		for (int i = 0; i < 200; i += 3) {
+			assertEquals(expected.remove(Integer.valueOf(i)), table.remove(Integer.valueOf(i)));
+		}
+		assertContent(expected, table);
+	}
+
+	@Test
+	public void testRemovalHeavy() {
+		Random random = new Random(42);
+		Table table = new Table(0, null);
+		Map<Object, Object> expected = new HashMap<>();
+		List<CollidingKey> keys = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			CollidingKey key = new CollidingKey(i);
+			keys.add(key);
+			expected.put(key, key.toString());
+			table.put(key, key.toString());
+		}
+		int length = table.tableLength();
+
+		Collections.shuffle(keys, random);
+		for (int i = 0; i < 4900; i++) {
+			CollidingKey key = keys.get(i);
+			assertEquals(expected.remove(key), table.remove(key));
+			assertNull(table.remove(key));
+			assertFalse(table.containsKey(key));
+		}
+		assertContent(expected, table);
+
+		// removed keys must leave no tombstones, the table does not have to grow
+		for (int round = 0; round < 10; round++) {
+			for (int i = 0; i < 4900; i++) {
+				CollidingKey key = keys.get(i);
+				expected.put(key, key.toString());
+				table.put(key, key.toString());
+			}
+			for (int i = 0; i < 4900; i++) {
+				CollidingKey key = keys.get(i);
+				expected.remove(key);
+				table.remove(key);
+			}
+		}
+		assertContent(expected, table);
+		assertEquals(length, table.tableLength());
+
+		for (int i = 4900; i < keys.size(); i++) {
+			table.remove(keys.get(i));
+		}
+		assertEquals(0, table.size());
+		assertTrue(table.keys().isEmpty());
+	}
+
+	@Test
+	public void testRehashAtLoadFactorBoundary() {
+		// 12 keys need 16 slots at a load factor of 0.75, so the table gets 32 slots and
+		// grows when the 25th key is added
+		Table table = new Table(12, null);
+		assertEquals(32, table.tableLength());
+		Map<Object, Object> expected = new HashMap<>();
+		for (int i = 0; i < 24; i++) {
+			expected.put(Integer.valueOf(i * 32), Integer.valueOf(i));
+			table.put(Integer.valueOf(i * 32), Integer.valueOf(i));
+		}
+		assertEquals(32, table.tableLength());
+		assertContent(expected, table);
+
+		// replacing the value of an existing key does not grow the table
+		table.put(Integer.valueOf(0), Integer.valueOf(0));
+		assertEquals(32, table.tableLength());
+
+		expected.put(Integer.valueOf(24 * 32), Integer.valueOf(24));
+		table.put(Integer.valueOf(24 * 32), Integer.valueOf(24));
+		assertEquals(64, table.tableLength());
+		assertContent(expected, table);
+
+		// removing keys does not shrink the table
+		for (int i = 0; i < 25; i++) {
+			table.remove(Integer.valueOf(i * 32));
+		}
+		assertEquals(64, table.tableLength());
+		assertEquals(0, table.size());
+	}
+
+	@Test
+	public void testNullKeyOrValue() {
+		Table table = new Table(0, null);
+		try {
+			table.put(null, "value");
+			fail();
+		} catch (NullPointerException e) {
+			// expected
+		}
+		try {
+			table.put("key", null);
+			fail();
+		} catch (NullPointerException e) {
+			// expected
+		}
+		assertEquals(0, table.size());
+	}
+}
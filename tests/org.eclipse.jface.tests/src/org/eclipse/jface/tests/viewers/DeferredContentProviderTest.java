@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.deferred.DeferredContentProvider;
+import org.eclipse.jface.viewers.deferred.SetModel;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DeferredContentProviderTest {
+	private static final long TIMEOUT = 10000;
+
+	private Shell shell;
+	private TableViewer viewer;
+	private DeferredContentProvider contentProvider;
+	private SetModel model;
+
+	@Before
+	public void setUp() {
+		shell = new Shell();
+		shell.setSize(200, 400);
+		viewer = new TableViewer(shell, SWT.VIRTUAL);
+		viewer.getTable().setSize(200, 400);
+		contentProvider = new DeferredContentProvider(Comparator.naturalOrder());
+		viewer.setContentProvider(contentProvider);
+		viewer.setLabelProvider(new LabelProvider());
+		model = new SetModel();
+		for (int i = 0; i < 20; i++) {
+			model.addAll(new Object[] { String.format("e%02d", Integer.valueOf(i)) });
+		}
+		shell.open();
+	}
+
+	@After
+	public void tearDown() {
+		shell.dispose();
+	}
+
+	@Test
+	public void testRemoveBackfillsLimit() {
+		contentProvider.setLimit(5);
+		viewer.setInput(model);
+		assertRows("e00", "e01", "e02", "e03", "e04");
+
+		model.removeAll(new Object[] { "e00", "e02" });
+		assertRows("e01", "e03", "e04", "e05", "e06");
+	}
+
+	/**
+	 * Processes events until the table shows the given rows or the timeout
+	 * has elapsed, and asserts the rows.
+	 */
+	private void assertRows(Object... expected) {
+		Display display = shell.getDisplay();
+		long end = System.currentTimeMillis() + TIMEOUT;
+		Object[] rows = rows();
+		while (!Arrays.equals(expected, rows) && System.currentTimeMillis() < end) {
+			if (!display.readAndDispatch()) {
+				// The rows are sent by the sort thread, wake up to check them
+				display.timerExec(50, () -> {
+				});
+				display.sleep();
+			}
+			rows = rows();
+		}
+		assertArrayEquals(expected, rows);
+	}
+
+	private Object[] rows() {
+		Table table = viewer.getTable();
+		Object[] rows = new Object[table.getItemCount()];
+		for (int i = 0; i < rows.length; i++) {
+			rows[i] = table.getItem(i).getData();
+		}
+		return rows;
+	}
+}
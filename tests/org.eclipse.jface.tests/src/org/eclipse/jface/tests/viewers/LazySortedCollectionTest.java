@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2023 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.jface.tests.viewers;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.util.Arrays;
 import java.util.Iterator;
@@ -451,6 +452,45 @@ public class LazySortedCollectionTest {
 		assertContentsValid();
 	}
 
+	/**
+	 * Tests removing a node whose next-largest node is below a node with
+	 * unsorted children
+	 */
+	@Test
+	public void testRemoveWithUnsortedOnSuccessorPath() {
+		clear();
+		add("22");
+		add("86");
+		queryRange(0, 1, true);
+		add("78");
+		add("12");
+		add("97");
+		queryRange(4, 1, true);
+		add("31");
+		queryRange(0, 1, true);
+		remove("22");
+		queryRange(0, 5, true);
+	}
+
+	@Test
+	public void testUpdate() {
+		forceFullSort();
+		StringBuilder moving = new StringBuilder("v13 moving");
+		collection.add(moving);
+
+		Object[] result = new Object[elements.length + 1];
+		collection.getFirst(result, true);
+		assertSame(moving, result[14]);
+
+		moving.replace(0, 3, "v00");
+		collection.update(new Object[] { moving, "v27 unknown" });
+
+		collection.getFirst(result, true);
+		assertSame(moving, result[1]);
+		assertEquals(elements.length + 1, collection.size());
+		collection.testInvariants();
+	}
+
 	@Test
 	public void testClear() {
 		clear();
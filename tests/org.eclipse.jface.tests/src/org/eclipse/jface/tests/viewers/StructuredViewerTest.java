@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,10 +17,17 @@
 package org.eclipse.jface.tests.viewers;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.jface.viewers.IBaseLabelProvider;
 import org.eclipse.jface.viewers.IBasicPropertyConstants;
@@ -524,6 +531,91 @@ public abstract class StructuredViewerTest extends ViewerTestCase {
 		assertEquals(first, result.getFirstElement());
 	}
 
+	@Test
+	public void testRefreshInBackground() throws Exception {
+		TestElement first = fRootElement.getFirstChild();
+		TestElement newElement = fRootElement.basicAddChild();
+		fRootElement.basicDeleteChild(first);
+		CompletableFuture<Void> future = fViewer.refreshInBackground(ForkJoinPool.commonPool());
+		new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return future.isDone() && fViewer.testFindItem(newElement) != null;
+			}
+		}.waitForCondition(fViewer.getControl().getDisplay(), 3000);
+		future.get();
+		assertNotNull("new sibling is visible", fViewer.testFindItem(newElement));
+		assertNull("first child is not visible", fViewer.testFindItem(first));
+	}
+
+	@Test
+	public void testRefreshInBackgroundGetsLabelsInUIThread() throws Exception {
+		Thread uiThread = Thread.currentThread();
+		AtomicBoolean calledInBackground = new AtomicBoolean();
+		fViewer.setLabelProvider(new TestLabelProvider() {
+			@Override
+			public String getText(Object element) {
+				if (Thread.currentThread() != uiThread) {
+					calledInBackground.set(true);
+				}
+				return super.getText(element);
+			}
+		});
+		// the default comparator sorts by the labels of the elements
+		fViewer.setComparator(new ViewerComparator());
+		TestElement newElement = fRootElement.basicAddChild();
+		CompletableFuture<Void> future = fViewer.refreshInBackground(ForkJoinPool.commonPool());
+		new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return future.isDone();
+			}
+		}.waitForCondition(fViewer.getControl().getDisplay(), 3000);
+		future.get();
+		assertNotNull("new sibling is visible", fViewer.testFindItem(newElement));
+		assertFalse("label provider is only called in the UI thread", calledInBackground.get());
+	}
+
+	@Test
+	public void testRefreshInBackgroundSupersededByRefresh() {
+		List<Runnable> tasks = new ArrayList<>();
+		TestElement first = fRootElement.getFirstChild();
+		CompletableFuture<Void> future = fViewer.refreshInBackground(tasks::add);
+		tasks.forEach(Runnable::run);
+		fRootElement.basicDeleteChild(first);
+		fViewer.refresh();
+		new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return future.isDone();
+			}
+		}.waitForCondition(fViewer.getControl().getDisplay(), 3000);
+		assertTrue("outdated background refresh is cancelled", future.isCancelled());
+		assertNull("first child is not visible", fViewer.testFindItem(first));
+	}
+
+	@Test
+	public void testRefreshInBackgroundWithError() {
+		Thread uiThread = Thread.currentThread();
+		fViewer.addFilter(new ViewerFilter() {
+			@Override
+			public boolean select(Viewer viewer, Object parentElement, Object element) {
+				if (Thread.currentThread() != uiThread) {
+					throw new AssertionError();
+				}
+				return true;
+			}
+		});
+		CompletableFuture<Void> future = fViewer.refreshInBackground(ForkJoinPool.commonPool());
+		new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return future.isDone();
+			}
+		}.waitForCondition(fViewer.getControl().getDisplay(), 3000);
+		assertTrue("error is reported", future.isCompletedExceptionally());
+	}
+
 	@Test
 	public void testSomeChildrenChanged() {
 		bulkChange(new TestModelChange(TestModelChange.STRUCTURE_CHANGE,
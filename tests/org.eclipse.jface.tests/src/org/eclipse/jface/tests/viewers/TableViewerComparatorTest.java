@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,12 @@
 
 package org.eclipse.jface.tests.viewers;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
+import java.text.Collator;
+import java.util.Arrays;
+
 import org.eclipse.jface.viewers.ColumnLayoutData;
 import org.eclipse.jface.viewers.ColumnWeightData;
 import org.eclipse.jface.viewers.StructuredViewer;
@@ -89,6 +93,25 @@ public class TableViewerComparatorTest extends ViewerComparatorTest {
 		assertSortedResult(TEAM1_SORTED_WITH_INSERT);
 	}
 
+	@Test
+	public void testViewerComparatorSortMatchesCompare() {
+		ViewerComparator comparator = new ViewerComparator(Collator.getInstance()) {
+			@Override
+			public int category(Object element) {
+				return element.toString().length() % 3;
+			}
+		};
+		// large enough to sort the collation keys in parallel
+		Object[] elements = new Object[20000];
+		for (int i = 0; i < elements.length; i++) {
+			elements[i] = Integer.toString((i * 7919) % 5000, 36) + (i % 2 == 0 ? "a" : "B");
+		}
+		Object[] expected = elements.clone();
+		Arrays.sort(expected, (e1, e2) -> comparator.compare(null, e1, e2));
+		comparator.sort(null, elements);
+		assertArrayEquals(expected, elements);
+	}
+
 	private void assertSortedResult(String[] expected) {
 		TableItem[] items = getTableViewer().getTable().getItems();
 		for (int i = 0; i < items.length; i++) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2006 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,23 @@
  *******************************************************************************/
 package org.eclipse.jface.tests.viewers;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import org.eclipse.jface.viewers.StructuredViewer;
 import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.ViewerComparator;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Tree;
 import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.swt.widgets.Widget;
+import org.junit.Test;
 
 public class TreeViewerTest extends AbstractTreeViewerTest {
 
@@ -44,6 +56,38 @@ public class TreeViewerTest extends AbstractTreeViewerTest {
 		return element.getChildCount();
 	}
 
+	@Test
+	public void testRefreshWithInsertedChildKeepsItems() {
+		fTreeViewer.setComparator(new ViewerComparator());
+		TestElement first = fRootElement.getFirstChild();
+		TestElement last = fRootElement.getLastChild();
+		Widget firstItem = fViewer.testFindItem(first);
+		Widget lastItem = fViewer.testFindItem(last);
+		int count = ((Tree) fTreeViewer.getControl()).getItemCount();
+
+		TestElement added = fRootElement.addChild(TestModelChange.STRUCTURE_CHANGE);
+		assertEquals(count + 1, ((Tree) fTreeViewer.getControl()).getItemCount());
+		assertNotNull("new child is visible", fViewer.testFindItem(added));
+		assertSame(firstItem, fViewer.testFindItem(first));
+		assertSame(lastItem, fViewer.testFindItem(last));
+	}
+
+	@Test
+	public void testRefreshInBackgroundSuperseded() throws Exception {
+		fTreeViewer.expandToLevel(fRootElement.getFirstChild(), 1);
+		List<Runnable> tasks = new ArrayList<>();
+		CompletableFuture<Void> first = fTreeViewer.refreshInBackground(tasks::add);
+		TestElement newElement = fRootElement.getFirstChild().basicAddChild();
+		CompletableFuture<Void> second = fTreeViewer.refreshInBackground(tasks::add);
+		for (Runnable task : tasks) {
+			task.run();
+		}
+		processEvents();
+		assertTrue(first.isCancelled());
+		second.get();
+		assertNotNull("new child is visible", fViewer.testFindItem(newElement));
+	}
+
 	@Override
 	protected String getItemText(int at) {
 		Tree tree = (Tree) fTreeViewer.getControl();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2018 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -135,6 +135,16 @@ public class VirtualLazyTreeViewerTest extends TreeViewerTest {
 	public void testSorter() {
 	}
 
+	@Ignore("no need to test since virtual trees do not support sorting")
+	@Override
+	public void testRefreshWithInsertedChildKeepsItems() {
+	}
+
+	@Ignore("lazy tree viewers are refreshed synchronously")
+	@Override
+	public void testRefreshInBackgroundSuperseded() {
+	}
+
 	@Ignore("test is not relevant for lazy tree viewer")
 	@Override
 	public void testChildIsNotDuplicatedWhenCompareEquals() {
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.tests.filesearch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.search.internal.core.text.FileContentCache;
+import org.eclipse.search.tests.ResourceHelper;
+
+public class FileContentCacheTest {
+
+	private IProject fProject;
+	private FileContentCache fCache;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= ResourceHelper.createProject("my-project"); //$NON-NLS-1$
+		fCache= new FileContentCache(100);
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(fCache, IResourceChangeEvent.POST_CHANGE);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(fCache);
+		ResourceHelper.deleteProject("my-project"); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testHitAndMiss() throws Exception {
+		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder1"));
+		IFile file= ResourceHelper.createFile(folder, "file1", "hello world");
+
+		String first= fCache.getContent(file);
+		assertEquals("hello world", first);
+		assertSame(first, fCache.getContent(file));
+		assertEquals(1, fCache.getMissCount());
+		assertEquals(1, fCache.getHitCount());
+		assertEquals(0.5, fCache.getHitRate(), 0);
+		assertEquals(1, fCache.getEntryCount());
+		assertEquals(2 * "hello world".length(), fCache.getMemoryUsage());
+	}
+
+	@Test
+	public void testInvalidatedOnChange() throws Exception {
+		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder1"));
+		IFile file= ResourceHelper.createFile(folder, "file1", "hello world");
+		assertEquals("hello world", fCache.getContent(file));
+
+		file.setContents(new ByteArrayInputStream("changed".getBytes(StandardCharsets.ISO_8859_1)), true, false, null);
+		assertEquals(0, fCache.getEntryCount());
+		assertEquals("changed", fCache.getContent(file));
+
+		file.delete(true, null);
+		assertEquals(0, fCache.getEntryCount());
+	}
+
+	@Test
+	public void testSizeLimit() throws Exception {
+		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder1"));
+		String content= "0123456789".repeat(4);
+		IFile file1= ResourceHelper.createFile(folder, "file1", content);
+		IFile file2= ResourceHelper.createFile(folder, "file2", content);
+		IFile file3= ResourceHelper.createFile(folder, "file3", content);
+
+		fCache.getContent(file1);
+		fCache.getContent(file2);
+		fCache.getContent(file3);
+		// the least recently used file is dropped to stay within 100 characters
+		assertEquals(2, fCache.getEntryCount());
+		assertEquals(1, fCache.getEvictionCount());
+
+		fCache.getContent(file3);
+		assertEquals(1, fCache.getHitCount());
+		fCache.getContent(file1);
+		assertEquals(1, fCache.getHitCount());
+	}
+}
@@ -15,6 +15,7 @@ package org.eclipse.search.tests.filesearch;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assume.assumeFalse;
 
 import org.junit.Before;
@@ -92,6 +93,24 @@ public class PositionTrackerTest {
 		}
 	}
 
+	@Test
+	public void testUntrackOnClose() throws Exception {
+		NewSearchUI.runQueryInForeground(null, fQuery1);
+		AbstractTextSearchResult result= (AbstractTextSearchResult) fQuery1.getSearchResult();
+		IFile file= (IFile) result.getElements()[0];
+		Match[] matches= result.getMatches(file);
+		try {
+			SearchTestPlugin.openTextEditor(SearchPlugin.getActivePage(), file);
+			for (Match match : matches) {
+				assertNotNull("null position for match: " + match, InternalSearchUI.getInstance().getPositionTracker().getCurrentPosition(match));
+			}
+		} finally {
+			SearchPlugin.getActivePage().closeAllEditors(false);
+		}
+		for (Match match : matches) {
+			assertNull(InternalSearchUI.getInstance().getPositionTracker().getCurrentPosition(match));
+		}
+	}
 
 	private void checkInsertInsideMatch(FileSearchResult result, IFile file) throws PartInitException, BadLocationException {
 		Match[] matches= result.getMatches(file);
@@ -22,18 +22,25 @@ import org.junit.ClassRule;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Item;
 import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.Tree;
 import org.eclipse.swt.widgets.Widget;
 
 import org.eclipse.core.runtime.jobs.IJobManager;
 import org.eclipse.core.runtime.jobs.Job;
 
+import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.jface.viewers.AbstractTreeViewer;
+import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.jface.viewers.StructuredViewer;
 import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TreeViewer;
 
+import org.eclipse.search.internal.ui.SearchPlugin;
+import org.eclipse.search.internal.ui.SearchPreferencePage;
 import org.eclipse.search.internal.ui.text.FileSearchPage;
 import org.eclipse.search.internal.ui.text.FileSearchQuery;
 import org.eclipse.search.tests.SearchTestPlugin;
@@ -162,4 +169,36 @@ public class SearchResultPageTest {
 		assertEquals(1, table.getSelectionCount());
 		assertEquals(0, table.getSelectionIndex());
 }
+
+	@Test
+	public void testVirtualTreeDisplay() {
+		IPreferenceStore store= SearchPlugin.getDefault().getPreferenceStore();
+		store.setValue(SearchPreferencePage.VIRTUAL_RESULT_TREE, true);
+		try {
+			NewSearchUI.runQueryInForeground(null, fQuery1);
+			ISearchResultViewPart view= NewSearchUI.getSearchResultView();
+			FileSearchPage page= (FileSearchPage) view.getActivePage();
+			// switch layouts to make sure the tree viewer is recreated
+			page.setLayout(AbstractTextSearchViewPage.FLAG_LAYOUT_FLAT);
+			page.setLayout(AbstractTextSearchViewPage.FLAG_LAYOUT_TREE);
+			consumeEvents(page);
+
+			TreeViewer viewer= (TreeViewer) page.getViewer();
+			Tree tree= viewer.getTree();
+			assertTrue((tree.getStyle() & SWT.VIRTUAL) != 0);
+			Object[] roots= ((ITreeContentProvider) viewer.getContentProvider()).getElements(page.getInput());
+			assertTrue(roots.length > 0);
+			assertEquals(roots.length, tree.getItemCount());
+
+			viewer.expandAll();
+			consumeEvents();
+			AbstractTextSearchResult result= (AbstractTextSearchResult) fQuery1.getSearchResult();
+			for (Object element : result.getElements()) {
+				viewer.reveal(element);
+				assertTrue(viewer.testFindItem(element) instanceof Item);
+			}
+		} finally {
+			store.setToDefault(SearchPreferencePage.VIRTUAL_RESULT_TREE);
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2014 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.Comparator;
 
 import org.eclipse.jface.util.Policy;
+import org.eclipse.jface.viewers.ViewerComparator;
 import org.eclipse.ui.tests.performance.BasicPerformanceTest;
 
 /**
@@ -49,6 +50,21 @@ public class CollatorPerformanceTest extends BasicPerformanceTest {
 		assertPerformance();
 	}
 
+	/**
+	 * test ViewerComparator by sorting the array
+	 */
+	public void testViewerComparator() {
+		ViewerComparator comparator = new ViewerComparator();
+		for (int i = 0; i < 15; i++) {
+			Object[] array = fArray.clone();
+			startMeasuring();
+			comparator.sort(null, array);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
 	/**
 	 * Generate a large sized array for sorting
 	 */
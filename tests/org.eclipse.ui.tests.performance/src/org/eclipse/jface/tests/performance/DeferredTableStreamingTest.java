@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.deferred.DeferredContentProvider;
+import org.eclipse.jface.viewers.deferred.SetModel;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * The DeferredTableStreamingTest streams elements into a virtual table that
+ * uses a {@link DeferredContentProvider}, at a rate of 100000 elements per
+ * second.
+ */
+public class DeferredTableStreamingTest extends ViewerTest {
+
+	private static final int BATCHES = 100;
+
+	private static final int BATCH_SIZE = 1000;
+
+	private static final long BATCH_INTERVAL = 10;
+
+	private static final long TIMEOUT = 60000;
+
+	private TableViewer viewer;
+
+	private SetModel model;
+
+	private DeferredContentProvider contentProvider;
+
+	public DeferredTableStreamingTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected StructuredViewer createViewer(Shell shell) {
+		viewer = new TableViewer(shell, SWT.VIRTUAL);
+		contentProvider = new DeferredContentProvider((e1, e2) -> ((String) e1).compareTo((String) e2));
+		viewer.setContentProvider(contentProvider);
+		viewer.setLabelProvider(new LabelProvider());
+		return viewer;
+	}
+
+	@Override
+	protected Object getInitialInput() {
+		model = new SetModel();
+		return model;
+	}
+
+	/**
+	 * Test the time until all streamed elements are shown in the table.
+	 */
+	public void testStreamingAdd() throws Throwable {
+		openBrowser();
+
+		for (int i = 0; i < 10; i++) {
+			model.clear();
+			waitForItemCount(0);
+
+			int iteration = i;
+			Thread producer = new Thread(() -> {
+				for (int batch = 0; batch < BATCHES; batch++) {
+					Object[] elements = new Object[BATCH_SIZE];
+					for (int j = 0; j < BATCH_SIZE; j++) {
+						// Interleave the batches in the sort order
+						elements[j] = String.format("%06d-%03d-%02d", Integer.valueOf(j),
+								Integer.valueOf(batch), Integer.valueOf(iteration));
+					}
+					model.addAll(elements);
+					try {
+						Thread.sleep(BATCH_INTERVAL);
+					} catch (InterruptedException e) {
+						return;
+					}
+				}
+			});
+
+			startMeasuring();
+			producer.start();
+			while (producer.isAlive()) {
+				processEvents();
+			}
+			waitForItemCount(BATCHES * BATCH_SIZE);
+			stopMeasuring();
+		}
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void waitForItemCount(int count) {
+		long end = System.currentTimeMillis() + TIMEOUT;
+		while (viewer.getTable().getItemCount() != count) {
+			assertTrue("Timed out waiting for " + count + " items", System.currentTimeMillis() < end);
+			processEvents();
+		}
+	}
+}
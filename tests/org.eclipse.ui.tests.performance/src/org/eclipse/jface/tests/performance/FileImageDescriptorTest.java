@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -99,4 +99,53 @@ public class FileImageDescriptorTest extends BasicPerformanceTest {
 		commitMeasurements();
 		assertPerformance();
 	}
+
+	/**
+	 * Test the time for decoding image data that is not cached. Images read
+	 * from files in the file system are never cached.
+	 */
+	public void testImageDataColdCache() throws Throwable {
+		Bundle bundle = FrameworkUtil.getBundle(getClass());
+		Enumeration<String> bundleEntries = bundle.getEntryPaths(IMAGES_DIRECTORY);
+		while (bundleEntries.hasMoreElements()) {
+			String localImagePath = bundleEntries.nextElement();
+			if (localImagePath.indexOf('.') < 0)
+				continue;
+
+			URL file = FileLocator.toFileURL(bundle.getEntry(localImagePath));
+			ImageDescriptor descriptor = ImageDescriptor.createFromFile(null, file.getFile());
+			startMeasuring();
+			for (int j = 0; j < 10; j++) {
+				descriptor.getImageData(100);
+			}
+			stopMeasuring();
+		}
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Test the time for getting image data that was prefetched into the cache.
+	 */
+	public void testImageDataWarmCache() throws Throwable {
+		Bundle bundle = FrameworkUtil.getBundle(getClass());
+		Enumeration<String> bundleEntries = bundle.getEntryPaths(IMAGES_DIRECTORY);
+		while (bundleEntries.hasMoreElements()) {
+			String localImagePath = bundleEntries.nextElement();
+			if (localImagePath.indexOf('.') < 0)
+				continue;
+
+			ImageDescriptor descriptor = ImageDescriptor.createFromURL(bundle.getEntry(localImagePath));
+			descriptor.prefetchImageData(100).join();
+			startMeasuring();
+			for (int j = 0; j < 10; j++) {
+				descriptor.getImageData(100);
+			}
+			stopMeasuring();
+		}
+
+		commitMeasurements();
+		assertPerformance();
+	}
 }
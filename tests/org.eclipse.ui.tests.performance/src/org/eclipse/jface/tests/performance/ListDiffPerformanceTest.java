@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.ui.tests.performance.BasicPerformanceTest;
+
+/**
+ * The ListDiffPerformanceTest measures {@link Diffs#computeListDiff(List, List)}
+ * for small lists, for large lists with few changes and for large lists with
+ * many changes. The changes are random inserts, removes and moves.
+ */
+public class ListDiffPerformanceTest extends BasicPerformanceTest {
+
+	private static final int ITERATIONS = 15;
+
+	public ListDiffPerformanceTest(String testName) {
+		super(testName);
+	}
+
+	/**
+	 * Test the time for diffing lists of 10 elements with up to 3 changes.
+	 */
+	public void testSmallLists() {
+		measure(10, 3, 20000);
+	}
+
+	/**
+	 * Test the time for diffing lists of 10,000 elements with 0.1% changes.
+	 */
+	public void testNearlyIdenticalLists() {
+		measure(10000, 10, 100);
+	}
+
+	/**
+	 * Test the time for diffing lists of 10,000 elements with 10% changes.
+	 */
+	public void testManyChanges() {
+		measure(10000, 1000, 10);
+	}
+
+	private void measure(int size, int changes, int rounds) {
+		Random random = new Random(4711);
+		List<Object> oldList = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			oldList.add(Integer.valueOf(i));
+		}
+		List<List<Object>> newLists = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			newLists.add(change(oldList, 1 + random.nextInt(changes), random));
+		}
+		for (int i = 0; i < ITERATIONS; i++) {
+			startMeasuring();
+			for (int round = 0; round < rounds; round++) {
+				for (List<Object> newList : newLists) {
+					Diffs.computeListDiff(oldList, newList);
+				}
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private static List<Object> change(List<Object> list, int changes, Random random) {
+		List<Object> changed = new ArrayList<>(list);
+		for (int i = 0; i < changes; i++) {
+			int index = random.nextInt(changed.size());
+			switch (random.nextInt(3)) {
+			case 0:
+				changed.add(index, "new " + i);
+				break;
+			case 1:
+				changed.remove(index);
+				break;
+			default:
+				changed.add(random.nextInt(changed.size()), changed.remove(index));
+			}
+		}
+		return changed;
+	}
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+import org.eclipse.jface.resource.DeviceResourceManager;
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.resource.LocalResourceManager;
+import org.eclipse.jface.viewers.DecorationOverlayIcon;
+import org.eclipse.jface.viewers.IDecoration;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.tests.performance.BasicPerformanceTest;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * The ResourceManagerRetentionTest repeatedly creates and destroys decorated
+ * images in a {@link LocalResourceManager}, as views do when they refresh
+ * their decorations, with and without retention of unreferenced images.
+ */
+public class ResourceManagerRetentionTest extends BasicPerformanceTest {
+
+	private static final String IMAGES_DIRECTORY = "/icons/imagetests";
+
+	private static final int ROUNDS = 100;
+
+	private DeviceResourceManager globalManager;
+
+	private final List<ImageDescriptor> decorated = new ArrayList<>();
+
+	public ResourceManagerRetentionTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		globalManager = new DeviceResourceManager(Display.getCurrent());
+
+		List<ImageDescriptor> images = new ArrayList<>();
+		Bundle bundle = FrameworkUtil.getBundle(getClass());
+		Enumeration<String> bundleEntries = bundle.getEntryPaths(IMAGES_DIRECTORY);
+		while (bundleEntries.hasMoreElements()) {
+			String localImagePath = bundleEntries.nextElement();
+			if (localImagePath.indexOf('.') >= 0) {
+				images.add(ImageDescriptor.createFromURL(bundle.getEntry(localImagePath)));
+			}
+		}
+		for (ImageDescriptor base : images) {
+			for (ImageDescriptor overlay : images) {
+				if (base != overlay) {
+					decorated.add(new DecorationOverlayIcon(base, overlay, IDecoration.BOTTOM_LEFT));
+				}
+			}
+		}
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		globalManager.dispose();
+		decorated.clear();
+		super.doTearDown();
+	}
+
+	/**
+	 * Test the time for creating and destroying decorated images when every
+	 * image is deallocated with its last reference.
+	 */
+	public void testDecoratedImagesWithoutRetention() throws Throwable {
+		measure(0);
+	}
+
+	/**
+	 * Test the time for creating and destroying decorated images when
+	 * unreferenced images are retained.
+	 */
+	public void testDecoratedImagesWithRetention() throws Throwable {
+		measure(decorated.size());
+	}
+
+	private void measure(int retainedLimit) throws Throwable {
+		for (int i = 0; i < 10; i++) {
+			LocalResourceManager manager = new LocalResourceManager(globalManager);
+			manager.setRetainedResourceLimit(retainedLimit);
+			startMeasuring();
+			for (int round = 0; round < ROUNDS; round++) {
+				for (ImageDescriptor descriptor : decorated) {
+					manager.createImage(descriptor);
+				}
+				for (ImageDescriptor descriptor : decorated) {
+					manager.destroyImage(descriptor);
+				}
+			}
+			processEvents();
+			stopMeasuring();
+			if (retainedLimit > 0) {
+				assertEquals(decorated.size(), manager.getAllocationCount());
+			}
+			manager.dispose();
+		}
+
+		commitMeasurements();
+		assertPerformance();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -55,6 +55,39 @@ public class ShrinkingTreeTest extends TreeTest {
 //		}
 	}
 
+	public void testTreeViewerRefreshRemoveInterleaved() throws CoreException {
+
+		tagIfNecessary("JFace - Refresh from 1000 items to every second item",
+				Dimension.ELAPSED_PROCESS);
+
+		openBrowser();
+
+		exercise(() -> {
+
+			TestTreeElement input = new TestTreeElement(0, null);
+			viewer.setInput(input);
+			input.createChildren(1000);
+
+			processEvents();
+			viewer.refresh();
+			viewer.expandAll();
+			// keep the remaining elements, so that their items can be reused
+			TestTreeElement[] remaining = new TestTreeElement[input.children.length / 2];
+			for (int i = 0; i < remaining.length; i++) {
+				remaining[i] = input.children[i * 2];
+			}
+			input.children = remaining;
+			startMeasuring();
+			viewer.refresh();
+
+			stopMeasuring();
+
+		}, MIN_ITERATIONS, ITERATIONS, JFacePerformanceSuite.MAX_TIME);
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
 	/**
 	 * Run the test for one of the fast insertions.
 	 */
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import org.eclipse.jface.viewers.DelegatingStyledCellLabelProvider;
+import org.eclipse.jface.viewers.DelegatingStyledCellLabelProvider.IStyledLabelProvider;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.StyledString;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+
+/**
+ * The StyledTableScrollTest scrolls through a table with 30 columns that are
+ * rendered by styled cell label providers.
+ */
+public class StyledTableScrollTest extends ViewerTest {
+
+	private static final int COLUMN_COUNT = 30;
+
+	private static final int ELEMENT_COUNT = 2000;
+
+	private static final int SCROLLED_ROWS = 200;
+
+	private TableViewer viewer;
+
+	public StyledTableScrollTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected StructuredViewer createViewer(Shell shell) {
+		viewer = new TableViewer(shell, SWT.FULL_SELECTION);
+		viewer.getTable().setHeaderVisible(true);
+		viewer.setContentProvider(new RefreshTestContentProvider(ELEMENT_COUNT));
+		for (int i = 0; i < COLUMN_COUNT; i++) {
+			TableViewerColumn column = new TableViewerColumn(viewer, SWT.NONE);
+			column.getColumn().setText("Column " + i);
+			column.getColumn().setWidth(120);
+			column.setLabelProvider(new DelegatingStyledCellLabelProvider(new StyledColumnLabelProvider(i)));
+		}
+		return viewer;
+	}
+
+	/**
+	 * Test the time for scrolling through the table row by row. All rows but
+	 * the one scrolled in are painted again on each step.
+	 */
+	public void testScroll() throws Throwable {
+		openBrowser();
+		browserShell.setSize(1600, 1000);
+		Table table = viewer.getTable();
+		processEvents();
+
+		exercise(() -> {
+			startMeasuring();
+			for (int top = 0; top < SCROLLED_ROWS; top++) {
+				table.setTopIndex(top);
+				table.redraw();
+				table.update();
+			}
+			for (int top = SCROLLED_ROWS - 1; top >= 0; top--) {
+				table.setTopIndex(top);
+				table.redraw();
+				table.update();
+			}
+			processEvents();
+			stopMeasuring();
+		}, MIN_ITERATIONS, slowGTKIterations(), JFacePerformanceSuite.MAX_TIME);
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private static class StyledColumnLabelProvider extends LabelProvider implements IStyledLabelProvider {
+
+		private final int columnIndex;
+
+		StyledColumnLabelProvider(int columnIndex) {
+			this.columnIndex = columnIndex;
+		}
+
+		@Override
+		public StyledString getStyledText(Object element) {
+			StyledString text = new StyledString(((TestElement) element).getText());
+			text.append(" - ", StyledString.DECORATIONS_STYLER);
+			text.append(String.valueOf(columnIndex), StyledString.COUNTER_STYLER);
+			return text;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2006 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -62,5 +62,23 @@ public class TreeViewerRefreshTest extends ViewerTest {
 		assertPerformance();
 	}
 
+	/**
+	 * Test the time for doing a refresh that does not update the labels of
+	 * unchanged elements.
+	 */
+	public void testRefreshWithoutLabelUpdate() throws Throwable {
+		openBrowser();
+
+		for (int i = 0; i < ITERATIONS; i++) {
+			startMeasuring();
+			viewer.refresh(false);
+			processEvents();
+			stopMeasuring();
+		}
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -127,6 +127,18 @@ public final class CommandsPerformanceTest extends BasicPerformanceTest {
 		createScheme(bindingManager, schemeString, successors - 1, schemes);
 	}
 
+	/**
+	 * The identifiers of all contexts, starting with the root of the context
+	 * tree. <code>null</code> if no test is running.
+	 */
+	private List<String> allContextIds = null;
+
+	/**
+	 * The bindings for the currently running test. <code>null</code> if no
+	 * test is running.
+	 */
+	private Binding[] allBindings = null;
+
 	/**
 	 * The binding manager for the currently running test. <code>null</code>
 	 * if no test is running.
@@ -349,11 +361,15 @@ public final class CommandsPerformanceTest extends BasicPerformanceTest {
 			bindings[i + deletionMarkers] = binding;
 		}
 		bindingManager.setBindings(bindings);
+		allBindings = bindings;
+		allContextIds = activeContextIds;
 	}
 
 	@Override
 	protected final void doTearDown() throws Exception {
 		bindingManager = null;
+		allBindings = null;
+		allContextIds = null;
 		commandManager = null;
 		contextManager = null;
 		super.doTearDown();
@@ -455,6 +471,41 @@ public final class CommandsPerformanceTest extends BasicPerformanceTest {
 		assertPerformance();
 	}
 
+	/**
+	 * <p>
+	 * Tests how long it takes to switch the active contexts to sets that are
+	 * not in the cache, and to look up the key sequence afterwards. It
+	 * deactivates the forty contexts of the exceptionally large set of bindings
+	 * one after the other.
+	 * </p>
+	 *
+	 * @throws ParseException
+	 *             If "CTRL+F" can't be parsed for some strange reason.
+	 */
+	public final void testContextSwitchLarge() throws ParseException {
+		// Constants
+		final KeySequence keySequence = KeySequence.getInstance("CTRL+F");
+
+		for (int i = 0; i < 10; i++) {
+			// Clear the cache and compute the solution for all contexts.
+			bindingManager.setBindings(null);
+			bindingManager.setBindings(allBindings);
+			contextManager.setActiveContextIds(new HashSet<>(allContextIds));
+			bindingManager.isPartialMatch(keySequence);
+
+			// Time how long it takes to switch contexts.
+			startMeasuring();
+			for (int j = allContextIds.size() - 1; j > 0; j--) {
+				contextManager.setActiveContextIds(new HashSet<>(allContextIds.subList(0, j)));
+				bindingManager.isPartialMatch(keySequence);
+				bindingManager.getPerfectMatch(keySequence);
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
 	/**
 	 * <p>
 	 * Tests how long it takes to do a full computation (i.e., a cache miss) on
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.performance;
+
+import java.io.StringReader;
+
+import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.css.swt.dom.WidgetElement;
+import org.eclipse.e4.ui.css.swt.engine.CSSSWTEngineImpl;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Measures the time to apply a theme of about 2,000 rules to a shell with about
+ * 20,000 widgets. The rules are generated with id, class, element name and
+ * pseudo-class selectors, as descendant and child selectors and on their own.
+ * As in real themes, most of them do not match a given widget.
+ */
+public class ThemeApplicationTest extends BasicPerformanceTest {
+
+	private static final int RULE_COUNT = 2000;
+	private static final int SECTIONS = 20;
+	private static final int ROWS_PER_SECTION = 50;
+	private static final int WIDGETS_PER_ROW = 20;
+	private static final int CLASSES = 100;
+	private static final int ITERATIONS = 10;
+
+	private CSSEngine engine;
+	private Shell shell;
+
+	public ThemeApplicationTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		Display display = Display.getCurrent();
+		engine = new CSSSWTEngineImpl(display);
+		engine.setErrorHandler(e -> fail(e.getMessage()));
+		engine.parseStyleSheet(new StringReader(createTheme()));
+		shell = createWidgets(display);
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		shell.dispose();
+		engine.dispose();
+		super.doTearDown();
+	}
+
+	/**
+	 * Test the time for applying the theme to all widgets of the shell.
+	 */
+	public void testApplyTheme() {
+		Composite lastSection = (Composite) shell.getChildren()[SECTIONS - 1];
+		Composite lastRow = (Composite) lastSection.getChildren()[ROWS_PER_SECTION - 1];
+		Label probe = (Label) lastRow.getChildren()[WIDGETS_PER_ROW - 2];
+		WidgetElement.setID(probe, "probe");
+		Composite firstRow = (Composite) ((Composite) shell.getChildren()[0]).getChildren()[0];
+		Label label = (Label) firstRow.getChildren()[0];
+
+		for (int i = 0; i < ITERATIONS; i++) {
+			startMeasuring();
+			engine.applyStyles(shell, true);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+
+		// the rules still apply in cascade order
+		assertEquals(new RGB(255, 0, 0), probe.getBackground().getRGB());
+		assertEquals(new RGB(0, 0, 255), label.getBackground().getRGB());
+	}
+
+	private static String createTheme() {
+		StringBuilder css = new StringBuilder();
+		for (int i = 0; i < RULE_COUNT; i++) {
+			String color = String.format("#%06X", Integer.valueOf(i * 0x2F1 & 0xFFFFFF));
+			switch (i % 6) {
+			case 0:
+				css.append("#section").append(i % (SECTIONS * 4)).append(" Label.cls").append(i % CLASSES);
+				break;
+			case 1:
+				css.append(".row").append(i % 10).append(" > Button");
+				break;
+			case 2:
+				css.append("Label.cls").append(i % (CLASSES * 4));
+				break;
+			case 3:
+				css.append("Button.cls").append(i % CLASSES).append(":selected");
+				break;
+			case 4:
+				css.append("#unused").append(i).append(" Composite");
+				break;
+			default:
+				css.append(".part").append(i).append(" .row Label");
+				break;
+			}
+			css.append(" { background-color: ").append(color).append(" }\n");
+		}
+		// more specific than the generated rules that match the first label
+		css.append("#section0 .row Label.cls0 { background-color: #0000FF }\n");
+		css.append("#probe { background-color: #FF0000 }\n");
+		return css.toString();
+	}
+
+	private static Shell createWidgets(Display display) {
+		Shell shell = new Shell(display, SWT.SHELL_TRIM);
+		shell.setLayout(new FillLayout());
+		for (int s = 0; s < SECTIONS; s++) {
+			Composite section = new Composite(shell, SWT.NONE);
+			WidgetElement.setID(section, "section" + s);
+			WidgetElement.setCSSClass(section, "section");
+			for (int r = 0; r < ROWS_PER_SECTION; r++) {
+				Composite row = new Composite(section, SWT.NONE);
+				WidgetElement.setCSSClass(row, "row row" + r % 10);
+				for (int w = 0; w < WIDGETS_PER_ROW; w++) {
+					int index = (s * ROWS_PER_SECTION + r) * WIDGETS_PER_ROW + w;
+					String cssClass = "cls" + index % CLASSES;
+					if (w % 2 == 0) {
+						Label label = new Label(row, SWT.NONE);
+						label.setText("Label");
+						WidgetElement.setCSSClass(label, cssClass);
+					} else {
+						Button button = new Button(row, SWT.PUSH);
+						button.setText("Button");
+						WidgetElement.setCSSClass(button, cssClass);
+					}
+				}
+			}
+		}
+		return shell;
+	}
+}
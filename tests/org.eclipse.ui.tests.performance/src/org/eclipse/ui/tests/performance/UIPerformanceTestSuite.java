@@ -46,5 +46,6 @@ public class UIPerformanceTestSuite extends FilteredTestSuite {
 		addTest(new JUnit4TestAdapter(LabelProviderTest.class));
 		addTestSuite(ProgressReportingTest.class);
 		addTestSuite(OpenProjectExplorerFolderTest.class);
+		addTestSuite(ThemeApplicationTest.class);
 	}
 }
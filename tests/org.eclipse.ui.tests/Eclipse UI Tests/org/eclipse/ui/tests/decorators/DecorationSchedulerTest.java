@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.decorators;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jface.viewers.LabelProviderChangedEvent;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.IDecoratorManager;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.internal.decorators.DecorationScheduler;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests the batching, the parallelism, the priorities and the statistics of
+ * the {@link DecorationScheduler}.
+ */
+@RunWith(JUnit4.class)
+public class DecorationSchedulerTest extends DecoratorEnablementTestCase {
+
+	private static final int ELEMENT_COUNT = DecorationScheduler.UPDATE_BATCH_SIZE * 3;
+
+	private static final String ELEMENT_PREFIX = "DecorationSchedulerTest ";
+
+	private final List<Object[]> batches = new ArrayList<>();
+
+	private int largestBatch;
+
+	public DecorationSchedulerTest() {
+		super(DecorationSchedulerTest.class.getSimpleName());
+	}
+
+	@Test
+	public void testUpdatesAreBatched() {
+		getDecoratorManager().clearCaches();
+		definition.setEnabled(true);
+		getDecoratorManager().updateForEnablementChange();
+
+		DecorationScheduler scheduler = getDecoratorManager().getScheduler();
+		long decoratedCount = scheduler.getDecoratedCount();
+		for (int i = 0; i < ELEMENT_COUNT; i++) {
+			String element = ELEMENT_PREFIX + i;
+			getDecoratorManager().prepareDecoration(element, element);
+		}
+
+		Set<Object> updated = new HashSet<>();
+		assertTrue("Not all elements were updated", DisplayHelper.waitForCondition(Display.getCurrent(), 30000, () -> {
+			for (Object[] batch : batches) {
+				updated.addAll(List.of(batch));
+			}
+			batches.clear();
+			return updated.size() == ELEMENT_COUNT;
+		}));
+		assertTrue("Too many elements in one event: " + largestBatch,
+				largestBatch <= DecorationScheduler.UPDATE_BATCH_SIZE);
+		assertTrue("Elements are still waiting for decoration",
+				DisplayHelper.waitForCondition(Display.getCurrent(), 30000, () -> scheduler.getQueueLength() == 0));
+		assertTrue(scheduler.getDecoratedCount() >= decoratedCount + ELEMENT_COUNT);
+		assertTrue(scheduler.getThroughput() > 0);
+	}
+
+	@Test
+	public void testDecoratorsRunInParallel() throws CoreException {
+		DecorationScheduler scheduler = getDecoratorManager().getScheduler();
+		Assume.assumeTrue("Only one decoration job", scheduler.getDecorationJobCount() > 1);
+		SchedulerTestDecorator.reset();
+		SchedulerTestDecorator.delayMillis = 2;
+		IDecoratorManager manager = PlatformUI.getWorkbench().getDecoratorManager();
+		manager.setEnabled(SchedulerTestDecorator.ID1, true);
+		manager.setEnabled(SchedulerTestDecorator.ID2, true);
+		try {
+			int count = 50;
+			for (int i = 0; i < count; i++) {
+				String element = SchedulerTestDecorator.ELEMENT_PREFIX + "parallel " + i;
+				getDecoratorManager().prepareDecoration(element, element);
+			}
+			assertTrue("Not all elements were decorated", DisplayHelper.waitForCondition(Display.getCurrent(),
+					30000, () -> SchedulerTestDecorator.decorated.size() == 2 * count));
+			assertEquals("A decorator decorated two elements at once", 1,
+					SchedulerTestDecorator.maxRunningPerDecorator);
+			assertTrue("Decorators never ran in parallel", SchedulerTestDecorator.maxRunning > 1);
+		} finally {
+			manager.setEnabled(SchedulerTestDecorator.ID1, false);
+			manager.setEnabled(SchedulerTestDecorator.ID2, false);
+		}
+	}
+
+	@Test
+	public void testRequestedAgainIsDecoratedFirst() throws CoreException {
+		SchedulerTestDecorator.reset();
+		CountDownLatch gate = new CountDownLatch(1);
+		SchedulerTestDecorator.gate = gate;
+		IDecoratorManager manager = PlatformUI.getWorkbench().getDecoratorManager();
+		manager.setEnabled(SchedulerTestDecorator.ID1, true);
+		try {
+			int count = 100;
+			List<String> elements = new ArrayList<>();
+			for (int i = 0; i < count; i++) {
+				String element = SchedulerTestDecorator.ELEMENT_PREFIX + "priority " + i;
+				elements.add(element);
+				getDecoratorManager().prepareDecoration(element, element);
+			}
+			// the decoration of the first element blocks until the gate is open
+			assertTrue("Decoration did not start", DisplayHelper.waitForCondition(Display.getCurrent(), 30000,
+					() -> !SchedulerTestDecorator.decorated.isEmpty()));
+			String last = elements.get(count - 1);
+			getDecoratorManager().prepareDecoration(last, last);
+			gate.countDown();
+
+			assertTrue("Not all elements were decorated", DisplayHelper.waitForCondition(Display.getCurrent(),
+					30000, () -> SchedulerTestDecorator.decorated.size() == count));
+			// the jobs that already took an element may decorate it first
+			int position = SchedulerTestDecorator.decorated.indexOf(last);
+			assertTrue("Element requested again was decorated at position " + position, position < count / 2);
+		} finally {
+			gate.countDown();
+			manager.setEnabled(SchedulerTestDecorator.ID1, false);
+		}
+	}
+
+	@Override
+	public void labelProviderChanged(LabelProviderChangedEvent event) {
+		super.labelProviderChanged(event);
+		Object[] elements = event.getElements();
+		if (elements == null || elements.length == 0 || !(elements[0] instanceof String string) || !string.startsWith(ELEMENT_PREFIX)) {
+			return;
+		}
+		largestBatch = Math.max(largestBatch, elements.length);
+		batches.add(elements);
+	}
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.decorators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jface.viewers.BaseLabelProvider;
+import org.eclipse.jface.viewers.IDecoration;
+import org.eclipse.jface.viewers.ILightweightLabelDecorator;
+
+/**
+ * A lightweight decorator for the {@link DecorationSchedulerTest}. It records
+ * the elements it decorates and how many decorations run at the same time. It
+ * is registered twice, so that decorations of different decorators can
+ * overlap.
+ */
+public class SchedulerTestDecorator extends BaseLabelProvider implements ILightweightLabelDecorator {
+
+	public static final String ID1 = "org.eclipse.ui.tests.decorators.schedulerTestDecorator1";
+
+	public static final String ID2 = "org.eclipse.ui.tests.decorators.schedulerTestDecorator2";
+
+	/**
+	 * Only elements with this prefix are recorded.
+	 */
+	static final String ELEMENT_PREFIX = "SchedulerTestDecorator ";
+
+	/**
+	 * The decorated elements in the order in which their decoration started.
+	 */
+	static final List<Object> decorated = Collections.synchronizedList(new ArrayList<>());
+
+	private static final AtomicInteger running = new AtomicInteger();
+
+	static volatile int maxRunning;
+
+	static volatile int maxRunningPerDecorator;
+
+	/**
+	 * If not <code>null</code>, the first recorded decoration waits until this
+	 * latch is released.
+	 */
+	static volatile CountDownLatch gate;
+
+	/**
+	 * How long each recorded decoration takes.
+	 */
+	static volatile long delayMillis;
+
+	private final AtomicInteger runningHere = new AtomicInteger();
+
+	static void reset() {
+		decorated.clear();
+		running.set(0);
+		maxRunning = 0;
+		maxRunningPerDecorator = 0;
+		gate = null;
+		delayMillis = 0;
+	}
+
+	@Override
+	public void decorate(Object element, IDecoration decoration) {
+		if (!(element instanceof String string) || !string.startsWith(ELEMENT_PREFIX)) {
+			return;
+		}
+		int here = runningHere.incrementAndGet();
+		int all = running.incrementAndGet();
+		synchronized (SchedulerTestDecorator.class) {
+			maxRunningPerDecorator = Math.max(maxRunningPerDecorator, here);
+			maxRunning = Math.max(maxRunning, all);
+		}
+		try {
+			boolean first;
+			synchronized (decorated) {
+				first = decorated.isEmpty();
+				decorated.add(element);
+			}
+			CountDownLatch currentGate = gate;
+			if (first && currentGate != null) {
+				currentGate.await(30, TimeUnit.SECONDS);
+			}
+			if (delayMillis > 0) {
+				Thread.sleep(delayMillis);
+			}
+			decoration.addSuffix(" (scheduled)");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			running.decrementAndGet();
+			runningHere.decrementAndGet();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -391,6 +391,68 @@ public final class BindingManagerTest {
 				partialMatchBinding2, partialMatches.get(partialMatch2));
 	}
 
+	/**
+	 * Tests that the partial matches follow the active contexts, and that
+	 * partial matches returned before a context change stay the same.
+	 */
+	@Test
+	public void testGetPartialMatchesAfterContextChange()
+			throws NotDefinedException, ParseException {
+		// GENERAL SET-UP
+		final Context parent = contextManager.getContext("parent");
+		parent.define("name", "description", null);
+		final Context child = contextManager.getContext("child");
+		child.define("name", "description", "parent");
+		final Scheme scheme = bindingManager.getScheme("na");
+		scheme.define("name", "description", null);
+		bindingManager.setActiveScheme(scheme);
+
+		final KeySequence prefix = KeySequence.getInstance("CTRL+F");
+		final KeySequence parentSequence = KeySequence.getInstance("CTRL+F X");
+		final KeySequence childSequence = KeySequence.getInstance("CTRL+F Y");
+		final KeySequence childPerfectMatch = KeySequence.getInstance("CTRL+G");
+		final Binding parentBinding = new KeyBinding(parentSequence,
+				new ParameterizedCommand(commandManager.getCommand("parent"), null),
+				"na", "parent", null, null, null, Binding.SYSTEM);
+		final Binding childBinding = new KeyBinding(childSequence,
+				new ParameterizedCommand(commandManager.getCommand("child"), null),
+				"na", "child", null, null, null, Binding.SYSTEM);
+		final Binding childPerfectBinding = new KeyBinding(childPerfectMatch,
+				new ParameterizedCommand(commandManager.getCommand("perfect"), null),
+				"na", "child", null, null, null, Binding.SYSTEM);
+		bindingManager.setBindings(new Binding[] { parentBinding, childBinding,
+				childPerfectBinding });
+
+		// BOTH CONTEXTS ACTIVE
+		final Set<String> activeContextIds = new HashSet<>();
+		activeContextIds.add("parent");
+		activeContextIds.add("child");
+		contextManager.setActiveContextIds(activeContextIds);
+		final Map<?, ?> bothMatches = bindingManager.getPartialMatches(prefix);
+		assertEquals("Both bindings should be partial matches", 2,
+				bothMatches.size());
+		assertSame(childPerfectBinding,
+				bindingManager.getPerfectMatch(childPerfectMatch));
+
+		// ONLY THE PARENT CONTEXT ACTIVE
+		activeContextIds.remove("child");
+		contextManager.setActiveContextIds(activeContextIds);
+		final Map<?, ?> parentMatches = bindingManager.getPartialMatches(prefix);
+		assertEquals("Only the parent binding should be a partial match", 1,
+				parentMatches.size());
+		assertSame(parentBinding, parentMatches.get(parentSequence));
+		assertTrue(bindingManager.isPartialMatch(prefix));
+		assertFalse(bindingManager.isPartialMatch(childSequence));
+		assertNull(bindingManager.getPerfectMatch(childPerfectMatch));
+		assertEquals("Earlier partial matches should not change", 2,
+				bothMatches.size());
+
+		// NO CONTEXT ACTIVE
+		contextManager.setActiveContextIds(new HashSet<>());
+		assertFalse(bindingManager.isPartialMatch(prefix));
+		assertTrue(bindingManager.getPartialMatches(prefix).isEmpty());
+	}
+
 	/**
 	 * Tests that this method returns the expected command identifier. In the
 	 * first scenario, there is one perfect match bindings and a partial match